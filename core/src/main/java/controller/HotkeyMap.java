@@ -14,6 +14,7 @@ import roguelike_emotions.ui.actions.ActionId;
  */
 public final class HotkeyMap {
     private final Map<Integer, ActionId> byKey = new HashMap<>();
+    private List<ActionDescriptor> source;
     private int configHash = 0;
 
     /**
@@ -25,9 +26,13 @@ public final class HotkeyMap {
     }
 
     /**
-     * Reconstruye el mapa solo si la configuración cambió.
+     * Reconstruye el mapa solo si la configuración cambió. Se llama cada frame
+     * con la lista del ConfigBundle vigente: si es la misma instancia no hace
+     * nada (ni reserva memoria); tras una recarga compara el contenido.
      */
     public void rebuildIfChanged(List<ActionDescriptor> actions) {
+        if (actions == source && actions != null) return;
+        source = actions;
         int newHash = calculateHash(actions);
         if (newHash == configHash) return;
 
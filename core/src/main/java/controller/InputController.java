@@ -26,6 +26,7 @@ public final class InputController extends InputAdapter {
     private final Runnable onConfirm;
     private final HotkeyMap hotkeys;
     private final Consumer<ActionId> onAction;
+    private Runnable onCycleSpeed;
 
     /**
      * @param enemiesProvider acceso perezoso a la lista de enemigos en pantalla.
@@ -47,6 +48,11 @@ public final class InputController extends InputAdapter {
 
     // ========== Getters/Setters ==========
 
+    /** Callback de ESPACIO (velocidad de reproducción); funciona aunque el input esté bloqueado. */
+    public void setOnCycleSpeed(Runnable onCycleSpeed) {
+        this.onCycleSpeed = onCycleSpeed;
+    }
+
     public void setEnabled(boolean enabled) {
         this.enabled = enabled;
     }
@@ -74,6 +80,12 @@ public final class InputController extends InputAdapter {
 
     @Override
     public boolean keyDown(int keycode) {
+        // La velocidad se cambia justo mientras se reproduce la ronda (input bloqueado)
+        if (keycode == Input.Keys.SPACE && onCycleSpeed != null) {
+            onCycleSpeed.run();
+            return true;
+        }
+
         if (!enabled) return false;
 
         // 1) Hotkeys data-driven
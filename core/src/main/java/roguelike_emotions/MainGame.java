@@ -1,44 +1,140 @@
 package roguelike_emotions;
 
+import java.io.IOException;
+import java.nio.file.Path;
+
 import com.badlogic.gdx.Game;
+import com.badlogic.gdx.Screen;
 import com.badlogic.gdx.graphics.g2d.BitmapFont;
 import com.badlogic.gdx.graphics.g2d.SpriteBatch;
 
+import roguelike_emotions.cfg.ConfigBundle;
+import roguelike_emotions.cfg.ConfigWatcher;
 import roguelike_emotions.characters.Player;
+import roguelike_emotions.graphics.GpuResources;
+import roguelike_emotions.combat.TurnAdvisor;
 import roguelike_emotions.managers.GameManager;
+import roguelike_emotions.managers.ReplayLog;
+import roguelike_emotions.managers.Replayer;
+import roguelike_emotions.map.NodePrefetcher;
+import roguelike_emotions.save.RoundJournal;
+import roguelike_emotions.save.SnapshotFile;
+import roguelike_emotions.screens.ScreenManager;
+import roguelike_emotions.screens.SplashScreen;
 import roguelike_emotions.screens.TurnCombatScreen;
-import roguelike_emotions.ui.fonts.FontManager;
+import roguelike_emotions.startup.StartupPipeline;
+import roguelike_emotions.ui.IconAtlas;
+import roguelike_emotions.ui.fonts.FontRegistry;
 
 public class MainGame extends Game {
 
+	/** Propiedad con los hilos del arranque (por defecto, núcleos - 1). */
+	public static final String STARTUP_THREADS = "roguelike.startupThreads";
+
 	private static  MainGame instancia;
 	private SpriteBatch batch;
 	private BitmapFont font;
 	private Player jugador;
+	private final Path replay;
+	private StartupPipeline startup;
+	private TurnCombatScreen firstScreen;
+	private ScreenManager pantallas;
+
+	public MainGame() {
+		this(null);
+	}
+
+	/** 'replay': repetición (ReplayLog) a reproducir al arrancar, o null. */
+	public MainGame(Path replay) {
+		this.replay = replay;
+	}
 
 	@Override
 	public void create() {
 		setInstancia(this);
 		batch = new SpriteBatch();
-		font = new BitmapFont();
-		FontManager.init();
-		GameManager.getInstance();
-		setScreen(new TurnCombatScreen(getBatch(), getFont()));
+		pantallas = new ScreenManager(this, batch);
+
+		// Lo que no toca GL corre en paralelo; las subidas a GPU, en este hilo
+		// con la pantalla de carga (-Droguelike.startupThreads=0: todo en serie)
+		startup = new StartupPipeline(Integer.getInteger(STARTUP_THREADS, StartupPipeline.defaultThreads()));
+		startup.cpu("config", () -> {
+			ConfigBundle.init();
+			ConfigWatcher.start();
+		});
+		// iconos: el registro visual (spriteId) sale de la config
+		startup.cpu("iconos", IconAtlas::prepare, "config");
+		// fuentes horneadas en el build: solo leer y decodificar las páginas
+		startup.cpu("fuentes", FontRegistry::prepare);
+		startup.cpu("partida", () -> {
+			GameManager gm = GameManager.getInstance();
+			if (replay != null)
+				startReplay(gm);
+		}, "config");
+		// atlas único (iconos + pixel + partículas + fuente por defecto)
+		startup.gl("atlas", () -> {
+			IconAtlas.init();
+			font = IconAtlas.defaultFont();
+		}, "iconos");
+		startup.gl("fuentes-gl", FontRegistry::upload, "fuentes");
+		startup.gl("shaders", GpuResources::prewarm);
+		startup.gl("combate", () -> firstScreen = new TurnCombatScreen(getBatch(), getFont()), "atlas", "fuentes-gl",
+				"partida");
+		startup.start();
 
+		setScreen(new SplashScreen(batch, startup, () -> setScreen(firstScreen)));
 	}
 
+	private void startReplay(GameManager gm) {
+		try {
+			Replayer r = gm.startReplay(ReplayLog.read(replay));
+			if (r != null && !r.nextFight())
+				gm.stopReplay();
+		} catch (IOException e) {
+			System.err.println("[MainGame] No se pudo cargar la repetición " + replay + ": " + e.getMessage());
+			gm.stopReplay();
+		}
+	}
+
+	/** Guarda las rondas jugadas desde el último combate (la repetición se guarda al empezar cada uno). */
+	private void saveReplay() {
+		GameManager gm = GameManager.getInstance();
+		if (gm.getReplay() != null)
+			return;
+		try {
+			gm.saveReplay(SnapshotFile.replayPath());
+		} catch (IOException e) {
+			System.err.println("[MainGame] No se pudo guardar la repetición: " + e.getMessage());
+		}
+	}
 
 	private static void setInstancia(MainGame instancia) {
 		MainGame.instancia = instancia;
 	}
 
+	@Override
+	public void render() {
+		long inicio = pantallas.beginFrame();
+		super.render();
+		pantallas.endFrame(inicio);
+	}
+
 	@Override
 	public void dispose() {
 		if (getScreen() != null) {
 			getScreen().dispose();
 		}
+		pantallas.dispose();
 		batch.dispose();
-		font.dispose();
+		if (startup.isDone())
+			saveReplay();
+		IconAtlas.dispose(); // incluye la fuente por defecto
+		FontRegistry.dispose();
+		GpuResources.disposeAll();
+		NodePrefetcher.shutdown();
+		TurnAdvisor.shutdown();
+		RoundJournal.shutdown();
+		ConfigWatcher.shutdown();
 	}
 
 	public SpriteBatch getBatch() {
@@ -49,8 +145,14 @@ public class MainGame extends Game {
 		return font;
 	}
 
-	public static void cambiarPantalla(com.badlogic.gdx.Screen nuevaPantalla) {
-		instancia.setScreen(nuevaPantalla);
+	/** Cambia de pantalla con fundido; la anterior se retira al acabar el frame (ScreenManager). */
+	public static void cambiarPantalla(Screen nuevaPantalla) {
+		instancia.pantallas.change(nuevaPantalla);
+	}
+
+	/** Pool de pantallas y precarga de la siguiente. */
+	public static ScreenManager pantallas() {
+		return instancia.pantallas;
 	}
 
 	public Player getJugador() {
@@ -0,0 +1,272 @@
+package roguelike_emotions.cfg;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicReference;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.files.FileHandle;
+
+import roguelike_emotions.mainMechanics.EmotionEffect;
+import roguelike_emotions.save.SnapshotFile;
+import roguelike_emotions.save.SnapshotFormatException;
+import roguelike_emotions.save.SnapshotReader;
+import roguelike_emotions.save.SnapshotWriter;
+import roguelike_emotions.ui.actions.ActionDescriptor;
+import roguelike_emotions.ui.actions.ActionTheme;
+
+/**
+ * Configuración de datos del juego: efectos (effects.json), visuales de
+ * efectos (visual_effects.json) y acciones (actions.json), ya validada.
+ *
+ * La tarea compileConfig de Gradle valida los JSON (ConfigCompiler) y los
+ * compila a un único fichero binario (PATH, en el classpath) que aquí se lee
+ * de una vez en init(), al arrancar. Sin el bundle (ejecución desde el IDE
+ * sin pasar por Gradle) se compilan los JSON en memoria.
+ *
+ * Inmutable: se comparte entre hilos (lógica, GL, simulaciones del
+ * TurnAdvisor) sin copias. En desarrollo ConfigWatcher recompila los JSON al
+ * editarlos y deja el resultado pendiente (stage()); GameManager lo aplica
+ * al empezar la siguiente ronda (applyPending()), así que una ronda nunca ve
+ * dos configuraciones. Los lectores no guardan la configuración: llaman a
+ * get() (una lectura volátil) o comparan la referencia con la que usaron.
+ *
+ * <pre>
+ * int magic "RCFG" | int version
+ * efectos:  int n | (enum efecto, string target, string método, int args, arg*,
+ *                    double intensidad, int duración, double probabilidad)*
+ *           arg: byte tipo (0 int, 1 double, 2 boolean, 3 string) | valor
+ * visuales: int n | (enum efecto, string nombre, string sprite, string color, string css)*
+ * acciones: float pillHeight, gap, padding, minPillWidth
+ *           | int n | (string id, string label, string hotkey, boolean requiresTarget)*
+ * </pre>
+ */
+public final class ConfigBundle {
+
+	/** Ruta interna del bundle compilado. */
+	public static final String PATH = "data/config.bin";
+
+	public static final int MAGIC = 0x47464352; // "RCFG" en little-endian
+	public static final int VERSION = 1;
+
+	private static final EmotionEffect[] EFECTOS = EmotionEffect.values();
+
+	private static final byte ARG_INT = 0, ARG_DOUBLE = 1, ARG_BOOLEAN = 2, ARG_STRING = 3;
+
+	private static final AtomicReference<ConfigBundle> CURRENT = new AtomicReference<>();
+	private static final AtomicReference<ConfigBundle> PENDING = new AtomicReference<>();
+
+	private final Map<EmotionEffect, List<EffectConfig>> effects;
+	private final Map<EmotionEffect, EffectVisualConfig> visuals;
+	private final ActionConfig actions;
+
+	ConfigBundle(Map<EmotionEffect, List<EffectConfig>> effects, Map<EmotionEffect, EffectVisualConfig> visuals,
+			ActionConfig actions) {
+		EnumMap<EmotionEffect, List<EffectConfig>> e = new EnumMap<>(EmotionEffect.class);
+		for (Map.Entry<EmotionEffect, List<EffectConfig>> entry : effects.entrySet()) {
+			for (EffectConfig c : entry.getValue())
+				c.bind();
+			e.put(entry.getKey(), List.copyOf(entry.getValue()));
+		}
+		this.effects = Collections.unmodifiableMap(e);
+		this.visuals = Collections.unmodifiableMap(new EnumMap<>(visuals));
+		this.actions = actions;
+	}
+
+	// ==== INICIALIZACIÓN ====
+
+	/**
+	 * Carga la configuración (una sola lectura del bundle). Llamar al arrancar,
+	 * antes de crear emociones o pantallas.
+	 */
+	public static void init() {
+		FileHandle bundle = Gdx.files.internal(PATH);
+		try {
+			if (bundle.exists()) {
+				CURRENT.set(read(SnapshotFile.read(bundle.readBytes(), PATH)));
+				return;
+			}
+			System.err.println("[ConfigBundle] Sin " + PATH + " (¿sin pasar por gradle compileConfig?): compilando JSON");
+			CURRENT.set(ConfigCompiler.compile(Gdx.files.internal(ConfigCompiler.EFFECTS).readBytes(),
+					Gdx.files.internal(ConfigCompiler.VISUALS).readBytes(),
+					Gdx.files.internal(ConfigCompiler.ACTIONS).readBytes()));
+		} catch (SnapshotFormatException | ConfigException e) {
+			throw new IllegalStateException("Configuración no válida: " + e.getMessage(), e);
+		}
+	}
+
+	/** Configuración cargada por init(). */
+	public static ConfigBundle get() {
+		ConfigBundle c = CURRENT.get();
+		if (c == null)
+			throw new IllegalStateException("ConfigBundle.init() no se ha llamado");
+		return c;
+	}
+
+	// ==== RECARGA ====
+
+	/** Deja una configuración nueva para la próxima ronda (sustituye a otra pendiente). */
+	public static void stage(ConfigBundle next) {
+		PENDING.set(next);
+	}
+
+	/**
+	 * Aplica la configuración pendiente, si la hay. Llamar entre rondas, desde
+	 * el hilo de lógica. Devuelve true si ha cambiado.
+	 */
+	public static boolean applyPending() {
+		ConfigBundle next = PENDING.getAndSet(null);
+		if (next == null)
+			return false;
+		CURRENT.set(next);
+		return true;
+	}
+
+	// ==== CONSULTAS ====
+
+	/** Configuraciones de un efecto (lista vacía si no tiene). */
+	public List<EffectConfig> effectConfigs(EmotionEffect effect) {
+		return effects.getOrDefault(effect, List.of());
+	}
+
+	public EffectVisualConfig visual(EmotionEffect effect) {
+		return visuals.get(effect);
+	}
+
+	public Map<EmotionEffect, EffectVisualConfig> visuals() {
+		return visuals;
+	}
+
+	public ActionConfig actions() {
+		return actions;
+	}
+
+	// ==== FORMATO BINARIO ====
+
+	void write(SnapshotWriter w) {
+		w.putInt(MAGIC);
+		w.putInt(VERSION);
+
+		int n = 0;
+		for (List<EffectConfig> l : effects.values())
+			n += l.size();
+		w.putInt(n);
+		for (Map.Entry<EmotionEffect, List<EffectConfig>> entry : effects.entrySet()) {
+			for (EffectConfig c : entry.getValue()) {
+				w.putEnum(entry.getKey());
+				w.putString(c.getTarget());
+				w.putString(c.getMethod());
+				List<Object> args = c.getArgs();
+				w.putInt(args.size());
+				for (Object a : args)
+					writeArg(w, a);
+				w.putDouble(c.getIntensity());
+				w.putInt(c.getDuration());
+				w.putDouble(c.getProbability());
+			}
+		}
+
+		w.putInt(visuals.size());
+		for (EffectVisualConfig v : visuals.values()) {
+			w.putEnum(v.getEffect());
+			w.putString(v.getDisplayName());
+			w.putString(v.getSpriteId());
+			w.putString(v.getUiColorHex());
+			w.putString(v.getCssClass());
+		}
+
+		ActionTheme t = actions.theme();
+		w.putFloat(t.pillHeight());
+		w.putFloat(t.gap());
+		w.putFloat(t.padding());
+		w.putFloat(t.minPillWidth());
+		w.putInt(actions.actions().size());
+		for (ActionDescriptor a : actions.actions()) {
+			w.putString(a.id());
+			w.putString(a.label());
+			w.putString(a.hotkey());
+			w.putBoolean(a.requiresTarget());
+		}
+	}
+
+	static ConfigBundle read(SnapshotReader r) throws SnapshotFormatException {
+		if (r.getInt() != MAGIC)
+			throw new SnapshotFormatException("No es un bundle de configuración");
+		int version = r.getInt();
+		if (version != VERSION)
+			throw new SnapshotFormatException("Versión de bundle no soportada: " + version);
+
+		Map<EmotionEffect, List<EffectConfig>> effects = new EnumMap<>(EmotionEffect.class);
+		int n = r.getCount();
+		for (int i = 0; i < n; i++) {
+			EffectConfig c = new EffectConfig();
+			EmotionEffect e = r.getEnum(EFECTOS);
+			if (e == null)
+				throw new SnapshotFormatException("Efecto sin tipo en el bundle");
+			c.setEffect(e.name());
+			c.setTarget(r.getString());
+			c.setMethod(r.getString());
+			int nArgs = r.getCount();
+			List<Object> args = new ArrayList<>(nArgs);
+			for (int j = 0; j < nArgs; j++)
+				args.add(readArg(r));
+			c.setArgs(Collections.unmodifiableList(args));
+			c.setIntensity(r.getDouble());
+			c.setDuration(r.getInt());
+			c.setProbability(r.getDouble());
+			effects.computeIfAbsent(e, k -> new ArrayList<>()).add(c);
+		}
+
+		Map<EmotionEffect, EffectVisualConfig> visuals = new EnumMap<>(EmotionEffect.class);
+		n = r.getCount();
+		for (int i = 0; i < n; i++) {
+			EffectVisualConfig v = new EffectVisualConfig();
+			v.setEffect(r.getEnum(EFECTOS));
+			if (v.getEffect() == null)
+				throw new SnapshotFormatException("Visual sin efecto en el bundle");
+			v.setDisplayName(r.getString());
+			v.setSpriteId(r.getString());
+			v.setUiColorHex(r.getString());
+			v.setCssClass(r.getString());
+			visuals.put(v.getEffect(), v);
+		}
+
+		ActionTheme theme = new ActionTheme(r.getFloat(), r.getFloat(), r.getFloat(), r.getFloat());
+		n = r.getCount();
+		List<ActionDescriptor> actions = new ArrayList<>(n);
+		for (int i = 0; i < n; i++)
+			actions.add(new ActionDescriptor(r.getString(), r.getString(), r.getString(), r.getBoolean()));
+
+		return new ConfigBundle(effects, visuals, new ActionConfig(List.copyOf(actions), theme));
+	}
+
+	private static void writeArg(SnapshotWriter w, Object a) {
+		if (a instanceof Integer i) {
+			w.putByte(ARG_INT);
+			w.putInt(i);
+		} else if (a instanceof Double d) {
+			w.putByte(ARG_DOUBLE);
+			w.putDouble(d);
+		} else if (a instanceof Boolean b) {
+			w.putByte(ARG_BOOLEAN);
+			w.putBoolean(b);
+		} else {
+			w.putByte(ARG_STRING);
+			w.putString(String.valueOf(a));
+		}
+	}
+
+	private static Object readArg(SnapshotReader r) throws SnapshotFormatException {
+		int tipo = r.getByte();
+		return switch (tipo) {
+		case ARG_INT -> r.getInt();
+		case ARG_DOUBLE -> r.getDouble();
+		case ARG_BOOLEAN -> r.getBoolean();
+		case ARG_STRING -> r.getString();
+		default -> throw new SnapshotFormatException("Tipo de argumento desconocido: " + tipo);
+		};
+	}
+}
@@ -0,0 +1,284 @@
+package roguelike_emotions.cfg;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.regex.Pattern;
+
+import com.badlogic.gdx.Input;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import roguelike_emotions.mainMechanics.EmotionEffect;
+import roguelike_emotions.save.SnapshotFile;
+import roguelike_emotions.save.SnapshotWriter;
+import roguelike_emotions.ui.actions.ActionDescriptor;
+import roguelike_emotions.ui.actions.ActionId;
+import roguelike_emotions.ui.actions.ActionTheme;
+
+/**
+ * Valida los JSON de configuración y los compila a un ConfigBundle.
+ *
+ * Comprueba lo que antes fallaba en mitad de una partida: efectos y acciones
+ * que no existen, métodos que EffectDetail no encontraría por reflexión (con
+ * los mismos tipos de argumento que usa al invocar), probabilidades fuera de
+ * [0, 1], colores mal escritos y hotkeys que Input.Keys no conoce. Reúne
+ * todos los errores antes de fallar.
+ *
+ * main() lo usa la tarea compileConfig de Gradle: escribe el bundle binario
+ * que ConfigBundle.init() lee al arrancar.
+ *
+ * Uso: ConfigCompiler &lt;directorio de assets&gt; &lt;fichero de salida&gt;
+ */
+public final class ConfigCompiler {
+
+	/** Rutas de los JSON, relativas a los assets. */
+	public static final String EFFECTS = "data/effects/effects.json";
+	public static final String VISUALS = "data/effects/visual_effects.json";
+	public static final String ACTIONS = "actions/actions.json";
+
+	private static final Pattern COLOR = Pattern.compile("#[0-9A-Fa-f]{6}([0-9A-Fa-f]{2})?");
+	private static final ObjectMapper MAPPER = new ObjectMapper();
+
+	private final List<String> errors = new ArrayList<>();
+	private final List<String> warnings = new ArrayList<>();
+
+	private ConfigCompiler() {
+	}
+
+	/** Compila los tres JSON; ConfigException con todos los errores si alguno no es válido. */
+	public static ConfigBundle compile(byte[] effects, byte[] visuals, byte[] actions) throws ConfigException {
+		ConfigCompiler c = new ConfigCompiler();
+		Map<EmotionEffect, List<EffectConfig>> e = c.compileEffects(c.parse(EFFECTS, effects));
+		Map<EmotionEffect, EffectVisualConfig> v = c.compileVisuals(c.parse(VISUALS, visuals));
+		ActionConfig a = c.compileActions(c.parse(ACTIONS, actions));
+
+		for (String w : c.warnings)
+			System.err.println("[ConfigCompiler] Aviso: " + w);
+		if (!c.errors.isEmpty())
+			throw new ConfigException(c.errors);
+		return new ConfigBundle(e, v, a);
+	}
+
+	// ==== EFECTOS ====
+
+	private Map<EmotionEffect, List<EffectConfig>> compileEffects(JsonNode root) {
+		Map<EmotionEffect, List<EffectConfig>> out = new EnumMap<>(EmotionEffect.class);
+		if (root == null)
+			return out;
+		if (!root.isArray()) {
+			error(EFFECTS, "se esperaba una lista");
+			return out;
+		}
+
+		for (int i = 0; i < root.size(); i++) {
+			JsonNode n = root.get(i);
+			String donde = EFFECTS + "[" + i + "]";
+			EmotionEffect effect = effect(donde, text(n, "effect", null));
+
+			EffectConfig cfg = new EffectConfig();
+			cfg.setTarget(text(n, "target", ""));
+			cfg.setMethod(text(n, "method", null));
+			cfg.setIntensity(n.path("intensity").asDouble());
+			cfg.setDuration(n.path("duration").asInt());
+			cfg.setProbability(n.path("probability").asDouble());
+
+			List<Object> args = new ArrayList<>();
+			for (JsonNode a : n.path("args")) {
+				Object arg = arg(a);
+				if (arg == null)
+					error(donde, "argumento no soportado: " + a);
+				else
+					args.add(arg);
+			}
+			cfg.setArgs(List.copyOf(args));
+
+			Class<?> target = EffectConfig.targetClass(cfg.getTarget());
+			if (target == null)
+				error(donde, "target '" + cfg.getTarget() + "' (player o attack)");
+			else if (cfg.getMethod() == null)
+				error(donde, "falta method");
+			else
+				checkMethod(donde, target, cfg.getMethod(), args);
+
+			if (cfg.getDuration() < 0)
+				error(donde, "duration negativa: " + cfg.getDuration());
+			if (!(cfg.getProbability() >= 0 && cfg.getProbability() <= 1))
+				error(donde, "probability fuera de [0, 1]: " + cfg.getProbability());
+
+			if (effect != null) {
+				cfg.setEffect(effect.name());
+				out.computeIfAbsent(effect, k -> new ArrayList<>()).add(cfg);
+			}
+		}
+
+		for (EmotionEffect e : EmotionEffect.values())
+			if (!out.containsKey(e))
+				warnings.add(EFFECTS + ": " + e + " no tiene configuración (EffectDetail.fromConfig fallará)");
+		return out;
+	}
+
+	/** Solo los tipos que EffectConfig.argTypes sabe pasar a getMethod. */
+	private static Object arg(JsonNode a) {
+		if (a.isInt())
+			return a.intValue();
+		if (a.isFloatingPointNumber())
+			return a.doubleValue();
+		if (a.isBoolean())
+			return a.booleanValue();
+		if (a.isTextual())
+			return a.textValue();
+		return null;
+	}
+
+	private void checkMethod(String donde, Class<?> target, String method, List<Object> args) {
+		try {
+			target.getMethod(method, EffectConfig.argTypes(args));
+		} catch (NoSuchMethodException e) {
+			error(donde, target.getSimpleName() + " no tiene " + method + " con argumentos " + args);
+		}
+	}
+
+	// ==== VISUALES ====
+
+	private Map<EmotionEffect, EffectVisualConfig> compileVisuals(JsonNode root) {
+		Map<EmotionEffect, EffectVisualConfig> out = new EnumMap<>(EmotionEffect.class);
+		if (root == null)
+			return out;
+		if (!root.isArray()) {
+			error(VISUALS, "se esperaba una lista");
+			return out;
+		}
+
+		for (int i = 0; i < root.size(); i++) {
+			JsonNode n = root.get(i);
+			String donde = VISUALS + "[" + i + "]";
+			EmotionEffect effect = effect(donde, text(n, "effect", null));
+
+			EffectVisualConfig v = new EffectVisualConfig();
+			v.setEffect(effect);
+			v.setDisplayName(text(n, "displayName", null));
+			v.setSpriteId(text(n, "spriteId", null));
+			v.setUiColorHex(text(n, "uiColorHex", null));
+			v.setCssClass(text(n, "cssClass", null));
+
+			if (v.getUiColorHex() != null && !COLOR.matcher(v.getUiColorHex()).matches())
+				error(donde, "uiColorHex no es #RRGGBB: " + v.getUiColorHex());
+			if (effect != null && out.put(effect, v) != null)
+				error(donde, effect + " repetido");
+		}
+		return out;
+	}
+
+	// ==== ACCIONES ====
+
+	private ActionConfig compileActions(JsonNode root) {
+		if (root == null)
+			return new ActionConfig(List.of(), ActionTheme.defaults());
+
+		JsonNode t = root.path("theme");
+		ActionTheme d = ActionTheme.defaults();
+		ActionTheme theme = new ActionTheme((float) t.path("pillHeight").asDouble(d.pillHeight()),
+				(float) t.path("gap").asDouble(d.gap()), (float) t.path("padding").asDouble(d.padding()),
+				(float) t.path("minPillWidth").asDouble(d.minPillWidth()));
+
+		List<ActionDescriptor> actions = new ArrayList<>();
+		Set<String> ids = new HashSet<>();
+		JsonNode lista = root.path("actions");
+		for (int i = 0; i < lista.size(); i++) {
+			JsonNode n = lista.get(i);
+			String donde = ACTIONS + "[" + i + "]";
+			String id = text(n, "id", "").trim();
+			String hotkey = text(n, "hotkey", null);
+
+			try {
+				ActionId.valueOf(id.toUpperCase(Locale.ROOT));
+			} catch (IllegalArgumentException e) {
+				error(donde, "id '" + id + "' no es un ActionId");
+				continue;
+			}
+			if (!ids.add(id.toUpperCase(Locale.ROOT)))
+				error(donde, id + " repetido");
+			if (hotkey != null && Input.Keys.valueOf(hotkey) == -1)
+				error(donde, "hotkey '" + hotkey + "' no es una tecla de Input.Keys");
+
+			actions.add(new ActionDescriptor(id, text(n, "label", id), hotkey,
+					n.path("requiresTarget").asBoolean(false)));
+		}
+		return new ActionConfig(List.copyOf(actions), theme);
+	}
+
+	// ==== AUXILIARES ====
+
+	private JsonNode parse(String origen, byte[] bytes) {
+		try {
+			return MAPPER.readTree(bytes);
+		} catch (IOException e) {
+			error(origen, "JSON no válido: " + e.getMessage());
+			return null;
+		}
+	}
+
+	/** Campo de texto; 'def' si falta o no es texto. */
+	private static String text(JsonNode n, String campo, String def) {
+		JsonNode v = n.get(campo);
+		return (v != null && v.isTextual()) ? v.textValue() : def;
+	}
+
+	private EmotionEffect effect(String donde, String nombre) {
+		if (nombre == null) {
+			error(donde, "falta effect");
+			return null;
+		}
+		try {
+			return EmotionEffect.valueOf(nombre);
+		} catch (IllegalArgumentException e) {
+			error(donde, "effect '" + nombre + "' no es un EmotionEffect");
+			return null;
+		}
+	}
+
+	private void error(String donde, String mensaje) {
+		errors.add(donde + ": " + mensaje);
+	}
+
+	// ==== LÍNEA DE COMANDOS ====
+
+	public static void main(String[] args) throws IOException {
+		if (args.length != 2) {
+			System.err.println("Uso: ConfigCompiler <assets> <salida>");
+			System.exit(2);
+		}
+		Path assets = Paths.get(args[0]);
+		Path out = Paths.get(args[1]);
+
+		ConfigBundle bundle;
+		try {
+			bundle = compile(Files.readAllBytes(assets.resolve(EFFECTS)), Files.readAllBytes(assets.resolve(VISUALS)),
+					Files.readAllBytes(assets.resolve(ACTIONS)));
+		} catch (ConfigException e) {
+			for (String err : e.getErrors())
+				System.err.println("[ConfigCompiler] " + err);
+			System.err.println("[ConfigCompiler] " + e.getErrors().size() + " errores, no se genera " + out);
+			System.exit(1);
+			return;
+		}
+
+		SnapshotWriter w = new SnapshotWriter(4096);
+		bundle.write(w);
+		SnapshotFile.write(out, w, false);
+		int efectos = 0;
+		for (EmotionEffect e : EmotionEffect.values())
+			efectos += bundle.effectConfigs(e).size();
+		System.out.println("[ConfigCompiler] " + efectos + " efectos, " + bundle.visuals().size() + " visuales, "
+				+ bundle.actions().actions().size() + " acciones -> " + out + " (" + Files.size(out) + " bytes)");
+	}
+}
@@ -0,0 +1,25 @@
+package roguelike_emotions.cfg;
+
+import java.util.List;
+
+/**
+ * Configuración no válida: JSON mal formado o valores que no encajan con los
+ * enums y métodos del juego. Lleva todos los errores encontrados, no solo el
+ * primero, para corregirlos de una vez.
+ */
+public class ConfigException extends Exception {
+
+	private static final long serialVersionUID = 1L;
+
+	// array y no List: el campo tiene que ser serializable como la excepción
+	private final String[] errors;
+
+	public ConfigException(List<String> errors) {
+		super(errors.size() + " error(es) de configuración:\n  " + String.join("\n  ", errors));
+		this.errors = errors.toArray(new String[0]);
+	}
+
+	public List<String> getErrors() {
+		return List.of(errors);
+	}
+}
@@ -0,0 +1,171 @@
+package roguelike_emotions.cfg;
+
+import static java.nio.file.StandardWatchEventKinds.ENTRY_CREATE;
+import static java.nio.file.StandardWatchEventKinds.ENTRY_MODIFY;
+import static java.nio.file.StandardWatchEventKinds.OVERFLOW;
+
+import java.io.IOException;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.FileSystems;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+/**
+ * Recarga en caliente de la configuración (solo en desarrollo, con los assets
+ * en disco).
+ *
+ * Un hilo vigila assets/data/** y assets/actions con un WatchService. Cuando
+ * cambia algún JSON recompila los tres con ConfigCompiler (mismas
+ * validaciones que el build) y deja el resultado en ConfigBundle.stage(); la
+ * partida lo aplica al empezar la siguiente ronda. Si los JSON no son válidos
+ * se muestran los errores y se sigue con la configuración actual.
+ *
+ * Los editores suelen escribir un fichero en varios pasos: tras el primer
+ * evento se espera a que pasen ESPERA_MS sin eventos antes de recompilar.
+ *
+ * La carpeta de assets se busca relativa al directorio de trabajo (o en la
+ * propiedad -Droguelike.assets=...); si no está (juego empaquetado), no se
+ * vigila nada.
+ */
+public final class ConfigWatcher {
+
+	public static final String PROPIEDAD_ASSETS = "roguelike.assets";
+
+	private static final long ESPERA_MS = 200;
+	private static final String[] CANDIDATOS = { "core/assets", "assets", "../core/assets" };
+
+	private static WatchService watcher;
+
+	private ConfigWatcher() {
+	}
+
+	/** Empieza a vigilar (si hay assets en disco). Llamar tras ConfigBundle.init(). */
+	public static synchronized void start() {
+		if (watcher != null)
+			return;
+		Path assets = findAssets();
+		if (assets == null) {
+			System.out.println("[ConfigWatcher] Sin assets en disco: recarga de configuración desactivada");
+			return;
+		}
+
+		WatchService ws;
+		try {
+			ws = FileSystems.getDefault().newWatchService();
+			registerTree(ws, assets.resolve("data"));
+			registerTree(ws, assets.resolve("actions"));
+		} catch (IOException e) {
+			System.err.println("[ConfigWatcher] No se puede vigilar " + assets + ": " + e.getMessage());
+			return;
+		}
+		watcher = ws;
+		Thread.ofPlatform().name("config-watch").daemon(true).start(() -> loop(ws, assets));
+		System.out.println("[ConfigWatcher] Vigilando " + assets.toAbsolutePath().normalize());
+	}
+
+	/** Para el hilo (al cerrar el juego). */
+	public static synchronized void shutdown() {
+		if (watcher != null) {
+			try {
+				watcher.close();
+			} catch (IOException e) {
+				System.err.println("[ConfigWatcher] Error cerrando: " + e.getMessage());
+			}
+			watcher = null;
+		}
+	}
+
+	// ==== HILO ====
+
+	private static void loop(WatchService ws, Path assets) {
+		try {
+			while (true) {
+				WatchKey key = ws.take();
+				boolean cambios = false;
+				// agota la ráfaga: sigue mientras lleguen eventos cada menos de ESPERA_MS
+				do {
+					cambios |= drain(ws, key);
+				} while ((key = ws.poll(ESPERA_MS, TimeUnit.MILLISECONDS)) != null);
+				if (cambios)
+					reload(assets);
+			}
+		} catch (InterruptedException | ClosedWatchServiceException e) {
+			// shutdown()
+		}
+	}
+
+	/** Procesa los eventos de una clave; true si ha cambiado algún JSON. */
+	private static boolean drain(WatchService ws, WatchKey key) {
+		boolean json = false;
+		Path dir = (Path) key.watchable();
+		for (WatchEvent<?> ev : key.pollEvents()) {
+			if (ev.kind() == OVERFLOW) {
+				json = true;
+				continue;
+			}
+			Path p = dir.resolve((Path) ev.context());
+			if (ev.kind() == ENTRY_CREATE && Files.isDirectory(p)) {
+				try {
+					registerTree(ws, p);
+				} catch (IOException e) {
+					System.err.println("[ConfigWatcher] No se puede vigilar " + p + ": " + e.getMessage());
+				}
+			} else if (p.getFileName().toString().endsWith(".json")) {
+				json = true;
+			}
+		}
+		key.reset();
+		return json;
+	}
+
+	private static void reload(Path assets) {
+		long t0 = System.nanoTime();
+		try {
+			ConfigBundle next = ConfigCompiler.compile(Files.readAllBytes(assets.resolve(ConfigCompiler.EFFECTS)),
+					Files.readAllBytes(assets.resolve(ConfigCompiler.VISUALS)),
+					Files.readAllBytes(assets.resolve(ConfigCompiler.ACTIONS)));
+			ConfigBundle.stage(next);
+			System.out.printf("[ConfigWatcher] Configuración recompilada en %.1f ms; se aplica en la próxima ronda%n",
+					(System.nanoTime() - t0) / 1e6);
+		} catch (ConfigException e) {
+			System.err.println("[ConfigWatcher] " + e.getMessage() + "\n  Se mantiene la configuración actual");
+		} catch (IOException e) {
+			// fichero a medio escribir o movido: el siguiente evento lo reintenta
+			System.err.println("[ConfigWatcher] No se pudo leer la configuración: " + e.getMessage());
+		}
+	}
+
+	// ==== AUXILIARES ====
+
+	private static void registerTree(WatchService ws, Path root) throws IOException {
+		if (!Files.isDirectory(root))
+			return;
+		try (Stream<Path> dirs = Files.walk(root)) {
+			for (Path d : (Iterable<Path>) dirs.filter(Files::isDirectory)::iterator)
+				d.register(ws, ENTRY_CREATE, ENTRY_MODIFY);
+		}
+	}
+
+	private static Path findAssets() {
+		String prop = System.getProperty(PROPIEDAD_ASSETS);
+		if (prop != null)
+			return isAssets(Paths.get(prop)) ? Paths.get(prop) : null;
+		for (String c : CANDIDATOS) {
+			Path p = Paths.get(c);
+			if (isAssets(p))
+				return p;
+		}
+		return null;
+	}
+
+	private static boolean isAssets(Path p) {
+		return Files.isRegularFile(p.resolve(ConfigCompiler.EFFECTS))
+				&& Files.isRegularFile(p.resolve(ConfigCompiler.ACTIONS));
+	}
+}
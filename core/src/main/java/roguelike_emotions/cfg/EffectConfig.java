@@ -1,6 +1,11 @@
 package roguelike_emotions.cfg;
 
+import java.lang.reflect.Method;
 import java.util.List;
+import java.util.Locale;
+
+import roguelike_emotions.characters.Attack;
+import roguelike_emotions.characters.Player;
 
 public class EffectConfig {
 	public String effect; // EmotionEffect name
@@ -11,6 +16,11 @@ public class EffectConfig {
 	public int duration;
 	public double probability;
 
+	// resueltos al construir el ConfigBundle: aplicar el efecto no busca el
+	// método ni copia los argumentos
+	private Method invoker;
+	private Object[] argValues;
+
 	public double getIntensity() {
 		return intensity;
 	}
@@ -68,4 +78,44 @@ public class EffectConfig {
 		this.args = args;
 	}
 
-}
\ No newline at end of file
+	/** Método a invocar (null si no existe en la clase del target). */
+	public Method getInvoker() {
+		return invoker;
+	}
+
+	public Object[] getArgValues() {
+		return argValues;
+	}
+
+	void bind() {
+		argValues = args.toArray();
+		Class<?> clase = targetClass(target);
+		try {
+			invoker = (clase != null && method != null) ? clase.getMethod(method, argTypes(args)) : null;
+		} catch (NoSuchMethodException e) {
+			invoker = null;
+		}
+	}
+
+	/** Clase sobre la que se aplica ("player" o "attack"), null si no es ninguna. */
+	static Class<?> targetClass(String target) {
+		if (target == null)
+			return null;
+		return switch (target.toLowerCase(Locale.ROOT)) {
+		case "player" -> Player.class;
+		case "attack" -> Attack.class;
+		default -> null;
+		};
+	}
+
+	/** Tipos de parámetro para getMethod: Integer, Double y Boolean como primitivos. */
+	static Class<?>[] argTypes(List<Object> args) {
+		Class<?>[] tipos = new Class<?>[args.size()];
+		for (int i = 0; i < tipos.length; i++) {
+			Object a = args.get(i);
+			tipos[i] = (a instanceof Integer) ? int.class
+					: (a instanceof Double) ? double.class : (a instanceof Boolean) ? boolean.class : String.class;
+		}
+		return tipos;
+	}
+}
@@ -6,6 +6,7 @@ import java.util.List;
 
 import roguelike_emotions.effects.EffectDetail;
 import roguelike_emotions.utils.CombatLogger;
+import roguelike_emotions.utils.RunRandom;
 
 /**
  * Clase Attack mejorada: - Los efectos se aplican SOLO al objetivo correcto -
@@ -69,7 +70,7 @@ public class Attack {
 		// 2. Aplicar efectos secundarios al jugador
 		int effectsApplied = 0;
 		for (EffectDetail ed : efectos) {
-			if (Math.random() < ed.getProbabilidad()) {
+			if (RunRandom.get().nextDouble() < ed.getProbabilidad()) {
 				ed.aplicarA(jugador); // Solo al jugador
 				effectsApplied++;
 			}
@@ -94,7 +95,7 @@ public class Attack {
 		// 2. Aplicar efectos secundarios al enemigo
 		int effectsApplied = 0;
 		for (EffectDetail ed : efectos) {
-			if (Math.random() < ed.getProbabilidad()) {
+			if (RunRandom.get().nextDouble() < ed.getProbabilidad()) {
 				// Nota: Algunos efectos (como FUEGO) pueden necesitar
 				// aplicarse al jugador para buffs, otros al enemigo para debuffs
 				// Por ahora aplicamos al ataque para efectos especiales
@@ -0,0 +1,30 @@
+package roguelike_emotions.characters;
+
+/**
+ * Curva de dificultad por número de oleada: multiplicadores lineales de vida,
+ * daño y defensa, limitados por un techo.
+ */
+public record DifficultyCurve(double vidaPorOleada, double danyoPorOleada, double defensaPorOleada, double techo) {
+
+	/** Sin escalado: todas las oleadas igual (comportamiento clásico). */
+	public static final DifficultyCurve PLANA = new DifficultyCurve(0, 0, 0, 1.0);
+
+	/** Modo sin fin: +8% vida, +5% daño, +3% defensa por oleada, hasta x4. */
+	public static final DifficultyCurve ESTANDAR = new DifficultyCurve(0.08, 0.05, 0.03, 4.0);
+
+	public double vida(int oleada) {
+		return escalar(vidaPorOleada, oleada);
+	}
+
+	public double danyo(int oleada) {
+		return escalar(danyoPorOleada, oleada);
+	}
+
+	public double defensa(int oleada) {
+		return escalar(defensaPorOleada, oleada);
+	}
+
+	private double escalar(double porOleada, int oleada) {
+		return Math.min(techo, 1.0 + porOleada * Math.max(0, oleada));
+	}
+}
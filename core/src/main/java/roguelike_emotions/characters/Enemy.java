@@ -1,6 +1,7 @@
 package roguelike_emotions.characters;
 
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -16,6 +17,7 @@ import roguelike_emotions.mainMechanics.EmotionDominanceMatrix;
 import roguelike_emotions.mainMechanics.EmotionInstance;
 import roguelike_emotions.mainMechanics.EmotionType;
 import roguelike_emotions.utils.CombatLogger;
+import roguelike_emotions.utils.RunRandom;
 
 public class Enemy implements CombatEntity, PassiveAbilityHolder {
 
@@ -27,12 +29,16 @@ public class Enemy implements CombatEntity, PassiveAbilityHolder {
 	private int health;
 	private int maxHealth;
 	private EmotionInstance estadoEmocionalActual;
+	private final EnemyArchetype archetype;
 
-	private List<EmotionInstance> emocionesActivas = new ArrayList<>();
-	private List<EffectDetail> efectosActivos = new ArrayList<>();
-	private List<OverTimeHeal> healOverTimeEffects = new ArrayList<>();
-	private Map<String, Buff> activeBuffs = new HashMap<>();
-	private Map<String, Debuff> activeDebuffs = new HashMap<>();
+	// Copy-on-write: vacías/compartidas (inmutables) hasta la primera escritura.
+	// Los getters devuelven vistas de solo lectura mientras no haya copia propia;
+	// para añadir usar addEmocion / addEfecto / addHealOverTime / putBuff / putDebuff.
+	private List<EmotionInstance> emocionesActivas;
+	private List<EffectDetail> efectosActivos = Collections.emptyList();
+	private List<OverTimeHeal> healOverTimeEffects = Collections.emptyList();
+	private Map<String, Buff> activeBuffs = Collections.emptyMap();
+	private Map<String, Debuff> activeDebuffs = Collections.emptyMap();
 
 	private static EmotionDominanceMatrix dominanceMatrix;
 	private int cooldownTurns = 0;
@@ -42,15 +48,64 @@ public class Enemy implements CombatEntity, PassiveAbilityHolder {
 	private static final String DEFENSE_BOOST = "defenseBoost";
 	private static final String SPEED_BOOST = "speedBoost";
 
+	// Refuerzo (SUPPORT) y guardia: también los usa EnemyPlanner para puntuar
+	public static final double REFUERZO_CURA = 0.10;
+	public static final double REFUERZO_DEFENSA = 1.25;
+	public static final double GUARDIA_DEFENSA = 1.5;
+
 	// CONSTRUCTOR ARREGLADO
 	public Enemy(String nombre, int maxHealth, int baseDamage, int baseDefense, double baseSpeed, EnemyRole role) {
+		this(new EnemyArchetype(nombre, role, maxHealth, baseDamage, baseDefense, baseSpeed, null), nombre);
+	}
+
+	/** Instancia de una plantilla: comparte stats base, rol y emoción inicial. */
+	Enemy(EnemyArchetype archetype, String nombre) {
+		this.archetype = archetype;
 		this.nombre = nombre;
-		this.maxHealth = maxHealth;
+		this.maxHealth = archetype.getMaxHealth();
 		this.health = maxHealth;
-		this.baseDamage = baseDamage; // ✅ USA EL PARÁMETRO
-		this.baseDefense = baseDefense;
-		this.baseSpeed = baseSpeed;
-		this.role = role;
+		this.baseDamage = archetype.getDamage(); // ✅ USA EL PARÁMETRO
+		this.baseDefense = archetype.getDefense();
+		this.baseSpeed = archetype.getSpeed();
+		this.role = archetype.getRole();
+		this.estadoEmocionalActual = archetype.getEmotion();
+		this.emocionesActivas = archetype.getEmociones();
+	}
+
+	public EnemyArchetype getArchetype() {
+		return archetype;
+	}
+
+	// ==== COPY-ON-WRITE ====
+
+	private List<EmotionInstance> emocionesMutables() {
+		if (!(emocionesActivas instanceof ArrayList))
+			emocionesActivas = new ArrayList<>(emocionesActivas);
+		return emocionesActivas;
+	}
+
+	private List<EffectDetail> efectosMutables() {
+		if (!(efectosActivos instanceof ArrayList))
+			efectosActivos = new ArrayList<>(efectosActivos);
+		return efectosActivos;
+	}
+
+	private List<OverTimeHeal> hotsMutables() {
+		if (!(healOverTimeEffects instanceof ArrayList))
+			healOverTimeEffects = new ArrayList<>(healOverTimeEffects);
+		return healOverTimeEffects;
+	}
+
+	private Map<String, Buff> buffsMutables() {
+		if (!(activeBuffs instanceof HashMap))
+			activeBuffs = new HashMap<>(activeBuffs);
+		return activeBuffs;
+	}
+
+	private Map<String, Debuff> debuffsMutables() {
+		if (!(activeDebuffs instanceof HashMap))
+			activeDebuffs = new HashMap<>(activeDebuffs);
+		return activeDebuffs;
 	}
 
 	@Override
@@ -116,17 +171,18 @@ public class Enemy implements CombatEntity, PassiveAbilityHolder {
 	@Override
 	public void addEmocion(EmotionInstance emotion) {
 		if (!emocionesActivas.contains(emotion))
-			emocionesActivas.add(emotion);
+			emocionesMutables().add(emotion);
 	}
 
 	@Override
 	public void removeEmocion(EmotionInstance emotion) {
-		emocionesActivas.remove(emotion);
+		if (emocionesActivas.contains(emotion))
+			emocionesMutables().remove(emotion);
 	}
 
 	@Override
 	public void clearEmociones() {
-		emocionesActivas.clear();
+		emocionesActivas = Collections.emptyList();
 	}
 
 	@Override
@@ -149,6 +205,26 @@ public class Enemy implements CombatEntity, PassiveAbilityHolder {
 		return activeDebuffs;
 	}
 
+	@Override
+	public void addEfecto(EffectDetail efecto) {
+		efectosMutables().add(efecto);
+	}
+
+	@Override
+	public void addHealOverTime(OverTimeHeal hot) {
+		hotsMutables().add(hot);
+	}
+
+	@Override
+	public void putBuff(String key, Buff buff) {
+		buffsMutables().put(key, buff);
+	}
+
+	@Override
+	public void putDebuff(String key, Debuff debuff) {
+		debuffsMutables().put(key, debuff);
+	}
+
 	@Override
 	public boolean isAlive() {
 		return health > 0;
@@ -230,19 +306,29 @@ public class Enemy implements CombatEntity, PassiveAbilityHolder {
 		pasivasAplicadas = true;
 	}
 
+	/** Ataque básico + activa del rol si está lista (comportamiento clásico). */
 	public void atacar(Player jugador) {
 		if (!canAct()) {
 			CombatLogger.get().log("[Enemy " + nombre + "] No puede actuar - Stunned");
 			return;
 		}
+		ataqueBasico(jugador);
+		usarActiva(jugador);
+	}
+
+	public void ataqueBasico(Player jugador) {
+		if (!canAct()) {
+			CombatLogger.get().log("[Enemy " + nombre + "] No puede actuar - Stunned");
+			return;
+		}
 
 		int baseDamage = getDanyo();
-		boolean isCritical = Math.random() < 0.12;
+		boolean isCritical = RunRandom.get().nextDouble() < 0.12;
 		if (isCritical)
 			baseDamage = (int) (baseDamage * 1.5);
 
 		int variance = (int) (baseDamage * 0.20);
-		int finalDamage = baseDamage + (int) (Math.random() * variance * 2 - variance);
+		int finalDamage = baseDamage + (int) (RunRandom.get().nextDouble() * variance * 2 - variance);
 		finalDamage = Math.max(1, finalDamage);
 
 		Attack atk = new Attack();
@@ -254,8 +340,34 @@ public class Enemy implements CombatEntity, PassiveAbilityHolder {
 			feedback.append("💥 Crítico! ");
 		feedback.append(finalDamage).append(" de daño");
 		CombatLogger.get().log(feedback.toString());
+	}
 
-		usarActiva(jugador);
+	/** true si la activa del rol se puede usar este turno. */
+	public boolean isActivaLista() {
+		return pasivasAplicadas && cooldownTurns <= 0;
+	}
+
+	/**
+	 * Apoyo a un aliado en vez de atacar: cura un 10% de su vida máxima y le da
+	 * +25% de defensa 2 turnos. Devuelve la vida curada.
+	 */
+	public int reforzarAliado(Enemy aliado) {
+		if (!canAct() || aliado == null || !aliado.isAlive())
+			return 0;
+		int antes = aliado.getHealth();
+		aliado.heal(Math.max(1, (int) (aliado.getMaxHealth() * REFUERZO_CURA)));
+		aliado.putBuff(DEFENSE_BOOST, new Buff(DEFENSE_BOOST, REFUERZO_DEFENSA, 2));
+		int curado = aliado.getHealth() - antes;
+		CombatLogger.get().log("[Enemy " + nombre + "] 🤝 Refuerza a " + aliado.getNombre() + " (+" + curado + " HP)");
+		return curado;
+	}
+
+	/** Se cubre en vez de atacar: +50% de defensa durante 1 turno. */
+	public void ponerseEnGuardia() {
+		if (!canAct())
+			return;
+		putBuff(DEFENSE_BOOST, new Buff(DEFENSE_BOOST, GUARDIA_DEFENSA, 1));
+		CombatLogger.get().log("[Enemy " + nombre + "] 🛡️ Se pone en guardia");
 	}
 
 	public void usarActiva(Player jugador) {
@@ -0,0 +1,80 @@
+package roguelike_emotions.characters;
+
+import java.util.List;
+
+import roguelike_emotions.mainMechanics.EmotionInstance;
+
+/**
+ * Plantilla inmutable de enemigo: stats base, rol y emoción compartidos por
+ * todas sus instancias. Cada Enemy guarda solo su estado escalar (vida,
+ * cooldowns...) y crea sus colecciones mutables la primera vez que las toca.
+ *
+ * La emoción se comparte tal cual: las emociones de los enemigos no se
+ * modifican en combate (XP/despertar solo se procesan en el jugador).
+ */
+public final class EnemyArchetype {
+
+	private final String nombre;
+	private final EnemyRole role;
+	private final int maxHealth;
+	private final int damage;
+	private final int defense;
+	private final double speed;
+	private final EmotionInstance emotion;
+	private final List<EmotionInstance> emociones;
+
+	public EnemyArchetype(String nombre, EnemyRole role, int maxHealth, int damage, int defense, double speed,
+			EmotionInstance emotion) {
+		this.nombre = nombre;
+		this.role = role;
+		this.maxHealth = maxHealth;
+		this.damage = damage;
+		this.defense = defense;
+		this.speed = speed;
+		this.emotion = emotion;
+		this.emociones = (emotion != null) ? List.of(emotion) : List.of();
+	}
+
+	/** Nueva instancia con el nombre de la plantilla. */
+	public Enemy instanciar() {
+		return new Enemy(this, nombre);
+	}
+
+	/** Nueva instancia con nombre propio ("Enemigo 3"). */
+	public Enemy instanciar(String nombreInstancia) {
+		return new Enemy(this, nombreInstancia);
+	}
+
+	public String getNombre() {
+		return nombre;
+	}
+
+	public EnemyRole getRole() {
+		return role;
+	}
+
+	public int getMaxHealth() {
+		return maxHealth;
+	}
+
+	public int getDamage() {
+		return damage;
+	}
+
+	public int getDefense() {
+		return defense;
+	}
+
+	public double getSpeed() {
+		return speed;
+	}
+
+	public EmotionInstance getEmotion() {
+		return emotion;
+	}
+
+	/** Lista inmutable compartida de emociones iniciales. */
+	List<EmotionInstance> getEmociones() {
+		return emociones;
+	}
+}
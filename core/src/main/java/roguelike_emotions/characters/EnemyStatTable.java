@@ -0,0 +1,120 @@
+package roguelike_emotions.characters;
+
+import roguelike_emotions.mainMechanics.EmotionType;
+
+/**
+ * Tabla precalculada de stats base por (EnemyRole × EmotionType).
+ *
+ * Sustituye al escalado que EnemyFactory repetía enemigo a enemigo: base del
+ * perfil → factor del tipo emocional → multiplicador del rol. Los tipos sin
+ * factor fijo (FUSIONADA, CALMA, NEUTRO) llevan un ±7.5% aleatorio por stat,
+ * que se aplica al generar con el RNG de la oleada (ver {@link #tieneVariacion}).
+ */
+public final class EnemyStatTable {
+
+	/** Perfiles de stats: oleadas de combate y enemigos de nodo del mapa. */
+	public enum Perfil {
+		// base vida/daño/def/vel*10 y multiplicadores por rol (TANK, DPS)
+		OLEADA(100, 10, 5, 10, new double[] { 1.2, 0.9, 1.3, 0.85 }, new double[] { 0.85, 1.5, 0.9, 1.15 }),
+		NODO(50, 8, 3, 10, new double[] { 1.3, 0.8, 1.3, 0.9 }, new double[] { 0.85, 1.3, 0.9, 1.15 });
+
+		final int vida, danyo, def, vel;
+		final double[] tank, dps;
+
+		Perfil(int vida, int danyo, int def, int vel, double[] tank, double[] dps) {
+			this.vida = vida;
+			this.danyo = danyo;
+			this.def = def;
+			this.vel = vel;
+			this.tank = tank;
+			this.dps = dps;
+		}
+
+		private double[] multiplicadores(EnemyRole role) {
+			return switch (role) {
+			case TANK -> tank;
+			case DPS -> dps;
+			case SUPPORT -> SIN_CAMBIO;
+			};
+		}
+	}
+
+	/** Stats finales de una fila de la tabla. */
+	public record Stats(int vida, int danyo, int def, double vel) {
+	}
+
+	private static final double[] SIN_CAMBIO = { 1.0, 1.0, 1.0, 1.0 };
+	private static final double VARIACION = 0.15;
+
+	private static final EnemyRole[] ROLES = EnemyRole.values();
+	private static final EmotionType[] TIPOS = EmotionType.values();
+
+	private final Perfil perfil;
+	private final Stats[][] filas = new Stats[ROLES.length][TIPOS.length];
+
+	private static final EnemyStatTable OLEADA = new EnemyStatTable(Perfil.OLEADA);
+	private static final EnemyStatTable NODO = new EnemyStatTable(Perfil.NODO);
+
+	private EnemyStatTable(Perfil perfil) {
+		this.perfil = perfil;
+		for (EnemyRole r : ROLES) {
+			for (EmotionType t : TIPOS) {
+				double f = factorTipo(t);
+				filas[r.ordinal()][t.ordinal()] = calcular(r, f, f, f, f);
+			}
+		}
+	}
+
+	public static EnemyStatTable of(Perfil perfil) {
+		return perfil == Perfil.OLEADA ? OLEADA : NODO;
+	}
+
+	public Perfil perfil() {
+		return perfil;
+	}
+
+	/** Fila precalculada (sin variación aleatoria). */
+	public Stats get(EnemyRole role, EmotionType tipo) {
+		return filas[role.ordinal()][tipo.ordinal()];
+	}
+
+	/** true si el tipo no tiene factor fijo y cada stat lleva variación aleatoria. */
+	public static boolean tieneVariacion(EmotionType tipo) {
+		return Double.isNaN(factorTipo(tipo));
+	}
+
+	/** Variación de un stat para tipos sin factor fijo: 1 ± 7.5%. */
+	static double variacion(double u) {
+		return 1.0 + (u - 0.5) * VARIACION;
+	}
+
+	/** Stats con un factor de tipo por stat (para los tipos con variación). */
+	Stats calcular(EnemyRole role, double fVida, double fDanyo, double fDef, double fVel) {
+		double[] m = perfil.multiplicadores(role);
+		int vida = (int) (escala(perfil.vida, fVida) * m[0]);
+		int danyo = (int) (escala(perfil.danyo, fDanyo) * m[1]);
+		int def = (int) (escala(perfil.def, fDef) * m[2]);
+		double vel = escala(perfil.vel, fVel) / 10.0 * m[3];
+		return new Stats(vida, danyo, def, vel);
+	}
+
+	private static int escala(int base, double factor) {
+		// NaN (tipo con variación) → factor neutro en la fila precalculada
+		double f = Double.isNaN(factor) ? 1.0 : factor;
+		return (int) Math.max(1, base * f);
+	}
+
+	/** Factor fijo del tipo emocional, o NaN si varía por enemigo. */
+	private static double factorTipo(EmotionType tipo) {
+		return switch (tipo) {
+		case IRA -> 1.15;
+		case MIEDO -> 1.1;
+		case TRISTEZA -> 0.95;
+		case ALEGRIA -> 1.05;
+		case CULPA -> 1.0;
+		case ESPERANZA -> 1.0;
+		case RABIA -> 1.25;
+		default -> Double.NaN;
+		};
+	}
+}
@@ -5,6 +5,8 @@ import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
+import java.util.function.IntFunction;
+import java.util.function.ToIntFunction;
 
 import roguelike_emotions.combat.CombatEntity;
 import roguelike_emotions.combat.EmotionalTurnProcessor;
@@ -12,11 +14,17 @@ import roguelike_emotions.effects.Buff;
 import roguelike_emotions.effects.Debuff;
 import roguelike_emotions.effects.EffectDetail;
 import roguelike_emotions.effects.OverTimeHeal;
+import roguelike_emotions.mainMechanics.EmotionCodec;
 import roguelike_emotions.mainMechanics.EmotionInstance;
 import roguelike_emotions.mainMechanics.EmotionInstanceFactory;
 import roguelike_emotions.mainMechanics.SentientEmotion;
+import roguelike_emotions.mainMechanics.SentientLifecycleTable;
 import roguelike_emotions.map.EmotionNode;
+import roguelike_emotions.save.SnapshotFormatException;
+import roguelike_emotions.save.SnapshotReader;
+import roguelike_emotions.save.SnapshotWriter;
 import roguelike_emotions.utils.CombatLogger;
+import roguelike_emotions.utils.RunRandom;
 import roguelike_emotions.vfx.ComboMaxEvent; // ✅ NUEVO
 import roguelike_emotions.vfx.VisBus; // ✅ NUEVO
 
@@ -35,6 +43,7 @@ public class Player implements CombatEntity, Cloneable {
 	private List<OverTimeHeal> healOverTimeEffects = new ArrayList<>();
 	private List<EffectDetail> efectosActivos = new ArrayList<>();
 	private EmotionInstanceFactory emotionFactory = new EmotionInstanceFactory();
+	private final SentientLifecycleTable sentientTable = new SentientLifecycleTable();
 
 	private Enemy tauntSource;
 	private int tauntTurnsRemaining = 0;
@@ -209,7 +218,7 @@ public class Player implements CombatEntity, Cloneable {
 
 		// Calcular daño base y crítico
 		int baseDamage = getDanyo();
-		boolean isCritical = Math.random() < 0.25;
+		boolean isCritical = RunRandom.get().nextDouble() < 0.25;
 		if (isCritical) {
 			baseDamage = (int) (baseDamage * 1.8);
 		}
@@ -229,7 +238,7 @@ public class Player implements CombatEntity, Cloneable {
 
 		// Varianza de daño
 		int variance = (int) (baseDamage * 0.15);
-		int finalDamage = baseDamage + (int) (Math.random() * variance * 2 - variance);
+		int finalDamage = baseDamage + (int) (RunRandom.get().nextDouble() * variance * 2 - variance);
 		finalDamage = Math.max(1, finalDamage);
 
 		// Feedback mejorado para combo x3
@@ -383,13 +392,13 @@ public class Player implements CombatEntity, Cloneable {
 	// ==================== AÑADIR AL FINAL DE LA CLASE ====================
 
 	/**
-	 * ✅ NUEVO: Tick de emociones sentientes cada turno
+	 * ✅ NUEVO: Tick de emociones sentientes cada turno (una pasada por la tabla)
 	 */
 	public void tickSentientEmotions() {
+		sentientTable.tick(this);
 		for (EmotionInstance e : emocionesActivas) {
 			if (e instanceof SentientEmotion) {
 				SentientEmotion sentient = (SentientEmotion) e;
-				sentient.onTurnTick(this);
 
 				// Diálogos contextuales
 				String dialogue = sentient.getDialogue(true, false);
@@ -478,12 +487,21 @@ public class Player implements CombatEntity, Cloneable {
 
 	public void setNodoMentalActual(EmotionNode nodo) {
 		this.nodoMentalActual = nodo;
+		if (nodo != null) {
+			nodo.materializar();
+			nodo.prefetchVecinos();
+		}
 	}
 
 	public int getComboStreak() {
 		return comboStreak;
 	}
 
+	/** Ciclo de vida de las emociones sentientes activas. */
+	public SentientLifecycleTable getSentientTable() {
+		return sentientTable;
+	}
+
 	// ==================== STATE RESET ====================
 
 	public void resetState() {
@@ -521,6 +539,114 @@ public class Player implements CombatEntity, Cloneable {
 		abilityCooldown = 0;
 	}
 
+	// ==================== SNAPSHOT ====================
+
+	/**
+	 * Escribe el estado del jugador en el snapshot de partida. Las emociones van
+	 * como índices de la tabla de emociones del snapshot ('refs'). La provocación
+	 * no se guarda: apunta a un enemigo de la oleada, que no forma parte del
+	 * snapshot. El nodo mental lo guarda quien tiene el mapa.
+	 */
+	public void writeSnapshot(SnapshotWriter w, ToIntFunction<EmotionInstance> refs) {
+		w.putInt(vida);
+		w.putInt(maxVida);
+		w.putInt(defensaBase);
+		w.putInt(danyoBase);
+		w.putDouble(velBase);
+		w.putBoolean(canUseAbility);
+		w.putInt(abilityCooldown);
+		w.putInt(comboStreak);
+
+		w.putInt(emocionesActivas.size());
+		for (EmotionInstance e : emocionesActivas)
+			w.putInt(refs.applyAsInt(e));
+
+		EmotionCodec.writeEffects(w, efectosActivos);
+
+		w.putInt(activeBuffs.size());
+		for (Buff b : activeBuffs.values()) {
+			w.putString(b.getType());
+			w.putDouble(b.getMultiplier());
+			w.putInt(b.getRemainingTurns());
+		}
+		w.putInt(activeDebuffs.size());
+		for (Debuff d : activeDebuffs.values()) {
+			w.putString(d.getType());
+			w.putDouble(d.getSeverity());
+			w.putInt(d.getRemainingTurns());
+		}
+		w.putInt(healOverTimeEffects.size());
+		for (OverTimeHeal h : healOverTimeEffects) {
+			w.putInt(h.getAmount());
+			w.putInt(h.getRemainingTurns());
+		}
+	}
+
+	/**
+	 * Lee lo escrito por writeSnapshot. Todo se lee primero a variables locales:
+	 * si el snapshot está mal, el jugador no cambia.
+	 */
+	public void readSnapshot(SnapshotReader r, IntFunction<EmotionInstance> refs) throws SnapshotFormatException {
+		int nVida = r.getInt();
+		int nMaxVida = r.getInt();
+		int nDefensa = r.getInt();
+		int nDanyo = r.getInt();
+		double nVel = r.getDouble();
+		boolean nCanUse = r.getBoolean();
+		int nCooldown = r.getInt();
+		int nCombo = r.getInt();
+
+		int n = r.getCount();
+		List<EmotionInstance> emociones = new ArrayList<>(n);
+		for (int i = 0; i < n; i++) {
+			EmotionInstance e = refs.apply(r.getInt());
+			if (e == null)
+				throw new SnapshotFormatException("Referencia de emoción inválida en el jugador");
+			emociones.add(e);
+		}
+
+		List<EffectDetail> efectos = EmotionCodec.readEffects(r);
+
+		n = r.getCount();
+		Map<String, Buff> buffs = new HashMap<>();
+		for (int i = 0; i < n; i++) {
+			String type = r.getString();
+			buffs.put(type, new Buff(type, r.getDouble(), r.getInt()));
+		}
+		n = r.getCount();
+		Map<String, Debuff> debuffs = new HashMap<>();
+		for (int i = 0; i < n; i++) {
+			String type = r.getString();
+			debuffs.put(type, new Debuff(type, r.getDouble(), r.getInt()));
+		}
+		n = r.getCount();
+		List<OverTimeHeal> hots = new ArrayList<>(n);
+		for (int i = 0; i < n; i++)
+			hots.add(new OverTimeHeal(r.getInt(), r.getInt()));
+
+		vida = nVida;
+		maxVida = nMaxVida;
+		defensaBase = nDefensa;
+		danyoBase = nDanyo;
+		velBase = nVel;
+		canUseAbility = nCanUse;
+		abilityCooldown = nCooldown;
+		comboStreak = nCombo;
+		emocionesActivas.clear();
+		emocionesActivas.addAll(emociones);
+		efectosActivos.clear();
+		efectosActivos.addAll(efectos);
+		activeBuffs.clear();
+		activeBuffs.putAll(buffs);
+		activeDebuffs.clear();
+		activeDebuffs.putAll(debuffs);
+		healOverTimeEffects.clear();
+		healOverTimeEffects.addAll(hots);
+		tauntSource = null;
+		tauntTurnsRemaining = 0;
+		// las sentientes restauradas traen su propia fila; el próximo tick las adopta
+	}
+
 	@Override
 	public Player clone() {
 		try {
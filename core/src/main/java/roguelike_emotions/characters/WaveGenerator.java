@@ -0,0 +1,111 @@
+package roguelike_emotions.characters;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import roguelike_emotions.mainMechanics.EmotionInstance;
+import roguelike_emotions.mainMechanics.EmotionInstanceFactory;
+import roguelike_emotions.mainMechanics.EmotionType;
+
+/**
+ * Generador de oleadas en bloque sobre EnemyStatTable.
+ *
+ * Sin E/S por consola y con RNG explícito: misma semilla + misma oleada + misma
+ * curva → mismos roles, tipos, stats y efectos. El nombre de la emoción lo
+ * sigue dando EmotionNameGenerator (único por partida), así que no entra en la
+ * reproducibilidad.
+ */
+public final class WaveGenerator {
+
+	private static final EnemyRole[] ROLES = EnemyRole.values();
+	private static final EmotionType[] TIPOS = EmotionType.values();
+
+	private final EnemyStatTable tabla;
+	private final DifficultyCurve curva;
+	private final EmotionInstanceFactory emotionFactory = new EmotionInstanceFactory();
+
+	public WaveGenerator(EnemyStatTable.Perfil perfil, DifficultyCurve curva) {
+		this.tabla = EnemyStatTable.of(perfil);
+		this.curva = (curva != null) ? curva : DifficultyCurve.PLANA;
+	}
+
+	/** Oleada reproducible a partir de (seed, oleada). */
+	public List<Enemy> generarOleada(long seed, int oleada, int cantidad) {
+		return generar(new Random(mezclar(seed, oleada)), oleada, cantidad, null);
+	}
+
+	/**
+	 * @param tipoFijo tipo emocional de todos los enemigos, o null para uno
+	 *                 aleatorio por enemigo
+	 */
+	public List<Enemy> generar(Random rng, int oleada, int cantidad, EmotionType tipoFijo) {
+		return generar(rng, oleada, cantidad, tipoFijo, emotionFactory);
+	}
+
+	/** Igual, con las emociones de 'emociones' (p. ej. con nombres propios de un nodo). */
+	public List<Enemy> generar(Random rng, int oleada, int cantidad, EmotionType tipoFijo,
+			EmotionInstanceFactory emociones) {
+		List<Enemy> out = new ArrayList<>(cantidad);
+		for (int i = 0; i < cantidad; i++) {
+			out.add(generarPlantilla(rng, oleada, tipoFijo, "Enemigo" + (i + 1), emociones).instanciar());
+		}
+		return out;
+	}
+
+	/** Igual que generar() pero añadiendo a una lista existente (sims). */
+	public void generarEn(Random rng, int oleada, int cantidad, EmotionType tipoFijo, List<Enemy> out) {
+		for (int i = 0; i < cantidad; i++) {
+			out.add(generarPlantilla(rng, oleada, tipoFijo, "Enemigo" + (i + 1), emotionFactory).instanciar());
+		}
+	}
+
+	/**
+	 * Oleada masiva (modo sin fin / sims): genera solo 'plantillas' arquetipos y
+	 * reparte 'cantidad' enemigos entre ellos. Las instancias comparten stats,
+	 * rol y emoción; cada una ocupa solo su estado escalar.
+	 */
+	public List<Enemy> generarOleadaMasiva(long seed, int oleada, int cantidad, int plantillas) {
+		Random rng = new Random(mezclar(seed, oleada));
+		int k = Math.max(1, Math.min(plantillas, cantidad));
+		EnemyArchetype[] arquetipos = new EnemyArchetype[k];
+		for (int a = 0; a < k; a++)
+			arquetipos[a] = generarPlantilla(rng, oleada, null, "Enemigo", emotionFactory);
+
+		List<Enemy> out = new ArrayList<>(cantidad);
+		for (int i = 0; i < cantidad; i++)
+			out.add(arquetipos[rng.nextInt(k)].instanciar("Enemigo" + (i + 1)));
+		return out;
+	}
+
+	private EnemyArchetype generarPlantilla(Random rng, int oleada, EmotionType tipoFijo, String nombre,
+			EmotionInstanceFactory emociones) {
+		double mVida = curva.vida(oleada);
+		double mDanyo = curva.danyo(oleada);
+		double mDef = curva.defensa(oleada);
+
+		EnemyRole role = ROLES[rng.nextInt(ROLES.length)];
+		EmotionType tipo = (tipoFijo != null) ? tipoFijo : TIPOS[rng.nextInt(TIPOS.length)];
+
+		EnemyStatTable.Stats s = EnemyStatTable.tieneVariacion(tipo)
+				? tabla.calcular(role, EnemyStatTable.variacion(rng.nextDouble()),
+						EnemyStatTable.variacion(rng.nextDouble()), EnemyStatTable.variacion(rng.nextDouble()),
+						EnemyStatTable.variacion(rng.nextDouble()))
+				: tabla.get(role, tipo);
+
+		int vida = (int) Math.max(1, s.vida() * mVida);
+		int danyo = (int) Math.max(1, s.danyo() * mDanyo);
+		int def = (int) (s.def() * mDef);
+
+		EmotionInstance em = emociones.generarProcedural(rng);
+		return new EnemyArchetype(nombre, role, vida, danyo, def, s.vel(), em);
+	}
+
+	private static long mezclar(long seed, int oleada) {
+		// splitmix64: oleadas consecutivas no dan secuencias correlacionadas
+		long z = seed + 0x9E3779B97F4A7C15L * (oleada + 1L);
+		z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+		z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+		return z ^ (z >>> 31);
+	}
+}
@@ -64,6 +64,25 @@ public interface CombatEntity {
 
 	Map<String, Debuff> getActiveDebuffs();
 
+	// Escritura explícita: Enemy crea sus colecciones solo al primer uso, así que
+	// sus getters pueden devolver vistas vacías de solo lectura.
+
+	default void addEfecto(EffectDetail efecto) {
+		getEfectosActivos().add(efecto);
+	}
+
+	default void addHealOverTime(OverTimeHeal hot) {
+		getHealOverTimeEffects().add(hot);
+	}
+
+	default void putBuff(String key, Buff buff) {
+		getActiveBuffs().put(key, buff);
+	}
+
+	default void putDebuff(String key, Debuff debuff) {
+		getActiveDebuffs().put(key, debuff);
+	}
+
 	// ==================== ESTADO DE COMBATE ====================
 
 	boolean isAlive();
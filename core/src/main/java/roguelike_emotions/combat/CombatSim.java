@@ -0,0 +1,268 @@
+package roguelike_emotions.combat;
+
+import java.util.List;
+
+import roguelike_emotions.characters.Enemy;
+import roguelike_emotions.characters.EnemyRole;
+import roguelike_emotions.characters.Player;
+import roguelike_emotions.effects.Buff;
+import roguelike_emotions.effects.EffectDetail;
+import roguelike_emotions.mainMechanics.EmotionInstance;
+import roguelike_emotions.managers.CombatManager.PlayerAction;
+
+/**
+ * Estado de combate compacto para simulación (TurnAdvisor): solo escalares y
+ * arrays primitivos, copiable sin reservar memoria.
+ *
+ * Reproduce a grandes rasgos una ronda de CombatManager.executeRound: acción
+ * del jugador (críticos, combo, varianza, defensa del enemigo), ataque de cada
+ * enemigo vivo con su activa de rol, y caducidad de buffs. No modela DoTs ni
+ * efectos de datos (EffectConfig); el efecto de USE_EMOTION es una estimación
+ * a partir del tipo de efectos de la primera emoción.
+ */
+final class CombatSim {
+
+	static final int ONGOING = 0, WIN = 1, LOSS = -1;
+
+	private static final double P_CRIT = 0.25, P_CRIT_MULT = 1.8, P_VAR = 0.15;
+	private static final double E_CRIT = 0.12, E_CRIT_MULT = 1.5, E_VAR = 0.20;
+	private static final int DEFEND_NIVEL = 10;
+	private static final int COOLDOWN_ACTIVA = 3;
+
+	// jugador
+	int pHp, pMaxHp, pDmg, pDefBase, pCombo;
+	double pDefMult = 1, pDmgMult = 1;
+	int pDefTurns, pDmgTurns;
+	boolean pHasEmotion;
+	int emoHeal;
+	double emoDefMult = 1, emoDmgMult = 1;
+
+	// enemigos
+	int n;
+	final int[] eHp, eMaxHp, eDmg, eBaseDmg, eDef, eCooldown;
+	final byte[] eRole;
+	final boolean[] eActiva;
+
+	CombatSim(int capacity) {
+		eHp = new int[capacity];
+		eMaxHp = new int[capacity];
+		eDmg = new int[capacity];
+		eBaseDmg = new int[capacity];
+		eDef = new int[capacity];
+		eCooldown = new int[capacity];
+		eRole = new byte[capacity];
+		eActiva = new boolean[capacity];
+	}
+
+	// ==== CAPTURA ====
+
+	static CombatSim capture(Player p, List<Enemy> enemies) {
+		CombatSim s = new CombatSim(Math.max(1, enemies.size()));
+		s.pHp = p.getHealth();
+		s.pMaxHp = Math.max(1, p.getMaxHealth());
+		s.pDmg = p.getDanyo();
+		s.pDefBase = p.getBaseDefense();
+		s.pCombo = p.getComboStreak();
+		Buff def = p.getActiveBuffs().get("defenseBoost");
+		if (def != null) {
+			s.pDefMult = def.getMultiplier();
+			s.pDefTurns = def.getRemainingTurns();
+		}
+
+		List<EmotionInstance> emos = p.getEmocionesActivas();
+		if (emos != null && !emos.isEmpty()) {
+			s.pHasEmotion = true;
+			for (EffectDetail ed : emos.get(0).getEfectos()) {
+				switch (ed.getTipo()) {
+				case CURACION, REGENERACION -> s.emoHeal += (int) Math.max(1, ed.getIntensidad());
+				case DEFENDER -> s.emoDefMult = Math.max(s.emoDefMult, 1.3);
+				case FUEGO, ENERGIZAR -> s.emoDmgMult = Math.max(s.emoDmgMult, 1.2);
+				default -> {
+				}
+				}
+			}
+		}
+
+		for (Enemy e : enemies) {
+			int i = s.n++;
+			s.eHp[i] = e.isAlive() ? e.getHealth() : 0;
+			s.eMaxHp[i] = Math.max(1, e.getMaxHealth());
+			s.eDmg[i] = e.getDanyo();
+			s.eBaseDmg[i] = e.getBaseDamage();
+			s.eDef[i] = e.getDefensa();
+			s.eCooldown[i] = e.getCooldownTurns();
+			s.eRole[i] = (byte) e.getRole().ordinal();
+			s.eActiva[i] = e.isActivaLista();
+		}
+		return s;
+	}
+
+	void copyFrom(CombatSim o) {
+		pHp = o.pHp;
+		pMaxHp = o.pMaxHp;
+		pDmg = o.pDmg;
+		pDefBase = o.pDefBase;
+		pCombo = o.pCombo;
+		pDefMult = o.pDefMult;
+		pDmgMult = o.pDmgMult;
+		pDefTurns = o.pDefTurns;
+		pDmgTurns = o.pDmgTurns;
+		pHasEmotion = o.pHasEmotion;
+		emoHeal = o.emoHeal;
+		emoDefMult = o.emoDefMult;
+		emoDmgMult = o.emoDmgMult;
+		n = o.n;
+		System.arraycopy(o.eHp, 0, eHp, 0, n);
+		System.arraycopy(o.eMaxHp, 0, eMaxHp, 0, n);
+		System.arraycopy(o.eDmg, 0, eDmg, 0, n);
+		System.arraycopy(o.eBaseDmg, 0, eBaseDmg, 0, n);
+		System.arraycopy(o.eDef, 0, eDef, 0, n);
+		System.arraycopy(o.eCooldown, 0, eCooldown, 0, n);
+		System.arraycopy(o.eRole, 0, eRole, 0, n);
+		System.arraycopy(o.eActiva, 0, eActiva, 0, n);
+	}
+
+	// ==== SIMULACIÓN ====
+
+	boolean allowed(PlayerAction a) {
+		return a != PlayerAction.USE_EMOTION || pHasEmotion;
+	}
+
+	/** Enemigo vivo con menos vida (objetivo por defecto en la simulación). */
+	int weakestAlive() {
+		int best = -1;
+		for (int i = 0; i < n; i++) {
+			if (eHp[i] > 0 && (best < 0 || eHp[i] < eHp[best]))
+				best = i;
+		}
+		return best;
+	}
+
+	/** Una ronda completa. target < 0 o muerto → el más débil. */
+	int step(PlayerAction a, int target, SimRng rng) {
+		if (target < 0 || target >= n || eHp[target] <= 0)
+			target = weakestAlive();
+		if (target < 0)
+			return WIN;
+
+		// FASE 1: jugador
+		switch (a) {
+		case ATTACK -> {
+			double dmg = pDmg * pDmgMult;
+			if (rng.nextDouble() < P_CRIT)
+				dmg *= P_CRIT_MULT;
+			pCombo = Math.min(pCombo + 1, 3);
+			dmg *= 1.0 + (pCombo - 1) * 0.05;
+			int base = (int) dmg;
+			int var = (int) (base * P_VAR);
+			int fin = Math.max(1, base + (int) (rng.nextDouble() * var * 2 - var));
+			eHp[target] = Math.max(0, eHp[target] - Math.max(1, fin - eDef[target]));
+			if (eHp[target] == 0)
+				pCombo = 0;
+		}
+		case DEFEND -> {
+			pDefMult = 1.0 + DEFEND_NIVEL / (double) Math.max(1, pDefBase);
+			pDefTurns = 2;
+		}
+		case USE_EMOTION -> {
+			pHp = Math.min(pMaxHp, pHp + emoHeal);
+			if (emoDefMult > 1) {
+				pDefMult = Math.max(pDefMult, emoDefMult);
+				pDefTurns = Math.max(pDefTurns, 2);
+			}
+			if (emoDmgMult > 1) {
+				pDmgMult = Math.max(pDmgMult, emoDmgMult);
+				pDmgTurns = Math.max(pDmgTurns, 2);
+			}
+		}
+		}
+
+		boolean anyAlive = false;
+		int pDef = (int) (pDefBase * pDefMult);
+
+		// FASE 2: enemigos vivos
+		for (int i = 0; i < n; i++) {
+			if (eHp[i] <= 0)
+				continue;
+			anyAlive = true;
+
+			double dmg = eDmg[i];
+			if (rng.nextDouble() < E_CRIT)
+				dmg *= E_CRIT_MULT;
+			int base = (int) dmg;
+			int var = (int) (base * E_VAR);
+			int fin = Math.max(1, base + (int) (rng.nextDouble() * var * 2 - var));
+			hitPlayer(fin, pDef);
+
+			if (eActiva[i]) {
+				EnemyRole role = EnemyRole.values()[eRole[i]];
+				if (role == EnemyRole.DPS) {
+					hitPlayer((int) (eBaseDmg[i] * 2.5), pDef);
+				} else if (role == EnemyRole.SUPPORT) {
+					eHp[i] = Math.min(eMaxHp[i], eHp[i] + (int) (eMaxHp[i] * 0.15));
+				}
+				eActiva[i] = false;
+				eCooldown[i] = COOLDOWN_ACTIVA;
+			} else if (eCooldown[i] > 0 && --eCooldown[i] == 0) {
+				eActiva[i] = true;
+			}
+
+			if (pHp <= 0)
+				return LOSS;
+		}
+		if (!anyAlive)
+			return WIN;
+
+		// FASE 3: caducidad de buffs del jugador
+		if (pDefTurns > 0 && --pDefTurns == 0)
+			pDefMult = 1;
+		if (pDmgTurns > 0 && --pDmgTurns == 0)
+			pDmgMult = 1;
+
+		return ONGOING;
+	}
+
+	private void hitPlayer(int dmg, int pDef) {
+		int net = dmg - pDef;
+		if (net > 0) {
+			pHp = Math.max(0, pHp - net);
+			pCombo = 0;
+		}
+	}
+
+	/** Valor en [0,1] de un estado no terminal (vida relativa de ambos bandos). */
+	double heuristic() {
+		long eHpSum = 0, eMaxSum = 0;
+		for (int i = 0; i < n; i++) {
+			eHpSum += eHp[i];
+			eMaxSum += eMaxHp[i];
+		}
+		double pFrac = pHp / (double) pMaxHp;
+		double eFrac = eMaxSum > 0 ? eHpSum / (double) eMaxSum : 0;
+		return Math.max(0, Math.min(1, 0.5 + 0.5 * (pFrac - eFrac)));
+	}
+
+	/** xorshift64* mínimo: sin reservas ni sincronización (uno por hilo). */
+	static final class SimRng {
+		private long s;
+
+		SimRng(long seed) {
+			seed(seed);
+		}
+
+		void seed(long seed) {
+			s = (seed == 0) ? 0x9E3779B97F4A7C15L : seed;
+		}
+
+		double nextDouble() {
+			s ^= s >>> 12;
+			s ^= s << 25;
+			s ^= s >>> 27;
+			return ((s * 0x2545F4914F6CDD1DL) >>> 11) * 0x1.0p-53;
+		}
+
+		int nextInt(int bound) {
+			return (int) (nextDouble() * bound);
+		}
+	}
+}
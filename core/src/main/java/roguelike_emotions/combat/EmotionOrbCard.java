@@ -19,7 +19,10 @@ import com.badlogic.gdx.scenes.scene2d.utils.ClickListener;
 import com.badlogic.gdx.scenes.scene2d.utils.NinePatchDrawable;
 import com.badlogic.gdx.utils.Align;
 
+import roguelike_emotions.characters.Player;
 import roguelike_emotions.effects.EffectDetail;
+import roguelike_emotions.graphics.GpuResources;
+import roguelike_emotions.mainMechanics.AwakeningForecast;
 import roguelike_emotions.mainMechanics.EmotionInstance;
 import roguelike_emotions.mainMechanics.EmotionType;
 import roguelike_emotions.mainMechanics.SentientEmotion;
@@ -31,6 +34,7 @@ import roguelike_emotions.mainMechanics.SentientEmotion;
 public class EmotionOrbCard extends Table {
 
 	private final EmotionInstance emotion;
+	private final Player player; // para el modelo de XP de la previsión (puede ser null)
 	private final Skin skin;
 
 	// Visual state
@@ -41,6 +45,9 @@ public class EmotionOrbCard extends Table {
 	private float hoverScale = 1f;
 	private boolean isHovered = false;
 
+	// fondo con referencia en GpuResources (se devuelve en dispose)
+	private Texture fondo;
+
 	private Runnable onClickCallback;
 	private Container<Label> iconContainer;
 
@@ -49,11 +56,18 @@ public class EmotionOrbCard extends Table {
 	private Table progressBarFill;
 	private Label progressLabel;
 
+	// Previsión analítica (AwakeningForecast): P(despertar en 3 turnos) y turnos esperados
+	private static final int TURNOS_PREVISION = 3;
+	private static final Color COLOR_PREVISION = new Color(1f, 0.6f, 0.95f, 1f);
+	private Table forecastFill;
+	private Label forecastLabel;
+
 	// 🆕 Label del icono para animaciones
 	private Label iconLabel;
 
-	public EmotionOrbCard(EmotionInstance emotion, Skin skin) {
+	public EmotionOrbCard(EmotionInstance emotion, Player player, Skin skin) {
 		this.emotion = emotion;
+		this.player = player;
 		this.skin = skin;
 
 		setBackground(createCardBackground());
@@ -148,6 +162,22 @@ public class EmotionOrbCard extends Table {
 		parent.add(container).left().padBottom(2f);
 		parent.row();
 
+		// Barra fina de previsión + texto
+		AwakeningForecast forecast = computeForecast();
+		Table forecastBar = new Table();
+		forecastBar.setBackground(createProgressBackground());
+		forecastFill = new Table();
+		forecastFill.setBackground(createFill(COLOR_PREVISION));
+		forecastBar.add(forecastFill).width(140f * (float) forecast.probabilityWithin(TURNOS_PREVISION)).height(2f).left();
+		parent.add(forecastBar).width(140f).height(2f).left().padBottom(2f);
+		parent.row();
+
+		forecastLabel = new Label(formatForecast(forecast), skin, "default");
+		forecastLabel.setFontScale(0.55f);
+		forecastLabel.setColor(COLOR_PREVISION);
+		parent.add(forecastLabel).left().padBottom(2f);
+		parent.row();
+
 		// Texto de estado
 		if (progress >= 80) {
 			Label statusLabel = new Label("✨ Cerca del despertar", skin, "default");
@@ -237,6 +267,31 @@ public class EmotionOrbCard extends Table {
 			progressLabel.setText(newProgress + "%");
 			progressLabel.setColor(getProgressColor(newProgress));
 		}
+
+		// Actualizar previsión
+		if (forecastFill != null) {
+			AwakeningForecast forecast = computeForecast();
+			forecastFill.clearActions();
+			forecastFill.addAction(Actions.sizeTo(140f * (float) forecast.probabilityWithin(TURNOS_PREVISION), 2f,
+					0.3f, Interpolation.smooth));
+			forecastLabel.setText(formatForecast(forecast));
+		}
+	}
+
+	/**
+	 * Previsión con el modelo de XP por defecto (el jugador ataca cada turno). Sin
+	 * jugador, estimado() usa la XP fija de usar la emoción.
+	 */
+	private AwakeningForecast computeForecast() {
+		return AwakeningForecast.of(emotion, AwakeningForecast.XpModel.estimado(emotion, player));
+	}
+
+	// solo ASCII: el texto tiene que salir igual con cualquier juego de caracteres horneado
+	private static String formatForecast(AwakeningForecast f) {
+		double esperados = f.expectedTurns();
+		String turnos = Double.isInfinite(esperados) ? "nunca" : String.format("~%.1f turnos", esperados);
+		return String.format("Despierta: %s | %dt: %d%%", turnos, TURNOS_PREVISION,
+				Math.round(f.probabilityWithin(TURNOS_PREVISION) * 100));
 	}
 
 	// ==================== 🆕 MÉTODOS DE ANIMACIÓN Y ESTADO ====================
@@ -400,39 +455,42 @@ public class EmotionOrbCard extends Table {
 	// ==================== VISUAL ====================
 
 	private NinePatchDrawable createCardBackground() {
-		Pixmap pixmap = new Pixmap(3, 3, Pixmap.Format.RGBA8888);
-
 		Color baseColor = getTypeColor(emotion.getTipoBase());
 		Color darkened = new Color(baseColor.r * 0.3f, baseColor.g * 0.3f, baseColor.b * 0.3f, 0.85f);
 
-		pixmap.setColor(darkened);
-		pixmap.fill();
-
-		Texture texture = new Texture(pixmap);
-		pixmap.dispose();
+		fondo = GpuResources.texture("orb.card:" + darkened, () -> {
+			Pixmap pixmap = new Pixmap(3, 3, Pixmap.Format.RGBA8888);
+			pixmap.setColor(darkened);
+			pixmap.fill();
+			return pixmap;
+		});
 
-		NinePatch patch = new NinePatch(texture, 1, 1, 1, 1);
+		NinePatch patch = new NinePatch(fondo, 1, 1, 1, 1);
 		return new NinePatchDrawable(patch);
 	}
 
-	private NinePatchDrawable createProgressBackground() {
-		Pixmap pixmap = new Pixmap(1, 1, Pixmap.Format.RGBA8888);
-		pixmap.setColor(new Color(0.2f, 0.2f, 0.2f, 0.6f));
-		pixmap.fill();
-
-		Texture texture = new Texture(pixmap);
-		pixmap.dispose();
+	/** Devuelve el fondo (al quitar la carta del panel). */
+	public void dispose() {
+		GpuResources.release(fondo);
+		fondo = null;
+	}
 
-		return new NinePatchDrawable(new NinePatch(texture, 0, 0, 0, 0));
+	private NinePatchDrawable createProgressBackground() {
+		return createFill(new Color(0.2f, 0.2f, 0.2f, 0.6f));
 	}
 
 	private NinePatchDrawable createProgressFill(int progress) {
-		Pixmap pixmap = new Pixmap(1, 1, Pixmap.Format.RGBA8888);
-		pixmap.setColor(getProgressColor(progress));
-		pixmap.fill();
+		return createFill(getProgressColor(progress));
+	}
 
-		Texture texture = new Texture(pixmap);
-		pixmap.dispose();
+	private NinePatchDrawable createFill(Color color) {
+		// una textura por color: la barra de progreso la pide en cada cambio
+		Texture texture = GpuResources.staticTexture("orb.fill:" + color, () -> {
+			Pixmap pixmap = new Pixmap(1, 1, Pixmap.Format.RGBA8888);
+			pixmap.setColor(color);
+			pixmap.fill();
+			return pixmap;
+		});
 
 		return new NinePatchDrawable(new NinePatch(texture, 0, 0, 0, 0));
 	}
@@ -19,6 +19,7 @@ import roguelike_emotions.mainMechanics.EmotionType;
 import roguelike_emotions.mainMechanics.SentientEmotion;
 import roguelike_emotions.utils.CombatLogger;
 import roguelike_emotions.utils.MultiEmotionSynergyManager;
+import roguelike_emotions.utils.RunRandom;
 import roguelike_emotions.utils.SynergyEffect;
 
 /**
@@ -41,7 +42,7 @@ public class EmotionalTurnProcessor {
 	private static final String FUSION_DAMAGE = "fusionDamage";
 	private static final String FUSION_DEFENSE = "fusionDefense";
 
-	private static final Random rand = new Random();
+	private static final Random rand = RunRandom.get();
 
 	// ==================== FLAGS DE ESTADO (Evitar duplicados) ====================
 
@@ -105,7 +106,7 @@ public class EmotionalTurnProcessor {
 
 	/**
 	 * Procesa cada emoción del jugador: - Gana experiencia - Intenta despertar (si
-	 * es normal) - Tick de sentientes (si ya despertó)
+	 * es normal) - Tick por lotes de las sentientes (SentientLifecycleTable)
 	 * 
 	 * ❌ NO APLICA EFECTOS AQUÍ (se hace en processActiveEffects)
 	 */
@@ -115,16 +116,18 @@ public class EmotionalTurnProcessor {
 
 		for (EmotionInstance emotion : player.getEmocionesActivas()) {
 
+			int progresoAntes = emotion.getAwakeningProgress();
+			boolean podiaDespertar = emotion.canAwaken();
+
 			// 1. Incrementar contador de uso
 			emotion.incrementUsageCount();
 
-			// 2. Ganar experiencia base
-			int baseExp = calculateExperienceGain(emotion);
-			emotion.gainExperience(baseExp);
+			// 2. Ganar experiencia base (según intensidad de efectos)
+			emotion.gainExperience(emotion.getTurnExperienceGain());
 
 			// 3. Intentar despertar (solo emociones normales)
 			if (!(emotion instanceof SentientEmotion)) {
-				if (checkAndProcessAwakening(emotion, player)) {
+				if (checkAndProcessAwakening(emotion, progresoAntes, podiaDespertar)) {
 					SentientEmotion sentient = SentientEmotion.fromEmotionInstance(emotion);
 					sentient.setInitialExperience(emotion.getUsageCount(), emotion.getExperiencePoints());
 
@@ -133,19 +136,13 @@ public class EmotionalTurnProcessor {
 
 					announceAwakening(emotion, sentient);
 				}
-			} else {
-				// Ya es sentiente, procesar lógica especial
-				SentientEmotion sentient = (SentientEmotion) emotion;
-				sentient.onTurnTick(player);
-
-				// Incrementar edad
-				sentient.incrementAge();
-
-				// Aumentar hambre gradualmente
-				sentient.incrementHunger(5);
 			}
 		}
 
+		// Sentientes ya despiertas: edad, hambre y evolución en una sola pasada
+		// (antes de sumar las recién despertadas, que empiezan a contar el turno siguiente)
+		player.getSentientTable().tick(player);
+
 		// Reemplazar emociones que despertaron
 		for (int i = 0; i < emotionsToReplace.size(); i++) {
 			player.replaceEmotion(emotionsToReplace.get(i), newSentients.get(i));
@@ -153,31 +150,16 @@ public class EmotionalTurnProcessor {
 	}
 
 	/**
-	 * Calcula XP ganada basándose en intensidad de efectos
-	 */
-	private static int calculateExperienceGain(EmotionInstance emotion) {
-		int baseExp = 10;
-
-		for (EffectDetail efecto : emotion.getEfectos()) {
-			if (efecto.getIntensidad() > 1.5) {
-				baseExp += 5;
-			}
-			if (efecto.getIntensidad() > 2.0) {
-				baseExp += 10;
-			}
-		}
-
-		return baseExp;
-	}
-
-	/**
-	 * Verifica si una emoción puede despertar y ejecuta el proceso
+	 * Verifica si una emoción puede despertar y ejecuta el proceso. La única
+	 * tirada es la del propio despertar; los avisos salen al cruzar umbrales
+	 * (progreso 70%, primera vez que puede despertar), no con tiradas extra.
 	 */
-	private static boolean checkAndProcessAwakening(EmotionInstance emotion, Player player) {
-		// Mostrar progreso si está cerca
+	private static boolean checkAndProcessAwakening(EmotionInstance emotion, int progresoAntes,
+			boolean podiaDespertar) {
+		// Mostrar progreso al acercarse
 		int progress = emotion.getAwakeningProgress();
 
-		if (progress >= 70 && progress < 100 && rand.nextInt(100) < 15) {
+		if (progresoAntes < 70 && progress >= 70 && progress < 100) {
 			CombatLogger.get().log("💭 " + emotion.getNombre() + " parece diferente... (" + progress + "%)");
 		}
 
@@ -189,14 +171,14 @@ public class EmotionalTurnProcessor {
 		// Intentar despertar
 		if (emotion.tryAwaken()) {
 			return true;
-		} else {
-			// Falló pero está cerca
-			if (rand.nextInt(100) < 25) {
-				CombatLogger.get().log("✨ " + emotion.getNombre() + " está al borde del despertar... ("
-						+ emotion.getAwakeningChance() + "%)");
-			}
-			return false;
 		}
+
+		// Falló justo al quedar en condiciones
+		if (!podiaDespertar) {
+			CombatLogger.get().log("✨ " + emotion.getNombre() + " está al borde del despertar... ("
+					+ emotion.getAwakeningChance() + "%)");
+		}
+		return false;
 	}
 
 	/**
@@ -267,7 +249,7 @@ public class EmotionalTurnProcessor {
 	}
 
 	private static boolean shouldApplyEffect(EffectDetail effect) {
-		return Math.random() < effect.getProbabilidad();
+		return rand.nextDouble() < effect.getProbabilidad();
 	}
 
 	// ==================== FASE 3: CURACIÓN CONTINUA ====================
@@ -453,24 +435,22 @@ public class EmotionalTurnProcessor {
 	}
 
 	private static void applyStatBuffs(CombatEntity entity, SynergyEffect synergy) {
-		Map<String, Buff> buffs = entity.getActiveBuffs();
-
 		if (synergy.getDamageMultiplier() != 1.0) {
-			buffs.put(DAMAGE_BOOST, new Buff(DAMAGE_BOOST, synergy.getDamageMultiplier(), 2));
+			entity.putBuff(DAMAGE_BOOST, new Buff(DAMAGE_BOOST, synergy.getDamageMultiplier(), 2));
 		}
 
 		if (synergy.getDefenseMultiplier() != 1.0) {
-			buffs.put(DEFENSE_BOOST, new Buff(DEFENSE_BOOST, synergy.getDefenseMultiplier(), 2));
+			entity.putBuff(DEFENSE_BOOST, new Buff(DEFENSE_BOOST, synergy.getDefenseMultiplier(), 2));
 		}
 
 		if (synergy.getSpeedMultiplier() != 1.0) {
-			buffs.put(SPEED_BOOST, new Buff(SPEED_BOOST, synergy.getSpeedMultiplier(), 2));
+			entity.putBuff(SPEED_BOOST, new Buff(SPEED_BOOST, synergy.getSpeedMultiplier(), 2));
 		}
 	}
 
 	private static void applyHealOverTime(CombatEntity entity, SynergyEffect synergy) {
 		if (synergy.getHotAmount() > 0 && synergy.getHotTurns() > 0) {
-			entity.getHealOverTimeEffects().add(new OverTimeHeal(synergy.getHotAmount(), synergy.getHotTurns()));
+			entity.addHealOverTime(new OverTimeHeal(synergy.getHotAmount(), synergy.getHotTurns()));
 			logSynergyHoT(entity, synergy);
 		}
 	}
@@ -479,7 +459,7 @@ public class EmotionalTurnProcessor {
 		if (synergy.getPoisonAmount() > 0 && synergy.getPoisonTurns() > 0) {
 			EffectDetail poisonEffect = new EffectDetail(EmotionEffect.VENENO, synergy.getPoisonAmount(), 1.0,
 					synergy.getPoisonTurns());
-			entity.getEfectosActivos().add(poisonEffect);
+			entity.addEfecto(poisonEffect);
 			logSynergyPoison(entity, synergy);
 		}
 	}
@@ -487,7 +467,7 @@ public class EmotionalTurnProcessor {
 	private static void applyStunEffect(CombatEntity entity, SynergyEffect synergy) {
 		if (synergy.getStunTurns() > 0) {
 			EffectDetail stunEffect = new EffectDetail(EmotionEffect.STUN, 0.0, 1.0, synergy.getStunTurns());
-			entity.getEfectosActivos().add(stunEffect);
+			entity.addEfecto(stunEffect);
 			logSynergyStun(entity, synergy);
 		}
 	}
@@ -495,7 +475,7 @@ public class EmotionalTurnProcessor {
 	private static void applyGenericBuffs(CombatEntity entity, SynergyEffect synergy) {
 		if (synergy.getBuffType() != null && synergy.getBuffTurns() > 0) {
 			Buff buff = new Buff(synergy.getBuffType(), synergy.getBuffMultiplier(), synergy.getBuffTurns());
-			entity.getActiveBuffs().put(synergy.getBuffType(), buff);
+			entity.putBuff(synergy.getBuffType(), buff);
 			logSynergyBuff(entity, synergy);
 		}
 	}
@@ -503,7 +483,7 @@ public class EmotionalTurnProcessor {
 	private static void applyGenericDebuffs(CombatEntity entity, SynergyEffect synergy) {
 		if (synergy.getDebuffType() != null && synergy.getDebuffTurns() > 0) {
 			Debuff debuff = new Debuff(synergy.getDebuffType(), synergy.getBuffMultiplier(), synergy.getDebuffTurns());
-			entity.getActiveDebuffs().put(synergy.getDebuffType(), debuff);
+			entity.putDebuff(synergy.getDebuffType(), debuff);
 			logSynergyDebuff(entity, synergy);
 		}
 	}
@@ -0,0 +1,15 @@
+package roguelike_emotions.combat;
+
+/**
+ * Acciones candidatas de un enemigo en su turno (las puntúa EnemyPlanner).
+ */
+public enum EnemyAction {
+	/** Ataque básico guardando la activa para otro turno. */
+	ATACAR,
+	/** Ataque básico + activa del rol (comportamiento clásico). */
+	ATACAR_Y_ACTIVA,
+	/** SUPPORT: cura y refuerza la defensa de un aliado en vez de atacar. */
+	REFORZAR_ALIADO,
+	/** Se cubre (+defensa) en vez de atacar. */
+	GUARDIA
+}
@@ -0,0 +1,356 @@
+package roguelike_emotions.combat;
+
+import java.util.ArrayDeque;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+
+import roguelike_emotions.characters.Enemy;
+import roguelike_emotions.characters.EnemyRole;
+import roguelike_emotions.characters.Player;
+import roguelike_emotions.effects.Buff;
+
+/**
+ * Planificador de utilidad para el turno de un enemigo.
+ *
+ * Puntúa cada acción candidata (EnemyAction + aliado objetivo) con un
+ * evaluador barato sobre EmotionalTurnProcessor.calculateFinalDamage y el
+ * estado de buffs del jugador. Con profundidad 2 mira también el turno
+ * siguiente (activa en cooldown, buff de defensa del jugador que caduca).
+ *
+ * - Presupuesto estricto por decisión: al agotarse devuelve la mejor acción
+ * evaluada hasta ese momento (la primera es siempre la clásica, ataque +
+ * activa, si la activa está lista; si no, el ataque básico).
+ * - Caché LRU por hash del estado (enemigo, jugador, aliados, dificultad); cada
+ * entrada guarda su estado y solo se usa si coincide entero (colisiones).
+ * - Como el presupuesto es de tiempo, la decisión depende de la máquina: las
+ * repeticiones graban cada decisión (setRecorder) y al reproducir la
+ * devuelven tal cual (script) en lugar de volver a planificar.
+ *
+ * Se usa desde el hilo de combate (CombatManager); no es thread-safe.
+ */
+public final class EnemyPlanner {
+
+	/** Nivel de la IA: profundidad de búsqueda y presupuesto por decisión. */
+	public enum Difficulty {
+		/** Sin planificación: siempre ataque + activa. */
+		FACIL(0, 0L),
+		NORMAL(1, 20_000L),
+		DIFICIL(2, 50_000L);
+
+		final int depth;
+		final long budgetNanos;
+
+		Difficulty(int depth, long budgetNanos) {
+			this.depth = depth;
+			this.budgetNanos = budgetNanos;
+		}
+	}
+
+	/** Decisión: acción y, si aplica, índice del aliado en la lista de enemigos. */
+	public record Decision(EnemyAction action, int allyIndex, double score) {
+		static final Decision CLASICA = new Decision(EnemyAction.ATACAR_Y_ACTIVA, -1, 0);
+	}
+
+	private static final String DEFENSE_BOOST = "defenseBoost";
+
+	// Pesos de la utilidad (vida del jugador quitada vs vida propia/aliada salvada)
+	private static final double W_DANYO = 1.0;
+	private static final double W_CURA = 0.6;
+	private static final double W_PROTEGER = 0.6;
+	private static final double GAMMA = 0.85; // descuento del turno siguiente
+
+	// Valor esperado de crítico (12% x1.5) del ataque básico
+	private static final double FACTOR_CRITICO = 1.0 + 0.12 * 0.5;
+	private static final double DPS_ACTIVA_MULT = 2.5;
+	private static final double SUPPORT_ACTIVA_CURA = 0.15;
+	private static final int COOLDOWN_ACTIVA = 3;
+
+	private static final int CACHE_SIZE = 1024;
+	// La clásica primero: es la que queda si se agota el presupuesto tras la
+	// primera evaluación, y con '>' estricto gana los empates
+	private static final EnemyAction[] ACCIONES = { EnemyAction.ATACAR_Y_ACTIVA, EnemyAction.ATACAR,
+			EnemyAction.REFORZAR_ALIADO, EnemyAction.GUARDIA };
+
+	// volatile: se ajusta desde la UI mientras el hilo de combate decide (la
+	// dificultad forma parte de la clave de caché, no hace falta vaciarla)
+	private volatile Difficulty difficulty = Difficulty.NORMAL;
+	private final Map<Long, Entrada> cache = new LinkedHashMap<>(CACHE_SIZE, 0.75f, true) {
+		@Override
+		protected boolean removeEldestEntry(Map.Entry<Long, Entrada> eldest) {
+			return size() > CACHE_SIZE;
+		}
+	};
+
+	/** Decisión cacheada junto al estado y dificultad con que se tomó. */
+	private record Entrada(Estado estado, Difficulty difficulty, Decision decision) {
+	}
+
+	private long decisions, cacheHits, budgetCuts;
+
+	// repeticiones: grabación de decisiones y guion a reproducir
+	private Consumer<Decision> recorder;
+	private final ArrayDeque<Decision> script = new ArrayDeque<>();
+
+	public void setDifficulty(Difficulty difficulty) {
+		if (difficulty != null)
+			this.difficulty = difficulty;
+	}
+
+	public Difficulty getDifficulty() {
+		return difficulty;
+	}
+
+	/** Recibe cada decisión tomada (null para dejar de grabar). */
+	public void setRecorder(Consumer<Decision> recorder) {
+		this.recorder = recorder;
+	}
+
+	/** Las siguientes decide() devuelven estas decisiones, en orden, sin planificar. */
+	public void script(List<Decision> decisiones) {
+		script.clear();
+		script.addAll(decisiones);
+	}
+
+	// ==== DECISIÓN ====
+
+	public Decision decide(Enemy self, Player player, List<Enemy> enemies) {
+		Decision guion = script.poll();
+		Decision d = (guion != null) ? guion : plan(self, player, enemies);
+		if (recorder != null)
+			recorder.accept(d);
+		return d;
+	}
+
+	private Decision plan(Enemy self, Player player, List<Enemy> enemies) {
+		decisions++;
+		Difficulty d = difficulty;
+		if (d.depth == 0 || self == null || player == null)
+			return Decision.CLASICA;
+
+		long deadline = System.nanoTime() + d.budgetNanos;
+		Estado s = Estado.capturar(self, player, enemies);
+
+		long key = s.hash(d);
+		Entrada cached = cache.get(key);
+		// el hash no basta: con una colisión la decisión (y su allyIndex) sería de otro estado
+		if (cached != null && cached.difficulty() == d && cached.estado().mismo(s)) {
+			cacheHits++;
+			return cached.decision();
+		}
+
+		Decision best = null;
+		for (EnemyAction a : ACCIONES) {
+			if (!s.permitida(a))
+				continue;
+			double v = valor(s, a, d.depth);
+			if (best == null || v > best.score())
+				best = new Decision(a, a == EnemyAction.REFORZAR_ALIADO ? s.aliadoIdx : -1, v);
+			if (System.nanoTime() > deadline) {
+				// sin tiempo: no se cachea una decisión parcial
+				budgetCuts++;
+				return best;
+			}
+		}
+
+		if (best == null)
+			best = Decision.CLASICA;
+		cache.put(key, new Entrada(s, d, best));
+		return best;
+	}
+
+	/** "decisiones/aciertos de caché/cortes por presupuesto" para depuración. */
+	public String stats() {
+		return decisions + "/" + cacheHits + "/" + budgetCuts;
+	}
+
+	// ==== EVALUADOR ====
+
+	/** Utilidad de hacer 'a' ahora + (si depth > 1) lo mejor del turno siguiente. */
+	private static double valor(Estado s, EnemyAction a, int depth) {
+		double v = inmediato(s, a);
+		if (depth > 1) {
+			Estado next = s.tras(a);
+			double mejor = Double.NEGATIVE_INFINITY;
+			for (EnemyAction b : ACCIONES) {
+				if (next.permitida(b))
+					mejor = Math.max(mejor, valor(next, b, depth - 1));
+			}
+			if (mejor > Double.NEGATIVE_INFINITY)
+				v += GAMMA * mejor;
+		}
+		return v;
+	}
+
+	private static double inmediato(Estado s, EnemyAction a) {
+		return switch (a) {
+		case ATACAR -> W_DANYO * s.golpe;
+		case ATACAR_Y_ACTIVA -> W_DANYO * s.golpe + valorActiva(s);
+		case REFORZAR_ALIADO -> W_CURA * Math.min(s.aliadoFalta, s.aliadoCura)
+				+ W_PROTEGER * s.amenazaJugador * (1 - 1 / Enemy.REFUERZO_DEFENSA);
+		case GUARDIA -> W_PROTEGER * s.amenazaJugador * (1 - 1 / Enemy.GUARDIA_DEFENSA) * (s.vidaRatio < 0.35 ? 2 : 0.5);
+		};
+	}
+
+	private static double valorActiva(Estado s) {
+		return switch (s.role) {
+		// Golpe devastador: daño bruto contra la defensa actual del jugador
+		case DPS -> W_DANYO * Math.max(0, s.danyoBase * DPS_ACTIVA_MULT - s.defensaJugador);
+		// Provocación: vale en proporción a los aliados que protege y a la vida propia
+		case TANK -> s.aliadosVivos > 0 ? W_PROTEGER * s.amenazaJugador * s.vidaRatio : 0;
+		// Vínculo: autocuración
+		case SUPPORT -> W_CURA * Math.min(s.vidaFalta, s.maxVida * SUPPORT_ACTIVA_CURA);
+		};
+	}
+
+	// ==== ESTADO COMPACTO ====
+
+	/** Foto escalar del turno: lo único que mira el evaluador. */
+	private static final class Estado {
+		EnemyRole role;
+		int maxVida, vidaFalta;
+		double vidaRatio;
+		int danyoBase;
+		boolean activaLista;
+		int cooldown;
+		double golpe; // daño esperado del ataque básico
+		int defensaJugador;
+		int defensaJugadorTrasBuff; // defensa cuando caduque su defenseBoost
+		int turnosBuffJugador;
+		double amenazaJugador; // daño esperado que hace el jugador por turno
+		int aliadosVivos;
+		int aliadoIdx = -1, aliadoFalta, aliadoCura;
+
+		static Estado capturar(Enemy self, Player player, List<Enemy> enemies) {
+			Estado s = new Estado();
+			s.role = self.getRole();
+			s.maxVida = Math.max(1, self.getMaxHealth());
+			s.vidaFalta = s.maxVida - self.getHealth();
+			s.vidaRatio = self.getHealth() / (double) s.maxVida;
+			s.danyoBase = self.getBaseDamage();
+			s.activaLista = self.isActivaLista();
+			s.cooldown = self.getCooldownTurns();
+
+			s.golpe = EmotionalTurnProcessor.calculateFinalDamage(self, player) * FACTOR_CRITICO;
+			s.defensaJugador = player.getDefensa();
+			Buff def = player.getActiveBuffs().get(DEFENSE_BOOST);
+			if (def != null && def.getMultiplier() > 0) {
+				s.turnosBuffJugador = def.getRemainingTurns();
+				s.defensaJugadorTrasBuff = (int) (s.defensaJugador / def.getMultiplier());
+			} else {
+				s.defensaJugadorTrasBuff = s.defensaJugador;
+			}
+			s.amenazaJugador = Math.max(0, player.getDanyo() - self.getDefensa());
+
+			// aliado más herido (en valor absoluto) como objetivo de refuerzo
+			if (enemies != null) {
+				for (int i = 0; i < enemies.size(); i++) {
+					Enemy e = enemies.get(i);
+					if (e == null || e == self || !e.isAlive())
+						continue;
+					s.aliadosVivos++;
+					int falta = e.getMaxHealth() - e.getHealth();
+					if (s.aliadoIdx < 0 || falta > s.aliadoFalta) {
+						s.aliadoIdx = i;
+						s.aliadoFalta = falta;
+						s.aliadoCura = Math.max(1, (int) (e.getMaxHealth() * Enemy.REFUERZO_CURA));
+					}
+				}
+			}
+			return s;
+		}
+
+		boolean permitida(EnemyAction a) {
+			return switch (a) {
+			case ATACAR -> true;
+			case ATACAR_Y_ACTIVA -> activaLista;
+			case REFORZAR_ALIADO -> role == EnemyRole.SUPPORT && aliadoIdx >= 0 && aliadoFalta > 0;
+			case GUARDIA -> role == EnemyRole.TANK || vidaRatio < 0.35;
+			};
+		}
+
+		/** Estado aproximado del turno siguiente tras hacer 'a'. */
+		Estado tras(EnemyAction a) {
+			Estado n = copia();
+			if (a == EnemyAction.ATACAR_Y_ACTIVA) {
+				n.activaLista = false;
+				n.cooldown = COOLDOWN_ACTIVA;
+			} else if (cooldown > 0) {
+				n.cooldown = cooldown - 1;
+				n.activaLista = false;
+			} else {
+				// onTurnStart la deja lista para el turno siguiente
+				n.activaLista = true;
+			}
+			if (a == EnemyAction.REFORZAR_ALIADO)
+				n.aliadoFalta = Math.max(0, aliadoFalta - aliadoCura);
+			// el jugador nos devuelve el golpe (salvo guardia)
+			double recibido = (a == EnemyAction.GUARDIA) ? amenazaJugador / Enemy.GUARDIA_DEFENSA : amenazaJugador;
+			n.vidaFalta = Math.min(maxVida, vidaFalta + (int) recibido);
+			n.vidaRatio = (maxVida - n.vidaFalta) / (double) maxVida;
+			// caducidad del buff de defensa del jugador
+			if (turnosBuffJugador > 0) {
+				n.turnosBuffJugador = turnosBuffJugador - 1;
+				if (n.turnosBuffJugador == 0) {
+					n.golpe = Math.max(1, golpe + (defensaJugador - defensaJugadorTrasBuff) * FACTOR_CRITICO);
+					n.defensaJugador = defensaJugadorTrasBuff;
+				}
+			}
+			return n;
+		}
+
+		private Estado copia() {
+			Estado n = new Estado();
+			n.role = role;
+			n.maxVida = maxVida;
+			n.vidaFalta = vidaFalta;
+			n.vidaRatio = vidaRatio;
+			n.danyoBase = danyoBase;
+			n.activaLista = activaLista;
+			n.cooldown = cooldown;
+			n.golpe = golpe;
+			n.defensaJugador = defensaJugador;
+			n.defensaJugadorTrasBuff = defensaJugadorTrasBuff;
+			n.turnosBuffJugador = turnosBuffJugador;
+			n.amenazaJugador = amenazaJugador;
+			n.aliadosVivos = aliadosVivos;
+			n.aliadoIdx = aliadoIdx;
+			n.aliadoFalta = aliadoFalta;
+			n.aliadoCura = aliadoCura;
+			return n;
+		}
+
+		/** true si todos los campos coinciden (lo que mira el evaluador). */
+		boolean mismo(Estado o) {
+			return role == o.role && maxVida == o.maxVida && vidaFalta == o.vidaFalta
+					&& Double.compare(vidaRatio, o.vidaRatio) == 0 && danyoBase == o.danyoBase
+					&& activaLista == o.activaLista && cooldown == o.cooldown && Double.compare(golpe, o.golpe) == 0
+					&& defensaJugador == o.defensaJugador && defensaJugadorTrasBuff == o.defensaJugadorTrasBuff
+					&& turnosBuffJugador == o.turnosBuffJugador
+					&& Double.compare(amenazaJugador, o.amenazaJugador) == 0 && aliadosVivos == o.aliadosVivos
+					&& aliadoIdx == o.aliadoIdx && aliadoFalta == o.aliadoFalta && aliadoCura == o.aliadoCura;
+		}
+
+		long hash(Difficulty d) {
+			long h = 1125899906842597L;
+			h = 31 * h + role.ordinal();
+			h = 31 * h + maxVida;
+			h = 31 * h + vidaFalta;
+			h = 31 * h + danyoBase;
+			h = 31 * h + (activaLista ? 1 : 0);
+			h = 31 * h + cooldown;
+			h = 31 * h + Double.hashCode(golpe);
+			h = 31 * h + defensaJugador;
+			h = 31 * h + defensaJugadorTrasBuff;
+			h = 31 * h + turnosBuffJugador;
+			h = 31 * h + Double.hashCode(amenazaJugador);
+			h = 31 * h + aliadosVivos;
+			h = 31 * h + aliadoIdx;
+			h = 31 * h + aliadoFalta;
+			h = 31 * h + aliadoCura;
+			h = 31 * h + d.ordinal();
+			return h;
+		}
+	}
+}
@@ -9,6 +9,7 @@ import com.badlogic.gdx.scenes.scene2d.utils.NinePatchDrawable;
 import com.badlogic.gdx.utils.Align;
 
 import roguelike_emotions.characters.Player;
+import roguelike_emotions.graphics.GpuResources;
 import roguelike_emotions.mainMechanics.EmotionInstance;
 import roguelike_emotions.managers.GameManager;
 
@@ -54,7 +55,7 @@ public class LivingEmotionPanel extends Table {
 
 	public void refreshEmotions() {
 		orbContainer.clear();
-		orbCards.clear();
+		disposeOrbs();
 
 		Player player = GameManager.getInstance().getPlayer();
 		if (player == null)
@@ -75,7 +76,7 @@ public class LivingEmotionPanel extends Table {
 
 		for (int i = 0; i < maxToShow; i++) {
 			EmotionInstance emotion = emotions.get(i);
-			EmotionOrbCard card = new EmotionOrbCard(emotion, skin);
+			EmotionOrbCard card = new EmotionOrbCard(emotion, player, skin);
 
 			card.setOnClick(() -> {
 				if (onEmotionSelected != null) {
@@ -124,18 +125,18 @@ public class LivingEmotionPanel extends Table {
 
 	private NinePatchDrawable createModernPanelBackground() {
 		// Crear background con bordes redondeados y sombra
-		Pixmap pixmap = new Pixmap(32, 32, Pixmap.Format.RGBA8888);
-
-		// Relleno oscuro con transparencia
-		pixmap.setColor(new Color(0.06f, 0.09f, 0.14f, 0.95f));
-		pixmap.fillRectangle(4, 4, 24, 24);
+		Texture texture = GpuResources.staticTexture("living.panel", () -> {
+			Pixmap pixmap = new Pixmap(32, 32, Pixmap.Format.RGBA8888);
 
-		// Borde sutil
-		pixmap.setColor(new Color(0.2f, 0.3f, 0.4f, 0.6f));
-		pixmap.drawRectangle(4, 4, 24, 24);
+			// Relleno oscuro con transparencia
+			pixmap.setColor(new Color(0.06f, 0.09f, 0.14f, 0.95f));
+			pixmap.fillRectangle(4, 4, 24, 24);
 
-		Texture texture = new Texture(pixmap);
-		pixmap.dispose();
+			// Borde sutil
+			pixmap.setColor(new Color(0.2f, 0.3f, 0.4f, 0.6f));
+			pixmap.drawRectangle(4, 4, 24, 24);
+			return pixmap;
+		});
 
 		NinePatch ninePatch = new NinePatch(texture, 8, 8, 8, 8);
 		return new NinePatchDrawable(ninePatch);
@@ -148,7 +149,13 @@ public class LivingEmotionPanel extends Table {
 	}
 
 	public void dispose() {
-		// Cleanup si es necesario
+		disposeOrbs();
+	}
+
+	private void disposeOrbs() {
+		for (EmotionOrbCard card : orbCards)
+			card.dispose();
+		orbCards.clear();
 	}
 
 	@FunctionalInterface
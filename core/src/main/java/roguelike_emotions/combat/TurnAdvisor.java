@@ -0,0 +1,264 @@
+package roguelike_emotions.combat;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import roguelike_emotions.characters.Enemy;
+import roguelike_emotions.characters.Player;
+import roguelike_emotions.managers.CombatManager.PlayerAction;
+
+/**
+ * Consejero de turno: estima la probabilidad de victoria de cada PlayerAction
+ * con MCTS (UCT en bucle abierto) sobre un CombatSim.
+ *
+ * Paralelismo de raíz: cada worker busca en su propio árbol con su copia del
+ * estado y su RNG; al terminar se suman las estadísticas de los hijos de la
+ * raíz. Los árboles usan arrays preasignados (uno por hilo worker, que se
+ * reutiliza entre búsquedas), así que ni una iteración ni un advise() reservan
+ * los arrays del árbol. La búsqueda se corta por tiempo (slice) o con cancel().
+ *
+ * La captura del estado se hace en el hilo que llama a advise(), que debe ser
+ * el mismo que posee Player/Enemy en ese momento (GL, con la ronda parada).
+ * Los workers ("advisor-N", daemon, baja prioridad) son compartidos entre
+ * instancias: una pantalla solo cancela su búsqueda.
+ */
+public final class TurnAdvisor {
+
+	private static final PlayerAction[] ACCIONES = PlayerAction.values();
+	private static final int A = ACCIONES.length;
+
+	private static final int MAX_NODOS = 1 << 15;
+	private static final int MAX_PROF_ARBOL = 8;
+	private static final int MAX_RONDAS = 30;
+	private static final double C_UCT = 1.2;
+
+	/** Resultado agregado; índices según PlayerAction.ordinal(). */
+	public record Advice(double[] winRate, int[] visits, long rollouts, long millis) {
+
+		public double winRate(PlayerAction a) {
+			return winRate[a.ordinal()];
+		}
+
+		/** Acción más visitada (criterio robusto de MCTS), o null sin datos. */
+		public PlayerAction best() {
+			int best = -1;
+			for (int i = 0; i < visits.length; i++) {
+				if (visits[i] > 0 && (best < 0 || visits[i] > visits[best]))
+					best = i;
+			}
+			return best < 0 ? null : ACCIONES[best];
+		}
+	}
+
+	private static final int WORKERS = Math.max(1, Math.min(4, Runtime.getRuntime().availableProcessors() - 1));
+	private static ExecutorService pool;
+	// árbol de cada worker: se reinicia en cada búsqueda en vez de reservarlo
+	private static final ThreadLocal<Search> ARBOL = ThreadLocal.withInitial(Search::new);
+
+	private volatile AtomicBoolean cancelActual = new AtomicBoolean(true);
+	private volatile CompletableFuture<Advice> actual;
+
+	// ==== API ====
+
+	/**
+	 * Lanza una búsqueda de como mucho sliceMillis. Cancela la anterior si seguía
+	 * en curso.
+	 */
+	public CompletableFuture<Advice> advise(Player player, List<Enemy> enemies, int targetIndex, long sliceMillis) {
+		cancel();
+		CombatSim raiz = CombatSim.capture(player, enemies);
+		AtomicBoolean cancel = new AtomicBoolean(false);
+		cancelActual = cancel;
+		long deadline = System.nanoTime() + sliceMillis * 1_000_000L;
+		long t0 = System.nanoTime();
+
+		ExecutorService exec = pool();
+		List<CompletableFuture<long[]>> partes = new ArrayList<>(WORKERS);
+		for (int w = 0; w < WORKERS; w++) {
+			long seed = t0 ^ (0x9E3779B97F4A7C15L * (w + 1));
+			partes.add(CompletableFuture.supplyAsync(
+					() -> ARBOL.get().reset(raiz, seed).run(targetIndex, deadline, cancel), exec));
+		}
+
+		CompletableFuture<Advice> f = CompletableFuture.allOf(partes.toArray(new CompletableFuture<?>[0]))
+				.thenApply(v -> merge(partes, (System.nanoTime() - t0) / 1_000_000L));
+		actual = f;
+		return f;
+	}
+
+	/** Corta la búsqueda en curso (los workers salen en la siguiente iteración). */
+	public void cancel() {
+		cancelActual.set(true);
+		CompletableFuture<Advice> f = actual;
+		if (f != null && !f.isDone())
+			f.cancel(false);
+		actual = null;
+	}
+
+	/** Pool compartido por todas las pantallas de combate; se cierra al salir del juego. */
+	public static synchronized void shutdown() {
+		if (pool != null) {
+			pool.shutdownNow();
+			pool = null;
+		}
+	}
+
+	// ==== INTERNOS ====
+
+	private static synchronized ExecutorService pool() {
+		if (pool == null) {
+			AtomicInteger n = new AtomicInteger();
+			pool = Executors.newFixedThreadPool(WORKERS, r -> {
+				Thread t = Thread.ofPlatform().name("advisor-" + n.incrementAndGet()).daemon(true).unstarted(r);
+				t.setPriority(Thread.MIN_PRIORITY);
+				return t;
+			});
+		}
+		return pool;
+	}
+
+	/** Cada parte: [visitas por acción..., victorias*1e6 por acción..., rollouts]. */
+	private static Advice merge(List<CompletableFuture<long[]>> partes, long millis) {
+		int[] visits = new int[A];
+		double[] wins = new double[A];
+		long rollouts = 0;
+		for (CompletableFuture<long[]> p : partes) {
+			long[] r = p.join();
+			for (int a = 0; a < A; a++) {
+				visits[a] += (int) r[a];
+				wins[a] += r[A + a] / 1e6;
+			}
+			rollouts += r[2 * A];
+		}
+		double[] rate = new double[A];
+		for (int a = 0; a < A; a++)
+			rate[a] = visits[a] > 0 ? wins[a] / visits[a] : Double.NaN;
+		return new Advice(rate, visits, rollouts, millis);
+	}
+
+	/** Árbol de un worker. Nodo 0 = raíz; hijos[n*A + a] = nodo hijo o -1. */
+	private static final class Search {
+
+		private CombatSim raiz;
+		private CombatSim sim;
+		private final CombatSim.SimRng rng = new CombatSim.SimRng(0);
+
+		private final int[] hijos = new int[MAX_NODOS * A];
+		private final int[] visitas = new int[MAX_NODOS];
+		private final double[] valor = new double[MAX_NODOS];
+		private final int[] camino = new int[MAX_PROF_ARBOL + 1];
+		private int nodos = 1;
+
+		Search() {
+			Arrays.fill(hijos, -1);
+		}
+
+		/** Árbol vacío para 'raiz': solo se limpian los nodos que usó la búsqueda anterior. */
+		Search reset(CombatSim raiz, long seed) {
+			this.raiz = raiz;
+			if (sim == null || sim.eHp.length < raiz.n)
+				sim = new CombatSim(Math.max(1, raiz.n));
+			rng.seed(seed);
+			Arrays.fill(hijos, 0, nodos * A, -1);
+			Arrays.fill(visitas, 0, nodos, 0);
+			Arrays.fill(valor, 0, nodos, 0.0);
+			nodos = 1;
+			return this;
+		}
+
+		long[] run(int target, long deadline, AtomicBoolean cancel) {
+			long rollouts = 0;
+			do {
+				// comprobar el reloj cada 64 iteraciones
+				for (int k = 0; k < 64; k++) {
+					iterate(target);
+					rollouts++;
+				}
+			} while (!cancel.get() && System.nanoTime() < deadline);
+
+			long[] r = new long[2 * A + 1];
+			for (int a = 0; a < A; a++) {
+				int c = hijos[a];
+				if (c >= 0) {
+					r[a] = visitas[c];
+					r[A + a] = (long) (valor[c] * 1e6);
+				}
+			}
+			r[2 * A] = rollouts;
+			return r;
+		}
+
+		private void iterate(int target) {
+			sim.copyFrom(raiz);
+			int nodo = 0;
+			int prof = 0;
+			int res = CombatSim.ONGOING;
+			camino[0] = 0;
+
+			// 1) selección / expansión
+			while (prof < MAX_PROF_ARBOL) {
+				int a = select(nodo);
+				int base = nodo * A + a;
+				boolean nuevo = false;
+				if (hijos[base] < 0) {
+					if (nodos >= MAX_NODOS)
+						break;
+					hijos[base] = nodos++;
+					nuevo = true;
+				}
+				res = sim.step(ACCIONES[a], prof == 0 ? target : -1, rng);
+				nodo = hijos[base];
+				camino[++prof] = nodo;
+				if (nuevo || res != CombatSim.ONGOING)
+					break;
+			}
+
+			// 2) simulación con política aleatoria sesgada a atacar
+			for (int r = 0; res == CombatSim.ONGOING && r < MAX_RONDAS; r++)
+				res = sim.step(rollout(), -1, rng);
+
+			double v = res == CombatSim.WIN ? 1.0 : res == CombatSim.LOSS ? 0.0 : sim.heuristic();
+
+			// 3) retropropagación
+			for (int i = 0; i <= prof; i++) {
+				visitas[camino[i]]++;
+				valor[camino[i]] += v;
+			}
+		}
+
+		/** UCT; acciones sin probar primero. */
+		private int select(int nodo) {
+			int best = -1;
+			double bestScore = Double.NEGATIVE_INFINITY;
+			double logN = Math.log(Math.max(1, visitas[nodo]));
+			for (int a = 0; a < A; a++) {
+				if (!sim.allowed(ACCIONES[a]))
+					continue;
+				int c = hijos[nodo * A + a];
+				if (c < 0 || visitas[c] == 0)
+					return a;
+				double score = valor[c] / visitas[c] + C_UCT * Math.sqrt(logN / visitas[c]);
+				if (score > bestScore) {
+					bestScore = score;
+					best = a;
+				}
+			}
+			return best;
+		}
+
+		private PlayerAction rollout() {
+			double u = rng.nextDouble();
+			if (u < 0.6)
+				return PlayerAction.ATTACK;
+			if (u < 0.8 || !sim.pHasEmotion)
+				return PlayerAction.DEFEND;
+			return PlayerAction.USE_EMOTION;
+		}
+	}
+}
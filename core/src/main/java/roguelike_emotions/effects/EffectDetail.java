@@ -1,11 +1,12 @@
 package roguelike_emotions.effects;
 
+import java.lang.reflect.Method;
 import java.util.List;
 
 import com.badlogic.gdx.scenes.scene2d.utils.Drawable;
 
 import roguelike_emotions.cfg.EffectConfig;
-import roguelike_emotions.cfg.EffectConfigLoader;
+import roguelike_emotions.cfg.ConfigBundle;
 import roguelike_emotions.characters.Attack;
 import roguelike_emotions.characters.Player;
 import roguelike_emotions.mainMechanics.EmotionEffect;
@@ -30,7 +31,7 @@ public class EffectDetail extends AbstractTimedEffect {
 	public static EffectDetail fromConfig(EmotionEffect tipo) {
 		// Asumimos que tu JSON es una lista; si hay varios configs por tipo, tú decides
 		// la lógica
-		EffectConfig cfg = EffectConfigLoader.getConfigs(tipo).stream().findFirst()
+		EffectConfig cfg = ConfigBundle.get().effectConfigs(tipo).stream().findFirst()
 				.orElseThrow(() -> new IllegalStateException("No hay config para " + tipo));
 
 		return new EffectDetail(tipo, cfg.intensity, // lee intensidad del JSON
@@ -39,42 +40,33 @@ public class EffectDetail extends AbstractTimedEffect {
 		);
 	}
 
+	/**
+	 * Aplica las configuraciones del efecto al objetivo. Lee la configuración
+	 * vigente en cada llamada (recarga en caliente); el método y los
+	 * argumentos vienen resueltos del ConfigBundle.
+	 */
 	public void aplicarA(Object objetivo) {
-		List<EffectConfig> configs = EffectConfigLoader.getConfigs(tipo);
-		if (configs == null || configs.isEmpty())
-			return;
-
-		for (EffectConfig config : configs) {
+		List<EffectConfig> configs = ConfigBundle.get().effectConfigs(tipo);
+		for (int i = 0; i < configs.size(); i++) {
+			EffectConfig config = configs.get(i);
 			boolean esPlayer = objetivo instanceof Player && "player".equalsIgnoreCase(config.getTarget());
 			boolean esAttack = objetivo instanceof Attack && "attack".equalsIgnoreCase(config.getTarget());
 			if (!esPlayer && !esAttack)
 				continue;
 
-			try {
-				List<Object> args = config.getArgs();
-				Class<?>[] argTypes = args.stream().map(arg -> {
-					if (arg instanceof Integer)
-						return int.class;
-					if (arg instanceof Double)
-						return double.class;
-					if (arg instanceof Boolean)
-						return boolean.class;
-					return String.class;
-				}).toArray(Class<?>[]::new);
-
-				// Invoca el método con argumentos exactos
-				objetivo.getClass().getMethod(config.getMethod(), argTypes).invoke(objetivo, args.toArray());
-
-			} catch (NoSuchMethodException e) {
+			Method metodo = config.getInvoker();
+			if (metodo == null) {
 				System.err.println(
 						"[ERROR] Método no encontrado: " + config.getMethod() + " con argumentos " + config.getArgs());
-				e.printStackTrace();
+				continue;
+			}
+			try {
+				metodo.invoke(objetivo, config.getArgValues());
 			} catch (Exception e) {
 				System.err.println("[ERROR] Fallo al aplicar efecto " + tipo + " sobre " + config.getTarget() + ": "
 						+ e.getMessage());
 				e.printStackTrace();
 			}
-
 		}
 	}
 
@@ -1,7 +1,10 @@
 package roguelike_emotions.fusionCodex;
 
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.function.Supplier;
 
 import com.badlogic.gdx.graphics.Color;
 import com.badlogic.gdx.math.Interpolation;
@@ -23,29 +26,43 @@ import roguelike_emotions.mainMechanics.EmotionInstance;
 import roguelike_emotions.screens.FusionCodexScreen;
 import roguelike_emotions.sound.SoundManager;
 
+/**
+ * Carta de una emoción en la lista del códice. EmotionCardList las recicla:
+ * bind() la asigna a otra fila sin reconstruir sus actores.
+ */
 public class EmotionCard extends Table {
 
 	private static final float ANIM_DURATION_FAST = 0.15f;
+	private static final Color DEFAULT_COLOR = new Color(0.3f, 0.4f, 0.6f, 1f);
 
-	private final EmotionInstance emotion;
-	private final int index;
+	private EmotionInstance emotion;
+	private int index;
+	private Color emotionColor = DEFAULT_COLOR;
 	private final Skin skin;
 	private final SoundManager soundManager;
 	private final Stage stage;
 	private final FusionCodexScreen parentScreen;
 
+	// estado de la fila (lo aplica EmotionCardList)
+	private boolean highlighted;
+	private CompatibilityState compatibility = CompatibilityState.NEUTRAL;
+
+	// fondos de la emoción actual, por variante: texturas con referencia que se
+	// devuelven al reasignar la carta (releaseTextures)
+	private final Map<String, Drawable> fondos = new HashMap<>();
+
+	private Table iconContainer;
+	private Image icon;
+	private Label nameLabel, typeLabel;
 	private Table tooltipContainer;
 
-	public EmotionCard(EmotionInstance emotion, int index, Skin skin, SoundManager soundManager, Stage stage,
-			FusionCodexScreen parentScreen) {
-		this.emotion = emotion;
-		this.index = index;
+	/** Carta vacía: hay que asignarle una emoción con bind() antes de mostrarla. */
+	public EmotionCard(Skin skin, SoundManager soundManager, Stage stage, FusionCodexScreen parentScreen) {
 		this.skin = skin;
 		this.soundManager = soundManager;
 		this.stage = stage;
 		this.parentScreen = parentScreen;
 
-		setBackground(EmotionCardRenderer.makeCardGradient(emotion, getEmotionColor(), false));
 		pad(10f);
 		defaults().space(8f);
 		setTransform(true);
@@ -57,32 +74,26 @@ public class EmotionCard extends Table {
 	}
 
 	private void buildCardContent() {
-		String name = safe(() -> emotion.getNombre(), emotion.toString());
-		String type = safe(() -> String.valueOf(emotion.getTipoBase()), "");
-		String symbol = safe(() -> String.valueOf(emotion.getSimbolo()), "");
-
-		Drawable emoIcon = emotion.getIconDrawable();
-		Table iconContainer = new Table();
-		iconContainer.setBackground(EmotionCardRenderer.makeCardIconBg(emotion, getEmotionColor()));
+		iconContainer = new Table();
 		iconContainer.setTransform(true);
 		iconContainer.setOrigin(Align.center);
 		iconContainer.setName("iconContainer");
 
-		Image icon = (emoIcon != null) ? new Image(emoIcon) : new Image();
+		icon = new Image();
 		iconContainer.add(icon).size(40).pad(8);
 		add(iconContainer).size(60).left();
 
 		Table textCol = new Table();
 		textCol.left().top();
 
-		Label nameLabel = new Label(name, skin, "cardTitle");
+		nameLabel = new Label("", skin, "cardTitle");
 		nameLabel.setWrap(true);
 		nameLabel.setEllipsis(true);
 		nameLabel.setFontScale(0.95f);
 		textCol.add(nameLabel).expandX().fillX().left().padBottom(3f);
 		textCol.row();
 
-		Label typeLabel = new Label(type + " " + symbol, skin, "muted");
+		typeLabel = new Label("", skin, "muted");
 		typeLabel.setFontScale(0.75f);
 		typeLabel.setColor(new Color(0.65f, 0.75f, 0.9f, 1f));
 		typeLabel.setWrap(true);
@@ -91,12 +102,50 @@ public class EmotionCard extends Table {
 		add(textCol).expand().fillX().left().padRight(8f);
 	}
 
+	// ==== RECICLADO ====
+
+	/** Asigna la carta a la fila 'index'; si la emoción es la misma no toca los actores. */
+	public void bind(EmotionInstance emotion, int index) {
+		this.index = index;
+		if (emotion == this.emotion)
+			return;
+		this.emotion = emotion;
+		hideTooltipNow();
+		releaseTextures();
+
+		emotionColor = safe(() -> Color.valueOf(emotion.getColor()), DEFAULT_COLOR);
+		String name = safe(() -> emotion.getNombre(), emotion.toString());
+		String type = safe(() -> String.valueOf(emotion.getTipoBase()), "");
+		String symbol = safe(() -> String.valueOf(emotion.getSimbolo()), "");
+
+		Drawable emoIcon = emotion.getIconDrawable();
+		icon.setDrawable(emoIcon);
+		iconContainer.setBackground(fondo("icon", () -> EmotionCardRenderer.makeCardIconBg(emotion, emotionColor)));
+		nameLabel.setText(name);
+		typeLabel.setText(type + " " + symbol);
+		refreshBackground();
+	}
+
+	/** Estado de recién creada: sin animaciones, escala 1, opaca, ni resaltada ni marcada. */
+	public void resetVisual() {
+		hideTooltipNow();
+		clearActions();
+		iconContainer.clearActions();
+		iconContainer.setRotation(0f);
+		setScale(1f);
+		getColor().a = 1f;
+		highlighted = false;
+		compatibility = CompatibilityState.NEUTRAL;
+		if (emotion != null)
+			refreshBackground();
+	}
+
 	private void setupListeners() {
 		addListener(new ClickListener() {
 			@Override
 			public void enter(InputEvent event, float x, float y, int pointer, Actor fromActor) {
 				soundManager.play("hover");
-				setBackground(EmotionCardRenderer.makeCardGradient(emotion, getEmotionColor(), true));
+				setBackground(fondo("hl", () -> EmotionCardRenderer.makeCardGradient(emotion, emotionColor, true)));
 				clearActions();
 				addAction(Actions.scaleTo(1.02f, 1.02f, ANIM_DURATION_FAST, Interpolation.smooth));
 
@@ -113,7 +162,7 @@ public class EmotionCard extends Table {
 
 			@Override
 			public void exit(InputEvent event, float x, float y, int pointer, Actor toActor) {
-				setBackground(EmotionCardRenderer.makeCardGradient(emotion, getEmotionColor(), false));
+				refreshBackground();
 				clearActions();
 				addAction(Actions.scaleTo(1f, 1f, ANIM_DURATION_FAST, Interpolation.smooth));
 				hideTooltip();
@@ -179,39 +228,68 @@ public class EmotionCard extends Table {
 		}
 	}
 
+	/** Al reciclarla el puntero ya no está encima: sin animación de salida. */
+	private void hideTooltipNow() {
+		if (tooltipContainer != null) {
+			tooltipContainer.remove();
+			tooltipContainer = null;
+		}
+	}
+
+	/** Solo anima si cambia (se llama en cada reasignación de filas). */
 	public void setHighlighted(boolean highlighted, float selectScale) {
+		if (highlighted == this.highlighted)
+			return;
+		this.highlighted = highlighted;
 		clearActions();
 
 		if (highlighted) {
-			setBackground(EmotionCardRenderer.makeCardGradient(emotion, getEmotionColor(), true));
+			refreshBackground();
 			addAction(Actions.scaleTo(selectScale, selectScale, 0.25f, Interpolation.smooth));
 
 			addAction(Actions.forever(
 					Actions.sequence(Actions.scaleTo(selectScale + 0.01f, selectScale + 0.01f, 1f, Interpolation.sine),
 							Actions.scaleTo(selectScale, selectScale, 1f, Interpolation.sine))));
 		} else {
-			setBackground(EmotionCardRenderer.makeCardGradient(emotion, getEmotionColor(), false));
+			refreshBackground();
 			addAction(Actions.scaleTo(1f, 1f, 0.25f, Interpolation.smooth));
 		}
 	}
 
 	public void updateCompatibility(CompatibilityState state) {
-		switch (state) {
+		if (state == compatibility)
+			return;
+		compatibility = state;
+		refreshBackground();
+	}
+
+	/** Fondo según la compatibilidad marcada o, si no hay, el resaltado. */
+	private void refreshBackground() {
+		switch (compatibility) {
 		case COMPATIBLE:
-			setBackground(EmotionCardRenderer.makeCardGradientCompatible(emotion, getEmotionColor(), true));
+			setBackground(fondo("ok", () -> EmotionCardRenderer.makeCardGradientCompatible(emotion, emotionColor, true)));
 			break;
 		case INCOMPATIBLE:
-			setBackground(EmotionCardRenderer.makeCardGradientCompatible(emotion, getEmotionColor(), false));
+			setBackground(fondo("ko", () -> EmotionCardRenderer.makeCardGradientCompatible(emotion, emotionColor, false)));
 			break;
 		case NEUTRAL:
 		default:
-			setBackground(EmotionCardRenderer.makeCardGradient(emotion, getEmotionColor(), false));
+			setBackground(highlighted
+					? fondo("hl", () -> EmotionCardRenderer.makeCardGradient(emotion, emotionColor, true))
+					: fondo("normal", () -> EmotionCardRenderer.makeCardGradient(emotion, emotionColor, false)));
 			break;
 		}
 	}
 
-	private Color getEmotionColor() {
-		return safe(() -> Color.valueOf(emotion.getColor()), new Color(0.3f, 0.4f, 0.6f, 1f));
+	private Drawable fondo(String variante, Supplier<Drawable> crear) {
+		return fondos.computeIfAbsent(variante, k -> crear.get());
+	}
+
+	/** Devuelve los fondos de la emoción actual (al reasignar y al cerrar la pantalla). */
+	public void releaseTextures() {
+		for (Drawable d : fondos.values())
+			FusionVisualHelpers.release(d);
+		fondos.clear();
 	}
 
 	public EmotionInstance getEmotion() {
@@ -0,0 +1,241 @@
+package roguelike_emotions.fusionCodex;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+import com.badlogic.gdx.graphics.g2d.Batch;
+import com.badlogic.gdx.math.Interpolation;
+import com.badlogic.gdx.math.Rectangle;
+import com.badlogic.gdx.scenes.scene2d.actions.Actions;
+import com.badlogic.gdx.scenes.scene2d.ui.Label;
+import com.badlogic.gdx.scenes.scene2d.ui.WidgetGroup;
+import com.badlogic.gdx.scenes.scene2d.utils.Cullable;
+
+import roguelike_emotions.mainMechanics.EmotionInstance;
+
+/**
+ * Lista virtualizada de EmotionCard para dentro de un ScrollPane.
+ *
+ * Mide como todas las filas juntas, pero solo tiene cartas para las que se
+ * ven (el ScrollPane le pasa la zona visible con setCullingArea) más
+ * MARGEN_FILAS por cada lado. Las que salen al desplazarse vuelven a una
+ * reserva y se reasignan (EmotionCard.bind) a las que entran, así el coste
+ * de cambiar la lista, moverse por ella o marcar compatibilidades depende de
+ * las filas visibles y no del total.
+ *
+ * El estado de cada fila (resaltada, compatibilidad) es de la lista: se
+ * aplica a la carta al asignarla y en refreshStates().
+ */
+public final class EmotionCardList extends WidgetGroup implements Cullable {
+
+	private static final int MARGEN_FILAS = 1;
+	private static final float SELECT_SCALE = 1.03f;
+
+	private final float rowHeight;
+	private final float gap;
+	private final Supplier<EmotionCard> crear;
+	private final Label emptyLabel;
+	private final float emptyPad;
+
+	private List<EmotionInstance> items = List.of();
+	private Function<EmotionInstance, EmotionCard.CompatibilityState> compatibility = e -> EmotionCard.CompatibilityState.NEUTRAL;
+	private int highlighted = -1;
+
+	private final List<EmotionCard> visibles = new ArrayList<>();
+	private final ArrayDeque<EmotionCard> libres = new ArrayDeque<>();
+	private Rectangle cullingArea;
+	// filas asignadas [desde, hasta] y si hay que revisarlas aunque no cambien
+	private int desde = 0, hasta = -1;
+	private boolean sucio = true;
+
+	public EmotionCardList(float rowHeight, float gap, Supplier<EmotionCard> crear, Label emptyLabel, float emptyPad) {
+		this.rowHeight = rowHeight;
+		this.gap = gap;
+		this.crear = crear;
+		this.emptyLabel = emptyLabel;
+		this.emptyPad = emptyPad;
+		addActor(emptyLabel);
+	}
+
+	// ==== DATOS Y ESTADO ====
+
+	/**
+	 * Lista a mostrar (no se copia: la dueña avisa con otra llamada si cambia).
+	 * Las cartas visibles cuya fila sigue teniendo la misma emoción no se tocan.
+	 */
+	public void setItems(List<EmotionInstance> items) {
+		this.items = items;
+		if (highlighted >= items.size())
+			highlighted = items.size() - 1;
+		sucio = true;
+		invalidateHierarchy();
+	}
+
+	public void setCompatibility(Function<EmotionInstance, EmotionCard.CompatibilityState> compatibility) {
+		this.compatibility = compatibility;
+		refreshStates();
+	}
+
+	public void setHighlighted(int index) {
+		highlighted = index;
+		refreshStates();
+	}
+
+	/** Vuelve a aplicar resaltado y compatibilidad a las cartas visibles. */
+	public void refreshStates() {
+		for (EmotionCard c : visibles)
+			applyState(c);
+	}
+
+	/** Y (local, borde inferior) de la fila 'index', para ScrollPane.scrollTo. */
+	public float rowY(int index) {
+		return contentHeight() - index * (rowHeight + gap) - rowHeight;
+	}
+
+	/** Entrada escalonada de las cartas visibles (de arriba abajo). */
+	public void animateEntry() {
+		for (EmotionCard c : visibles) {
+			int orden = c.getIndex() - desde;
+			c.getColor().a = 0f;
+			c.addAction(Actions.sequence(Actions.delay(orden * 0.04f), Actions.fadeIn(0.25f, Interpolation.smooth)));
+		}
+	}
+
+	/** Devuelve las texturas de todas las cartas (visibles y libres). */
+	public void dispose() {
+		for (EmotionCard c : visibles)
+			c.releaseTextures();
+		for (EmotionCard c : libres)
+			c.releaseTextures();
+	}
+
+	// ==== LAYOUT ====
+
+	@Override
+	public float getPrefWidth() {
+		return items.isEmpty() ? emptyLabel.getPrefWidth() : 0f;
+	}
+
+	@Override
+	public float getPrefHeight() {
+		if (items.isEmpty())
+			return emptyLabel.getPrefHeight() + emptyPad * 2;
+		return items.size() * (rowHeight + gap) - gap;
+	}
+
+	@Override
+	public void setCullingArea(Rectangle cullingArea) {
+		// el ScrollPane reutiliza el mismo rectángulo: basta con guardarlo
+		this.cullingArea = cullingArea;
+	}
+
+	@Override
+	public void layout() {
+		emptyLabel.setVisible(items.isEmpty());
+		if (items.isEmpty()) {
+			float w = emptyLabel.getPrefWidth(), h = emptyLabel.getPrefHeight();
+			emptyLabel.setBounds((getWidth() - w) / 2, getHeight() - emptyPad - h, w, h);
+		}
+		sucio = true;
+		sync();
+	}
+
+	/** Las cartas entran y salen al desplazarse: eso no cambia el tamaño de la lista. */
+	@Override
+	protected void childrenChanged() {
+	}
+
+	@Override
+	public void draw(Batch batch, float parentAlpha) {
+		validate();
+		sync();
+		super.draw(batch, parentAlpha);
+	}
+
+	// ==== RECICLADO ====
+
+	/** Ajusta las cartas a las filas visibles: libera las que salen y asigna las que entran. */
+	private void sync() {
+		int n = items.size();
+		int nuevoDesde = 0, nuevoHasta = -1;
+		if (n > 0) {
+			float alto = contentHeight();
+			float stride = rowHeight + gap;
+			float top, bottom;
+			if (cullingArea != null) {
+				bottom = cullingArea.y;
+				top = cullingArea.y + cullingArea.height;
+			} else {
+				// antes del primer draw: lo que quepa en el padre desde arriba
+				top = alto;
+				bottom = alto - (getParent() != null ? getParent().getHeight() : 0f);
+			}
+			nuevoDesde = Math.max(0, (int) Math.floor((alto - top) / stride) - MARGEN_FILAS);
+			nuevoHasta = Math.min(n - 1, (int) Math.floor((alto - bottom) / stride) + MARGEN_FILAS);
+		}
+		if (!sucio && nuevoDesde == desde && nuevoHasta == hasta)
+			return;
+		desde = nuevoDesde;
+		hasta = nuevoHasta;
+		sucio = false;
+
+		for (Iterator<EmotionCard> it = visibles.iterator(); it.hasNext();) {
+			EmotionCard c = it.next();
+			if (c.getIndex() < desde || c.getIndex() > hasta || c.getEmotion() != items.get(c.getIndex())) {
+				it.remove();
+				removeActor(c);
+				libres.push(c);
+			}
+		}
+
+		for (int i = desde; i <= hasta; i++) {
+			EmotionCard c = find(i);
+			if (c == null) {
+				c = obtain(items.get(i));
+				c.bind(items.get(i), i);
+				visibles.add(c);
+				addActor(c);
+			}
+			c.setBounds(0f, rowY(i), getWidth(), rowHeight);
+			applyState(c);
+		}
+	}
+
+	private EmotionCard find(int index) {
+		for (EmotionCard c : visibles)
+			if (c.getIndex() == index)
+				return c;
+		return null;
+	}
+
+	/** Una libre (mejor la que ya tenía esa emoción: no hay que reasignar nada) o una nueva. */
+	private EmotionCard obtain(EmotionInstance e) {
+		EmotionCard c = null;
+		for (Iterator<EmotionCard> it = libres.iterator(); it.hasNext();) {
+			EmotionCard l = it.next();
+			if (l.getEmotion() == e) {
+				c = l;
+				it.remove();
+				break;
+			}
+		}
+		if (c == null)
+			c = libres.isEmpty() ? crear.get() : libres.pop();
+		c.resetVisual();
+		return c;
+	}
+
+	private void applyState(EmotionCard c) {
+		c.setHighlighted(c.getIndex() == highlighted, SELECT_SCALE);
+		c.updateCompatibility(compatibility.apply(c.getEmotion()));
+	}
+
+	/** Alto sobre el que se colocan las filas (el ScrollPane puede estirar la lista). */
+	private float contentHeight() {
+		return getHeight() > 0f ? getHeight() : getPrefHeight();
+	}
+}
@@ -4,15 +4,13 @@ import java.util.ArrayList;
 import java.util.List;
 
 import com.badlogic.gdx.graphics.Color;
-import com.badlogic.gdx.graphics.Texture;
 import com.badlogic.gdx.graphics.g2d.BitmapFont;
 import com.badlogic.gdx.graphics.g2d.GlyphLayout;
 import com.badlogic.gdx.graphics.g2d.SpriteBatch;
 import com.badlogic.gdx.graphics.g2d.TextureRegion;
 
-import roguelike_emotions.characters.Enemy;
-import roguelike_emotions.characters.Player;
-import roguelike_emotions.mainMechanics.EmotionInstance;
+import roguelike_emotions.managers.WorldSnapshot.ActorSnapshot;
+import roguelike_emotions.managers.WorldSnapshot.EmotionSnapshot;
 import roguelike_emotions.ui.IconRegistry;
 import roguelike_emotions.visual.VisualStyle;
 
@@ -25,12 +23,16 @@ public class ActorView {
     public String name = "";
     public float x, y, targetX, targetY, vx, vy;
     public int hp = 1, maxHp = 1, shield = 0;
-    public final List<EmotionInstance> emotions = new ArrayList<>();
+    public final List<EmotionSnapshot> emotions = new ArrayList<>();
     private float hitFlash = 0f;
 
     // HP suavizado (añadido sin romper API)
     private float hpSmooth = 1f;
 
+    // Dirty tracking: true si algo visible cambió desde el último render()
+    private static final float SETTLE_EPS = 0.01f;
+    private boolean visualDirty = true;
+
     public ActorView(int id) {
         this.id = id;
     }
@@ -41,33 +43,49 @@ public class ActorView {
 
     public void setHitFlash(float hitFlash) {
         this.hitFlash = hitFlash;
+        this.visualDirty = true;
     }
 
-    public void syncFromPlayer(Player p, float tx, float ty) {
-        this.name = "Player";
-        this.hp = p.getHealth();
-        this.maxHp = Math.max(maxHp, hp);
-
-        this.targetX = tx;
-        this.targetY = ty;
-
-        emotions.clear();
-        if (p.getEmocionesActivas() != null)
-            emotions.addAll(p.getEmocionesActivas());
+    /** true si la vista necesita redibujarse (movimiento, hp, flash, datos sincronizados). */
+    public boolean isVisuallyDirty() {
+        return visualDirty;
     }
 
-    public void syncFromEnemy(Enemy e, float tx, float ty) {
-        this.name = e.getNombre() != null ? e.getNombre() : "Enemy";
-
-        this.hp = e.getHealth();
-        this.maxHp = Math.max(maxHp, hp);
+    /** Sincroniza desde la foto inmutable publicada por la lógica (nunca desde Player/Enemy vivos). */
+    public void syncFrom(ActorSnapshot s, float tx, float ty) {
+        String newName = s.name() != null ? s.name() : "Enemy";
+        int newHp = s.hp();
+        int newMax = Math.max(maxHp, Math.max(s.maxHp(), newHp));
+        List<EmotionSnapshot> src = s.emotions();
+        if (newHp != hp || newMax != maxHp || !newName.equals(name) || tx != targetX || ty != targetY) {
+            visualDirty = true;
+        }
+        this.name = newName;
+        this.hp = newHp;
+        this.maxHp = newMax;
 
         this.targetX = tx;
         this.targetY = ty;
 
-        emotions.clear();
-        if (e.getEmocionesActivas() != null)
-            emotions.addAll(e.getEmocionesActivas());
+        // solo se copia la lista si cambió (evita clear/addAll por frame)
+        if (!sameEmotions(src)) {
+            emotions.clear();
+            if (src != null)
+                emotions.addAll(src);
+            visualDirty = true;
+        }
+    }
+
+    private boolean sameEmotions(List<EmotionSnapshot> src) {
+        int n = (src == null) ? 0 : src.size();
+        if (n != emotions.size())
+            return false;
+        // cada foto trae copias nuevas: se comparan por valor
+        for (int i = 0; i < n; i++) {
+            if (!src.get(i).equals(emotions.get(i)))
+                return false;
+        }
+        return true;
     }
 
     // ==================================
@@ -91,14 +109,23 @@ public class ActorView {
         hpSmooth += (pct - hpSmooth) * Math.min(1f, 10f * dt);
 
         // Daño flash
-        if (hitFlash > 0f)
+        if (hitFlash > 0f) {
             hitFlash = Math.max(0f, hitFlash - dt);
+            visualDirty = true; // también el frame en que llega a 0 (restaura el color)
+        }
+
+        if (Math.abs(targetX - x) > SETTLE_EPS || Math.abs(targetY - y) > SETTLE_EPS
+                || Math.abs(vx) > SETTLE_EPS || Math.abs(vy) > SETTLE_EPS
+                || Math.abs(pct - hpSmooth) > 0.001f) {
+            visualDirty = true;
+        }
     }
 
     // ===============================
     // RENDER PRO (icons + glow + hp)
     // ===============================
-    public void render(SpriteBatch b, BitmapFont font, Texture white, VisualStyle style) {
+    public void render(SpriteBatch b, BitmapFont font, TextureRegion white, VisualStyle style) {
+        visualDirty = false;
 
         // ==== 1. COLOR DEL CUERPO ====
         if (hitFlash > 0f)
@@ -136,15 +163,15 @@ public class ActorView {
         float cx = x - 36;
         float cy = y + 80;
 
-        for (EmotionInstance emo : emotions) {
+        for (EmotionSnapshot emo : emotions) {
 
-            TextureRegion icon = IconRegistry.emotionRegion(emo.getTipoBase());
+            TextureRegion icon = IconRegistry.emotionRegion(emo.tipoBase());
             if (icon != null) {
                 b.setColor(Color.WHITE);
                 b.draw(icon, cx, cy, 24, 24);
             } else {
                 // fallback color block
-                b.setColor(Color.valueOf(emo.getColor()));
+                b.setColor(Color.valueOf(emo.color()));
                 b.draw(white, cx, cy, 20, 20);
             }
 
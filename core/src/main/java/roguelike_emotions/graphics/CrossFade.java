@@ -0,0 +1,77 @@
+package roguelike_emotions.graphics;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.graphics.Color;
+import com.badlogic.gdx.graphics.GL20;
+import com.badlogic.gdx.graphics.Pixmap;
+import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+import com.badlogic.gdx.math.Matrix4;
+
+/**
+ * Fundido entre pantallas: capture() copia el back buffer (el último frame de
+ * la pantalla que sale) a una textura sin pasar por la CPU, y render() la
+ * pinta encima de la pantalla nueva cada vez más transparente.
+ *
+ * La textura sale de GpuResources y se devuelve al acabar el fundido (se
+ * reutiliza en el siguiente).
+ */
+public final class CrossFade {
+
+	public static final float DURACION = 0.25f;
+
+	private final SpriteBatch batch;
+	private final Matrix4 projection = new Matrix4();
+	private Texture snapshot;
+	private float elapsed;
+
+	public CrossFade(SpriteBatch batch) {
+		this.batch = batch;
+	}
+
+	public boolean isActive() {
+		return snapshot != null;
+	}
+
+	/** Llamar al acabar el frame de la pantalla que sale (antes del swap). */
+	public void capture() {
+		int w = Gdx.graphics.getBackBufferWidth();
+		int h = Gdx.graphics.getBackBufferHeight();
+		if (snapshot != null && (snapshot.getWidth() != w || snapshot.getHeight() != h)) {
+			GpuResources.release(snapshot);
+			snapshot = null;
+		}
+		if (snapshot == null)
+			snapshot = GpuResources.texture("fundido " + w + "x" + h, () -> new Pixmap(w, h, Pixmap.Format.RGB888));
+		snapshot.bind();
+		Gdx.gl.glCopyTexSubImage2D(GL20.GL_TEXTURE_2D, 0, 0, 0, 0, 0, w, h);
+		elapsed = 0f;
+	}
+
+	/** Pinta la captura sobre el frame ya dibujado; al acabar la devuelve. */
+	public void render(float delta) {
+		if (snapshot == null)
+			return;
+		elapsed += delta;
+		float alpha = 1f - elapsed / DURACION;
+		if (alpha <= 0f) {
+			finish();
+			return;
+		}
+		int w = snapshot.getWidth(), h = snapshot.getHeight();
+		Gdx.gl.glViewport(0, 0, w, h);
+		projection.setToOrtho2D(0, 0, w, h);
+		batch.setProjectionMatrix(projection);
+		batch.setColor(1f, 1f, 1f, alpha);
+		batch.begin();
+		// copiada del framebuffer: invertida en Y
+		batch.draw(snapshot, 0, 0, w, h, 0, 0, w, h, false, true);
+		batch.end();
+		batch.setColor(Color.WHITE);
+	}
+
+	public void finish() {
+		GpuResources.release(snapshot);
+		snapshot = null;
+	}
+}
@@ -0,0 +1,42 @@
+package roguelike_emotions.graphics;
+
+import com.badlogic.gdx.graphics.g2d.Batch;
+import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+
+/**
+ * Cuenta los draw calls (flushes del SpriteBatch) de un frame a partir de
+ * {@link SpriteBatch#totalRenderCalls}. Cada pantalla tiene el suyo y lo
+ * expone para depurar el batching.
+ */
+public final class DrawCallCounter {
+	private int startTotal;
+	private int lastFrame;
+	private int peak;
+
+	public void begin(Batch batch) {
+		if (batch instanceof SpriteBatch sb)
+			startTotal = sb.totalRenderCalls;
+	}
+
+	public void end(Batch batch) {
+		if (batch instanceof SpriteBatch sb) {
+			lastFrame = sb.totalRenderCalls - startTotal;
+			peak = Math.max(peak, lastFrame);
+		}
+	}
+
+	/** Draw calls del último frame completo. */
+	public int lastFrame() {
+		return lastFrame;
+	}
+
+	/** Máximo observado desde la creación (o el último reset). */
+	public int peak() {
+		return peak;
+	}
+
+	public void reset() {
+		lastFrame = 0;
+		peak = 0;
+	}
+}
@@ -0,0 +1,86 @@
+package roguelike_emotions.graphics;
+
+import java.util.Arrays;
+
+/**
+ * Histograma de tiempos de frame en cubetas de 1 ms (la última acumula todo
+ * lo que pase de MAX_MS). Lo usa ScreenManager para medir los frames de
+ * alrededor de cada cambio de pantalla.
+ */
+public final class FrameHistogram {
+	public static final int MAX_MS = 100;
+
+	private final int[] cubetas = new int[MAX_MS + 1];
+	private int count;
+	private long sumNanos;
+	private long maxNanos;
+
+	public void record(long nanos) {
+		int ms = (int) Math.min(MAX_MS, nanos / 1_000_000L);
+		cubetas[ms]++;
+		count++;
+		sumNanos += nanos;
+		maxNanos = Math.max(maxNanos, nanos);
+	}
+
+	public int count() {
+		return count;
+	}
+
+	public double meanMs() {
+		return count == 0 ? 0 : sumNanos / 1e6 / count;
+	}
+
+	public double maxMs() {
+		return maxNanos / 1e6;
+	}
+
+	/** Percentil 'p' (0..1) como límite superior de su cubeta, en ms. */
+	public int percentileMs(double p) {
+		if (count == 0)
+			return 0;
+		int objetivo = (int) Math.ceil(p * count);
+		int acumulado = 0;
+		for (int i = 0; i < cubetas.length; i++) {
+			acumulado += cubetas[i];
+			if (acumulado >= objetivo)
+				return i + 1;
+		}
+		return MAX_MS + 1;
+	}
+
+	/** Frames que tardaron 'ms' o más. */
+	public int countAtLeast(int ms) {
+		int n = 0;
+		for (int i = Math.min(ms, MAX_MS); i < cubetas.length; i++)
+			n += cubetas[i];
+		return n;
+	}
+
+	public String summary() {
+		return String.format("%d frames, media %.1f ms, p50 <%d ms, p95 <%d ms, p99 <%d ms, máx %.1f ms", count,
+				meanMs(), percentileMs(0.50), percentileMs(0.95), percentileMs(0.99), maxMs());
+	}
+
+	/** Una línea por cubeta no vacía con una barra proporcional. */
+	public String bars() {
+		int mayor = 0;
+		for (int c : cubetas)
+			mayor = Math.max(mayor, c);
+		StringBuilder sb = new StringBuilder();
+		for (int i = 0; i < cubetas.length; i++) {
+			if (cubetas[i] == 0)
+				continue;
+			String rango = (i == MAX_MS) ? String.format(">=%3d ms", MAX_MS) : String.format("%3d-%-3d ms", i, i + 1);
+			sb.append(String.format("%n  %s %4d %s", rango, cubetas[i], "#".repeat(Math.max(1, cubetas[i] * 40 / mayor))));
+		}
+		return sb.toString();
+	}
+
+	public void reset() {
+		Arrays.fill(cubetas, 0);
+		count = 0;
+		sumNanos = 0;
+		maxNanos = 0;
+	}
+}
@@ -0,0 +1,270 @@
+package roguelike_emotions.graphics;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Supplier;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.graphics.Pixmap;
+import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.graphics.glutils.FrameBuffer;
+import com.badlogic.gdx.graphics.glutils.ShaderProgram;
+import com.badlogic.gdx.utils.Disposable;
+
+/**
+ * Registro de recursos de GPU compartidos entre pantallas, con cuenta de
+ * referencias.
+ *
+ * - Texturas y shaders se comparten por clave: cada texture()/shader() suma
+ *   una referencia y cada release() la quita.
+ * - Los FBO son exclusivos (quien lo tiene dibuja en él): frameBuffer() da
+ *   uno libre del mismo tamaño o crea otro.
+ * - staticTexture(): texturas generadas que dependen solo de su clave
+ *   (fondos de paneles, degradados...). Viven hasta disposeAll() y no hace
+ *   falta liberarlas.
+ *
+ * Lo que se queda sin referencias no se destruye enseguida: pasa a
+ * inactivo, así la siguiente pantalla lo recupera sin crearlo otra vez. Si
+ * lo inactivo supera PRESUPUESTO_INACTIVOS se liberan primero los más
+ * antiguos; trim() lo libera todo. Los shaders conocidos se compilan al
+ * arrancar (prewarm()) y no se liberan hasta el final.
+ *
+ * Solo desde el hilo GL.
+ */
+public final class GpuResources {
+
+	public enum Tipo {
+		TEXTURA, FBO, SHADER
+	}
+
+	/** Shader de post-proceso del combate. */
+	public static final String SHADER_POST = "post";
+
+	// clave -> { vertex, fragment }
+	private static final Map<String, String[]> SHADERS = Map.of(SHADER_POST,
+			new String[] { "shaders/post.vert", "shaders/post.frag" });
+
+	private static final long PRESUPUESTO_INACTIVOS = 32L << 20;
+
+	private static final class Entry {
+		final String key;
+		final Tipo tipo;
+		final Disposable res;
+		final long bytes;
+		final boolean fija;
+		int refs;
+
+		Entry(String key, Tipo tipo, Disposable res, long bytes, boolean fija) {
+			this.key = key;
+			this.tipo = tipo;
+			this.res = res;
+			this.bytes = bytes;
+			this.fija = fija;
+		}
+	}
+
+	private static final Map<String, Entry> compartidos = new HashMap<>();
+	private static final Map<Object, Entry> porRecurso = new IdentityHashMap<>();
+	// sin referencias, en orden de liberación (los primeros, los más antiguos)
+	private static final LinkedHashMap<Entry, Boolean> inactivos = new LinkedHashMap<>();
+	private static final Set<String> shadersFallidos = new HashSet<>();
+	private static long bytesInactivos;
+	private static int siguienteFbo;
+
+	private GpuResources() {
+	}
+
+	// ==== ADQUIRIR ====
+
+	/** Textura compartida por clave; 'gen' solo se llama si no existe (el pixmap lo libera el registro). */
+	public static Texture texture(String key, Supplier<Pixmap> gen) {
+		Entry e = compartidos.get(key);
+		if (e == null)
+			e = register(key, Tipo.TEXTURA, upload(gen), false);
+		return (Texture) acquire(e).res;
+	}
+
+	/** Textura generada que vive toda la sesión (no se libera con release()). */
+	public static Texture staticTexture(String key, Supplier<Pixmap> gen) {
+		Entry e = compartidos.get(key);
+		if (e == null)
+			e = register(key, Tipo.TEXTURA, upload(gen), true);
+		return (Texture) e.res;
+	}
+
+	/** FBO RGBA8888 sin depth de uso exclusivo hasta release(). */
+	public static FrameBuffer frameBuffer(int width, int height) {
+		for (Entry e : inactivos.keySet()) {
+			if (e.tipo == Tipo.FBO) {
+				FrameBuffer fb = (FrameBuffer) e.res;
+				if (fb.getWidth() == width && fb.getHeight() == height)
+					return (FrameBuffer) acquire(e).res;
+			}
+		}
+		FrameBuffer fb = new FrameBuffer(Pixmap.Format.RGBA8888, width, height, false);
+		Entry e = new Entry("fbo-" + (siguienteFbo++) + " " + width + "x" + height, Tipo.FBO, fb,
+				(long) width * height * 4, false);
+		porRecurso.put(fb, e);
+		return (FrameBuffer) acquire(e).res;
+	}
+
+	/** Shader conocido (SHADER_*); null si no compila (se avisa una vez). */
+	public static ShaderProgram shader(String key) {
+		Entry e = compartidos.get(key);
+		if (e == null) {
+			ShaderProgram sp = compile(key);
+			if (sp == null)
+				return null;
+			e = register(key, Tipo.SHADER, sp, true);
+		}
+		return (ShaderProgram) acquire(e).res;
+	}
+
+	/** Compila los shaders conocidos (arranque), para no pagarlo en el primer frame. */
+	public static void prewarm() {
+		for (String key : SHADERS.keySet())
+			if (!compartidos.containsKey(key)) {
+				ShaderProgram sp = compile(key);
+				if (sp != null)
+					register(key, Tipo.SHADER, sp, true);
+			}
+	}
+
+	// ==== LIBERAR ====
+
+	/** Quita una referencia (null o recursos fijos: no hace nada). */
+	public static void release(Object res) {
+		if (res == null)
+			return;
+		Entry e = porRecurso.get(res);
+		if (e == null) {
+			System.err.println("[GpuResources] release() de un recurso que no es del registro: " + res);
+			return;
+		}
+		if (e.refs <= 0) {
+			System.err.println("[GpuResources] release() de más: " + e.key);
+			return;
+		}
+		if (--e.refs == 0 && !e.fija) {
+			inactivos.put(e, Boolean.TRUE);
+			bytesInactivos += e.bytes;
+			Iterator<Entry> it = inactivos.keySet().iterator();
+			while (bytesInactivos > PRESUPUESTO_INACTIVOS && it.hasNext()) {
+				Entry viejo = it.next();
+				it.remove();
+				destroy(viejo);
+			}
+		}
+	}
+
+	/** Libera todo lo que no tiene referencias. */
+	public static void trim() {
+		for (Entry e : inactivos.keySet())
+			destroy(e);
+		inactivos.clear();
+	}
+
+	/** Al cerrar el juego: libera todo y avisa de lo que sigue referenciado. */
+	public static void disposeAll() {
+		for (Entry e : porRecurso.values()) {
+			if (e.refs > 0 && !e.fija)
+				System.err.println("[GpuResources] Sin liberar al cerrar: " + e.key + " (" + e.refs + " ref.)");
+			e.res.dispose();
+		}
+		porRecurso.clear();
+		compartidos.clear();
+		inactivos.clear();
+		shadersFallidos.clear();
+		bytesInactivos = 0;
+	}
+
+	// ==== INFORME ====
+
+	/** Bytes estimados en GPU (texturas y FBO, en uso o inactivos). */
+	public static long liveBytes() {
+		long total = 0;
+		for (Entry e : porRecurso.values())
+			total += e.bytes;
+		return total;
+	}
+
+	/** Resumen por tipo: cuántos, memoria y cuánto de eso está inactivo. */
+	public static String report() {
+		int[] n = new int[Tipo.values().length];
+		long[] bytes = new long[n.length];
+		List<String> enUso = new ArrayList<>();
+		for (Entry e : porRecurso.values()) {
+			n[e.tipo.ordinal()]++;
+			bytes[e.tipo.ordinal()] += e.bytes;
+			if (e.refs > 0 && !e.fija)
+				enUso.add(e.key + "×" + e.refs);
+		}
+		StringBuilder sb = new StringBuilder(String.format("GPU: %.1f MB (%.1f MB inactivos)", liveBytes() / 1048576.0,
+				bytesInactivos / 1048576.0));
+		for (Tipo t : Tipo.values())
+			sb.append(String.format("; %d %s %.1f MB", n[t.ordinal()], t.name().toLowerCase(),
+					bytes[t.ordinal()] / 1048576.0));
+		if (!enUso.isEmpty())
+			sb.append("\n  en uso: ").append(String.join(", ", enUso));
+		return sb.toString();
+	}
+
+	// ==== AUXILIARES ====
+
+	private static Entry register(String key, Tipo tipo, Disposable res, boolean fija) {
+		long bytes = 0;
+		if (res instanceof Texture t)
+			bytes = (long) t.getWidth() * t.getHeight() * 4;
+		Entry e = new Entry(key, tipo, res, bytes, fija);
+		compartidos.put(key, e);
+		porRecurso.put(res, e);
+		return e;
+	}
+
+	private static Entry acquire(Entry e) {
+		if (e.refs++ == 0 && inactivos.remove(e) != null)
+			bytesInactivos -= e.bytes;
+		return e;
+	}
+
+	private static void destroy(Entry e) {
+		bytesInactivos -= e.bytes;
+		porRecurso.remove(e.res);
+		if (e.tipo != Tipo.FBO)
+			compartidos.remove(e.key);
+		e.res.dispose();
+	}
+
+	private static Texture upload(Supplier<Pixmap> gen) {
+		Pixmap pm = gen.get();
+		try {
+			return new Texture(pm);
+		} finally {
+			pm.dispose();
+		}
+	}
+
+	private static ShaderProgram compile(String key) {
+		String[] src = SHADERS.get(key);
+		if (src == null)
+			throw new IllegalArgumentException("Shader desconocido: " + key);
+		if (shadersFallidos.contains(key))
+			return null;
+		ShaderProgram.pedantic = false;
+		ShaderProgram sp = new ShaderProgram(Gdx.files.internal(src[0]), Gdx.files.internal(src[1]));
+		if (!sp.isCompiled()) {
+			Gdx.app.log("GpuResources", "Shader '" + key + "' no compila: " + sp.getLog());
+			sp.dispose();
+			shadersFallidos.add(key);
+			return null;
+		}
+		return sp;
+	}
+}
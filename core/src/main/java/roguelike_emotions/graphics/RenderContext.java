@@ -7,15 +7,16 @@ import java.util.Map;
 
 import com.badlogic.gdx.graphics.Color;
 import com.badlogic.gdx.graphics.OrthographicCamera;
-import com.badlogic.gdx.graphics.Texture;
 import com.badlogic.gdx.graphics.g2d.BitmapFont;
 import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
 import com.badlogic.gdx.graphics.glutils.FrameBuffer;
 import com.badlogic.gdx.utils.viewport.Viewport;
 
-import roguelike_emotions.characters.Player;
 import roguelike_emotions.graphics.passes.VfxPass;
 import roguelike_emotions.managers.GameManager;
+import roguelike_emotions.managers.WorldSnapshot;
+import roguelike_emotions.managers.WorldSnapshot.ActorSnapshot;
 import roguelike_emotions.ui.turns.TurnQueue;
 import roguelike_emotions.utils.LayoutUtil;
 import roguelike_emotions.vfx.Director;
@@ -27,11 +28,13 @@ public class RenderContext {
 	public final OrthographicCamera camera;
 	public final Viewport viewport;
 	public final FrameBuffer sceneFbo;
-	public final Texture whitePx;
+	public final TextureRegion whitePx; // región del atlas compartido (IconAtlas)
 	public final Director director;
 	public final VisualStyle style;
 	public Integer selectedEnemyViewId = null; // ej. 100 + índice
 	public String selectedActionLabel = "atacar"; // "atacar", "defender", "usar emoción"
+	public String playbackLabel = "x1"; // velocidad de reproducción (PlaybackSpeed.label)
+	public String advisorLabel = null; // consejo del TurnAdvisor (null = sin datos)
 	public final Map<Integer, ActorView> views = new HashMap<>();
 	public VfxPass vfxPass = null;
 	// Contenedor de textos activos
@@ -40,7 +43,7 @@ public class RenderContext {
 	public final TurnQueue turnQueue = new TurnQueue();
 
 	public RenderContext(SpriteBatch batch, BitmapFont font, OrthographicCamera camera, Viewport viewport,
-			FrameBuffer sceneFbo, Texture whitePx, Director director, VisualStyle style) {
+			FrameBuffer sceneFbo, TextureRegion whitePx, Director director, VisualStyle style) {
 		this.batch = batch;
 		this.font = font;
 		this.camera = camera;
@@ -51,41 +54,47 @@ public class RenderContext {
 		this.style = style;
 	}
 
+	/** Última foto de la lógica usada en updateViews (la leen VisualEvents y el HUD). */
+	public WorldSnapshot snapshot = WorldSnapshot.EMPTY;
+
+	/**
+	 * Sincroniza las vistas desde la última WorldSnapshot publicada. Lectura
+	 * lock-free: si la lógica está a mitad de ronda se pinta la foto anterior.
+	 */
 	public void updateViews(float dt) {
+		snapshot = GameManager.getInstance().getSnapshot();
+
 		// Player
-		Player p = GameManager.getInstance().getPlayer();
+		ActorSnapshot p = snapshot.player();
 		if (p != null) {
-			int id = 1;
+			int id = WorldSnapshot.PLAYER_VIEW_ID;
 			ActorView vp = views.get(id);
 			if (vp == null) {
 				vp = new ActorView(id);
 				views.put(id, vp);
 			}
-			vp.syncFromPlayer(p, 360, 360);
+			vp.syncFrom(p, 360, 360);
 			vp.update(dt);
 		}
 
 		// Enemigos: layout robusto (no se salen)
-		var es = roguelike_emotions.managers.GameManager.getInstance().getEnemies();
-		if (es != null) {
-			int n = es.size();
-			int base = 100;
-			float w = viewport.getWorldWidth();
-			float h = viewport.getWorldHeight();
-
-			for (int i = 0; i < n; i++) {
-				var e = es.get(i);
-				int id = base + i;
-				var v = views.get(id);
-				if (v == null) {
-					v = new ActorView(id);
-					views.put(id, v);
-				}
-
-				var slot = LayoutUtil.enemySlot(i, n, w, h);
-				v.syncFromEnemy(e, slot.x(), slot.y());
-				v.update(dt);
+		List<ActorSnapshot> es = snapshot.enemies();
+		int n = es.size();
+		float w = viewport.getWorldWidth();
+		float h = viewport.getWorldHeight();
+
+		for (int i = 0; i < n; i++) {
+			ActorSnapshot e = es.get(i);
+			int id = e.viewId();
+			var v = views.get(id);
+			if (v == null) {
+				v = new ActorView(id);
+				views.put(id, v);
 			}
+
+			var slot = LayoutUtil.enemySlot(i, n, w, h);
+			v.syncFrom(e, slot.x(), slot.y());
+			v.update(dt);
 		}
 
 	}
@@ -2,27 +2,116 @@
 package roguelike_emotions.graphics;
 
 import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.graphics.Color;
 import com.badlogic.gdx.graphics.GL20;
+import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.graphics.glutils.FrameBuffer;
+import com.badlogic.gdx.math.Matrix4;
 import roguelike_emotions.graphics.passes.RenderPass;
 import java.util.*;
 
+/**
+ * Grafo de pasadas con caché por capas:
+ *  - capas estáticas (isStatic) → FBO propio, solo se redibuja cuando alguna está sucia;
+ *  - capas dinámicas → sceneFbo, que se reutiliza tal cual si nadie está sucio (combate en espera);
+ *  - overlay → siempre inmediato (composición barata del sceneFbo + HUD).
+ */
 public class RenderGraph {
     private final List<RenderPass> passes = new ArrayList<>();
-    public RenderGraph add(RenderPass p){ passes.add(p); return this; }
+    private final List<RenderPass> staticPasses = new ArrayList<>();
+    private final List<RenderPass> dynamicPasses = new ArrayList<>();
+
+    private FrameBuffer staticFbo;
+    private final Matrix4 staticProjection = new Matrix4();
+    private boolean forceRedraw = true;
+    private boolean sceneRedrawn;
+
+    public RenderGraph add(RenderPass p){
+        passes.add(p);
+        // las de solo overlay (post-pro, HUD...) no ensucian ni dibujan el mundo
+        if (p.hasWorld()) (p.isStatic() ? staticPasses : dynamicPasses).add(p);
+        return this;
+    }
+
+    /** Invalida todas las capas cacheadas (resize, pérdida de contexto...). */
+    public void invalidate(){
+        forceRedraw = true;
+        for (RenderPass p : passes) p.markDirty();
+    }
+
+    /** true si el último render() tuvo que redibujar el mundo (false = frame servido desde caché). */
+    public boolean wasSceneRedrawn(){ return sceneRedrawn; }
+
     public void render(RenderContext ctx){
-        // mundo → FBO
-        ctx.sceneFbo.begin();
-        Gdx.gl.glClearColor(0,0,0,1);
-        Gdx.gl.glClear(GL20.GL_COLOR_BUFFER_BIT);
-        ctx.batch.setProjectionMatrix(ctx.camera.combined);
-        ctx.batch.begin();
-        for (RenderPass p : passes) p.executeWorld(ctx);
-        ctx.batch.end();
-        ctx.sceneFbo.end();
+        boolean staticDirty = renderStaticLayer(ctx);
+
+        boolean sceneDirty = staticDirty || forceRedraw;
+        for (RenderPass p : dynamicPasses) {
+            if (p.isDirty(ctx)) { sceneDirty = true; break; }
+        }
+
+        // mundo → FBO (solo si algo cambió)
+        sceneRedrawn = sceneDirty;
+        if (sceneDirty) {
+            ctx.sceneFbo.begin();
+            Gdx.gl.glClearColor(0,0,0,1);
+            Gdx.gl.glClear(GL20.GL_COLOR_BUFFER_BIT);
+            ctx.batch.setProjectionMatrix(ctx.camera.combined);
+            ctx.batch.begin();
+            if (staticFbo != null) {
+                Texture tex = staticFbo.getColorBufferTexture();
+                ctx.batch.setColor(Color.WHITE);
+                // ojo: el FBO está invertido en Y
+                ctx.batch.draw(tex, 0,0, tex.getWidth(), tex.getHeight(), 0,0, tex.getWidth(), tex.getHeight(), false, true);
+            }
+            for (RenderPass p : dynamicPasses) {
+                p.executeWorld(ctx);
+                p.clearDirty();
+            }
+            ctx.batch.end();
+            ctx.sceneFbo.end();
+            forceRedraw = false;
+        }
 
         // overlay (post-pro + HUD)
         ctx.batch.begin();
         for (RenderPass p : passes) p.executeOverlay(ctx);
         ctx.batch.end();
     }
+
+    /** Redibuja la capa estática si hace falta. Devuelve true si cambió. */
+    private boolean renderStaticLayer(RenderContext ctx){
+        if (staticPasses.isEmpty()) return false;
+
+        boolean dirty = staticFbo == null || forceRedraw;
+        for (RenderPass p : staticPasses) {
+            if (p.isDirty(ctx)) { dirty = true; break; }
+        }
+        if (!dirty) return false;
+
+        if (staticFbo == null) {
+            staticFbo = GpuResources.frameBuffer(ctx.sceneFbo.getWidth(), ctx.sceneFbo.getHeight());
+        }
+        // proyección fija: la capa estática no debe "hornear" el screen shake de la cámara
+        staticProjection.setToOrtho2D(0, 0, staticFbo.getWidth(), staticFbo.getHeight());
+
+        staticFbo.begin();
+        Gdx.gl.glClearColor(0,0,0,0);
+        Gdx.gl.glClear(GL20.GL_COLOR_BUFFER_BIT);
+        ctx.batch.setProjectionMatrix(staticProjection);
+        ctx.batch.begin();
+        for (RenderPass p : staticPasses) {
+            p.executeWorld(ctx);
+            p.clearDirty();
+        }
+        ctx.batch.end();
+        staticFbo.end();
+        return true;
+    }
+
+    public void dispose(){
+        GpuResources.release(staticFbo);
+        staticFbo = null;
+        for (RenderPass p : passes) p.dispose();
+    }
 }
@@ -4,6 +4,10 @@ import roguelike_emotions.graphics.ActorView;
 import roguelike_emotions.graphics.RenderContext;
 
 public class EntityPass implements RenderPass {
+    // selección con la que se dibujó el último frame (para saber si el borde cambió)
+    private Integer drawnSelection = null;
+    private boolean forced = true;
+
     @Override public void executeWorld(RenderContext ctx) {
         for (ActorView v : ctx.views.values()) {
             v.render(ctx.batch, ctx.font, ctx.whitePx, ctx.style);
@@ -16,5 +20,17 @@ public class EntityPass implements RenderPass {
                 ctx.batch.setColor(1,1,1,1);
             }
         }
+        drawnSelection = ctx.selectedEnemyViewId;
+    }
+
+    @Override public boolean isDirty(RenderContext ctx) {
+        if (forced || !java.util.Objects.equals(drawnSelection, ctx.selectedEnemyViewId)) return true;
+        for (ActorView v : ctx.views.values()) {
+            if (v.isVisuallyDirty()) return true;
+        }
+        return false;
     }
+
+    @Override public void clearDirty() { forced = false; }
+    @Override public void markDirty() { forced = true; }
 }
@@ -1,17 +1,56 @@
 package roguelike_emotions.graphics.passes;
 
+import com.badlogic.gdx.graphics.g2d.GlyphLayout;
 import roguelike_emotions.graphics.RenderContext;
 
 public class HudOverlayPass implements RenderPass {
+    private static final String HELP = "1: Atacar   2: Defender   3: Usar emoción   ENTER: Confirmar   ←/→: Cambiar objetivo   ESPACIO: Velocidad";
+
+    // layouts cacheados: la ayuda no cambia y el estado solo se re-maqueta cuando cambia la selección
+    private final GlyphLayout helpLayout = new GlyphLayout();
+    private final GlyphLayout statusLayout = new GlyphLayout();
+    private boolean helpReady = false;
+    private String lastSel = null;
+    private Integer lastTarget = null;
+    private String lastSpeed = null;
+    private final GlyphLayout advisorLayout = new GlyphLayout();
+    private String lastAdvisor = null;
+
+    @Override public boolean hasWorld() { return false; }
+
     @Override public void executeOverlay(RenderContext ctx) {
         float w = ctx.viewport.getWorldWidth();
         ctx.batch.setColor(0,0,0,0.35f);
         ctx.batch.draw(ctx.whitePx, 0, 0, w, 64);
         ctx.batch.setColor(1,1,1,1);
-        ctx.font.draw(ctx.batch, "1: Atacar   2: Defender   3: Usar emoción   ENTER: Confirmar   ←/→: Cambiar objetivo", 24, 40);
+
+        if (!helpReady) {
+            helpLayout.setText(ctx.font, HELP);
+            helpReady = true;
+        }
+        ctx.font.draw(ctx.batch, helpLayout, 24, 40);
 
         String sel = ctx.selectedActionLabel != null ? ctx.selectedActionLabel : "-";
-        int idx = (ctx.selectedEnemyViewId == null) ? -1 : (ctx.selectedEnemyViewId - 100);
-        ctx.font.draw(ctx.batch, "Acción: " + sel + "   Objetivo: " + (idx < 0 ? "-" : idx), 24, 22);
+        Integer target = ctx.selectedEnemyViewId;
+        String speed = ctx.playbackLabel;
+        if (!sel.equals(lastSel) || !java.util.Objects.equals(target, lastTarget) || !java.util.Objects.equals(speed, lastSpeed)) {
+            int idx = (target == null) ? -1 : (target - 100);
+            statusLayout.setText(ctx.font, "Acción: " + sel + "   Objetivo: " + (idx < 0 ? "-" : idx) + "   Velocidad: " + speed);
+            lastSel = sel;
+            lastTarget = target;
+            lastSpeed = speed;
+        }
+        ctx.font.draw(ctx.batch, statusLayout, 24, 22);
+
+        String advisor = ctx.advisorLabel;
+        if (advisor != null) {
+            if (!advisor.equals(lastAdvisor)) {
+                advisorLayout.setText(ctx.font, advisor);
+                lastAdvisor = advisor;
+            }
+            ctx.font.draw(ctx.batch, advisorLayout, w - 24 - advisorLayout.width, 22);
+        }
     }
+
+    @Override public void markDirty() { helpReady = false; lastSel = null; lastAdvisor = null; }
 }
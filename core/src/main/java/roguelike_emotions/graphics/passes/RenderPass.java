@@ -5,4 +5,31 @@ import roguelike_emotions.graphics.RenderContext;
 public interface RenderPass {
     default void executeWorld(RenderContext ctx) {}
     default void executeOverlay(RenderContext ctx) {}
+
+    /**
+     * Capa estática: su salida de mundo se cachea en un FBO propio del grafo y solo
+     * se vuelve a dibujar cuando {@link #isDirty(RenderContext)} lo pide.
+     */
+    default boolean isStatic() { return false; }
+
+    /**
+     * false si la pasada solo dibuja overlay: no entra en sceneFbo ni cuenta para
+     * decidir si hay que redibujar el mundo.
+     */
+    default boolean hasWorld() { return true; }
+
+    /**
+     * true si la salida de mundo de esta pasada cambió desde el último frame dibujado.
+     * Por defecto siempre sucia (comportamiento clásico: redibujar cada frame).
+     */
+    default boolean isDirty(RenderContext ctx) { return true; }
+
+    /** Llamado por el grafo tras volcar la pasada al FBO correspondiente. */
+    default void clearDirty() {}
+
+    /** Fuerza el redibujado en el próximo frame (resize, cambio de assets...). */
+    default void markDirty() {}
+
+    /** Devuelve lo que la pasada haya tomado de GpuResources (lo llama RenderGraph.dispose). */
+    default void dispose() {}
 }
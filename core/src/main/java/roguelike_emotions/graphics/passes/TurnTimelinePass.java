@@ -19,6 +19,8 @@ public class TurnTimelinePass implements RenderPass {
     private float scrollT = 0f; // autoscroll sutil si no cabe
     private final GlyphLayout layout = new GlyphLayout(); // reutilizable (evita allocs por frame)
 
+    @Override public boolean hasWorld() { return false; }
+
     @Override public void executeOverlay(RenderContext ctx) {
         if (ctx.turnQueue == null) return;
         List<TurnToken> tokens = ctx.turnQueue.tokens();
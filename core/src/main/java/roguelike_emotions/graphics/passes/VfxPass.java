@@ -85,8 +85,7 @@ public class VfxPass implements RenderPass {
 			float t = i / (float) steps;
 			float alpha = currentTint.a * (1f - t * 0.7f); // Más intenso arriba, se desvanece abajo
 
-			Color stepColor = new Color(currentTint.r, currentTint.g, currentTint.b, alpha);
-			ctx.batch.setColor(stepColor);
+			ctx.batch.setColor(currentTint.r, currentTint.g, currentTint.b, alpha);
 			ctx.batch.draw(ctx.whitePx, 0, h - (i + 1) * stepHeight, w, stepHeight);
 		}
 
@@ -98,6 +97,24 @@ public class VfxPass implements RenderPass {
 		renderDamageNumbers(ctx);
 	}
 
+	/**
+	 * Sucia mientras haya algo animándose en el mundo. Los damage numbers van en el
+	 * overlay, pero su update vive en executeWorld, así que también cuentan.
+	 */
+	@Override
+	public boolean isDirty(RenderContext ctx) {
+		return !getParticleSystem().isIdle() || shakeManager.isActive() || !damageNumbers.isEmpty()
+				|| currentTint.a > 0.01f || hasLowHealthPulse(ctx);
+	}
+
+	private boolean hasLowHealthPulse(RenderContext ctx) {
+		for (ActorView v : ctx.views.values()) {
+			if (v.maxHp > 0 && 1f - (v.hp / (float) v.maxHp) > 0.6f)
+				return true;
+		}
+		return false;
+	}
+
 	private void renderLowHealthOverlay(RenderContext ctx) {
 		for (ActorView v : ctx.views.values()) {
 			if (v.maxHp <= 0)
@@ -153,6 +170,7 @@ public class VfxPass implements RenderPass {
 		getParticleSystem().forceMood(mood, intensity);
 	}
 
+	@Override
 	public void dispose() {
 		getParticleSystem().dispose();
 	}
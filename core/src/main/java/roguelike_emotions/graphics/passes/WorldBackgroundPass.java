@@ -4,9 +4,18 @@ import com.badlogic.gdx.graphics.Color;
 import roguelike_emotions.graphics.RenderContext;
 
 public class WorldBackgroundPass implements RenderPass {
+    private static final Color BG = new Color(0.08f,0.09f,0.10f,1f);
+    private boolean dirty = true;
+
     @Override public void executeWorld(RenderContext ctx) {
-        ctx.batch.setColor(new Color(0.08f,0.09f,0.10f,1f));
+        ctx.batch.setColor(BG);
         ctx.batch.draw(ctx.whitePx, 0, 0, ctx.viewport.getWorldWidth(), ctx.viewport.getWorldHeight());
         ctx.batch.setColor(Color.WHITE);
     }
+
+    // fondo liso: se hornea una vez en la capa estática
+    @Override public boolean isStatic() { return true; }
+    @Override public boolean isDirty(RenderContext ctx) { return dirty; }
+    @Override public void clearDirty() { dirty = false; }
+    @Override public void markDirty() { dirty = true; }
 }
@@ -0,0 +1,104 @@
+package roguelike_emotions.mainMechanics;
+
+import roguelike_emotions.characters.Player;
+import roguelike_emotions.managers.CombatManager;
+
+/**
+ * Previsión analítica del despertar de una emoción normal, sin simular.
+ *
+ * Con una XP por turno fija, la probabilidad de cada turno p_k es determinista
+ * (usos y XP crecen linealmente y EmotionInstance.awakeningChance es función
+ * de ellos). La supervivencia es S_k = Π (1 - p_j) y:
+ *
+ * - P(despertar en ≤ k turnos) = 1 - S_k
+ * - E[turnos] = Σ S_k; cuando p se satura en c (topes de usos y XP), la cola
+ *   es geométrica y se cierra como S_K · (1 - c) / c.
+ *
+ * Orden dentro de un turno (CombatManager.executeRound): XP de la acción del
+ * jugador → uso + XP propia de la emoción → tirada → XP_POR_TURNO.
+ */
+public final class AwakeningForecast {
+
+	/** Turnos que se guardan en la distribución acumulada. */
+	public static final int HORIZONTE = 10;
+
+	// límite de seguridad si la XP por turno es muy pequeña
+	private static final int MAX_PASOS = 10_000;
+
+	/** XP por turno antes de la tirada (acción + propia) y después (fin de ronda). */
+	public record XpModel(int antesDeTirada, int trasTirada) {
+
+		/**
+		 * Modelo por defecto: el jugador ataca cada turno con su daño actual (sin
+		 * contar la defensa del enemigo).
+		 */
+		public static XpModel estimado(EmotionInstance e, Player player) {
+			int accion = (player != null) ? CombatManager.xpPorDanyo(player.getDanyo()) : CombatManager.XP_USAR_EMOCION;
+			return new XpModel(accion + e.getTurnExperienceGain(), CombatManager.XP_POR_TURNO);
+		}
+	}
+
+	private final double[] acumulada; // [k] = P(despertar en ≤ k turnos), k = 0..HORIZONTE
+	private final double turnosEsperados;
+
+	private AwakeningForecast(double[] acumulada, double turnosEsperados) {
+		this.acumulada = acumulada;
+		this.turnosEsperados = turnosEsperados;
+	}
+
+	// ==== CÁLCULO ====
+
+	public static AwakeningForecast of(EmotionInstance e, XpModel model) {
+		return compute(e.getTipoBase(), e.getUsageCount(), e.getExperiencePoints(), model);
+	}
+
+	public static AwakeningForecast compute(EmotionType tipo, int usos, int xp, XpModel model) {
+		double[] acumulada = new double[HORIZONTE + 1];
+		double superv = 1.0; // S_k
+		double esperados = 1.0; // Σ S_k desde k = 0
+		boolean sinXp = model.antesDeTirada() + model.trasTirada() <= 0;
+
+		for (int k = 1; k <= MAX_PASOS; k++) {
+			int u = usos + k;
+			int x = xp + k * model.antesDeTirada() + (k - 1) * model.trasTirada();
+			double p = EmotionInstance.awakeningChance(tipo, u, x) / 100.0;
+
+			superv *= (1.0 - p);
+			if (k <= HORIZONTE)
+				acumulada[k] = 1.0 - superv;
+
+			// p ya no cambia: cola geométrica en forma cerrada
+			if (p >= 0.95 || EmotionInstance.awakeningChanceSaturated(u, sinXp ? Integer.MAX_VALUE : x)) {
+				if (p <= 0)
+					return new AwakeningForecast(acumulada, Double.POSITIVE_INFINITY);
+				for (int j = k + 1; j <= HORIZONTE; j++)
+					acumulada[j] = 1.0 - superv * Math.pow(1.0 - p, j - k);
+				esperados += superv / p; // Σ_{j≥k} S_j = S_k / p
+				return new AwakeningForecast(acumulada, esperados);
+			}
+			esperados += superv;
+		}
+		return new AwakeningForecast(acumulada, esperados);
+	}
+
+	// ==== CONSULTAS ====
+
+	/** P(despertar en como mucho 'turnos' turnos), turnos ≤ HORIZONTE. */
+	public double probabilityWithin(int turnos) {
+		return acumulada[Math.max(0, Math.min(HORIZONTE, turnos))];
+	}
+
+	/** Turnos esperados hasta despertar (infinito si nunca puede). */
+	public double expectedTurns() {
+		return turnosEsperados;
+	}
+
+	/** Primer k ≤ HORIZONTE con P(≤ k) ≥ 0.5, o -1 si la mediana queda más allá. */
+	public int medianTurns() {
+		for (int k = 1; k <= HORIZONTE; k++) {
+			if (acumulada[k] >= 0.5)
+				return k;
+		}
+		return -1;
+	}
+}
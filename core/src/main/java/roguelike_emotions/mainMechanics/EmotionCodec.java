@@ -0,0 +1,140 @@
+package roguelike_emotions.mainMechanics;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import roguelike_emotions.effects.EffectDetail;
+import roguelike_emotions.mainMechanics.SentientEmotion.EmotionPersonality;
+import roguelike_emotions.save.SnapshotFormatException;
+import roguelike_emotions.save.SnapshotReader;
+import roguelike_emotions.save.SnapshotWriter;
+
+/**
+ * Escritura y lectura de emociones y efectos en el snapshot de partida.
+ *
+ * Vive junto a EmotionInstance para poder usar sus constructores de
+ * restauración (id original, progreso de despertar y fila de ciclo de vida de
+ * las sentientes) sin reflexión ni setters públicos.
+ */
+public final class EmotionCodec {
+
+	private static final EmotionType[] TIPOS = EmotionType.values();
+	private static final EmotionEffect[] EFECTOS = EmotionEffect.values();
+	private static final EmotionPersonality[] PERSONALIDADES = EmotionPersonality.values();
+
+	private EmotionCodec() {
+	}
+
+	// ==== EMOCIONES ====
+
+	public static void write(SnapshotWriter w, EmotionInstance e) {
+		SentientEmotion s = (e instanceof SentientEmotion se) ? se : null;
+
+		w.putBoolean(s != null);
+		w.putString(e.getId());
+		w.putString(e.getNombre());
+		w.putEnum(e.getTipoBase());
+		w.putString(e.getColor());
+		w.putString(e.getSimbolo());
+		w.putInt(e.getUsageCount());
+		w.putInt(e.getExperiencePoints());
+		writeEffects(w, e.getEfectos());
+
+		if (s != null) {
+			w.putInt(s.getLoyalty());
+			w.putInt(s.getHunger());
+			w.putInt(s.getEvolution());
+			w.putInt(s.getAge());
+			w.putEnum(s.getPersonality());
+			w.putByte(s.lifecycleFlags());
+			List<String> memorias = s.getMemories();
+			w.putInt(memorias.size());
+			for (String m : memorias)
+				w.putString(m);
+		}
+	}
+
+	public static EmotionInstance read(SnapshotReader r) throws SnapshotFormatException {
+		boolean sentiente = r.getBoolean();
+		String id = r.getString();
+		String nombre = r.getString();
+		EmotionType tipo = r.getEnum(TIPOS);
+		String color = r.getString();
+		String simbolo = r.getString();
+		int usos = r.getInt();
+		int xp = r.getInt();
+		List<EffectDetail> efectos = readEffects(r);
+
+		EmotionInstance e;
+		if (sentiente) {
+			int loyalty = r.getInt();
+			int hunger = r.getInt();
+			int evolution = r.getInt();
+			int age = r.getInt();
+			EmotionPersonality p = r.getEnum(PERSONALIDADES);
+			byte flags = (byte) r.getByte();
+			SentientEmotion s = new SentientEmotion(id, nombre, tipo, efectos, color, simbolo, loyalty, hunger,
+					evolution, age, p, flags);
+			int memorias = r.getCount();
+			for (int i = 0; i < memorias; i++)
+				s.addMemory(r.getString());
+			e = s;
+		} else {
+			e = new EmotionInstance(id, nombre, tipo, efectos, color, simbolo);
+		}
+		e.restoreProgress(usos, xp);
+		return e;
+	}
+
+	/**
+	 * Huella de una emoción para el hash de estado de las repeticiones: como
+	 * write pero sin nombre, color, símbolo ni memorias, que son cosméticos y
+	 * dependen del seguimiento de nombres del generador.
+	 */
+	public static void writeFingerprint(SnapshotWriter w, EmotionInstance e) {
+		w.putString(e.getId());
+		w.putEnum(e.getTipoBase());
+		w.putInt(e.getUsageCount());
+		w.putInt(e.getExperiencePoints());
+		writeEffects(w, e.getEfectos());
+		if (e instanceof SentientEmotion s) {
+			w.putInt(s.getLoyalty());
+			w.putInt(s.getHunger());
+			w.putInt(s.getEvolution());
+			w.putInt(s.getAge());
+			w.putEnum(s.getPersonality());
+			w.putByte(s.lifecycleFlags());
+		}
+	}
+
+	// ==== EFECTOS ====
+
+	public static void writeEffect(SnapshotWriter w, EffectDetail d) {
+		w.putEnum(d.getTipo());
+		w.putDouble(d.getIntensidad());
+		w.putDouble(d.getProbabilidad());
+		w.putInt(d.getRemainingTurns());
+	}
+
+	public static EffectDetail readEffect(SnapshotReader r) throws SnapshotFormatException {
+		EmotionEffect tipo = r.getEnum(EFECTOS);
+		double intensidad = r.getDouble();
+		double probabilidad = r.getDouble();
+		int turnos = r.getInt();
+		return new EffectDetail(tipo, intensidad, probabilidad, turnos);
+	}
+
+	public static void writeEffects(SnapshotWriter w, List<EffectDetail> efectos) {
+		w.putInt(efectos.size());
+		for (EffectDetail d : efectos)
+			writeEffect(w, d);
+	}
+
+	public static List<EffectDetail> readEffects(SnapshotReader r) throws SnapshotFormatException {
+		int n = r.getCount();
+		List<EffectDetail> out = new ArrayList<>(n);
+		for (int i = 0; i < n; i++)
+			out.add(readEffect(r));
+		return out;
+	}
+}
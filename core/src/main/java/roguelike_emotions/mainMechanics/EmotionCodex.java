@@ -119,4 +119,10 @@ public class EmotionCodex {
 	public void clear() {
 		codexEntries.clear();
 	}
+
+	/** Sustituye las entradas por las de un snapshot (sin los logs de registrar). */
+	public void restaurar(List<EmotionInstance> entradas) {
+		codexEntries.clear();
+		codexEntries.addAll(entradas);
+	}
 }
@@ -4,9 +4,12 @@ import java.util.HashMap;
 import java.util.Map;
 import java.util.Random;
 
+import roguelike_emotions.utils.RunRandom;
+
 public class EmotionDominanceMatrix {
 	private final Map<EmotionType, Map<EmotionType, Double>> dominancia = new HashMap<>();
-	private final Random rng = new Random();
+	private final Random rng = RunRandom.get();
+	private volatile int version = 0; // sube en cada reset()/restaurarPesos(); las cachés derivadas la comparan
 
 	public EmotionDominanceMatrix() {
 		for (EmotionType t1 : EmotionType.values()) {
@@ -43,6 +46,38 @@ public class EmotionDominanceMatrix {
 			}
 			dominancia.put(t1, mapaInterno);
 		}
+		version++;
+	}
+
+	/** Pesos en orden [dominante.ordinal() * n + dominado.ordinal()] (snapshot de partida). */
+	public double[] exportarPesos() {
+		EmotionType[] tipos = EmotionType.values();
+		double[] out = new double[tipos.length * tipos.length];
+		for (EmotionType a : tipos) {
+			for (EmotionType b : tipos)
+				out[a.ordinal() * tipos.length + b.ordinal()] = getPeso(a, b);
+		}
+		return out;
+	}
+
+	/** Sustituye los pesos por los de exportarPesos(); sube la versión como reset(). */
+	public void restaurarPesos(double[] pesos) {
+		EmotionType[] tipos = EmotionType.values();
+		if (pesos.length != tipos.length * tipos.length)
+			throw new IllegalArgumentException("Se esperaban " + tipos.length * tipos.length + " pesos");
+		dominancia.clear();
+		for (EmotionType a : tipos) {
+			Map<EmotionType, Double> mapaInterno = new HashMap<>();
+			for (EmotionType b : tipos)
+				mapaInterno.put(b, pesos[a.ordinal() * tipos.length + b.ordinal()]);
+			dominancia.put(a, mapaInterno);
+		}
+		version++;
+	}
+
+	/** Versión de los pesos: cambia cada vez que se regeneran con reset(). */
+	public int getVersion() {
+		return version;
 	}
 
 }
@@ -2,7 +2,6 @@ package roguelike_emotions.mainMechanics;
 
 import java.util.List;
 import java.util.Random;
-import java.util.UUID;
 
 import com.badlogic.gdx.scenes.scene2d.utils.Drawable;
 
@@ -10,6 +9,7 @@ import roguelike_emotions.characters.Attack;
 import roguelike_emotions.characters.Player;
 import roguelike_emotions.effects.EffectDetail;
 import roguelike_emotions.ui.IconRegistry;
+import roguelike_emotions.utils.RunRandom;
 
 /**
  * 🧠 EmotionInstance v2.0 - CON SISTEMA DE DESPERTAR Ahora las emociones pueden
@@ -30,12 +30,23 @@ public class EmotionInstance implements Emotion {
 	private int experiencePoints = 0;
 	private static final int AWAKENING_THRESHOLD = 3; // Testing: 3 usos
 	private static final int MIN_EXPERIENCE = 50; // Testing: 50 XP
-	private static final Random rand = new Random();
 
 	// ==================== CONSTRUCTOR ====================
 	public EmotionInstance(String nombre, EmotionType tipoBase, List<EffectDetail> efectos, String color,
 			String simbolo) {
-		this.id = UUID.randomUUID().toString();
+		this(RunRandom.nextId(), nombre, tipoBase, efectos, color, simbolo);
+	}
+
+	/** Con el id sacado de 'idRng' (emociones generadas con un RNG propio, p. ej. el de un nodo). */
+	public EmotionInstance(String nombre, EmotionType tipoBase, List<EffectDetail> efectos, String color,
+			String simbolo, Random idRng) {
+		this(RunRandom.nextId(idRng), nombre, tipoBase, efectos, color, simbolo);
+	}
+
+	/** Restauración desde snapshot (EmotionCodec): conserva el id original. */
+	EmotionInstance(String id, String nombre, EmotionType tipoBase, List<EffectDetail> efectos, String color,
+			String simbolo) {
+		this.id = id;
 		this.nombre = nombre;
 		this.tipoBase = tipoBase;
 		this.efectos = efectos;
@@ -63,34 +74,67 @@ public class EmotionInstance implements Emotion {
 	 * Verifica si puede despertar
 	 */
 	public boolean canAwaken() {
-		return usageCount >= AWAKENING_THRESHOLD && experiencePoints >= MIN_EXPERIENCE;
+		return canAwaken(usageCount, experiencePoints);
 	}
 
 	/**
 	 * Calcula probabilidad de despertar (0-100)
 	 */
 	public int getAwakeningChance() {
-		if (!canAwaken())
+		return awakeningChance(tipoBase, usageCount, experiencePoints);
+	}
+
+	/** Reglas de despertar sin instancia (las usa también AwakeningForecast). */
+	static boolean canAwaken(int usos, int xp) {
+		return usos >= AWAKENING_THRESHOLD && xp >= MIN_EXPERIENCE;
+	}
+
+	static int awakeningChance(EmotionType tipo, int usos, int xp) {
+		if (!canAwaken(usos, xp))
 			return 0;
 
 		int baseChance = 40;
 
 		// +5% por cada uso extra
-		int extraUses = usageCount - AWAKENING_THRESHOLD;
+		int extraUses = usos - AWAKENING_THRESHOLD;
 		baseChance += Math.min(30, extraUses * 5);
 
 		// +10% por cada 50 XP extra
-		int extraExp = experiencePoints - MIN_EXPERIENCE;
+		int extraExp = xp - MIN_EXPERIENCE;
 		baseChance += Math.min(20, (extraExp / 50) * 10);
 
 		// Tipos emocionales volátiles tienen más chance
-		if (tipoBase == EmotionType.IRA || tipoBase == EmotionType.MIEDO || tipoBase == EmotionType.TRISTEZA) {
+		if (tipo == EmotionType.IRA || tipo == EmotionType.MIEDO || tipo == EmotionType.TRISTEZA) {
 			baseChance += 15;
 		}
 
 		return Math.min(95, baseChance);
 	}
 
+	/** A partir de aquí la probabilidad ya no sube (topes de usos y XP alcanzados). */
+	static boolean awakeningChanceSaturated(int usos, int xp) {
+		return usos >= AWAKENING_THRESHOLD + 6 && xp >= MIN_EXPERIENCE + 100;
+	}
+
+	/**
+	 * XP que la propia emoción gana cada turno en EmotionalTurnProcessor, según
+	 * la intensidad de sus efectos.
+	 */
+	public int getTurnExperienceGain() {
+		int baseExp = 10;
+
+		for (EffectDetail efecto : efectos) {
+			if (efecto.getIntensidad() > 1.5) {
+				baseExp += 5;
+			}
+			if (efecto.getIntensidad() > 2.0) {
+				baseExp += 10;
+			}
+		}
+
+		return baseExp;
+	}
+
 	/**
 	 * Intenta despertar consciencia
 	 */
@@ -98,7 +142,7 @@ public class EmotionInstance implements Emotion {
 		if (!canAwaken())
 			return false;
 		int chance = getAwakeningChance();
-		return rand.nextInt(100) < chance;
+		return RunRandom.get().nextInt(100) < chance;
 	}
 
 	/**
@@ -110,6 +154,12 @@ public class EmotionInstance implements Emotion {
 		return (usageProgress + expProgress) / 2;
 	}
 
+	/** Restauración desde snapshot (EmotionCodec). */
+	void restoreProgress(int usos, int xp) {
+		this.usageCount = usos;
+		this.experiencePoints = xp;
+	}
+
 	// ==================== GETTERS SISTEMA DESPERTAR ====================
 	public int getUsageCount() {
 		return usageCount;
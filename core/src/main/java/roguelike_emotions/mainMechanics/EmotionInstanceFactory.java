@@ -3,9 +3,11 @@ package roguelike_emotions.mainMechanics;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Random;
+import java.util.Set;
 
 import roguelike_emotions.effects.EffectDetail;
 import roguelike_emotions.utils.EmotionUtils;
+import roguelike_emotions.utils.RunRandom;
 
 /**
  * Fábrica de emociones procedurales (no fusionadas).
@@ -15,31 +17,66 @@ public class EmotionInstanceFactory {
 	private static final String[] COLORES = { "#FF4444", "#44FFAA", "#8888FF", "#FFFF66", "#AA66CC", "#FF8844" };
 
 	private static final int MAX_EFECTOS = 3;
-	private static final Random RNG = new Random();
 
+	// null: nombres únicos en toda la partida (EmotionNameGenerator)
+	private final Set<String> nombresUsados;
+
+	public EmotionInstanceFactory() {
+		this(null);
+	}
+
+	/**
+	 * Fábrica cuyos nombres solo son únicos dentro de 'nombresUsados' (no toca
+	 * el registro de la partida; la usan los nodos del mapa).
+	 */
+	public EmotionInstanceFactory(Set<String> nombresUsados) {
+		this.nombresUsados = nombresUsados;
+	}
 	/**
-	 * Genera una nueva emoción procedural completa.
+	 * Genera una nueva emoción procedural completa (con el RNG de la partida).
 	 */
 	public EmotionInstance generarProcedural() {
-		// 1. Tipo base aleatorio (NO FUSIONADA)
+		return generarProcedural(RunRandom.get());
+	}
+
+	/**
+	 * Igual que {@link #generarProcedural()} pero con un RNG dado (p. ej. sembrado
+	 * por nodo del mapa para que el contenido sea reproducible).
+	 */
+	public EmotionInstance generarProcedural(Random rng) {
+		return generarProcedural(tipoBaseAleatorio(rng), rng);
+	}
+
+	/** Tipo base aleatorio no fusionado. */
+	public static EmotionType tipoBaseAleatorio(Random rng) {
 		EmotionType tipoBase;
 		do {
-			tipoBase = EmotionType.values()[RNG.nextInt(EmotionType.values().length)];
+			tipoBase = EmotionType.values()[rng.nextInt(EmotionType.values().length)];
 		} while (tipoBase == EmotionType.FUSIONADA);
+		return tipoBase;
+	}
 
+	/**
+	 * Emoción procedural de un tipo base ya decidido. Todo el azar (nombre,
+	 * símbolo e id incluidos) sale del RNG dado: así se puede generar desde el
+	 * prefetch del mapa sin tocar el RNG de la partida.
+	 */
+	public EmotionInstance generarProcedural(EmotionType tipoBase, Random rng) {
 		// 2. Nombre
-		String nombre = EmotionNameGenerator.generarNombrePorTipo(tipoBase);
+		String nombre = (nombresUsados != null)
+				? EmotionNameGenerator.generarNombrePorTipo(tipoBase, rng, nombresUsados)
+				: EmotionNameGenerator.generarNombrePorTipo(tipoBase, rng);
 
 		// 3. Color aleatorio
-		String color = COLORES[RNG.nextInt(COLORES.length)];
+		String color = COLORES[rng.nextInt(COLORES.length)];
 
 		// 4. Generar efectos únicos aleatorios
-		int cantidadEfectos = 1 + RNG.nextInt(MAX_EFECTOS);
+		int cantidadEfectos = 1 + rng.nextInt(MAX_EFECTOS);
 		List<EffectDetail> efectos = new ArrayList<>();
 		List<EmotionEffect> yaUsados = new ArrayList<>();
 
 		while (efectos.size() < cantidadEfectos) {
-			EmotionEffect efecto = EmotionEffect.values()[RNG.nextInt(EmotionEffect.values().length)];
+			EmotionEffect efecto = EmotionEffect.values()[rng.nextInt(EmotionEffect.values().length)];
 			if (!yaUsados.contains(efecto)) {
 				efectos.add(EffectDetail.fromConfig(efecto));
 				yaUsados.add(efecto);
@@ -48,10 +85,10 @@ public class EmotionInstanceFactory {
 
 		// 5. Símbolo desde efectos
 		DominantEmotionType dominante = EmotionUtils.detectarTipoDominanteSimple(efectos);
-		String simbolo = EmotionNameGenerator.generarSimbolo(dominante);
+		String simbolo = EmotionNameGenerator.generarSimbolo(dominante, rng);
 
 		// 6. Crear instancia (no fusionada)
-		return new EmotionInstance(nombre, tipoBase, efectos, color, simbolo);
+		return new EmotionInstance(nombre, tipoBase, efectos, color, simbolo, rng);
 	}
 
 }
\ No newline at end of file
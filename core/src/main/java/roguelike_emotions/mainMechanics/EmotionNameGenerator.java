@@ -1,6 +1,9 @@
 package roguelike_emotions.mainMechanics;
 
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+
+import roguelike_emotions.utils.RunRandom;
 
 /**
  * Generador avanzado de nombres procedurales para emociones. Utiliza múltiples
@@ -103,8 +106,10 @@ public class EmotionNameGenerator {
 			new String[] { "🔥", "⚡", "💥", "🌪️", "💢" }, DominantEmotionType.DEBILIDAD,
 			new String[] { "🕸️", "💀", "🦠", "⚠️", "🌑" });
 
-	private static final Random RNG = new Random();
-	private static final Set<String> NOMBRES_USADOS = new HashSet<>();
+	// Nombres de la partida. Concurrente porque se generan desde el hilo de
+	// combate y el de render; el prefetch del mapa no lo toca (usa el conjunto
+	// de cada nodo).
+	private static final Set<String> NOMBRES_USADOS = ConcurrentHashMap.newKeySet();
 
 	// ==================== CLASE AUXILIAR ====================
 
@@ -129,38 +134,68 @@ public class EmotionNameGenerator {
 		NOMBRES_USADOS.clear();
 	}
 
+	/** Copia de los nombres ya usados en la partida (snapshot). */
+	public static List<String> nombresUsados() {
+		return new ArrayList<>(NOMBRES_USADOS);
+	}
+
+	/** Sustituye el registro de nombres por el de un snapshot. */
+	public static void restaurarTracking(Collection<String> nombres) {
+		NOMBRES_USADOS.clear();
+		NOMBRES_USADOS.addAll(nombres);
+	}
+
 	/**
 	 * Genera un nombre para una emoción base usando múltiples estrategias.
 	 */
 	public static String generarNombrePorTipo(EmotionType tipo) {
-		NameStrategy strategy = selectStrategy();
-		String baseName = strategy.generate(tipo);
-		return buildUniqueName(baseName);
+		return generarNombrePorTipo(tipo, RunRandom.get());
+	}
+
+	/** Igual, con el azar de 'rng' (único entre los nombres de la partida). */
+	public static String generarNombrePorTipo(EmotionType tipo, Random rng) {
+		return generarNombrePorTipo(tipo, rng, NOMBRES_USADOS);
+	}
+
+	/**
+	 * Igual, pero único solo dentro de 'usados' (el nombre se añade ahí). Los nodos
+	 * del mapa pasan un conjunto propio: así se pueden materializar en el hilo de
+	 * prefetch sin leer ni escribir el registro de la partida.
+	 */
+	public static String generarNombrePorTipo(EmotionType tipo, Random rng, Set<String> usados) {
+		NameStrategy strategy = selectStrategy(rng);
+		String baseName = strategy.generate(tipo, rng);
+		return buildUniqueName(baseName, rng, usados);
 	}
 
 	/**
 	 * Genera un nombre para una emoción fusionada, considerando su tipo dominante.
 	 */
 	public static String generarNombreGuiado(DominantEmotionType tipoDominante) {
-		NameStrategy strategy = selectFusionStrategy();
-		String baseName = strategy.generateFusion(tipoDominante);
-		return buildUniqueName(baseName);
+		Random rng = RunRandom.get();
+		NameStrategy strategy = selectFusionStrategy(rng);
+		String baseName = strategy.generateFusion(tipoDominante, rng);
+		return buildUniqueName(baseName, rng, NOMBRES_USADOS);
 	}
 
 	/**
 	 * Genera un símbolo apropiado para el tipo dominante.
 	 */
 	public static String generarSimbolo(DominantEmotionType tipo) {
+		return generarSimbolo(tipo, RunRandom.get());
+	}
+
+	public static String generarSimbolo(DominantEmotionType tipo, Random rng) {
 		String[] opciones = SIMBOLOS_VARIADOS.getOrDefault(tipo, new String[] { "✨" });
-		return opciones[RNG.nextInt(opciones.length)];
+		return opciones[rng.nextInt(opciones.length)];
 	}
 
 	// ==================== ESTRATEGIAS DE GENERACIÓN ====================
 
 	private interface NameStrategy {
-		String generate(EmotionType tipo);
+		String generate(EmotionType tipo, Random rng);
 
-		String generateFusion(DominantEmotionType tipoDominante);
+		String generateFusion(DominantEmotionType tipoDominante, Random rng);
 	}
 
 	/**
@@ -168,20 +203,20 @@ public class EmotionNameGenerator {
 	 */
 	private static class CompoundStrategy implements NameStrategy {
 		@Override
-		public String generate(EmotionType tipo) {
+		public String generate(EmotionType tipo, Random rng) {
 			NameComponents comp = TIPO_COMPONENTS.getOrDefault(tipo, TIPO_COMPONENTS.get(EmotionType.NEUTRO));
 
-			String raiz = pickRandom(comp.raices);
-			String term = pickRandom(comp.terminaciones);
-			String adj = pickRandom(comp.adjetivos);
+			String raiz = pickRandom(rng, comp.raices);
+			String term = pickRandom(rng, comp.terminaciones);
+			String adj = pickRandom(rng, comp.adjetivos);
 
 			return raiz + term + " " + adj;
 		}
 
 		@Override
-		public String generateFusion(DominantEmotionType tipoDominante) {
+		public String generateFusion(DominantEmotionType tipoDominante, Random rng) {
 			EmotionType tipo = mapDominantToBase(tipoDominante);
-			return generate(tipo);
+			return generate(tipo, rng);
 		}
 	}
 
@@ -190,16 +225,16 @@ public class EmotionNameGenerator {
 	 */
 	private static class MysticStrategy implements NameStrategy {
 		@Override
-		public String generate(EmotionType tipo) {
-			String prefijo = pickRandom(PREFIJOS_MISTICOS);
-			String sustantivo = pickRandom(SUSTANTIVOS_EPICOS);
+		public String generate(EmotionType tipo, Random rng) {
+			String prefijo = pickRandom(rng, PREFIJOS_MISTICOS);
+			String sustantivo = pickRandom(rng, SUSTANTIVOS_EPICOS);
 			return prefijo + " " + sustantivo;
 		}
 
 		@Override
-		public String generateFusion(DominantEmotionType tipoDominante) {
-			String prefijo = pickRandom(PREFIJOS_MISTICOS);
-			String sufijo = pickRandom(SUFIJOS_POETICOS);
+		public String generateFusion(DominantEmotionType tipoDominante, Random rng) {
+			String prefijo = pickRandom(rng, PREFIJOS_MISTICOS);
+			String sufijo = pickRandom(rng, SUFIJOS_POETICOS);
 			return prefijo + " " + sufijo;
 		}
 	}
@@ -209,21 +244,21 @@ public class EmotionNameGenerator {
 	 */
 	private static class EpicStrategy implements NameStrategy {
 		@Override
-		public String generate(EmotionType tipo) {
+		public String generate(EmotionType tipo, Random rng) {
 			NameComponents comp = TIPO_COMPONENTS.getOrDefault(tipo, TIPO_COMPONENTS.get(EmotionType.NEUTRO));
 
-			String raiz = pickRandom(comp.raices);
-			String term = pickRandom(comp.terminaciones);
-			String conector = pickRandom(CONECTORES);
-			String sustantivo = pickRandom(SUSTANTIVOS_EPICOS);
+			String raiz = pickRandom(rng, comp.raices);
+			String term = pickRandom(rng, comp.terminaciones);
+			String conector = pickRandom(rng, CONECTORES);
+			String sustantivo = pickRandom(rng, SUSTANTIVOS_EPICOS);
 
 			return raiz + term + " " + conector + " " + sustantivo;
 		}
 
 		@Override
-		public String generateFusion(DominantEmotionType tipoDominante) {
+		public String generateFusion(DominantEmotionType tipoDominante, Random rng) {
 			EmotionType tipo = mapDominantToBase(tipoDominante);
-			return generate(tipo);
+			return generate(tipo, rng);
 		}
 	}
 
@@ -232,11 +267,11 @@ public class EmotionNameGenerator {
 	 */
 	private static class PoeticStrategy implements NameStrategy {
 		@Override
-		public String generate(EmotionType tipo) {
+		public String generate(EmotionType tipo, Random rng) {
 			NameComponents comp = TIPO_COMPONENTS.getOrDefault(tipo, TIPO_COMPONENTS.get(EmotionType.NEUTRO));
 
-			String adj = pickRandom(comp.adjetivos);
-			String sustantivo = pickRandom(SUSTANTIVOS_EPICOS);
+			String adj = pickRandom(rng, comp.adjetivos);
+			String sustantivo = pickRandom(rng, SUSTANTIVOS_EPICOS);
 
 			// Capitalizar adjetivo
 			String adjCap = adj.substring(0, 1).toUpperCase() + adj.substring(1);
@@ -245,9 +280,9 @@ public class EmotionNameGenerator {
 		}
 
 		@Override
-		public String generateFusion(DominantEmotionType tipoDominante) {
-			String sufijo = pickRandom(SUFIJOS_POETICOS);
-			String sustantivo = pickRandom(SUSTANTIVOS_EPICOS);
+		public String generateFusion(DominantEmotionType tipoDominante, Random rng) {
+			String sufijo = pickRandom(rng, SUFIJOS_POETICOS);
+			String sustantivo = pickRandom(rng, SUSTANTIVOS_EPICOS);
 
 			String sufijoCapital = sufijo.substring(0, 1).toUpperCase() + sufijo.substring(1);
 
@@ -261,31 +296,31 @@ public class EmotionNameGenerator {
 	 */
 	private static class FusedRootStrategy implements NameStrategy {
 		@Override
-		public String generate(EmotionType tipo) {
+		public String generate(EmotionType tipo, Random rng) {
 			NameComponents comp = TIPO_COMPONENTS.getOrDefault(tipo, TIPO_COMPONENTS.get(EmotionType.NEUTRO));
 
 			// Tomar dos raíces aleatorias y fusionarlas
-			String raiz1 = pickRandom(comp.raices);
+			String raiz1 = pickRandom(rng, comp.raices);
 
 			// Seleccionar otro tipo aleatorio para mezclar
-			EmotionType tipo2 = pickRandomEnum(EmotionType.class);
+			EmotionType tipo2 = pickRandomEnum(rng, EmotionType.class);
 			NameComponents comp2 = TIPO_COMPONENTS.get(tipo2);
-			String raiz2 = pickRandom(comp2.raices);
+			String raiz2 = pickRandom(rng, comp2.raices);
 
 			// Tomar inicio de la primera y final de la segunda
 			int corte1 = raiz1.length() / 2;
 			int corte2 = raiz2.length() / 2;
 
 			String nombreFusionado = raiz1.substring(0, corte1) + raiz2.substring(corte2).toLowerCase();
-			String adj = pickRandom(comp.adjetivos);
+			String adj = pickRandom(rng, comp.adjetivos);
 
 			return nombreFusionado + " " + adj;
 		}
 
 		@Override
-		public String generateFusion(DominantEmotionType tipoDominante) {
+		public String generateFusion(DominantEmotionType tipoDominante, Random rng) {
 			EmotionType tipo = mapDominantToBase(tipoDominante);
-			return generate(tipo);
+			return generate(tipo, rng);
 		}
 	}
 
@@ -294,13 +329,13 @@ public class EmotionNameGenerator {
 	private static final List<NameStrategy> STRATEGIES = Arrays.asList(new CompoundStrategy(), new MysticStrategy(),
 			new EpicStrategy(), new PoeticStrategy(), new FusedRootStrategy());
 
-	private static NameStrategy selectStrategy() {
-		return STRATEGIES.get(RNG.nextInt(STRATEGIES.size()));
+	private static NameStrategy selectStrategy(Random rng) {
+		return STRATEGIES.get(rng.nextInt(STRATEGIES.size()));
 	}
 
-	private static NameStrategy selectFusionStrategy() {
+	private static NameStrategy selectFusionStrategy(Random rng) {
 		// Para fusiones, favorecer estrategias más místicas
-		int choice = RNG.nextInt(100);
+		int choice = rng.nextInt(100);
 		if (choice < 30)
 			return new MysticStrategy();
 		if (choice < 60)
@@ -314,19 +349,17 @@ public class EmotionNameGenerator {
 
 	// ==================== MANEJO DE UNICIDAD ====================
 
-	private static String buildUniqueName(String base) {
-		if (!NOMBRES_USADOS.contains(base)) {
-			NOMBRES_USADOS.add(base);
+	private static String buildUniqueName(String base, Random rng, Set<String> usados) {
+		if (usados.add(base)) {
 			return base;
 		}
 
 		// Intentar con variantes
 		for (int i = 0; i < 20; i++) {
-			String variante = pickRandom(VARIANTES);
+			String variante = pickRandom(rng, VARIANTES);
 			String nombre = base + " (" + variante + ")";
 
-			if (!NOMBRES_USADOS.contains(nombre)) {
-				NOMBRES_USADOS.add(nombre);
+			if (usados.add(nombre)) {
 				return nombre;
 			}
 		}
@@ -337,21 +370,21 @@ public class EmotionNameGenerator {
 		do {
 			nombre = base + " " + romanNumeral(counter);
 			counter++;
-		} while (NOMBRES_USADOS.contains(nombre) && counter < 20);
+		} while (usados.contains(nombre) && counter < 20);
 
-		NOMBRES_USADOS.add(nombre);
+		usados.add(nombre);
 		return nombre;
 	}
 
 	// ==================== UTILIDADES ====================
 
-	private static <T> T pickRandom(T[] array) {
-		return array[RNG.nextInt(array.length)];
+	private static <T> T pickRandom(Random rng, T[] array) {
+		return array[rng.nextInt(array.length)];
 	}
 
-	private static <T extends Enum<T>> T pickRandomEnum(Class<T> enumClass) {
+	private static <T extends Enum<T>> T pickRandomEnum(Random rng, Class<T> enumClass) {
 		T[] values = enumClass.getEnumConstants();
-		return values[RNG.nextInt(values.length)];
+		return values[rng.nextInt(values.length)];
 	}
 
 	private static EmotionType mapDominantToBase(DominantEmotionType dominant) {
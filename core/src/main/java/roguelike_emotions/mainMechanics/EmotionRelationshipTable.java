@@ -0,0 +1,85 @@
+package roguelike_emotions.mainMechanics;
+
+import roguelike_emotions.mainMechanics.SentientEmotion.EmotionRelationship;
+import roguelike_emotions.managers.GameManager;
+
+/**
+ * Tabla EmotionType × EmotionType → EmotionRelationship compartida por todas
+ * las emociones sentientes.
+ *
+ * Se construye la primera vez que se usa y solo se recalcula cuando cambia la
+ * matriz de dominancia (otra instancia, o reset() que sube su versión). Las
+ * filas se reescriben en sitio, así que una sentiente puede guardar la
+ * referencia a su fila desde el constructor y ver siempre la tabla vigente.
+ *
+ * get() es una lectura del array, sin comprobar la matriz: quien va a
+ * consultar relaciones llama antes a refresh() una vez (row() ya lo hace).
+ * Sin matriz (aún no hay partida) todas las parejas distintas son NEUTRAS,
+ * como con peso 1.0.
+ */
+final class EmotionRelationshipTable {
+
+	private static final EmotionType[] TIPOS = EmotionType.values();
+	private static final EmotionRelationship[][] FILAS = new EmotionRelationship[TIPOS.length][TIPOS.length];
+
+	// matriz y versión con las que se calcularon las filas
+	private static volatile EmotionDominanceMatrix calculadaCon;
+	private static volatile int version = -1;
+
+	private EmotionRelationshipTable() {
+	}
+
+	/** Fila del tipo (índice = EmotionType.ordinal()). */
+	static EmotionRelationship[] row(EmotionType tipo) {
+		refresh();
+		return FILAS[tipo.ordinal()];
+	}
+
+	/** Relación en la fila; no recalcula (ver refresh()). */
+	static EmotionRelationship get(EmotionRelationship[] row, EmotionType other) {
+		return row[other.ordinal()];
+	}
+
+	/** Recalcula las filas si la matriz de dominancia cambió desde la última vez. */
+	static void refresh() {
+		EmotionDominanceMatrix m = matrizActual();
+		if (m == calculadaCon && version == versionDe(m))
+			return;
+		synchronized (FILAS) {
+			m = matrizActual();
+			if (m == calculadaCon && version == versionDe(m))
+				return;
+			for (EmotionType a : TIPOS) {
+				for (EmotionType b : TIPOS)
+					FILAS[a.ordinal()][b.ordinal()] = calculate(m, a, b);
+			}
+			calculadaCon = m;
+			version = versionDe(m);
+		}
+	}
+
+	// ==== INTERNOS ====
+
+	private static EmotionDominanceMatrix matrizActual() {
+		return GameManager.getInstance().getDominanceMatrix();
+	}
+
+	private static int versionDe(EmotionDominanceMatrix m) {
+		return (m != null) ? m.getVersion() : 0;
+	}
+
+	private static EmotionRelationship calculate(EmotionDominanceMatrix matrix, EmotionType a, EmotionType b) {
+		if (a == b)
+			return EmotionRelationship.ALIADAS;
+
+		double avgWeight = (matrix != null) ? (matrix.getPeso(a, b) + matrix.getPeso(b, a)) / 2.0 : 1.0;
+
+		if (avgWeight >= 1.3)
+			return EmotionRelationship.ALIADAS;
+		if (avgWeight >= 1.0)
+			return EmotionRelationship.NEUTRAS;
+		if (avgWeight >= 0.7)
+			return EmotionRelationship.RIVALES;
+		return EmotionRelationship.ENEMIGAS;
+	}
+}
@@ -1,12 +1,12 @@
 package roguelike_emotions.mainMechanics;
 
-import java.util.Random;
+import roguelike_emotions.utils.RunRandom;
 
 public enum EmotionType {
     IRA, MIEDO, TRISTEZA, ALEGRIA, CULPA, ESPERANZA,FUSIONADA,CALMA,RABIA,NEUTRO;
 
 	public static EmotionType random() {
 		EmotionType[] values = values();
-		return values[new Random().nextInt(values.length)];
+		return values[RunRandom.get().nextInt(values.length)];
 	}
 }
\ No newline at end of file
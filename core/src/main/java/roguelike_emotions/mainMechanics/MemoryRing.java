@@ -0,0 +1,81 @@
+package roguelike_emotions.mainMechanics;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * Memorias de una emoción sentiente como anillo acotado de códigos enteros.
+ *
+ * Los textos ("fed", "fused_with:IRA"...) se internan una sola vez en una tabla
+ * global; cada emoción guarda solo los códigos. Al llenarse, la memoria más
+ * antigua se sobrescribe (mismo comportamiento que la antigua lista de 20).
+ */
+final class MemoryRing {
+
+	private static final Map<String, Integer> CODIGOS = new ConcurrentHashMap<>();
+	private static final List<String> TEXTOS = new CopyOnWriteArrayList<>();
+
+	private final int[] codes;
+	private int head; // posición de la más antigua
+	private int size;
+
+	MemoryRing(int capacity) {
+		this.codes = new int[capacity];
+	}
+
+	// ==== INTERNADO ====
+
+	static int intern(String texto) {
+		Integer c = CODIGOS.get(texto);
+		if (c != null)
+			return c;
+		synchronized (CODIGOS) {
+			c = CODIGOS.get(texto);
+			if (c == null) {
+				c = TEXTOS.size();
+				TEXTOS.add(texto);
+				CODIGOS.put(texto, c);
+			}
+			return c;
+		}
+	}
+
+	static String texto(int code) {
+		return TEXTOS.get(code);
+	}
+
+	// ==== ANILLO ====
+
+	synchronized void add(String texto) {
+		int code = intern(texto);
+		if (size < codes.length) {
+			codes[(head + size++) % codes.length] = code;
+		} else {
+			codes[head] = code;
+			head = (head + 1) % codes.length;
+		}
+	}
+
+	synchronized boolean contains(String pattern) {
+		for (int i = 0; i < size; i++) {
+			if (texto(codes[(head + i) % codes.length]).contains(pattern))
+				return true;
+		}
+		return false;
+	}
+
+	/** Copia decodificada, de la más antigua a la más reciente. */
+	synchronized List<String> toList() {
+		List<String> out = new ArrayList<>(size);
+		for (int i = 0; i < size; i++)
+			out.add(texto(codes[(head + i) % codes.length]));
+		return out;
+	}
+
+	synchronized int size() {
+		return size;
+	}
+}
@@ -1,19 +1,23 @@
 package roguelike_emotions.mainMechanics;
 
 import java.util.ArrayList;
-import java.util.HashMap;
 import java.util.List;
-import java.util.Map;
 import java.util.Random;
 
 import roguelike_emotions.characters.Player;
 import roguelike_emotions.effects.EffectDetail;
-import roguelike_emotions.managers.GameManager;
+import roguelike_emotions.mainMechanics.SentientLifecycleTable.Evento;
+import roguelike_emotions.mainMechanics.SentientLifecycleTable.Ref;
 import roguelike_emotions.utils.CombatLogger;
+import roguelike_emotions.utils.RunRandom;
 
 /**
  * Emoción consciente con personalidad, lealtad y sistema de negociación.
  * Patrón: Entity + Strategy (via EmotionPersonality)
+ *
+ * El estado de ciclo de vida (lealtad, hambre, evolución, edad, personalidad,
+ * corrupción/ascensión) vive en una fila de SentientLifecycleTable; las
+ * memorias, en un MemoryRing de códigos internados.
  * 
  * @version 3.0 - Refactorizado y optimizado
  */
@@ -21,22 +25,18 @@ public class SentientEmotion extends EmotionInstance {
 
 	// ==================== CONSTANTS ====================
 
-	private static final int MAX_STAT = 100;
+	private static final int MAX_STAT = SentientLifecycleTable.MAX_STAT;
 	private static final int MAX_MEMORIES = 20;
-	private static final Random RANDOM = new Random(); // Reutilizable
+	private static final EmotionPersonality[] PERSONALIDADES = EmotionPersonality.values();
+	private static final Random RANDOM = RunRandom.get(); // azar de la partida
 
 	// ==================== FIELDS ====================
 
-	private EmotionPersonality personality;
-	private final Map<EmotionType, EmotionRelationship> relationshipMap;
-	private final List<String> memories;
+	private final EmotionRelationship[] relationshipRow; // fila compartida de EmotionRelationshipTable
+	private final MemoryRing memories;
 
-	private int loyalty;
-	private int hunger;
-	private int evolution;
-	private int age;
-	private boolean isCorrupted;
-	private boolean isAscended;
+	// fila en la tabla de ciclo de vida (la del jugador o una propia)
+	private volatile Ref ref;
 
 	// ==================== ENUMS ====================
 
@@ -71,17 +71,20 @@ public class SentientEmotion extends EmotionInstance {
 			String simbolo) {
 		super(nombre, tipoBase, efectos, color, simbolo);
 
-		this.personality = assignPersonalityByType(tipoBase);
-		this.relationshipMap = new HashMap<>();
-		this.memories = new ArrayList<>();
-		this.loyalty = 50;
-		this.hunger = 0;
-		this.evolution = 0;
-		this.age = 0;
-		this.isCorrupted = false;
-		this.isAscended = false;
+		this.relationshipRow = EmotionRelationshipTable.row(tipoBase);
+		this.memories = new MemoryRing(MAX_MEMORIES);
+		this.ref = new SentientLifecycleTable(1).add(this, 50, 0, 0, 0, assignPersonalityByType(tipoBase), (byte) 0);
+	}
+
+	/** Restauración desde snapshot (EmotionCodec): id y ciclo de vida guardados. */
+	SentientEmotion(String id, String nombre, EmotionType tipoBase, List<EffectDetail> efectos, String color,
+			String simbolo, int loyalty, int hunger, int evolution, int age, EmotionPersonality personality,
+			byte flags) {
+		super(id, nombre, tipoBase, efectos, color, simbolo);
 
-		initializeRelationships();
+		this.relationshipRow = EmotionRelationshipTable.row(tipoBase);
+		this.memories = new MemoryRing(MAX_MEMORIES);
+		this.ref = new SentientLifecycleTable(1).add(this, loyalty, hunger, evolution, age, personality, flags);
 	}
 
 	// ==================== FACTORY METHOD ====================
@@ -132,118 +135,90 @@ public class SentientEmotion extends EmotionInstance {
 		}
 	}
 
-	private void initializeRelationships() {
-		EmotionType myType = getTipoBase();
-		for (EmotionType other : EmotionType.values()) {
-			relationshipMap.put(other, calculateRelationship(myType, other));
-		}
-	}
-
-	private EmotionRelationship calculateRelationship(EmotionType a, EmotionType b) {
-		if (a == b)
-			return EmotionRelationship.ALIADAS;
-
-		try {
-			double avgWeight = getAverageWeightFromMatrix(a, b);
-
-			if (avgWeight >= 1.3)
-				return EmotionRelationship.ALIADAS;
-			if (avgWeight >= 1.0)
-				return EmotionRelationship.NEUTRAS;
-			if (avgWeight >= 0.7)
-				return EmotionRelationship.RIVALES;
-			return EmotionRelationship.ENEMIGAS;
-
-		} catch (Exception e) {
-			return calculateRelationshipFallback(a, b);
-		}
-	}
-
-	private double getAverageWeightFromMatrix(EmotionType a, EmotionType b) {
-		EmotionDominanceMatrix matrix = GameManager.getInstance().getDominanceMatrix();
-		if (matrix == null)
-			return 1.0;
-
-		double w1 = matrix.getPeso(a, b);
-		double w2 = matrix.getPeso(b, a);
-		return (w1 + w2) / 2.0;
+	/**
+	 * Relación con otro tipo (tabla compartida por todas las sentientes). Es una
+	 * lectura directa: antes de una tanda de consultas, refreshRelationships().
+	 */
+	public EmotionRelationship getRelationshipWith(EmotionType other) {
+		return EmotionRelationshipTable.get(relationshipRow, other);
 	}
 
-	private EmotionRelationship calculateRelationshipFallback(EmotionType a, EmotionType b) {
-		// ENEMIGAS (Opuestos)
-		if ((a == EmotionType.IRA && b == EmotionType.CALMA) || (a == EmotionType.CALMA && b == EmotionType.IRA)
-				|| (a == EmotionType.ALEGRIA && b == EmotionType.TRISTEZA)
-				|| (a == EmotionType.TRISTEZA && b == EmotionType.ALEGRIA)) {
-			return EmotionRelationship.ENEMIGAS;
-		}
-
-		// ALIADAS (Misma familia)
-		if ((a == EmotionType.IRA && b == EmotionType.RABIA) || (a == EmotionType.RABIA && b == EmotionType.IRA)
-				|| (a == EmotionType.ALEGRIA && b == EmotionType.ESPERANZA)
-				|| (a == EmotionType.ESPERANZA && b == EmotionType.ALEGRIA)
-				|| (a == EmotionType.TRISTEZA && b == EmotionType.CULPA)
-				|| (a == EmotionType.CULPA && b == EmotionType.TRISTEZA)) {
-			return EmotionRelationship.ALIADAS;
-		}
-
-		// RIVALES (Incompatibles)
-		if ((a == EmotionType.MIEDO && b == EmotionType.IRA) || (a == EmotionType.IRA && b == EmotionType.MIEDO)) {
-			return EmotionRelationship.RIVALES;
-		}
-
-		return EmotionRelationship.NEUTRAS;
+	/** Pone al día la tabla de relaciones si cambió la matriz de dominancia. */
+	public static void refreshRelationships() {
+		EmotionRelationshipTable.refresh();
 	}
 
 	// ==================== UPDATE LOGIC ====================
 
+	/**
+	 * Tick individual (edad, hambre y drenaje). En combate el jugador hace el
+	 * tick de todas sus sentientes de una pasada con SentientLifecycleTable.tick.
+	 */
 	public void onTurnTick(Player player) {
-		// Incrementar stats usando métodos públicos
-		incrementAge();
-		incrementHunger(personality.hungerRate);
+		Ref r = ref;
+		SentientLifecycleTable t = r.tabla();
+		t.stepAge(r.slot());
+		t.stepHunger(r.slot(), getPersonality().hungerRate);
 
 		// Parasítica drena HP
-		if (personality == EmotionPersonality.PARASÍTICA && player.getHealth() > 30) {
+		if (getPersonality() == EmotionPersonality.PARASÍTICA && player.getHealth() > 30) {
 			player.takeDamage(30);
 			CombatLogger.get().log(getNombre() + " drena 30 HP");
 		}
+		t.dispatch();
+	}
 
-		// Verificar ascensión/corrupción
-		if (evolution >= 100 && !isCorrupted && !isAscended) {
+	/** Reacción a un cruce de umbral (la tabla la llama antes que a sus listeners). */
+	void onLifecycleEvent(Evento evento) {
+		switch (evento) {
+		case UMBRAL_EVOLUCION -> {
+			if (isCorrupted() || isAscended())
+				return;
+			int loyalty = getLoyalty();
 			if (loyalty < 30) {
 				evolveToCorrupted();
 			} else if (loyalty >= 80) {
 				evolveToAscended();
 			} else {
-				evolution = 0; // Reset si no cumple requisitos
+				setEvolution(0); // Reset si no cumple requisitos
+				ref.tabla().emit(this, Evento.EVOLUCION_FALLIDA);
 			}
 		}
+		case INANICION -> CombatLogger.get().log("⚠️ " + getNombre() + " está MURIENDO de hambre (Lealtad: -2/turno)");
+		default -> {
+		}
+		}
 	}
 
 	private void evolveToCorrupted() {
-		isCorrupted = true;
+		Ref r = ref;
+		r.tabla().flags[r.slot()] |= SentientLifecycleTable.FLAG_CORRUPTA;
 		CombatLogger.get().log("💀 " + getNombre() + " se ha CORROMPIDO!");
 
 		for (EffectDetail effect : getEfectos()) {
 			effect.setIntensidad(effect.getIntensidad() * 1.5);
 		}
 
-		personality = EmotionPersonality.PARASÍTICA;
-		loyalty = 0;
+		setPersonality(EmotionPersonality.PARASÍTICA);
+		setLoyalty(0);
 		addMemory("corrupted");
+		r.tabla().emit(this, Evento.CORRUPCION);
 	}
 
 	private void evolveToAscended() {
-		isAscended = true;
+		Ref r = ref;
+		r.tabla().flags[r.slot()] |= SentientLifecycleTable.FLAG_ASCENDIDA;
 		CombatLogger.get().log("✨ " + getNombre() + " ha ASCENDIDO!");
 
 		for (EffectDetail effect : getEfectos()) {
 			effect.setIntensidad(effect.getIntensidad() * 2.0);
 		}
 
-		hunger = 0;
-		personality = EmotionPersonality.SABIA;
-		loyalty = 100;
+		decrementHunger(MAX_STAT);
+		setPersonality(EmotionPersonality.SABIA);
+		setLoyalty(100);
 		addMemory("ascended");
+		r.tabla().emit(this, Evento.ASCENSION);
 	}
 
 	// ==================== FUSION NEGOTIATION ====================
@@ -253,7 +228,8 @@ public class SentientEmotion extends EmotionInstance {
 	 */
 	public FusionNegotiation negotiateFusionWith(SentientEmotion other) {
 		// 1. Verificar incompatibilidad
-		EmotionRelationship relation = (other != null) ? relationshipMap.get(other.getTipoBase())
+		refreshRelationships();
+		EmotionRelationship relation = (other != null) ? getRelationshipWith(other.getTipoBase())
 				: EmotionRelationship.NEUTRAS;
 
 		if (relation == EmotionRelationship.ENEMIGAS) {
@@ -262,6 +238,9 @@ public class SentientEmotion extends EmotionInstance {
 		}
 
 		// 2. Verificar hambre (debilitamiento)
+		int hunger = getHunger();
+		int loyalty = getLoyalty();
+		EmotionPersonality personality = getPersonality();
 		if (hunger >= 85) {
 			return FusionNegotiation.weakened(getNombre() + ": Estoy demasiado débil... la fusión será imperfecta.",
 					0.65);
@@ -292,8 +271,9 @@ public class SentientEmotion extends EmotionInstance {
 
 		// 6. ACEPTACIÓN
 		loyalty = Math.min(MAX_STAT, loyalty + 10);
+		setLoyalty(loyalty);
 		if (other != null) {
-			other.loyalty = Math.min(MAX_STAT, other.loyalty + 10);
+			other.setLoyalty(other.getLoyalty() + 10);
 			addMemory("fused_with:" + other.getTipoBase());
 			other.addMemory("fused_with:" + getTipoBase());
 		}
@@ -309,16 +289,16 @@ public class SentientEmotion extends EmotionInstance {
 	// ==================== FEEDING ====================
 
 	public void feed(int amount) {
-		hunger = Math.max(0, hunger - amount);
-		loyalty = Math.min(MAX_STAT, loyalty + amount / 2);
-		CombatLogger.get().log(getNombre() + " alimentada. Hambre: " + hunger);
+		decrementHunger(amount);
+		setLoyalty(getLoyalty() + amount / 2);
+		CombatLogger.get().log(getNombre() + " alimentada. Hambre: " + getHunger());
 		addMemory("fed");
 	}
 
 	public void feedWithEmotion(EmotionInstance sacrifice) {
 		int nutrition = 20;
 		if (sacrifice instanceof SentientEmotion) {
-			nutrition += ((SentientEmotion) sacrifice).loyalty / 10;
+			nutrition += ((SentientEmotion) sacrifice).getLoyalty() / 10;
 		}
 		feed(nutrition);
 	}
@@ -327,18 +307,21 @@ public class SentientEmotion extends EmotionInstance {
 
 	public void addMemory(String event) {
 		memories.add(event);
-		if (memories.size() > MAX_MEMORIES) {
-			memories.remove(0);
-		}
 	}
 
 	public boolean hasMemory(String pattern) {
-		return memories.stream().anyMatch(m -> m.contains(pattern));
+		return memories.contains(pattern);
 	}
 
 	// ==================== DIALOGUE ====================
 
 	public String getDialogue(boolean inCombat, boolean inHub) {
+		int hunger = getHunger();
+		int loyalty = getLoyalty();
+		int evolution = getEvolution();
+		boolean isAscended = isAscended();
+		boolean isCorrupted = isCorrupted();
+		EmotionPersonality personality = getPersonality();
 		if (hunger >= 80)
 			return getNombre() + ": Tengo hambre...";
 		if (loyalty < 30)
@@ -357,6 +340,9 @@ public class SentientEmotion extends EmotionInstance {
 	// ==================== EFFECT MODIFIER ====================
 
 	public double getEffectModifier() {
+		int hunger = getHunger();
+		int loyalty = getLoyalty();
+		EmotionPersonality personality = getPersonality();
 		double modifier = personality.effectMultiplier;
 
 		if (hunger >= 80)
@@ -388,59 +374,87 @@ public class SentientEmotion extends EmotionInstance {
 
 	// ==================== GETTERS ====================
 	public void forcePersonality(EmotionPersonality newPersonality) {
-		this.personality = newPersonality;
+		setPersonality(newPersonality);
 		CombatLogger.get().log(getNombre() + " cambió a personalidad " + newPersonality.name());
 	}
 
+	private void setPersonality(EmotionPersonality p) {
+		Ref r = ref;
+		r.tabla().personality[r.slot()] = (byte) p.ordinal();
+	}
+
 	public EmotionPersonality getPersonality() {
-		return personality;
+		Ref r = ref;
+		return PERSONALIDADES[r.tabla().personality[r.slot()]];
 	}
 
 	public int getLoyalty() {
-		return loyalty;
+		Ref r = ref;
+		return r.tabla().loyalty[r.slot()];
 	}
 
 	public int getHunger() {
-		return hunger;
+		Ref r = ref;
+		return r.tabla().hunger[r.slot()];
 	}
 
 	public int getEvolution() {
-		return evolution;
+		Ref r = ref;
+		return r.tabla().evolution[r.slot()];
 	}
 
 	public int getAge() {
-		return age;
+		Ref r = ref;
+		return r.tabla().age[r.slot()];
 	}
 
 	public boolean isCorrupted() {
-		return isCorrupted;
+		Ref r = ref;
+		return (r.tabla().flags[r.slot()] & SentientLifecycleTable.FLAG_CORRUPTA) != 0;
 	}
 
 	public boolean isAscended() {
-		return isAscended;
+		Ref r = ref;
+		return (r.tabla().flags[r.slot()] & SentientLifecycleTable.FLAG_ASCENDIDA) != 0;
 	}
 
 	public List<String> getMemories() {
-		return new ArrayList<>(memories);
+		return memories.toList();
 	}
 
 	public void setLoyalty(int value) {
-		this.loyalty = Math.max(0, Math.min(MAX_STAT, value));
+		Ref r = ref;
+		r.tabla().loyalty[r.slot()] = Math.max(0, Math.min(MAX_STAT, value));
+	}
+
+	private void setEvolution(int value) {
+		Ref r = ref;
+		r.tabla().setEvolution(r.slot(), value);
+	}
+
+	/** Marcas de corrupción/ascensión tal cual (para EmotionCodec). */
+	byte lifecycleFlags() {
+		Ref r = ref;
+		return r.tabla().flags[r.slot()];
+	}
+
+	Ref ref() {
+		return ref;
+	}
+
+	void rebind(Ref nuevo) {
+		this.ref = nuevo;
 	}
 
 	// ==================== STAT INCREMENTERS ====================
 
 	/**
-	 * Incrementa la edad de la emoción sentiente. Llamado cada turno en combate.
+	 * Incrementa la edad de la emoción sentiente (evoluciona cada 3 turnos).
 	 */
 	public void incrementAge() {
-		this.age++;
-
-		// Evolución cada 3 turnos
-		if (age % 3 == 0) {
-			int evolutionGain = (personality == EmotionPersonality.VOLÁTIL) ? 4 : 2;
-			evolution = Math.min(MAX_STAT, evolution + evolutionGain);
-		}
+		Ref r = ref;
+		r.tabla().stepAge(r.slot());
+		r.tabla().dispatch();
 	}
 
 	/**
@@ -449,16 +463,9 @@ public class SentientEmotion extends EmotionInstance {
 	 * @param amount Cantidad de hambre a añadir
 	 */
 	public void incrementHunger(int amount) {
-		this.hunger = Math.min(MAX_STAT, hunger + amount);
-
-		// Penalización por hambre extrema
-		if (hunger >= 90) {
-			loyalty = Math.max(0, loyalty - 2);
-
-			if (hunger >= 95 && RANDOM.nextInt(100) < 15) {
-				CombatLogger.get().log("⚠️ " + getNombre() + " está MURIENDO de hambre (Lealtad: -2)");
-			}
-		}
+		Ref r = ref;
+		r.tabla().stepHunger(r.slot(), amount);
+		r.tabla().dispatch();
 	}
 
 	/**
@@ -467,7 +474,8 @@ public class SentientEmotion extends EmotionInstance {
 	 * @param amount Cantidad de hambre a reducir
 	 */
 	public void decrementHunger(int amount) {
-		this.hunger = Math.max(0, hunger - amount);
+		Ref r = ref;
+		r.tabla().hunger[r.slot()] = Math.max(0, r.tabla().hunger[r.slot()] - amount);
 	}
 
 	/**
@@ -476,7 +484,7 @@ public class SentientEmotion extends EmotionInstance {
 	 * @param corrupted Si la emoción está corrupta
 	 */
 	public void setCorrupted(boolean corrupted) {
-		this.isCorrupted = corrupted;
+		setFlag(SentientLifecycleTable.FLAG_CORRUPTA, corrupted);
 		if (corrupted) {
 			addMemory("corrupted");
 		}
@@ -488,12 +496,18 @@ public class SentientEmotion extends EmotionInstance {
 	 * @param ascended Si la emoción ha ascendido
 	 */
 	public void setAscended(boolean ascended) {
-		this.isAscended = ascended;
+		setFlag(SentientLifecycleTable.FLAG_ASCENDIDA, ascended);
 		if (ascended) {
 			addMemory("ascended");
 		}
 	}
 
+	private void setFlag(byte flag, boolean on) {
+		Ref r = ref;
+		byte[] flags = r.tabla().flags;
+		flags[r.slot()] = (byte) (on ? flags[r.slot()] | flag : flags[r.slot()] & ~flag);
+	}
+
 	// ==================== MISSING METHODS (FOR COMPATIBILITY) ====================
 
 	/**
@@ -501,7 +515,8 @@ public class SentientEmotion extends EmotionInstance {
 	 */
 	public void setInitialExperience(int experience, int level) {
 		// Convertir experiencia en evolución
-		this.evolution = Math.min(MAX_STAT, (experience / 10));
+		setEvolution(experience / 10);
+		ref.tabla().dispatch();
 		CombatLogger.get().log(getNombre() + " ganó " + experience + " experiencia");
 	}
 
@@ -517,7 +532,7 @@ public class SentientEmotion extends EmotionInstance {
 
 	@Override
 	public String toString() {
-		return String.format("%s %s [%s] L:%d H:%d E:%d T:%d%s%s", getSimbolo(), getNombre(), personality.name(),
-				loyalty, hunger, evolution, age, isCorrupted ? " 💀" : "", isAscended ? " ✨" : "");
+		return String.format("%s %s [%s] L:%d H:%d E:%d T:%d%s%s", getSimbolo(), getNombre(), getPersonality().name(),
+				getLoyalty(), getHunger(), getEvolution(), getAge(), isCorrupted() ? " 💀" : "", isAscended() ? " ✨" : "");
 	}
 }
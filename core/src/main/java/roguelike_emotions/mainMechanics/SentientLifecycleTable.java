@@ -0,0 +1,278 @@
+package roguelike_emotions.mainMechanics;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import roguelike_emotions.characters.Player;
+import roguelike_emotions.mainMechanics.SentientEmotion.EmotionPersonality;
+import roguelike_emotions.utils.CombatLogger;
+
+/**
+ * Estado de ciclo de vida (edad, hambre, lealtad, evolución, personalidad y
+ * marcas de corrupción/ascensión) de las emociones sentientes de un jugador,
+ * en arrays paralelos densos.
+ *
+ * El tick de turno es una sola pasada sobre los arrays. Los cruces de umbral
+ * (evolución al 100, inanición) se detectan al cruzar y se emiten como eventos
+ * al terminar la pasada, en lugar de re-comprobarse en cada turno.
+ *
+ * Cada SentientEmotion apunta a su fila con un Ref inmutable. Una emoción que
+ * no está en ningún jugador vive en una tabla propia de una fila; tick()
+ * sincroniza la tabla con las emociones activas (adopta las nuevas y suelta
+ * las que ya no están), así que no hace falta engancharse a cada sitio que
+ * añade o quita emociones.
+ *
+ * Solo la modifica el hilo de lógica; la UI lee valores sueltos (como antes).
+ */
+public final class SentientLifecycleTable {
+
+	public enum Evento {
+		/** La evolución ha llegado a 100: se resuelve en corrupción, ascensión o reinicio. */
+		UMBRAL_EVOLUCION,
+		CORRUPCION,
+		ASCENSION,
+		EVOLUCION_FALLIDA,
+		/** El hambre ha cruzado HAMBRE_CRITICA (a partir de aquí pierde lealtad cada turno). */
+		INANICION
+	}
+
+	public interface Listener {
+		void onEvento(SentientEmotion emocion, Evento evento);
+	}
+
+	/** Fila de una emoción en una tabla. Inmutable: se sustituye al moverla. */
+	record Ref(SentientLifecycleTable tabla, int slot) {
+	}
+
+	static final int MAX_STAT = 100;
+	static final int HAMBRE_CRITICA = 90;
+	static final byte FLAG_CORRUPTA = 1;
+	static final byte FLAG_ASCENDIDA = 2;
+
+	private static final EmotionPersonality[] PERSONALIDADES = EmotionPersonality.values();
+
+	private static final int DRENAJE_PARASITO = 30;
+
+	// ==== FILAS ====
+
+	SentientEmotion[] owners;
+	int[] loyalty;
+	int[] hunger;
+	int[] evolution;
+	int[] age;
+	byte[] personality;
+	byte[] flags;
+	private int size;
+
+	// marcado para sync() sin conjuntos auxiliares
+	private int[] mark;
+	private int epoch;
+
+	// eventos pendientes de la pasada en curso
+	private SentientEmotion[] evOwner = new SentientEmotion[8];
+	private Evento[] evKind = new Evento[8];
+	private int evCount;
+	private boolean dispatching;
+
+	private final List<Listener> listeners = new CopyOnWriteArrayList<>();
+
+	public SentientLifecycleTable() {
+		this(4);
+	}
+
+	SentientLifecycleTable(int capacity) {
+		capacity = Math.max(1, capacity);
+		owners = new SentientEmotion[capacity];
+		loyalty = new int[capacity];
+		hunger = new int[capacity];
+		evolution = new int[capacity];
+		age = new int[capacity];
+		personality = new byte[capacity];
+		flags = new byte[capacity];
+		mark = new int[capacity];
+	}
+
+	// ==== API ====
+
+	public void addListener(Listener l) {
+		listeners.add(l);
+	}
+
+	public void removeListener(Listener l) {
+		listeners.remove(l);
+	}
+
+	public int size() {
+		return size;
+	}
+
+	/**
+	 * Tick de turno de todas las sentientes activas del jugador: edad, evolución,
+	 * hambre y drenaje de las parasíticas. Los eventos se disparan al final.
+	 */
+	public void tick(Player player) {
+		sync(player.getEmocionesActivas());
+
+		for (int i = 0; i < size; i++) {
+			stepAge(i);
+			stepHunger(i, PERSONALIDADES[personality[i]].hungerRate);
+
+			if (personality[i] == EmotionPersonality.PARASÍTICA.ordinal() && player.getHealth() > DRENAJE_PARASITO) {
+				player.takeDamage(DRENAJE_PARASITO);
+				CombatLogger.get().log(owners[i].getNombre() + " drena " + DRENAJE_PARASITO + " HP");
+			}
+		}
+
+		dispatch();
+	}
+
+	// ==== OPERACIONES POR FILA (también usadas por SentientEmotion) ====
+
+	void stepAge(int i) {
+		age[i]++;
+		// Evolución cada 3 turnos
+		if (age[i] % 3 == 0) {
+			int gain = (personality[i] == EmotionPersonality.VOLÁTIL.ordinal()) ? 4 : 2;
+			setEvolution(i, evolution[i] + gain);
+		}
+	}
+
+	void stepHunger(int i, int amount) {
+		int antes = hunger[i];
+		hunger[i] = Math.min(MAX_STAT, antes + amount);
+
+		// Penalización por hambre extrema (continua mientras dure)
+		if (hunger[i] >= HAMBRE_CRITICA) {
+			loyalty[i] = Math.max(0, loyalty[i] - 2);
+			if (antes < HAMBRE_CRITICA)
+				emit(owners[i], Evento.INANICION);
+		}
+	}
+
+	void setEvolution(int i, int value) {
+		int antes = evolution[i];
+		evolution[i] = Math.max(0, Math.min(MAX_STAT, value));
+		if (antes < MAX_STAT && evolution[i] >= MAX_STAT && flags[i] == 0)
+			emit(owners[i], Evento.UMBRAL_EVOLUCION);
+	}
+
+	// ==== FILAS: ALTA / BAJA ====
+
+	Ref add(SentientEmotion owner, int loy, int hun, int evo, int edad, EmotionPersonality p, byte fl) {
+		if (size == owners.length)
+			grow(size * 2);
+		int i = size++;
+		owners[i] = owner;
+		loyalty[i] = loy;
+		hunger[i] = hun;
+		evolution[i] = evo;
+		age[i] = edad;
+		personality[i] = (byte) p.ordinal();
+		flags[i] = fl;
+		return new Ref(this, i);
+	}
+
+	/** Mueve la fila de la emoción a esta tabla (copia sus valores). */
+	void adopt(SentientEmotion e) {
+		Ref r = e.ref();
+		SentientLifecycleTable t = r.tabla();
+		int s = r.slot();
+		Ref nuevo = add(e, t.loyalty[s], t.hunger[s], t.evolution[s], t.age[s], PERSONALIDADES[t.personality[s]],
+				t.flags[s]);
+		t.remove(s);
+		e.rebind(nuevo);
+	}
+
+	/** Quita la fila i (la última ocupa su hueco). */
+	private void remove(int i) {
+		int last = --size;
+		if (i != last) {
+			owners[i] = owners[last];
+			loyalty[i] = loyalty[last];
+			hunger[i] = hunger[last];
+			evolution[i] = evolution[last];
+			age[i] = age[last];
+			personality[i] = personality[last];
+			flags[i] = flags[last];
+			mark[i] = mark[last];
+			owners[i].rebind(new Ref(this, i));
+		}
+		owners[last] = null;
+	}
+
+	/** La emoción sale de esta tabla a una tabla propia de una fila. */
+	private void detach(int i) {
+		SentientEmotion e = owners[i];
+		SentientLifecycleTable solo = new SentientLifecycleTable(1);
+		Ref r = solo.add(e, loyalty[i], hunger[i], evolution[i], age[i], PERSONALIDADES[personality[i]], flags[i]);
+		remove(i);
+		e.rebind(r);
+	}
+
+	/** Deja en la tabla exactamente las sentientes de 'activas'. */
+	void sync(List<EmotionInstance> activas) {
+		if (++epoch == Integer.MAX_VALUE) {
+			Arrays.fill(mark, 0);
+			epoch = 1;
+		}
+		for (EmotionInstance e : activas) {
+			if (e instanceof SentientEmotion s) {
+				if (s.ref().tabla() != this)
+					adopt(s);
+				mark[s.ref().slot()] = epoch;
+			}
+		}
+		for (int i = size - 1; i >= 0; i--) {
+			if (mark[i] != epoch)
+				detach(i);
+		}
+	}
+
+	private void grow(int capacity) {
+		owners = Arrays.copyOf(owners, capacity);
+		loyalty = Arrays.copyOf(loyalty, capacity);
+		hunger = Arrays.copyOf(hunger, capacity);
+		evolution = Arrays.copyOf(evolution, capacity);
+		age = Arrays.copyOf(age, capacity);
+		personality = Arrays.copyOf(personality, capacity);
+		flags = Arrays.copyOf(flags, capacity);
+		mark = Arrays.copyOf(mark, capacity);
+	}
+
+	// ==== EVENTOS ====
+
+	void emit(SentientEmotion owner, Evento ev) {
+		if (evCount == evKind.length) {
+			evOwner = Arrays.copyOf(evOwner, evCount * 2);
+			evKind = Arrays.copyOf(evKind, evCount * 2);
+		}
+		evOwner[evCount] = owner;
+		evKind[evCount] = ev;
+		evCount++;
+	}
+
+	/**
+	 * Entrega los eventos pendientes: primero a la propia emoción (aplica la
+	 * corrupción/ascensión) y luego a los listeners. Los eventos que se emitan
+	 * mientras tanto se entregan en la misma llamada.
+	 */
+	void dispatch() {
+		if (dispatching)
+			return;
+		dispatching = true;
+		try {
+			for (int k = 0; k < evCount; k++) {
+				SentientEmotion e = evOwner[k];
+				Evento ev = evKind[k];
+				e.onLifecycleEvent(ev);
+				for (Listener l : listeners)
+					l.onEvento(e, ev);
+			}
+		} finally {
+			Arrays.fill(evOwner, 0, evCount, null);
+			evCount = 0;
+			dispatching = false;
+		}
+	}
+}
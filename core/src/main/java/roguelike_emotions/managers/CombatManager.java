@@ -4,8 +4,10 @@ import java.util.List;
 
 import roguelike_emotions.characters.Enemy;
 import roguelike_emotions.characters.Player;
+import roguelike_emotions.combat.EnemyPlanner;
 import roguelike_emotions.mainMechanics.EmotionInstance;
 import roguelike_emotions.utils.CombatLogger;
+import roguelike_emotions.vfx.BuffAppliedEvent;
 import roguelike_emotions.vfx.DamageEvent;
 import roguelike_emotions.vfx.HealEvent;
 import roguelike_emotions.vfx.TurnStepEvent;
@@ -17,12 +19,22 @@ import roguelike_emotions.vfx.VisBus;
 public class CombatManager {
 
 	private static final int PLAYER_VIEW_ID = 1;
+
+	// XP de emociones (AwakeningForecast modela el despertar con estas reglas)
+	public static final int XP_POR_TURNO = 5;
+	public static final int XP_DEFENDER = 3;
+	public static final int XP_USAR_EMOCION = 5;
 	private final CombatLogger logger;
+	private final EnemyPlanner planner = new EnemyPlanner();
 
 	public CombatManager() {
 		this.logger = CombatLogger.get();
 	}
 
+	public EnemyPlanner getPlanner() {
+		return planner;
+	}
+
 	// ==================== TURNO SIMPLE ====================
 	public CombatResult executeTurn(Player player, Enemy enemy, PlayerAction action) {
 		if (!validateCombatants(player, enemy)) {
@@ -40,7 +52,7 @@ public class CombatManager {
 
 		// FASE 3: Contraataque del enemigo
 		if (enemy.isAlive()) {
-			executeEnemyPhase(player, enemy, enemyViewId, summary);
+			executeEnemyPhase(player, enemy, List.of(enemy), enemyViewId, summary);
 		}
 
 		// 🆕 FASE 4: Experiencia post-turno
@@ -72,7 +84,7 @@ public class CombatManager {
 		// FASE 3: Target contraataca
 		if (target.isAlive()) {
 			VisBus.post(new TurnStepEvent(targetViewId, "ENEMY"));
-			executeEnemyPhase(player, target, targetViewId, summary);
+			executeEnemyPhase(player, target, enemies, targetViewId, summary);
 		}
 
 		// FASE 4: Resto de enemigos
@@ -83,7 +95,7 @@ public class CombatManager {
 
 			int viewId = computeEnemyViewId(enemy);
 			VisBus.post(new TurnStepEvent(viewId, "ENEMY"));
-			executeEnemyPhase(player, enemy, viewId, summary);
+			executeEnemyPhase(player, enemy, enemies, viewId, summary);
 
 			if (!player.isAlive()) {
 				break;
@@ -118,7 +130,7 @@ public class CombatManager {
 		case DEFEND:
 			player.defender(10);
 			// 🆕 Pequeña XP por defender
-			grantActionExperience(player, 3);
+			grantActionExperience(player, XP_DEFENDER);
 			break;
 
 		case USE_EMOTION:
@@ -142,7 +154,7 @@ public class CombatManager {
 				}
 
 				// 🆕 XP por usar emoción
-				grantActionExperience(player, 5);
+				grantActionExperience(player, XP_USAR_EMOCION);
 			} else {
 				logger.log("[Jugador] No tiene emociones activas");
 			}
@@ -171,10 +183,28 @@ public class CombatManager {
 		}
 	}
 
-	private void executeEnemyPhase(Player player, Enemy enemy, int enemyViewId, StringBuilder summary) {
+	private void executeEnemyPhase(Player player, Enemy enemy, List<Enemy> enemies, int enemyViewId,
+			StringBuilder summary) {
 		int playerHealthBefore = player.getHealth();
 
-		enemy.atacar(player);
+		EnemyPlanner.Decision decision = planner.decide(enemy, player, enemies);
+		switch (decision.action()) {
+		case ATACAR -> enemy.ataqueBasico(player);
+		case ATACAR_Y_ACTIVA -> enemy.atacar(player);
+		case REFORZAR_ALIADO -> {
+			Enemy ally = enemies.get(decision.allyIndex());
+			int allyViewId = computeEnemyViewId(ally);
+			int healed = enemy.reforzarAliado(ally);
+			if (healed > 0) {
+				VisBus.post(new HealEvent(enemyViewId, allyViewId, healed, "HEAL"));
+			}
+			VisBus.post(new BuffAppliedEvent(allyViewId, "defenseBoost", 1, 2));
+		}
+		case GUARDIA -> {
+			enemy.ponerseEnGuardia();
+			VisBus.post(new BuffAppliedEvent(enemyViewId, "defenseBoost", 1, 1));
+		}
+		}
 
 		int damage = playerHealthBefore - player.getHealth();
 		if (damage > 0) {
@@ -189,7 +219,7 @@ public class CombatManager {
 	 */
 	private void grantTurnExperience(Player player, Enemy enemy) {
 		for (EmotionInstance emotion : player.getEmocionesActivas()) {
-			emotion.gainExperience(5); // XP base por turno
+			emotion.gainExperience(XP_POR_TURNO); // XP base por turno
 		}
 	}
 
@@ -197,13 +227,17 @@ public class CombatManager {
 	 * 🆕 Otorga XP por daño causado
 	 */
 	public void grantDamageExperience(Player player, int damage) {
-		int expGain = Math.min(15, damage / 2);
+		int expGain = xpPorDanyo(damage);
 
 		for (EmotionInstance emotion : player.getEmocionesActivas()) {
 			emotion.gainExperience(expGain);
 		}
 	}
 
+	public static int xpPorDanyo(int damage) {
+		return Math.min(15, damage / 2);
+	}
+
 	/**
 	 * 🆕 Otorga XP por curación
 	 */
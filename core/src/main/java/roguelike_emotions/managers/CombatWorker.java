@@ -0,0 +1,47 @@
+package roguelike_emotions.managers;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import com.badlogic.gdx.Gdx;
+
+/**
+ * Hilo de lógica de combate. Ejecuta las rondas fuera del hilo GL, de una en
+ * una y en orden, para que un executeRound largo no bloquee frames. Los
+ * resultados salen por VisBus (eventos) y por la WorldSnapshot publicada.
+ */
+final class CombatWorker {
+
+	private final ExecutorService executor = Executors
+			.newSingleThreadExecutor(r -> Thread.ofPlatform().name("combat-logic").daemon(true).unstarted(r));
+	private final AtomicBoolean busy = new AtomicBoolean(false);
+
+	/**
+	 * Encola una ronda. Devuelve false si ya hay una en curso (la UI no debe
+	 * apilar rondas).
+	 */
+	boolean submit(Runnable round) {
+		if (!busy.compareAndSet(false, true))
+			return false;
+
+		executor.execute(() -> {
+			try {
+				round.run();
+			} catch (Throwable t) {
+				Gdx.app.error("CombatWorker", "error en la ronda", t);
+			} finally {
+				busy.set(false);
+			}
+		});
+		return true;
+	}
+
+	boolean isBusy() {
+		return busy.get();
+	}
+
+	void shutdown() {
+		executor.shutdownNow();
+	}
+}
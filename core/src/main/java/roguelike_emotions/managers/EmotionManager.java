@@ -0,0 +1,84 @@
+package roguelike_emotions.managers;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import roguelike_emotions.mainMechanics.EmotionCodex;
+import roguelike_emotions.mainMechanics.EmotionDominanceMatrix;
+import roguelike_emotions.mainMechanics.EmotionInstance;
+import roguelike_emotions.mainMechanics.EmotionInstanceFactory;
+import roguelike_emotions.utils.EmotionCombiner;
+
+/**
+ * Gestor especializado en emociones (lo usan GameManager y RunSnapshot)
+ */
+class EmotionManager {
+	private final EmotionCodex codex;
+	private final List<EmotionInstance> baseEmotions;
+	private final EmotionInstanceFactory factory;
+	private final EmotionDominanceMatrix dominanceMatrix;
+
+	public EmotionManager(GameState gameState) {
+		this.dominanceMatrix = gameState.getDominanceMatrix();
+		this.codex = new EmotionCodex(dominanceMatrix);
+		this.baseEmotions = new ArrayList<>();
+		this.factory = gameState.getEmotionFactory();
+	}
+
+	public void generateInitialEmotions(int count) {
+		baseEmotions.clear();
+		for (int i = 0; i < count; i++) {
+			baseEmotions.add(factory.generarProcedural());
+		}
+	}
+
+	public EmotionInstance generateEmotion() {
+		EmotionInstance newEmotion = factory.generarProcedural();
+		baseEmotions.add(newEmotion);
+		return newEmotion;
+	}
+
+	public EmotionInstance fuse(EmotionInstance e1, EmotionInstance e2) {
+		EmotionInstance fusion = EmotionCombiner.combinar(e1, e2);
+		codex.registrar(fusion);
+		return fusion;
+	}
+
+	public EmotionInstance fuseMultiple(List<EmotionInstance> emotions) {
+		EmotionInstance fusion = EmotionCombiner.combinarMultiples(emotions);
+		codex.registrar(fusion);
+		return fusion;
+	}
+
+	public void reset() {
+		clearBaseEmotions();
+		codex.clear();
+		generateInitialEmotions(5);
+	}
+
+	public void clearBaseEmotions() {
+		baseEmotions.clear();
+	}
+
+	void restoreBaseEmotions(List<EmotionInstance> emotions) {
+		baseEmotions.clear();
+		baseEmotions.addAll(emotions);
+	}
+
+	public List<EmotionInstance> getBaseEmotions() {
+		return new ArrayList<>(baseEmotions);
+	}
+
+	public List<EmotionInstance> getCodexEntries() {
+		return codex.getEntries();
+	}
+
+	public EmotionCodex getCodex() {
+		return codex;
+	}
+
+	public EmotionDominanceMatrix getDominanceMatrix() {
+		return dominanceMatrix;
+	}
+
+}
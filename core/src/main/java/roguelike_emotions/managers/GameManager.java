@@ -1,8 +1,12 @@
 package roguelike_emotions.managers;
 
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.List;
-import java.util.Random;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
 
 import com.badlogic.gdx.Gdx;
 import com.badlogic.gdx.graphics.g2d.BitmapFont;
@@ -10,18 +14,30 @@ import com.badlogic.gdx.graphics.g2d.SpriteBatch;
 import com.badlogic.gdx.scenes.scene2d.Stage;
 import com.badlogic.gdx.scenes.scene2d.ui.Skin;
 
+import roguelike_emotions.cfg.ConfigBundle;
 import roguelike_emotions.characters.Enemy;
 import roguelike_emotions.characters.EnemyFactory;
 import roguelike_emotions.characters.Player;
+import roguelike_emotions.combat.EnemyPlanner;
+import roguelike_emotions.mainMechanics.EmotionCodec;
 import roguelike_emotions.mainMechanics.EmotionCodex;
 import roguelike_emotions.mainMechanics.EmotionDominanceMatrix;
 import roguelike_emotions.mainMechanics.EmotionInstance;
-import roguelike_emotions.mainMechanics.EmotionInstanceFactory;
 import roguelike_emotions.mainMechanics.EmotionNameGenerator;
+import roguelike_emotions.mainMechanics.FusionNegotiationHandler;
+import roguelike_emotions.mainMechanics.SentientEmotion;
 import roguelike_emotions.managers.CombatManager.CombatResult;
 import roguelike_emotions.managers.CombatManager.PlayerAction;
+import roguelike_emotions.save.RoundJournal;
+import roguelike_emotions.save.SnapshotFile;
+import roguelike_emotions.save.SnapshotFormatException;
+import roguelike_emotions.save.SnapshotReader;
+import roguelike_emotions.save.SnapshotWriter;
 import roguelike_emotions.ui.ElegantSkinFactory;
+import roguelike_emotions.ui.IconAtlas;
+import roguelike_emotions.utils.CombatLogger;
 import roguelike_emotions.utils.EmotionCombiner;
+import roguelike_emotions.utils.FusionRegistry;
 
 /**
  * Gestor principal del juego - Coordinador de subsistemas. Responsabilidad
@@ -29,12 +45,17 @@ import roguelike_emotions.utils.EmotionCombiner;
  */
 public class GameManager {
 
-	private static GameManager instance;
+	// volatile + doble comprobación: la piden el hilo GL y el pool de arranque
+	// (StartupPipeline). Solo se publica ya construida; mientras tanto, las
+	// llamadas que el propio constructor hace a getInstance() (mismo hilo, con
+	// el cerrojo) reciben 'enConstruccion'.
+	private static volatile GameManager instance;
+	private static GameManager enConstruccion;
 
 	// Subsistemas especializados
 	private final EmotionManager emotionManager;
 	private final CombatManager combatManager;
-	private final VisualManager visualManager;
+	private VisualManager visualManager;
 	private final WaveManager waveManager;
 	private EmotionInstance lastVictoryReward;
 
@@ -45,22 +66,50 @@ public class GameManager {
 	// Estado del juego
 	private final GameState gameState;
 
+	// Hilo de lógica + foto inmutable para el render
+	private final CombatWorker combatWorker = new CombatWorker();
+	private final AtomicReference<WorldSnapshot> snapshot = new AtomicReference<>(WorldSnapshot.EMPTY);
+	private final AtomicLong snapshotVersion = new AtomicLong();
+
+	// Autoguardado tras cada ronda (checkpoint + diario); el buffer se reutiliza
+	private final SnapshotWriter saveBuffer = new SnapshotWriter(16 * 1024);
+	private volatile boolean autosaveEnabled = true;
+	private RoundJournal journal;
+	private int roundCounter;
+
+	// Repetición: grabación de la partida en curso y, si la hay, la que se reproduce
+	private final SnapshotWriter hashBuffer = new SnapshotWriter(4 * 1024);
+	private final List<EnemyPlanner.Decision> roundDecisions = new ArrayList<>();
+	private ReplayLog recording;
+	private ReplayLog.Fight recordingFight;
+	private volatile Replayer replay;
+
 	private GameManager() {
-		instance = this;
+		enConstruccion = this;
 		this.gameState = new GameState();
 		this.emotionManager = new EmotionManager(gameState);
 		this.combatManager = new CombatManager();
 		this.waveManager = new WaveManager(gameState);
-
-		this.visualManager = new VisualManager();
+		combatManager.getPlanner().setRecorder(roundDecisions::add);
 		initialize();
 	}
 
 	public static GameManager getInstance() {
-		if (instance == null) {
-			instance = new GameManager();
+		GameManager gm = instance;
+		if (gm != null)
+			return gm;
+		synchronized (GameManager.class) {
+			if (instance == null) {
+				if (enConstruccion != null)
+					return enConstruccion;
+				try {
+					instance = new GameManager();
+				} finally {
+					enConstruccion = null;
+				}
+			}
+			return instance;
 		}
-		return instance;
 	}
 
 	/**
@@ -69,7 +118,9 @@ public class GameManager {
 	public void reset() {
 		gameState.reset();
 		emotionManager.reset();
-		waveManager.createWave(1 + new Random().nextInt(3));
+		startRecording();
+		startWave(1 + gameState.getRng().nextInt(3));
+		publishSnapshot();
 	}
 
 	/**
@@ -81,14 +132,17 @@ public class GameManager {
 		gameState.getPlayer().resetCombatState();
 
 		// Nueva oleada
-		waveManager.createWave(1 + new Random().nextInt(1));
+		startWave(1 + gameState.getRng().nextInt(1));
+		publishSnapshot();
 	}
 
 	private void initialize() {
 		gameState.getPlayer().resetState();
 		EmotionNameGenerator.resetTracking();
-		waveManager.createWave(1 + new Random().nextInt(1));
+		startRecording();
+		startWave(1 + gameState.getRng().nextInt(1));
 		emotionManager.generateInitialEmotions(1);
+		publishSnapshot();
 	}
 
 	// ========== Delegación a Emotion Manager ==========
@@ -112,6 +166,38 @@ public class GameManager {
 		return emotionManager.fuseMultiple(emotions);
 	}
 
+	/**
+	 * Fusión confirmada en el códice: quita las dos emociones al jugador, añade
+	 * la fusión y la registra. Los sacrificios y el coste en vida ya están
+	 * pagados; se pasan para grabarlos en la repetición.
+	 */
+	public EmotionInstance fuseActiveEmotions(EmotionInstance a, EmotionInstance b, List<EmotionInstance> sacrificed,
+			int hpCost) {
+		long rngBefore = gameState.getRng().getState();
+		EmotionInstance fusion = applyFusion(a, b);
+		if (replay == null && recordingFight != null) {
+			List<String> ids = new ArrayList<>(sacrificed.size());
+			for (EmotionInstance e : sacrificed)
+				ids.add(e.getId());
+			SnapshotWriter w = new SnapshotWriter(512);
+			EmotionCodec.write(w, fusion);
+			record(ReplayLog.Input.fusion(rngBefore, stateHash(), a.getId(), b.getId(), ids, hpCost,
+					w.toByteArray()));
+		}
+		publishSnapshot();
+		return fusion;
+	}
+
+	private EmotionInstance applyFusion(EmotionInstance a, EmotionInstance b) {
+		Player p = gameState.getPlayer();
+		p.removeEmocion(a);
+		p.removeEmocion(b);
+		EmotionInstance fusion = EmotionCombiner.combinar(a, b);
+		p.añadirEmocion(fusion);
+		emotionManager.getCodex().registrar(fusion);
+		return fusion;
+	}
+
 	public EmotionDominanceMatrix getDominanceMatrix() {
 		return emotionManager.getDominanceMatrix();
 	}
@@ -121,170 +207,361 @@ public class GameManager {
 	}
 
 	// ========== Delegación a Combat Manager ==========
+
+	/** Nivel de la IA enemiga (profundidad y presupuesto del EnemyPlanner). */
+	public void setAiDifficulty(EnemyPlanner.Difficulty difficulty) {
+		combatManager.getPlanner().setDifficulty(difficulty);
+	}
+
+	public EnemyPlanner.Difficulty getAiDifficulty() {
+		return combatManager.getPlanner().getDifficulty();
+	}
+
 	public CombatResult executeCombatRound(Player player, List<Enemy> enemies, String actionLabel, Enemy target) {
-		return combatManager.executeRound(player, enemies, PlayerAction.fromString(actionLabel), target);
+		// configuración recargada en caliente: entre rondas, nunca a mitad de una
+		// (no en repeticiones: se grabaron con la configuración de entonces)
+		if (replay == null && ConfigBundle.applyPending())
+			CombatLogger.get().log("[Config] Configuración recargada");
+		PlayerAction action = PlayerAction.fromString(actionLabel);
+		int targetIndex = (target != null) ? enemies.indexOf(target) : -1;
+		long rngBefore = gameState.getRng().getState();
+		roundDecisions.clear();
+		CombatResult result = combatManager.executeRound(player, enemies, action, target);
+		publishSnapshot();
+		if (replay == null) {
+			if (recordingFight != null)
+				record(ReplayLog.Input.round(rngBefore, stateHash(), action, targetIndex, List.copyOf(roundDecisions)));
+			if (autosaveEnabled)
+				autosave(action, targetIndex);
+		}
+		return result;
 	}
 
-	// ========== Delegación a Wave Manager ==========
+	/**
+	 * Igual que executeCombatRound pero en el hilo de lógica: vuelve enseguida y
+	 * los resultados llegan por VisBus y por la siguiente WorldSnapshot. Devuelve
+	 * false si ya hay una ronda en curso.
+	 */
+	public boolean submitCombatRound(Player player, List<Enemy> enemies, String actionLabel, Enemy target) {
+		return combatWorker.submit(() -> executeCombatRound(player, enemies, actionLabel, target));
+	}
 
-	public List<Enemy> createWave(int enemyCount) {
-		return waveManager.createWave(enemyCount);
+	/** true mientras el hilo de lógica esté resolviendo una ronda. */
+	public boolean isRoundInProgress() {
+		return combatWorker.isBusy();
 	}
 
-	public List<Enemy> getEnemies() {
-		return waveManager.getEnemies();
+	// ========== Snapshots para el render ==========
+
+	/** Última foto publicada; lectura sin bloqueo desde el hilo GL. */
+	public WorldSnapshot getSnapshot() {
+		return snapshot.get();
 	}
 
-	// ========== Delegación a Visual Manager ==========
+	/**
+	 * Captura y publica el estado actual. Llamar desde el hilo que está mutando
+	 * el estado (lógica), o desde GL cuando no hay ronda en curso.
+	 */
+	public void publishSnapshot() {
+		snapshot.set(WorldSnapshot.capture(snapshotVersion.incrementAndGet(), gameState.getPlayer(),
+				waveManager.getEnemies()));
+	}
 
-	public BitmapFont getFont() {
-		return visualManager.getFont();
+	// ========== Guardado de partida ==========
+
+	/** Activa o desactiva el autoguardado al final de cada ronda (y el de la repetición). */
+	public void setAutosaveEnabled(boolean enabled) {
+		this.autosaveEnabled = enabled;
 	}
 
-	public SpriteBatch getBatch() {
-		return visualManager.getBatch();
+	/**
+	 * Guarda la partida en 'path' (escritura a .tmp + renombrado atómico). Llamar
+	 * desde el hilo de lógica o sin ronda en curso.
+	 */
+	public void saveRun(Path path) throws IOException {
+		synchronized (saveBuffer) {
+			RunSnapshot.write(saveBuffer.reset(), gameState, emotionManager, lastVictoryReward);
+			if (journal != null && path.equals(journal.checkpointPath())) {
+				// el checkpoint del autoguardado: vaciar también el diario
+				journal.checkpoint(saveBuffer);
+			} else {
+				SnapshotFile.write(path, saveBuffer, false);
+			}
+		}
 	}
 
-	public Skin getSkin() {
-		return visualManager.getSkin();
+	/**
+	 * Carga una partida guardada con saveRun. Si el fichero no es válido lanza
+	 * IOException y la partida actual no cambia. La oleada no está en el
+	 * snapshot: se genera una nueva. Devuelve false si hay una ronda en curso.
+	 */
+	public boolean loadRun(Path path) throws IOException {
+		if (isRoundInProgress())
+			return false;
+		return load(SnapshotFile.read(path));
 	}
 
-	public Stage getStage() {
-		return visualManager.getStage();
+	private boolean load(SnapshotReader reader) throws IOException {
+		lastVictoryReward = RunSnapshot.read(reader, gameState, emotionManager);
+		startRecording();
+		startWave(1 + gameState.getRng().nextInt(1));
+		publishSnapshot();
+		return true;
 	}
 
-	// ========== Acceso al estado del juego ==========
+	/** true si existe un autoguardado en la ruta por defecto. */
+	public boolean hasAutosave() {
+		return Files.isRegularFile(SnapshotFile.autosavePath());
+	}
 
-	public Player getPlayer() {
-		return gameState.getPlayer();
+	/** Carga el autoguardado: último checkpoint + las rondas del diario. */
+	public boolean loadAutosave() throws IOException {
+		if (isRoundInProgress())
+			return false;
+		return load(RoundJournal.recover(SnapshotFile.autosavePath(), SnapshotFile.journalPath()));
 	}
 
-	public EmotionInstance grantVictoryEmotionReward() {
+	/**
+	 * Registra la ronda en el diario. Solo los bytes del snapshot que cambian
+	 * van al disco, pero el snapshot se codifica y compara entero cada ronda
+	 * (O(estado) en CPU); cada RoundJournal.CHECKPOINT_CADA rondas se reescribe
+	 * el checkpoint completo.
+	 */
+	private void autosave(PlayerAction action, int targetIndex) {
+		synchronized (saveBuffer) {
+			try {
+				if (journal == null)
+					journal = new RoundJournal(SnapshotFile.autosavePath(), SnapshotFile.journalPath(), 256 * 1024);
+				RunSnapshot.write(saveBuffer.reset(), gameState, emotionManager, lastVictoryReward);
+				journal.append(saveBuffer, ++roundCounter, action.ordinal(), targetIndex);
+			} catch (IOException e) {
+				System.err.println("[GameManager] Autoguardado fallido: " + e.getMessage());
+			}
+		}
+	}
 
-		Player p = this.gameState.getPlayer();
-		EmotionInstance reward = emotionManager.generateEmotion();
+	// ========== Repeticiones ==========
 
-		// Añadir al jugador (acumula)
-		p.añadirEmocion(reward);
+	/** Repetición de la partida en curso (un keyframe por combate + entradas). */
+	public ReplayLog getRecording() {
+		return recording;
+	}
 
-		// Registrar en el códice (architecture-friendly)
-		emotionManager.getCodex().registrar(reward);
-		this.lastVictoryReward = reward;
-		return reward;
+	/** Guarda la repetición de la partida en curso. */
+	public void saveReplay(Path path) throws IOException {
+		synchronized (hashBuffer) {
+			recording.write(path);
+		}
 	}
 
-}
-// ============================================================
-// CLASES AUXILIARES
-// ============================================================
+	/**
+	 * Empieza a reproducir 'log' en esta partida: mientras dure no se graba ni
+	 * se autoguarda. Devuelve null si hay una ronda en curso. El llamante
+	 * carga el primer combate con Replayer.nextFight().
+	 */
+	public Replayer startReplay(ReplayLog log) {
+		if (isRoundInProgress())
+			return null;
+		Replayer r = new Replayer(this, log);
+		replay = r;
+		return r;
+	}
 
+	/** Repetición en curso, o null. */
+	public Replayer getReplay() {
+		return replay;
+	}
 
-/**
- * Encapsula el estado global del juego
- */
-class GameState {
-	private final Player player;
-	private final EmotionInstanceFactory emotionFactory;
-	private final EmotionDominanceMatrix dominanceMatrix;
+	/** Termina la repetición; se vuelve a grabar desde el siguiente combate. */
+	public void stopReplay() {
+		replay = null;
+		startRecording();
+		combatManager.getPlanner().script(List.of());
+	}
 
-	public GameState() {
-		this.player = new Player();
-		this.dominanceMatrix = new EmotionDominanceMatrix();
-		this.emotionFactory = new EmotionInstanceFactory();
+	/** Hash del estado de combate (StateHash); el de cada entrada de la repetición. */
+	long stateHash() {
+		synchronized (hashBuffer) {
+			return StateHash.of(gameState.getPlayer(), waveManager.getEnemies(), gameState.getRng(), hashBuffer);
+		}
+	}
 
-		// Configuración de dependencias estáticas (mejorable con DI)
-		EmotionCombiner.setDominanceMatrix(dominanceMatrix);
-		Enemy.setDominanceMatrix(dominanceMatrix);
+	/** Estado al empezar el combate: keyframe + la misma oleada. */
+	void applyKeyframe(ReplayLog.Fight fight) throws IOException {
+		gameState.getPlayer().resetCombatState();
+		lastVictoryReward = RunSnapshot.read(SnapshotReader.of(fight.keyframe()), gameState, emotionManager);
+		waveManager.createWave(fight.waveSize());
+		publishSnapshot();
+	}
 
+	/** Repite una ronda grabada en el hilo actual. */
+	CombatResult replayRound(ReplayLog.Input in) {
+		List<Enemy> enemies = waveManager.getEnemies();
+		Enemy target = (in.target() >= 0 && in.target() < enemies.size()) ? enemies.get(in.target()) : null;
+		gameState.getRng().setState(in.rngBefore());
+		combatManager.getPlanner().script(in.decisions());
+		return executeCombatRound(gameState.getPlayer(), enemies, in.action().name(), target);
 	}
 
-	public void reset() {
-		player.resetState();
-		dominanceMatrix.reset();
-		EmotionNameGenerator.resetTracking();
+	/** Igual que replayRound pero en el hilo de lógica; 'after' corre allí al terminar. */
+	boolean submitReplayRound(ReplayLog.Input in, Runnable after) {
+		return combatWorker.submit(() -> {
+			replayRound(in);
+			after.run();
+		});
 	}
 
-	public Player getPlayer() {
-		return player;
+	void replayReward(ReplayLog.Input in) {
+		gameState.getRng().setState(in.rngBefore());
+		grantVictoryEmotionReward();
 	}
 
-	public EmotionInstanceFactory getEmotionFactory() {
-		return emotionFactory;
+	/**
+	 * Repite una fusión: paga los sacrificios y la vida como el códice y
+	 * registra la fusión grabada para que EmotionCombiner la devuelva tal cual.
+	 */
+	void replayFusion(ReplayLog.Input in) throws IOException {
+		Player p = gameState.getPlayer();
+		EmotionInstance a = findActive(in.idA());
+		EmotionInstance b = findActive(in.idB());
+		if (a == null || b == null)
+			throw new SnapshotFormatException("Fusión con emociones que el jugador no tiene");
+
+		FusionNegotiationHandler costs = new FusionNegotiationHandler(p);
+		if (!in.sacrificed().isEmpty()) {
+			List<EmotionInstance> sacrificed = new ArrayList<>();
+			for (String id : in.sacrificed()) {
+				EmotionInstance e = findActive(id);
+				if (e != null)
+					sacrificed.add(e);
+			}
+			costs.sacrificeEmotions(sacrificed.toArray(new EmotionInstance[0]),
+					a instanceof SentientEmotion sa ? sa : null, b instanceof SentientEmotion sb ? sb : null);
+		}
+		if (in.hpCost() > 0)
+			costs.payCosts(in.hpCost(), 0);
+
+		gameState.getRng().setState(in.rngBefore());
+		FusionRegistry.registrarFusion(a.getId(), b.getId(), EmotionCodec.read(SnapshotReader.of(in.fusion())));
+		applyFusion(a, b);
+		publishSnapshot();
 	}
 
-	public EmotionDominanceMatrix getDominanceMatrix() {
-		return dominanceMatrix;
+	private EmotionInstance findActive(String id) {
+		for (EmotionInstance e : gameState.getPlayer().getEmocionesActivas())
+			if (e.getId().equals(id))
+				return e;
+		return null;
 	}
-}
 
-/**
- * Gestor especializado en emociones
- */
-class EmotionManager {
-	private final EmotionCodex codex;
-	private final List<EmotionInstance> baseEmotions;
-	private final EmotionInstanceFactory factory;
-	private final EmotionDominanceMatrix dominanceMatrix;
-
-	public EmotionManager(GameState gameState) {
-		this.dominanceMatrix = gameState.getDominanceMatrix();
-		this.codex = new EmotionCodex(dominanceMatrix);
-		this.baseEmotions = new ArrayList<>();
-		this.factory = gameState.getEmotionFactory();
-	}
-
-	public void generateInitialEmotions(int count) {
-		baseEmotions.clear();
-		for (int i = 0; i < count; i++) {
-			baseEmotions.add(factory.generarProcedural());
+	/** Nueva grabación (partida nueva o cargada). */
+	private void startRecording() {
+		if (replay != null)
+			return;
+		synchronized (hashBuffer) {
+			recording = new ReplayLog(gameState.getRng().getState());
+			recordingFight = null;
 		}
 	}
 
-	public EmotionInstance generateEmotion() {
-		EmotionInstance newEmotion = factory.generarProcedural();
-		baseEmotions.add(newEmotion);
-		return newEmotion;
+	/**
+	 * Genera la oleada del siguiente combate. Antes graba el keyframe (snapshot
+	 * con el tamaño de oleada ya tirado) y guarda la repetición en disco.
+	 */
+	private void startWave(int waveSize) {
+		if (replay == null && recording != null) {
+			byte[] keyframe;
+			synchronized (saveBuffer) {
+				RunSnapshot.write(saveBuffer.reset(), gameState, emotionManager, lastVictoryReward);
+				keyframe = saveBuffer.toByteArray();
+			}
+			synchronized (hashBuffer) {
+				recordingFight = recording.addFight(keyframe, waveSize);
+			}
+			if (autosaveEnabled) {
+				try {
+					saveReplay(SnapshotFile.replayPath());
+				} catch (IOException e) {
+					System.err.println("[GameManager] No se pudo guardar la repetición: " + e.getMessage());
+				}
+			}
+		}
+		waveManager.createWave(waveSize);
 	}
 
-	public EmotionInstance fuse(EmotionInstance e1, EmotionInstance e2) {
-		EmotionInstance fusion = EmotionCombiner.combinar(e1, e2);
-		codex.registrar(fusion);
-		return fusion;
+	private void record(ReplayLog.Input in) {
+		synchronized (hashBuffer) {
+			if (recordingFight != null)
+				recordingFight.inputs().add(in);
+		}
 	}
 
-	public EmotionInstance fuseMultiple(List<EmotionInstance> emotions) {
-		EmotionInstance fusion = EmotionCombiner.combinarMultiples(emotions);
-		codex.registrar(fusion);
-		return fusion;
+	// ========== Delegación a Wave Manager ==========
+
+	public List<Enemy> createWave(int enemyCount) {
+		startWave(enemyCount);
+		publishSnapshot();
+		return waveManager.getEnemies();
 	}
 
-	public void reset() {
-		clearBaseEmotions();
-		codex.clear();
-		generateInitialEmotions(5);
+	public List<Enemy> getEnemies() {
+		return waveManager.getEnemies();
+	}
+
+	// ========== Delegación a Visual Manager ==========
+
+	public BitmapFont getFont() {
+		return visuals().getFont();
 	}
 
-	public void clearBaseEmotions() {
-		baseEmotions.clear();
+	public SpriteBatch getBatch() {
+		return visuals().getBatch();
 	}
 
-	public List<EmotionInstance> getBaseEmotions() {
-		return new ArrayList<>(baseEmotions);
+	public Skin getSkin() {
+		return visuals().getSkin();
 	}
 
-	public List<EmotionInstance> getCodexEntries() {
-		return codex.getEntries();
+	public Stage getStage() {
+		return visuals().getStage();
 	}
 
-	public EmotionCodex getCodex() {
-		return codex;
+	/** Se crea al primer uso: necesita contexto GL y las repeticiones sin ventana no lo tienen. */
+	private VisualManager visuals() {
+		if (visualManager == null)
+			visualManager = new VisualManager();
+		return visualManager;
 	}
 
-	public EmotionDominanceMatrix getDominanceMatrix() {
-		return dominanceMatrix;
+	// ========== Acceso al estado del juego ==========
+
+	public Player getPlayer() {
+		return gameState.getPlayer();
+	}
+
+	public EmotionInstance grantVictoryEmotionReward() {
+
+		Player p = this.gameState.getPlayer();
+		long rngBefore = gameState.getRng().getState();
+		EmotionInstance reward = emotionManager.generateEmotion();
+
+		// Añadir al jugador (acumula)
+		p.añadirEmocion(reward);
+
+		// Registrar en el códice (architecture-friendly)
+		emotionManager.getCodex().registrar(reward);
+		this.lastVictoryReward = reward;
+		if (replay == null && recordingFight != null)
+			record(ReplayLog.Input.reward(rngBefore, stateHash()));
+		publishSnapshot();
+		return reward;
 	}
 
 }
+// ============================================================
+// CLASES AUXILIARES
+// ============================================================
+
 
 /**
  * Gestor especializado en oleadas de enemigos
@@ -331,8 +608,8 @@ class VisualManager {
 		// Un solo batch global
 		this.batch = new SpriteBatch();
 
-		// Por ahora: font por defecto (tú vas a cambiarlo a FreeType luego)
-		this.font = new BitmapFont();
+		// Fuente por defecto del atlas compartido (no se libera aquí)
+		this.font = IconAtlas.defaultFont();
 
 		// Skin UI
 		try {
@@ -364,7 +641,6 @@ class VisualManager {
 
 	public void dispose() {
 		batch.dispose();
-		font.dispose();
 		skin.dispose();
 		stage.dispose();
 	}
@@ -0,0 +1,54 @@
+package roguelike_emotions.managers;
+
+import roguelike_emotions.characters.Enemy;
+import roguelike_emotions.characters.Player;
+import roguelike_emotions.mainMechanics.EmotionDominanceMatrix;
+import roguelike_emotions.mainMechanics.EmotionInstanceFactory;
+import roguelike_emotions.mainMechanics.EmotionNameGenerator;
+import roguelike_emotions.utils.EmotionCombiner;
+import roguelike_emotions.utils.GameRng;
+import roguelike_emotions.utils.RunRandom;
+
+/**
+ * Encapsula el estado global del juego (lo usan GameManager y RunSnapshot)
+ */
+class GameState {
+	private final Player player;
+	private final EmotionInstanceFactory emotionFactory;
+	private final EmotionDominanceMatrix dominanceMatrix;
+	private final GameRng rng = RunRandom.get();
+
+	public GameState() {
+		this.player = new Player();
+		this.dominanceMatrix = new EmotionDominanceMatrix();
+		this.emotionFactory = new EmotionInstanceFactory();
+
+		// Configuración de dependencias estáticas (mejorable con DI)
+		EmotionCombiner.setDominanceMatrix(dominanceMatrix);
+		Enemy.setDominanceMatrix(dominanceMatrix);
+
+	}
+
+	public void reset() {
+		player.resetState();
+		dominanceMatrix.reset();
+		EmotionNameGenerator.resetTracking();
+	}
+
+	public Player getPlayer() {
+		return player;
+	}
+
+	public EmotionInstanceFactory getEmotionFactory() {
+		return emotionFactory;
+	}
+
+	public EmotionDominanceMatrix getDominanceMatrix() {
+		return dominanceMatrix;
+	}
+
+	/** RNG de la partida (el compartido de RunRandom); su estado va en el snapshot. */
+	public GameRng getRng() {
+		return rng;
+	}
+}
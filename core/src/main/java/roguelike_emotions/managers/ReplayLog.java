@@ -0,0 +1,218 @@
+package roguelike_emotions.managers;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import roguelike_emotions.combat.EnemyAction;
+import roguelike_emotions.combat.EnemyPlanner;
+import roguelike_emotions.managers.CombatManager.PlayerAction;
+import roguelike_emotions.save.SnapshotFile;
+import roguelike_emotions.save.SnapshotFormatException;
+import roguelike_emotions.save.SnapshotReader;
+import roguelike_emotions.save.SnapshotWriter;
+
+/**
+ * Repetición de una partida: semilla + un keyframe por combate + las entradas
+ * del jugador.
+ *
+ * Cada combate empieza en un keyframe (el snapshot de partida justo antes de
+ * generar la oleada), así que una repetición se puede empezar por cualquier
+ * combate y un error en uno no arrastra a los siguientes. Dentro del combate
+ * se guardan solo las entradas: rondas (acción y objetivo), recompensas y
+ * fusiones elegidas en el códice.
+ *
+ * Cada entrada lleva el estado del RNG justo antes de aplicarse. Entre dos
+ * entradas la interfaz también tira dados (vista previa de fusiones,
+ * negociación de las sentientes), y esas tiradas no se repiten; al fijar el
+ * estado en cada entrada no hace falta reproducirlas. Cada entrada lleva
+ * también el hash del estado tras aplicarla (StateHash) para detectar en qué
+ * punto diverge una repetición.
+ *
+ * <pre>
+ * int magic "RPLY" | int version | long semilla | int combates
+ * combate: bytes keyframe | int oleada | int entradas | entrada*
+ * entrada: byte tipo | long rng antes | long hash después
+ *   ROUND:  byte acción | byte objetivo | int decisiones | (byte acción, int aliado, double score)*
+ *   FUSION: string idA | string idB | int sacrificios | string id* | int coste hp | bytes emoción
+ *   REWARD: -
+ * </pre>
+ *
+ * Las decisiones del EnemyPlanner se graban porque dependen de su presupuesto
+ * de tiempo (otra máquina podría decidir otra cosa). La fusión resultante
+ * también: la vista previa del códice la genera y registra antes de confirmar.
+ *
+ * Se guarda en el contenedor de SnapshotFile (cabecera, CRC y renombrado
+ * atómico).
+ */
+public final class ReplayLog {
+
+	public static final int MAGIC = 0x594C5052; // "RPLY" en little-endian
+	public static final int VERSION = 1;
+
+	private static final PlayerAction[] ACCIONES = PlayerAction.values();
+	private static final EnemyAction[] ACCIONES_ENEMIGAS = EnemyAction.values();
+	private static final Kind[] TIPOS = Kind.values();
+
+	public enum Kind {
+		ROUND, FUSION, REWARD
+	}
+
+	/** Un combate: keyframe, tamaño de oleada y entradas en orden. */
+	public record Fight(byte[] keyframe, int waveSize, List<Input> inputs) {
+	}
+
+	/**
+	 * Una entrada. Los campos que no usa su tipo van vacíos (-1, null o lista
+	 * vacía).
+	 */
+	public record Input(Kind kind, long rngBefore, long hashAfter, PlayerAction action, int target,
+			List<EnemyPlanner.Decision> decisions, String idA, String idB, List<String> sacrificed, int hpCost,
+			byte[] fusion) {
+
+		static Input round(long rngBefore, long hashAfter, PlayerAction action, int target,
+				List<EnemyPlanner.Decision> decisions) {
+			return new Input(Kind.ROUND, rngBefore, hashAfter, action, target, decisions, null, null, List.of(), 0,
+					null);
+		}
+
+		static Input fusion(long rngBefore, long hashAfter, String idA, String idB, List<String> sacrificed,
+				int hpCost, byte[] fusion) {
+			return new Input(Kind.FUSION, rngBefore, hashAfter, null, -1, List.of(), idA, idB, sacrificed, hpCost,
+					fusion);
+		}
+
+		static Input reward(long rngBefore, long hashAfter) {
+			return new Input(Kind.REWARD, rngBefore, hashAfter, null, -1, List.of(), null, null, List.of(), 0, null);
+		}
+	}
+
+	private final long seed;
+	private final List<Fight> fights = new ArrayList<>();
+
+	public ReplayLog(long seed) {
+		this.seed = seed;
+	}
+
+	public long getSeed() {
+		return seed;
+	}
+
+	public List<Fight> getFights() {
+		return fights;
+	}
+
+	public int getRoundCount() {
+		int n = 0;
+		for (Fight f : fights)
+			for (Input in : f.inputs())
+				if (in.kind() == Kind.ROUND)
+					n++;
+		return n;
+	}
+
+	Fight addFight(byte[] keyframe, int waveSize) {
+		Fight f = new Fight(keyframe, waveSize, new ArrayList<>());
+		fights.add(f);
+		return f;
+	}
+
+	// ==== ESCRITURA ====
+
+	public void write(Path path) throws IOException {
+		SnapshotWriter w = new SnapshotWriter(16 * 1024);
+		w.putInt(MAGIC);
+		w.putInt(VERSION);
+		w.putLong(seed);
+		w.putInt(fights.size());
+		for (Fight f : fights) {
+			w.putBytes(f.keyframe());
+			w.putInt(f.waveSize());
+			w.putInt(f.inputs().size());
+			for (Input in : f.inputs())
+				writeInput(w, in);
+		}
+		SnapshotFile.write(path, w, false);
+	}
+
+	private static void writeInput(SnapshotWriter w, Input in) {
+		w.putEnum(in.kind());
+		w.putLong(in.rngBefore());
+		w.putLong(in.hashAfter());
+		switch (in.kind()) {
+		case ROUND -> {
+			w.putEnum(in.action());
+			w.putByte(in.target());
+			w.putInt(in.decisions().size());
+			for (EnemyPlanner.Decision d : in.decisions()) {
+				w.putEnum(d.action());
+				w.putInt(d.allyIndex());
+				w.putDouble(d.score());
+			}
+		}
+		case FUSION -> {
+			w.putString(in.idA());
+			w.putString(in.idB());
+			w.putInt(in.sacrificed().size());
+			for (String id : in.sacrificed())
+				w.putString(id);
+			w.putInt(in.hpCost());
+			w.putBytes(in.fusion());
+		}
+		case REWARD -> {
+		}
+		}
+	}
+
+	// ==== LECTURA ====
+
+	public static ReplayLog read(Path path) throws IOException {
+		SnapshotReader r = SnapshotFile.read(path);
+		if (r.getInt() != MAGIC)
+			throw new SnapshotFormatException("No es una repetición: " + path);
+		int version = r.getInt();
+		if (version != VERSION)
+			throw new SnapshotFormatException("Versión de repetición no soportada: " + version);
+
+		ReplayLog log = new ReplayLog(r.getLong());
+		int n = r.getCount();
+		for (int i = 0; i < n; i++) {
+			Fight f = log.addFight(r.getBytes(), r.getInt());
+			int entradas = r.getCount();
+			for (int j = 0; j < entradas; j++)
+				f.inputs().add(readInput(r));
+		}
+		return log;
+	}
+
+	private static Input readInput(SnapshotReader r) throws SnapshotFormatException {
+		Kind kind = r.getEnum(TIPOS);
+		if (kind == null)
+			throw new SnapshotFormatException("Entrada de repetición sin tipo");
+		long rng = r.getLong();
+		long hash = r.getLong();
+		return switch (kind) {
+		case ROUND -> {
+			PlayerAction action = r.getEnum(ACCIONES);
+			int target = r.getByte();
+			int n = r.getCount();
+			List<EnemyPlanner.Decision> decisions = new ArrayList<>(n);
+			for (int i = 0; i < n; i++)
+				decisions.add(new EnemyPlanner.Decision(r.getEnum(ACCIONES_ENEMIGAS), r.getInt(), r.getDouble()));
+			yield Input.round(rng, hash, action, target, decisions);
+		}
+		case FUSION -> {
+			String idA = r.getString();
+			String idB = r.getString();
+			int n = r.getCount();
+			List<String> sacrificed = new ArrayList<>(n);
+			for (int i = 0; i < n; i++)
+				sacrificed.add(r.getString());
+			int hp = r.getInt();
+			yield Input.fusion(rng, hash, idA, idB, sacrificed, hp, r.getBytes());
+		}
+		case REWARD -> Input.reward(rng, hash);
+		};
+	}
+}
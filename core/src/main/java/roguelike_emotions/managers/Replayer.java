@@ -0,0 +1,199 @@
+package roguelike_emotions.managers;
+
+import java.io.IOException;
+import java.util.List;
+
+import roguelike_emotions.managers.ReplayLog.Fight;
+import roguelike_emotions.managers.ReplayLog.Input;
+import roguelike_emotions.managers.ReplayLog.Kind;
+import roguelike_emotions.utils.CombatLogger;
+import roguelike_emotions.vfx.VisBus;
+
+/**
+ * Reproduce una ReplayLog sobre la partida de GameManager, combate a combate.
+ *
+ * nextFight() carga el keyframe del siguiente combate y aplica las entradas
+ * que no son rondas (recompensa, fusiones) hasta la primera ronda. Las rondas
+ * se reproducen de dos formas:
+ * - runHeadless(): todo seguido en el hilo actual, sin eventos visuales ni
+ *   consola, a la máxima velocidad (depuración de balance, informes de bugs).
+ * - submitNextRound(): una ronda en el hilo de lógica, con sus eventos por
+ *   VisBus; TurnCombatScreen la llama cuando la anterior ha terminado de
+ *   verse, así que la velocidad es la del PlaybackSpeed elegido.
+ *
+ * Tras cada entrada compara el hash del estado con el grabado y cuenta las
+ * divergencias (la primera se guarda para el informe).
+ */
+public final class Replayer {
+
+	/** Resultado de una repetición. */
+	public record Report(int fights, int inputs, int rounds, int divergences, String firstDivergence, long nanos) {
+		public boolean matches() {
+			return divergences == 0;
+		}
+
+		@Override
+		public String toString() {
+			String tiempo = (nanos > 0) ? String.format(" en %.1f ms", nanos / 1e6) : "";
+			String resultado = matches() ? "sin divergencias"
+					: divergences + " divergencias, primera en " + firstDivergence;
+			return fights + " combates, " + rounds + " rondas, " + inputs + " entradas" + tiempo + ": " + resultado;
+		}
+	}
+
+	private final GameManager gm;
+	private final ReplayLog log;
+
+	// cursor: combate cargado y siguiente entrada (lo avanza el hilo que reproduce)
+	private volatile int fight = -1;
+	private volatile int next;
+
+	// se escriben en el hilo de lógica y se leen en GL
+	private volatile int inputs;
+	private volatile int rounds;
+	private volatile int divergences;
+	private volatile String firstDivergence;
+
+	Replayer(GameManager gm, ReplayLog log) {
+		this.gm = gm;
+		this.log = log;
+	}
+
+	public ReplayLog getLog() {
+		return log;
+	}
+
+	// ==== CURSOR ====
+
+	/**
+	 * Carga el siguiente combate (keyframe + oleada) y aplica lo que haya antes
+	 * de su primera ronda. Devuelve false si no quedan combates.
+	 */
+	public boolean nextFight() throws IOException {
+		List<Fight> fights = log.getFights();
+		if (fight + 1 >= fights.size())
+			return false;
+		fight++;
+		next = 0;
+		gm.applyKeyframe(fights.get(fight));
+		applyUntilRound();
+		return true;
+	}
+
+	/** true si el combate cargado aún tiene una ronda por reproducir. */
+	public boolean hasPendingRound() {
+		Input in = peek();
+		return in != null && in.kind() == Kind.ROUND;
+	}
+
+	/**
+	 * Reproduce la siguiente ronda en el hilo de lógica (con eventos visuales).
+	 * Devuelve false si no hay ronda pendiente o el hilo está ocupado.
+	 */
+	public boolean submitNextRound() {
+		if (!hasPendingRound())
+			return false;
+		Input in = peek();
+		next++;
+		if (!gm.submitReplayRound(in, () -> afterRound(in))) {
+			next--;
+			return false;
+		}
+		return true;
+	}
+
+	private void afterRound(Input in) {
+		verify(in);
+		try {
+			applyUntilRound();
+		} catch (IOException e) {
+			System.err.println("[Replayer] Entrada no válida: " + e.getMessage());
+		}
+	}
+
+	/** "Repetición 2/5 · ronda 3/7" para la interfaz. */
+	public String describe() {
+		int total = 0, hechas = 0;
+		if (fight >= 0) {
+			List<Input> entradas = log.getFights().get(fight).inputs();
+			for (int i = 0; i < entradas.size(); i++) {
+				if (entradas.get(i).kind() == Kind.ROUND) {
+					total++;
+					if (i < next)
+						hechas++;
+				}
+			}
+		}
+		return "Repetición " + (fight + 1) + "/" + log.getFights().size() + " · ronda " + hechas + "/" + total
+				+ (divergences > 0 ? " · DIVERGE" : "");
+	}
+
+	/** Estado hasta ahora; 'nanos' es el tiempo empleado (0 si no se ha medido). */
+	public Report report(long nanos) {
+		return new Report(Math.max(0, fight + 1), inputs, rounds, divergences, firstDivergence, nanos);
+	}
+
+	// ==== SIN VENTANA ====
+
+	/**
+	 * Reproduce todos los combates que quedan en el hilo actual, sin eventos
+	 * visuales ni eco en consola. Llamar sin ronda en curso.
+	 */
+	public Report runHeadless() throws IOException {
+		CombatLogger logger = CombatLogger.get();
+		long t0 = System.nanoTime();
+		VisBus.setMuted(true);
+		logger.setEcho(false);
+		try {
+			while (nextFight()) {
+				while (hasPendingRound()) {
+					Input in = peek();
+					next++;
+					gm.replayRound(in);
+					verify(in);
+					applyUntilRound();
+				}
+			}
+		} finally {
+			VisBus.setMuted(false);
+			logger.setEcho(true);
+		}
+		return report(System.nanoTime() - t0);
+	}
+
+	// ==== INTERNOS ====
+
+	private Input peek() {
+		if (fight < 0)
+			return null;
+		List<Input> entradas = log.getFights().get(fight).inputs();
+		return (next < entradas.size()) ? entradas.get(next) : null;
+	}
+
+	/** Aplica recompensas y fusiones hasta la siguiente ronda (o el final del combate). */
+	private void applyUntilRound() throws IOException {
+		Input in;
+		while ((in = peek()) != null && in.kind() != Kind.ROUND) {
+			next++;
+			if (in.kind() == Kind.REWARD)
+				gm.replayReward(in);
+			else
+				gm.replayFusion(in);
+			verify(in);
+		}
+	}
+
+	private void verify(Input in) {
+		inputs++;
+		if (in.kind() == Kind.ROUND)
+			rounds++;
+		long hash = gm.stateHash();
+		if (hash != in.hashAfter()) {
+			if (divergences++ == 0) {
+				firstDivergence = "combate " + (fight + 1) + ", entrada " + next + " (" + in.kind() + ")";
+				System.err.println("[Replayer] Divergencia en " + firstDivergence + ": "
+						+ Long.toHexString(hash) + " != " + Long.toHexString(in.hashAfter()));
+			}
+		}
+	}
+}
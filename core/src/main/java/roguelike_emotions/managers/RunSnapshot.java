@@ -0,0 +1,222 @@
+package roguelike_emotions.managers;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+import roguelike_emotions.characters.EnemyFactory;
+import roguelike_emotions.characters.Player;
+import roguelike_emotions.mainMechanics.EmotionCodec;
+import roguelike_emotions.mainMechanics.EmotionInstance;
+import roguelike_emotions.mainMechanics.EmotionNameGenerator;
+import roguelike_emotions.mainMechanics.EmotionType;
+import roguelike_emotions.map.EmotionNode;
+import roguelike_emotions.save.SnapshotFormatException;
+import roguelike_emotions.save.SnapshotReader;
+import roguelike_emotions.save.SnapshotWriter;
+import roguelike_emotions.utils.FusionRegistry;
+
+/**
+ * Contenido del snapshot de partida (versión 1 de SnapshotFile):
+ *
+ * 1. Tabla de emociones: cada EmotionInstance una sola vez (por identidad);
+ *    el resto de secciones la referencian por índice, así que una emoción que
+ *    está a la vez en el jugador, el códice y el registro de fusiones sigue
+ *    siendo el mismo objeto al cargar.
+ * 2. Códice, emociones base y última recompensa.
+ * 3. Pesos de la matriz de dominancia.
+ * 4. Registro de fusiones y nombres ya usados.
+ * 5. Estado del GameRng y nodo mental actual (semilla, tipo y posición; su
+ *    contenido se regenera de la semilla).
+ * 6. Jugador (Player.writeSnapshot), al final: es lo último que se lee antes
+ *    de aplicar nada.
+ *
+ * La oleada en curso no se guarda: al cargar se genera una nueva.
+ */
+final class RunSnapshot {
+
+	private static final EmotionType[] TIPOS = EmotionType.values();
+
+	private RunSnapshot() {
+	}
+
+	// ==== ESCRITURA ====
+
+	static void write(SnapshotWriter w, GameState state, EmotionManager emotions, EmotionInstance ultimaRecompensa) {
+		Player player = state.getPlayer();
+		List<EmotionInstance> codex = emotions.getCodexEntries();
+		List<EmotionInstance> base = emotions.getBaseEmotions();
+		Map<String, EmotionInstance> dobles = FusionRegistry.fusionesRegistradas();
+		Map<String, EmotionInstance> multiples = FusionRegistry.fusionesMultiplesRegistradas();
+
+		// 1. tabla de emociones
+		Map<EmotionInstance, Integer> indices = new IdentityHashMap<>();
+		List<EmotionInstance> tabla = new ArrayList<>();
+		registrar(player.getEmocionesActivas(), indices, tabla);
+		registrar(codex, indices, tabla);
+		registrar(base, indices, tabla);
+		registrar(dobles.values(), indices, tabla);
+		registrar(multiples.values(), indices, tabla);
+		if (ultimaRecompensa != null)
+			registrar(List.of(ultimaRecompensa), indices, tabla);
+
+		w.putInt(tabla.size());
+		for (EmotionInstance e : tabla)
+			EmotionCodec.write(w, e);
+
+		// 2. códice, base y recompensa
+		writeRefs(w, codex, indices);
+		writeRefs(w, base, indices);
+		w.putInt(ultimaRecompensa != null ? indices.get(ultimaRecompensa) : -1);
+
+		// 3. matriz
+		double[] pesos = state.getDominanceMatrix().exportarPesos();
+		w.putInt(pesos.length);
+		for (double p : pesos)
+			w.putDouble(p);
+
+		// 4. fusiones y nombres
+		writeFusiones(w, dobles, indices);
+		writeFusiones(w, multiples, indices);
+		List<String> nombres = EmotionNameGenerator.nombresUsados();
+		w.putInt(nombres.size());
+		for (String n : nombres)
+			w.putString(n);
+
+		// 5. RNG y nodo
+		w.putLong(state.getRng().getState());
+		EmotionNode nodo = player.getNodoMentalActual();
+		w.putBoolean(nodo != null);
+		if (nodo != null) {
+			w.putLong(nodo.getSeed());
+			w.putEnum(nodo.getTipo());
+			w.putFloat(nodo.x);
+			w.putFloat(nodo.y);
+		}
+
+		// 6. jugador
+		player.writeSnapshot(w, indices::get);
+	}
+
+	// ==== LECTURA ====
+
+	/**
+	 * Lee el snapshot entero y solo entonces lo aplica. Si el formato falla a
+	 * medias, la partida en memoria queda como estaba. Devuelve la última
+	 * recompensa de victoria (o null).
+	 */
+	static EmotionInstance read(SnapshotReader r, GameState state, EmotionManager emotions)
+			throws SnapshotFormatException {
+		// 1. tabla de emociones
+		int n = r.getCount();
+		List<EmotionInstance> tabla = new ArrayList<>(n);
+		for (int i = 0; i < n; i++)
+			tabla.add(EmotionCodec.read(r));
+
+		// 2. códice, base y recompensa
+		List<EmotionInstance> codex = readRefs(r, tabla);
+		List<EmotionInstance> base = readRefs(r, tabla);
+		int recompensa = r.getInt();
+		EmotionInstance ultimaRecompensa = (recompensa == -1) ? null : ref(tabla, recompensa);
+
+		// 3. matriz
+		n = r.getCount();
+		if (n != TIPOS.length * TIPOS.length)
+			throw new SnapshotFormatException("Matriz de dominancia de " + n + " pesos");
+		double[] pesos = new double[n];
+		for (int i = 0; i < n; i++)
+			pesos[i] = r.getDouble();
+
+		// 4. fusiones y nombres
+		Map<String, EmotionInstance> dobles = readFusiones(r, tabla);
+		Map<String, EmotionInstance> multiples = readFusiones(r, tabla);
+		n = r.getCount();
+		List<String> nombres = new ArrayList<>(n);
+		for (int i = 0; i < n; i++)
+			nombres.add(r.getString());
+
+		// 5. RNG y nodo
+		long rng = r.getLong();
+		boolean hayNodo = r.getBoolean();
+		long semilla = 0;
+		EmotionType tipoNodo = null;
+		float x = 0, y = 0;
+		if (hayNodo) {
+			semilla = r.getLong();
+			tipoNodo = r.getEnum(TIPOS);
+			x = r.getFloat();
+			y = r.getFloat();
+		}
+
+		// 6. jugador: lee todo antes de asignar, así que si falla no cambia nada
+		Player player = state.getPlayer();
+		player.readSnapshot(r, i -> (i >= 0 && i < tabla.size()) ? tabla.get(i) : null);
+
+		// ==== aplicar el resto ====
+		state.getDominanceMatrix().restaurarPesos(pesos);
+		state.getRng().setState(rng);
+		player.setNodoMentalActual(
+				hayNodo ? new EmotionNode(semilla, tipoNodo, x, y, new EnemyFactory()) : null);
+
+		emotions.getCodex().restaurar(codex);
+		emotions.restoreBaseEmotions(base);
+		FusionRegistry.restaurar(dobles, multiples);
+		EmotionNameGenerator.restaurarTracking(nombres);
+		return ultimaRecompensa;
+	}
+
+	// ==== AUXILIARES ====
+
+	private static void registrar(Iterable<EmotionInstance> emociones, Map<EmotionInstance, Integer> indices,
+			List<EmotionInstance> tabla) {
+		for (EmotionInstance e : emociones) {
+			if (e != null && !indices.containsKey(e)) {
+				indices.put(e, tabla.size());
+				tabla.add(e);
+			}
+		}
+	}
+
+	private static void writeRefs(SnapshotWriter w, List<EmotionInstance> lista, Map<EmotionInstance, Integer> indices) {
+		w.putInt(lista.size());
+		for (EmotionInstance e : lista)
+			w.putInt(indices.get(e));
+	}
+
+	private static List<EmotionInstance> readRefs(SnapshotReader r, List<EmotionInstance> tabla)
+			throws SnapshotFormatException {
+		int n = r.getCount();
+		List<EmotionInstance> out = new ArrayList<>(n);
+		for (int i = 0; i < n; i++)
+			out.add(ref(tabla, r.getInt()));
+		return out;
+	}
+
+	private static void writeFusiones(SnapshotWriter w, Map<String, EmotionInstance> fusiones,
+			Map<EmotionInstance, Integer> indices) {
+		w.putInt(fusiones.size());
+		for (Map.Entry<String, EmotionInstance> f : fusiones.entrySet()) {
+			w.putString(f.getKey());
+			w.putInt(indices.get(f.getValue()));
+		}
+	}
+
+	private static Map<String, EmotionInstance> readFusiones(SnapshotReader r, List<EmotionInstance> tabla)
+			throws SnapshotFormatException {
+		int n = r.getCount();
+		Map<String, EmotionInstance> out = new HashMap<>();
+		for (int i = 0; i < n; i++) {
+			String clave = r.getString();
+			out.put(clave, ref(tabla, r.getInt()));
+		}
+		return out;
+	}
+
+	private static EmotionInstance ref(List<EmotionInstance> tabla, int i) throws SnapshotFormatException {
+		if (i < 0 || i >= tabla.size())
+			throw new SnapshotFormatException("Referencia de emoción fuera de rango: " + i);
+		return tabla.get(i);
+	}
+}
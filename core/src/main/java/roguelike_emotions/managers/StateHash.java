@@ -0,0 +1,64 @@
+package roguelike_emotions.managers;
+
+import java.util.List;
+
+import roguelike_emotions.characters.Enemy;
+import roguelike_emotions.characters.Player;
+import roguelike_emotions.mainMechanics.EmotionCodec;
+import roguelike_emotions.mainMechanics.EmotionInstance;
+import roguelike_emotions.save.SnapshotWriter;
+import roguelike_emotions.utils.GameRng;
+
+/**
+ * Hash del estado que importa para el combate: jugador (snapshot completo),
+ * huella de sus emociones activas, enemigos de la oleada y estado del RNG.
+ *
+ * Deja fuera lo que la interfaz toca sin pasar por una entrada grabada
+ * (registro de fusiones y nombres usados, que cambian con la vista previa del
+ * códice) y los textos cosméticos. FNV-1a de 64 bits sobre los bytes del
+ * formato de snapshot: no hace falta resistencia a colisiones, solo detectar
+ * la primera entrada en la que una repetición se separa.
+ */
+final class StateHash {
+
+	private static final long FNV_OFFSET = 0xcbf29ce484222325L;
+	private static final long FNV_PRIME = 0x100000001b3L;
+
+	private StateHash() {
+	}
+
+	/** 'scratch' se reutiliza entre llamadas; el llamante lo protege. */
+	static long of(Player player, List<Enemy> enemies, GameRng rng, SnapshotWriter scratch) {
+		SnapshotWriter w = scratch.reset();
+
+		List<EmotionInstance> activas = player.getEmocionesActivas();
+		player.writeSnapshot(w, activas::indexOf);
+		for (EmotionInstance e : activas)
+			EmotionCodec.writeFingerprint(w, e);
+
+		w.putInt(enemies.size());
+		for (Enemy e : enemies) {
+			w.putInt(e.getHealth());
+			w.putInt(e.getMaxHealth());
+			w.putBoolean(e.isAlive());
+			w.putBoolean(e.isStunned());
+			w.putInt(e.getCooldownTurns());
+			w.putInt(e.getDanyo());
+			w.putInt(e.getDefensa());
+			EmotionCodec.writeEffects(w, e.getEfectosActivos());
+			w.putInt(e.getHealOverTimeEffects().size());
+		}
+
+		w.putLong(rng.getState());
+		return fnv(w.toByteArray());
+	}
+
+	private static long fnv(byte[] bytes) {
+		long h = FNV_OFFSET;
+		for (byte b : bytes) {
+			h ^= (b & 0xff);
+			h *= FNV_PRIME;
+		}
+		return h;
+	}
+}
@@ -0,0 +1,113 @@
+package roguelike_emotions.managers;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import roguelike_emotions.characters.Enemy;
+import roguelike_emotions.characters.Player;
+import roguelike_emotions.mainMechanics.EmotionInstance;
+import roguelike_emotions.mainMechanics.EmotionType;
+import roguelike_emotions.utils.EmotionUtils;
+
+/**
+ * Foto inmutable del mundo de combate que publica la lógica y lee el render.
+ * El hilo GL nunca toca Player/Enemy directamente: lee la última foto
+ * publicada (AtomicReference en GameManager) y nunca espera a la lógica.
+ * Tampoco guarda EmotionInstance (la lógica las sigue modificando): copia los
+ * valores que el render lee.
+ */
+public record WorldSnapshot(long version, ActorSnapshot player, List<ActorSnapshot> enemies) {
+
+	public static final int PLAYER_VIEW_ID = 1;
+	public static final int ENEMY_VIEW_BASE = 100;
+
+	public static final WorldSnapshot EMPTY = new WorldSnapshot(0L, null, List.of());
+
+	/**
+	 * Estado visible de un actor (player o enemigo) en el momento de la foto.
+	 * 'mood' es su tipo emocional dominante (para los efectos de sus ataques).
+	 */
+	public record ActorSnapshot(int viewId, String name, int hp, int maxHp, boolean alive,
+			List<EmotionSnapshot> emotions, EmotionType mood) {
+	}
+
+	/** Lo que el render lee de una emoción: tipo base (icono) y color (si no hay icono). */
+	public record EmotionSnapshot(EmotionType tipoBase, String color) {
+	}
+
+	/** Actor por viewId (1 = jugador, 100+i = enemigo i), o null. */
+	public ActorSnapshot actor(int viewId) {
+		if (viewId == PLAYER_VIEW_ID)
+			return player;
+		int i = viewId - ENEMY_VIEW_BASE;
+		if (i >= 0 && i < enemies.size() && enemies.get(i).viewId() == viewId)
+			return enemies.get(i);
+		for (ActorSnapshot e : enemies) {
+			if (e.viewId() == viewId)
+				return e;
+		}
+		return null;
+	}
+
+	public boolean anyEnemyAlive() {
+		for (ActorSnapshot e : enemies) {
+			if (e.alive())
+				return true;
+		}
+		return false;
+	}
+
+	/** Construye la foto en el hilo que posee el estado (lógica). */
+	static WorldSnapshot capture(long version, Player p, List<Enemy> es) {
+		ActorSnapshot ps = null;
+		if (p != null) {
+			ps = new ActorSnapshot(PLAYER_VIEW_ID, "Player", p.getHealth(), Math.max(p.getMaxHealth(), p.getHealth()),
+					p.isAlive(), copy(p.getEmocionesActivas()), mood(p.getEmocionesActivas()));
+		}
+
+		List<ActorSnapshot> out = new ArrayList<>(es != null ? es.size() : 0);
+		if (es != null) {
+			for (int i = 0; i < es.size(); i++) {
+				Enemy e = es.get(i);
+				if (e == null)
+					continue;
+				String name = (e.getNombre() != null && !e.getNombre().isBlank()) ? e.getNombre()
+						: "Enemigo " + (i + 1);
+				out.add(new ActorSnapshot(ENEMY_VIEW_BASE + i, name, e.getHealth(),
+						Math.max(e.getMaxHealth(), e.getHealth()), e.isAlive(), copy(e.getEmocionesActivas()),
+						mood(e.getEmocionesActivas())));
+			}
+		}
+		return new WorldSnapshot(version, ps, List.copyOf(out));
+	}
+
+	private static List<EmotionSnapshot> copy(List<EmotionInstance> src) {
+		if (src == null || src.isEmpty())
+			return List.of();
+		List<EmotionSnapshot> out = new ArrayList<>(src.size());
+		for (EmotionInstance e : src) {
+			if (e != null)
+				out.add(new EmotionSnapshot(e.getTipoBase(), e.getColor()));
+		}
+		return List.copyOf(out);
+	}
+
+	/**
+	 * Tipo dominante: el de la única emoción o, con 2+, el que sale de combinar
+	 * los efectos de las dos primeras. IRA si no hay emociones (fallback agresivo).
+	 */
+	private static EmotionType mood(List<EmotionInstance> emotions) {
+		try {
+			if (emotions == null || emotions.isEmpty())
+				return EmotionType.IRA;
+			if (emotions.size() == 1) {
+				EmotionType type = emotions.get(0).getTipoBase();
+				return type != null ? type : EmotionType.IRA;
+			}
+			return EmotionUtils
+					.convertirDominantToEmotionType(EmotionUtils.detectarTipoDominante(emotions.get(0), emotions.get(1)));
+		} catch (Exception e) {
+			return EmotionType.IRA;
+		}
+	}
+}
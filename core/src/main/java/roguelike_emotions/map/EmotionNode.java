@@ -1,34 +1,102 @@
 package roguelike_emotions.map;
 
 import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Random;
+import java.util.Set;
 
 import roguelike_emotions.characters.Enemy;
 import roguelike_emotions.characters.EnemyFactory;
-import roguelike_emotions.mainMechanics.EmotionDominanceMatrix;
 import roguelike_emotions.mainMechanics.EmotionInstance;
+import roguelike_emotions.mainMechanics.EmotionInstanceFactory;
+import roguelike_emotions.mainMechanics.EmotionType;
 
+/**
+ * Nodo del mapa emocional. Al crearse solo guarda semilla + tipo: la emoción y
+ * los enemigos se materializan la primera vez que se piden (o por prefetch al
+ * acercarse el jugador). Con la misma semilla sale siempre el mismo contenido.
+ * Materializar no toca estado compartido: el azar sale del Random del nodo
+ * (nunca de RunRandom) y los nombres solo se hacen únicos dentro del nodo (no
+ * entran en el registro de la partida), así que el prefetch puede correr en
+ * otro hilo sin cambiar lo que pasa en la partida.
+ */
 public class EmotionNode {
-    private EmotionInstance emotion;
+    private static final int ENEMIGOS_POR_NODO = 2;
+
+    // posición en EmotionalMap.getNodos(); id del nodo en MapGraph
+    int id = -1;
+    private final long seed;
+    private final EmotionType tipo;
     public float x, y;
     private List<EmotionNode> conexiones = new ArrayList<>();
-    private List<Enemy> enemigos;
 
-    public EmotionNode(EmotionInstance emotion, float x, float y,
-                       EnemyFactory enemyFactory, EmotionDominanceMatrix matrix) {
-        this.emotion = emotion;
+    // Solo para materializar; compartido por todos los nodos del mapa
+    private final EnemyFactory enemyFactory;
+
+    private volatile EmotionInstance emotion;
+    private volatile List<Enemy> enemigos;
+
+    public EmotionNode(long seed, EmotionType tipo, float x, float y, EnemyFactory enemyFactory) {
+        this.seed = seed;
+        this.tipo = tipo;
         this.x = x;
         this.y = y;
-        this.enemigos = enemyFactory.generarEnemigosPorTipo(
-            2, emotion.getTipoBase(), matrix
-        );
+        this.enemyFactory = enemyFactory;
+    }
+
+    // ==== MATERIALIZACIÓN ====
+
+    /** Genera emoción y enemigos si aún no existen. Seguro entre hilos (prefetch). */
+    public void materializar() {
+        if (enemigos != null)
+            return;
+        synchronized (this) {
+            if (enemigos != null)
+                return;
+            Random rng = new Random(seed);
+            Set<String> nombres = new HashSet<>();
+            EmotionInstanceFactory emociones = new EmotionInstanceFactory(nombres);
+            if (emotion == null) {
+                emotion = emociones.generarProcedural(tipo, rng);
+            }
+            enemigos = enemyFactory.generarEnemigosDeNodo(ENEMIGOS_POR_NODO, tipo, rng, emociones);
+        }
+    }
+
+    public boolean isMaterializado() {
+        return enemigos != null;
+    }
+
+    /** Materializa en segundo plano los vecinos aún vacíos (si el prefetch está activo). */
+    public void prefetchVecinos() {
+        for (EmotionNode vecino : conexiones) {
+            if (!vecino.isMaterializado())
+                NodePrefetcher.submit(vecino);
+        }
+    }
+
+    // ==== GETTERS & SETTERS ====
+
+    public int getId() {
+        return id;
+    }
+
+    public long getSeed() {
+        return seed;
+    }
+
+    /** Tipo base del nodo: disponible sin materializar. */
+    public EmotionType getTipo() {
+        return tipo;
     }
 
     public EmotionInstance getEmotion() {
+        materializar();
         return this.emotion;
     }
 
-    public void setEmotion(EmotionInstance emotion) {
+    public synchronized void setEmotion(EmotionInstance emotion) {
         this.emotion = emotion;
     }
 
@@ -41,6 +109,7 @@ public class EmotionNode {
     }
 
     public List<Enemy> getEnemigos() {
+        materializar();
         return enemigos;
     }
 }
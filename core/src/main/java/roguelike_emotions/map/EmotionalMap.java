@@ -6,50 +6,109 @@ import java.util.Random;
 
 import roguelike_emotions.characters.EnemyFactory;
 import roguelike_emotions.mainMechanics.EmotionDominanceMatrix;
-import roguelike_emotions.mainMechanics.EmotionInstance;
 import roguelike_emotions.mainMechanics.EmotionInstanceFactory;
+import roguelike_emotions.mainMechanics.EmotionType;
 
 public class EmotionalMap {
 
+	// Área original (600x400 desde 100,100) pensada para unos pocos nodos
+	private static final float ORIGEN = 100f;
+	private static final float ANCHO_BASE = 600f;
+	private static final float ALTO_BASE = 400f;
+	private static final float DISTANCIA_ENLACE = 200f;
+	// Nodos que caben en el área base; a partir de ahí el área crece con la
+	// cantidad para mantener la densidad (y el grado medio, ~6 vecinos)
+	private static final int NODOS_BASE = 12;
+
 	private List<EmotionNode> nodos;
 	private Random random = new Random();
+	private final EmotionDominanceMatrix matrix;
+	private MapGraph grafo;
+	private MapPathfinder pathfinder;
 
 	public EmotionalMap(int cantidad, EnemyFactory enemyFactory, EmotionDominanceMatrix matrix) {
-		this.nodos = generarMapaProcedural(cantidad, enemyFactory, matrix);
-		conectarNodosPorDistancia(200f);
+		this.matrix = matrix;
+		this.nodos = generarMapaProcedural(cantidad, enemyFactory);
+		conectarNodosPorDistancia(DISTANCIA_ENLACE);
+	}
+
+	/** Factor de escala lineal del área para 'cantidad' nodos (1 hasta NODOS_BASE). */
+	static float escalaArea(int cantidad) {
+		return (float) Math.sqrt(Math.max(1f, cantidad / (float) NODOS_BASE));
 	}
 
-	private List<EmotionNode> generarMapaProcedural(int cantidad, EnemyFactory enemyFactory,
-			EmotionDominanceMatrix matrix) {
-		List<EmotionNode> lista = new ArrayList<>();
-		EmotionInstanceFactory factory = new EmotionInstanceFactory();
+	private List<EmotionNode> generarMapaProcedural(int cantidad, EnemyFactory enemyFactory) {
+		List<EmotionNode> lista = new ArrayList<>(cantidad);
+		float escala = escalaArea(cantidad);
 
 		for (int i = 0; i < cantidad; i++) {
-			float x = 100 + random.nextFloat() * 600;
-			float y = 100 + random.nextFloat() * 400;
-			EmotionInstance emotion = factory.generarProcedural();
-			lista.add(new EmotionNode(emotion, x, y, enemyFactory, matrix));
+			float x = ORIGEN + random.nextFloat() * ANCHO_BASE * escala;
+			float y = ORIGEN + random.nextFloat() * ALTO_BASE * escala;
+			// Solo semilla + tipo: el contenido se materializa al visitar el nodo
+			EmotionType tipo = EmotionInstanceFactory.tipoBaseAleatorio(random);
+			EmotionNode nodo = new EmotionNode(random.nextLong(), tipo, x, y, enemyFactory);
+			nodo.id = i;
+			lista.add(nodo);
 		}
 
 		return lista;
 	}
 
+	/**
+	 * Enlaza cada par de nodos a distancia <= maxDistancia usando una rejilla
+	 * uniforme (SpatialGrid): solo se comparan nodos de celdas vecinas. Cada
+	 * vecino aparece una vez, así que no hace falta deduplicar.
+	 */
 	private void conectarNodosPorDistancia(float maxDistancia) {
-		for (EmotionNode a : nodos) {
-			for (EmotionNode b : nodos) {
-				if (a == b)
-					continue;
-				float dx = a.x - b.x;
-				float dy = a.y - b.y;
-				float dist = (float) Math.sqrt(dx * dx + dy * dy);
-				if (dist <= maxDistancia && !a.getConexiones().contains(b)) {
-					a.getConexiones().add(b);
-				}
-			}
+		int n = nodos.size();
+		float[] xs = new float[n];
+		float[] ys = new float[n];
+		for (int i = 0; i < n; i++) {
+			xs[i] = nodos.get(i).x;
+			ys[i] = nodos.get(i).y;
+		}
+
+		int[][] adj = new SpatialGrid(xs, ys, n, maxDistancia).linkWithin(maxDistancia);
+		for (int i = 0; i < n; i++) {
+			List<EmotionNode> conexiones = new ArrayList<>(adj[i].length);
+			for (int j : adj[i])
+				conexiones.add(nodos.get(j));
+			nodos.get(i).setConexiones(conexiones);
 		}
 	}
 
 	public List<EmotionNode> getNodos() {
 		return nodos;
 	}
+
+	public EmotionNode getNodo(int id) {
+		return nodos.get(id);
+	}
+
+	// ==== RUTAS ====
+
+	/** Grafo CSR del mapa, compilado al primer uso. */
+	public MapGraph getGrafo() {
+		if (grafo == null) {
+			grafo = MapGraph.compile(nodos, matrix, DISTANCIA_ENLACE);
+		}
+		return grafo;
+	}
+
+	/** Buscador de rutas sobre getGrafo() (solo hilo principal). */
+	public MapPathfinder getPathfinder() {
+		if (pathfinder == null) {
+			pathfinder = new MapPathfinder(getGrafo());
+		}
+		return pathfinder;
+	}
+
+	/**
+	 * Descarta el grafo compilado: llamar si se tocan las conexiones o se hace
+	 * reset() de la matriz de dominancia (los costes dependen de ella).
+	 */
+	public void invalidarGrafo() {
+		grafo = null;
+		pathfinder = null;
+	}
 }
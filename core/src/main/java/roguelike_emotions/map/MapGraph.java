@@ -0,0 +1,118 @@
+package roguelike_emotions.map;
+
+import java.util.List;
+
+import roguelike_emotions.mainMechanics.EmotionDominanceMatrix;
+import roguelike_emotions.mainMechanics.EmotionType;
+
+/**
+ * Adyacencia compacta (CSR) del EmotionalMap sobre ids enteros.
+ *
+ * Los vecinos del nodo i son targets[offsets[i] .. offsets[i+1]) con su coste
+ * en costs[]. Inmutable: si cambian las conexiones o la matriz de dominancia
+ * hay que volver a compilar (EmotionalMap.getGrafo lo hace solo).
+ *
+ * Coste de una arista a→b = (distancia / radio de enlace) * (2 - afinidad),
+ * con afinidad = media de getPeso(a,b) y getPeso(b,a) ∈ [0.5, 1.5]. Emociones
+ * afines son "cuesta abajo". La distancia euclídea escalada por el menor factor
+ * de la tabla (minFactor) es una heurística admisible y consistente para A*.
+ */
+public final class MapGraph {
+
+	static final float MIN_FACTOR = 0.5f;
+
+	final int size;
+	final int[] offsets;
+	final int[] targets;
+	final float[] costs;
+	final float[] xs;
+	final float[] ys;
+	final EmotionType[] tipos;
+	final float radio;
+	final float minFactor;
+
+	private MapGraph(int size, int[] offsets, int[] targets, float[] costs, float[] xs, float[] ys,
+			EmotionType[] tipos, float radio, float minFactor) {
+		this.size = size;
+		this.offsets = offsets;
+		this.targets = targets;
+		this.costs = costs;
+		this.xs = xs;
+		this.ys = ys;
+		this.tipos = tipos;
+		this.radio = radio;
+		this.minFactor = minFactor;
+	}
+
+	/** Compila las conexiones actuales de los nodos (ids = posición en la lista). */
+	public static MapGraph compile(List<EmotionNode> nodos, EmotionDominanceMatrix matrix, float radio) {
+		int n = nodos.size();
+		float[] xs = new float[n];
+		float[] ys = new float[n];
+		EmotionType[] tipos = new EmotionType[n];
+		int[] offsets = new int[n + 1];
+
+		for (int i = 0; i < n; i++) {
+			EmotionNode a = nodos.get(i);
+			if (a.getId() != i)
+				throw new IllegalStateException("Nodo con id " + a.getId() + " en la posición " + i);
+			xs[i] = a.x;
+			ys[i] = a.y;
+			tipos[i] = a.getTipo();
+			offsets[i + 1] = offsets[i] + a.getConexiones().size();
+		}
+
+		// afinidad por par de tipos precalculada: evita 2 lookups en HashMap por arista
+		EmotionType[] valores = EmotionType.values();
+		float[][] factor = new float[valores.length][valores.length];
+		float minFactor = Float.MAX_VALUE;
+		for (EmotionType t1 : valores) {
+			for (EmotionType t2 : valores) {
+				double afinidad = (matrix.getPeso(t1, t2) + matrix.getPeso(t2, t1)) / 2.0;
+				float f = (float) Math.max(MIN_FACTOR, 2.0 - afinidad);
+				factor[t1.ordinal()][t2.ordinal()] = f;
+				minFactor = Math.min(minFactor, f);
+			}
+		}
+
+		int[] targets = new int[offsets[n]];
+		float[] costs = new float[offsets[n]];
+		for (int i = 0; i < n; i++) {
+			int k = offsets[i];
+			for (EmotionNode b : nodos.get(i).getConexiones()) {
+				int j = b.getId();
+				float dx = xs[i] - xs[j];
+				float dy = ys[i] - ys[j];
+				float dist = (float) Math.sqrt(dx * dx + dy * dy) / radio;
+				targets[k] = j;
+				costs[k] = dist * factor[tipos[i].ordinal()][tipos[j].ordinal()];
+				k++;
+			}
+		}
+
+		return new MapGraph(n, offsets, targets, costs, xs, ys, tipos, radio, minFactor);
+	}
+
+	public int size() {
+		return size;
+	}
+
+	public int edgeCount() {
+		return targets.length;
+	}
+
+	public int degree(int id) {
+		return offsets[id + 1] - offsets[id];
+	}
+
+	public EmotionType tipo(int id) {
+		return tipos[id];
+	}
+
+	/** Cota inferior del coste entre dos nodos (heurística A*). */
+	float heuristic(int a, int b) {
+		float dx = xs[a] - xs[b];
+		float dy = ys[a] - ys[b];
+		return (float) Math.sqrt(dx * dx + dy * dy) / radio * minFactor;
+	}
+}
@@ -0,0 +1,207 @@
+package roguelike_emotions.map;
+
+import java.util.Arrays;
+
+import roguelike_emotions.mainMechanics.EmotionType;
+
+/**
+ * Consultas de rutas sobre un MapGraph: A* punto a punto, Dijkstra hasta el
+ * nodo más cercano de un tipo y alcanzables en k pasos.
+ *
+ * Reutiliza sus arrays de trabajo entre consultas (marcado por "época", sin
+ * limpiar n posiciones cada vez), así que una consulta típica no reserva nada
+ * salvo el resultado. No es thread-safe: una instancia por hilo.
+ */
+public final class MapPathfinder {
+
+	private static final int[] VACIO = new int[0];
+
+	private final MapGraph g;
+
+	// estado por nodo, válido solo si stamp[i] == epoch
+	private final int[] stamp;
+	private final float[] dist;
+	private final int[] prev;
+	private final boolean[] closed;
+	private int epoch = 0;
+
+	// montículo binario con duplicados (decrease-key perezoso)
+	private int[] heapNode;
+	private float[] heapKey;
+	private int heapSize;
+
+	// cola BFS
+	private final int[] bfs;
+
+	public MapPathfinder(MapGraph graph) {
+		this.g = graph;
+		int n = graph.size();
+		this.stamp = new int[n];
+		this.dist = new float[n];
+		this.prev = new int[n];
+		this.closed = new boolean[n];
+		this.bfs = new int[n];
+		int cap = Math.max(16, n);
+		this.heapNode = new int[cap];
+		this.heapKey = new float[cap];
+	}
+
+	public MapGraph getGraph() {
+		return g;
+	}
+
+	// ==== CONSULTAS ====
+
+	/** Ruta más barata de 'from' a 'to' (ids incluidos), o vacía si no hay. */
+	public int[] shortestPath(int from, int to) {
+		begin();
+		touch(from, 0f, -1);
+		push(from, g.heuristic(from, to));
+
+		while (heapSize > 0) {
+			int u = pop();
+			if (closed[u])
+				continue;
+			closed[u] = true;
+			if (u == to)
+				return buildPath(to);
+			relax(u, to);
+		}
+		return VACIO;
+	}
+
+	/**
+	 * Ruta al nodo de tipo 'tipo' más barato de alcanzar desde 'from' (puede ser
+	 * el propio 'from'), o vacía si no hay ninguno alcanzable.
+	 */
+	public int[] nearestOfType(int from, EmotionType tipo) {
+		begin();
+		touch(from, 0f, -1);
+		push(from, 0f);
+
+		while (heapSize > 0) {
+			int u = pop();
+			if (closed[u])
+				continue;
+			closed[u] = true;
+			if (g.tipos[u] == tipo)
+				return buildPath(u);
+			relax(u, -1);
+		}
+		return VACIO;
+	}
+
+	/** Coste mínimo de 'from' a 'to', o +inf si no hay ruta. */
+	public float distance(int from, int to) {
+		int[] path = shortestPath(from, to);
+		return path.length == 0 ? Float.POSITIVE_INFINITY : dist[to];
+	}
+
+	/** Nodos alcanzables desde 'from' en como mucho k saltos (incluye 'from'), en orden BFS. */
+	public int[] reachableWithin(int from, int k) {
+		begin();
+		int head = 0, tail = 0;
+		bfs[tail++] = from;
+		touch(from, 0f, -1);
+
+		while (head < tail) {
+			int u = bfs[head++];
+			int saltos = (int) dist[u];
+			if (saltos >= k)
+				continue;
+			for (int e = g.offsets[u], end = g.offsets[u + 1]; e < end; e++) {
+				int v = g.targets[e];
+				if (stamp[v] == epoch)
+					continue;
+				touch(v, saltos + 1, u);
+				bfs[tail++] = v;
+			}
+		}
+		return Arrays.copyOf(bfs, tail);
+	}
+
+	// ==== INTERNOS ====
+
+	private void begin() {
+		epoch++;
+		if (epoch == Integer.MAX_VALUE) {
+			Arrays.fill(stamp, 0);
+			epoch = 1;
+		}
+		heapSize = 0;
+	}
+
+	private void touch(int i, float d, int p) {
+		stamp[i] = epoch;
+		dist[i] = d;
+		prev[i] = p;
+		closed[i] = false;
+	}
+
+	/** Relaja las aristas de u; si target >= 0 usa la heurística A* hacia él. */
+	private void relax(int u, int target) {
+		float du = dist[u];
+		for (int e = g.offsets[u], end = g.offsets[u + 1]; e < end; e++) {
+			int v = g.targets[e];
+			float nd = du + g.costs[e];
+			if (stamp[v] != epoch) {
+				touch(v, nd, u);
+			} else if (closed[v] || nd >= dist[v]) {
+				continue;
+			} else {
+				dist[v] = nd;
+				prev[v] = u;
+			}
+			push(v, target >= 0 ? nd + g.heuristic(v, target) : nd);
+		}
+	}
+
+	private int[] buildPath(int to) {
+		int len = 0;
+		for (int v = to; v != -1; v = prev[v])
+			len++;
+		int[] path = new int[len];
+		for (int v = to, i = len - 1; v != -1; v = prev[v], i--)
+			path[i] = v;
+		return path;
+	}
+
+	private void push(int node, float key) {
+		if (heapSize == heapNode.length) {
+			heapNode = Arrays.copyOf(heapNode, heapSize * 2);
+			heapKey = Arrays.copyOf(heapKey, heapSize * 2);
+		}
+		int i = heapSize++;
+		while (i > 0) {
+			int parent = (i - 1) >>> 1;
+			if (heapKey[parent] <= key)
+				break;
+			heapNode[i] = heapNode[parent];
+			heapKey[i] = heapKey[parent];
+			i = parent;
+		}
+		heapNode[i] = node;
+		heapKey[i] = key;
+	}
+
+	private int pop() {
+		int top = heapNode[0];
+		int lastNode = heapNode[--heapSize];
+		float lastKey = heapKey[heapSize];
+		int i = 0;
+		int half = heapSize >>> 1;
+		while (i < half) {
+			int child = 2 * i + 1;
+			if (child + 1 < heapSize && heapKey[child + 1] < heapKey[child])
+				child++;
+			if (lastKey <= heapKey[child])
+				break;
+			heapNode[i] = heapNode[child];
+			heapKey[i] = heapKey[child];
+			i = child;
+		}
+		heapNode[i] = lastNode;
+		heapKey[i] = lastKey;
+		return top;
+	}
+}
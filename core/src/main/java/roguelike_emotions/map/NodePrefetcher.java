@@ -0,0 +1,57 @@
+package roguelike_emotions.map;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Hilo de baja prioridad que materializa nodos vecinos del jugador antes de
+ * que los visite. Opcional: si está desactivado, los nodos se materializan en
+ * el primer acceso (mismo resultado, solo cambia cuándo se paga).
+ */
+public final class NodePrefetcher {
+
+	private static volatile boolean enabled = true;
+	private static ExecutorService executor;
+
+	private NodePrefetcher() {
+	}
+
+	public static void setEnabled(boolean on) {
+		enabled = on;
+	}
+
+	public static boolean isEnabled() {
+		return enabled;
+	}
+
+	static void submit(EmotionNode nodo) {
+		if (!enabled)
+			return;
+		executor().execute(() -> {
+			try {
+				nodo.materializar();
+			} catch (Throwable t) {
+				// No es crítico: el nodo se volverá a intentar al visitarlo
+				System.err.println("NodePrefetcher: error materializando nodo " + nodo.getSeed() + ": " + t);
+			}
+		});
+	}
+
+	private static synchronized ExecutorService executor() {
+		if (executor == null) {
+			executor = Executors.newSingleThreadExecutor(r -> {
+				Thread t = Thread.ofPlatform().name("map-prefetch").daemon(true).unstarted(r);
+				t.setPriority(Thread.MIN_PRIORITY);
+				return t;
+			});
+		}
+		return executor;
+	}
+
+	public static synchronized void shutdown() {
+		if (executor != null) {
+			executor.shutdownNow();
+			executor = null;
+		}
+	}
+}
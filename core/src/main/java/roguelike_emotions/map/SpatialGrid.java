@@ -0,0 +1,136 @@
+package roguelike_emotions.map;
+
+import java.util.Arrays;
+
+/**
+ * Rejilla uniforme sobre puntos 2D para consultas de vecinos por radio.
+ *
+ * Celdas de lado = radio de enlace, así los vecinos de un punto solo pueden
+ * estar en su celda y en las 8 adyacentes. Las celdas se guardan en formato
+ * compacto (cellStart/cellItems, ordenación por conteo): sin listas por celda
+ * ni boxing. Construir y enlazar es O(n + aristas).
+ */
+public final class SpatialGrid {
+
+	private final float[] xs;
+	private final float[] ys;
+	private final int count;
+
+	private final float minX;
+	private final float minY;
+	private final float cellSize;
+	private final int cols;
+	private final int rows;
+
+	// puntos de la celda c: cellItems[cellStart[c] .. cellStart[c+1])
+	private final int[] cellStart;
+	private final int[] cellItems;
+
+	public SpatialGrid(float[] xs, float[] ys, int count, float cellSize) {
+		if (cellSize <= 0f)
+			throw new IllegalArgumentException("cellSize debe ser > 0");
+		this.xs = xs;
+		this.ys = ys;
+		this.count = count;
+		this.cellSize = cellSize;
+
+		float x0 = Float.MAX_VALUE, y0 = Float.MAX_VALUE;
+		float x1 = -Float.MAX_VALUE, y1 = -Float.MAX_VALUE;
+		for (int i = 0; i < count; i++) {
+			x0 = Math.min(x0, xs[i]);
+			y0 = Math.min(y0, ys[i]);
+			x1 = Math.max(x1, xs[i]);
+			y1 = Math.max(y1, ys[i]);
+		}
+		if (count == 0) {
+			x0 = y0 = x1 = y1 = 0f;
+		}
+		this.minX = x0;
+		this.minY = y0;
+		this.cols = (int) ((x1 - x0) / cellSize) + 1;
+		this.rows = (int) ((y1 - y0) / cellSize) + 1;
+
+		// 1) conteo por celda  2) prefijos  3) reparto
+		int cells = cols * rows;
+		this.cellStart = new int[cells + 1];
+		int[] cellOf = new int[count];
+		for (int i = 0; i < count; i++) {
+			int c = cellIndex(xs[i], ys[i]);
+			cellOf[i] = c;
+			cellStart[c + 1]++;
+		}
+		for (int c = 0; c < cells; c++)
+			cellStart[c + 1] += cellStart[c];
+
+		this.cellItems = new int[count];
+		int[] fill = Arrays.copyOf(cellStart, cells);
+		for (int i = 0; i < count; i++)
+			cellItems[fill[cellOf[i]]++] = i;
+	}
+
+	/**
+	 * Lista de adyacencia (simétrica, sin duplicados ni auto-enlaces) de todos los
+	 * pares a distancia <= maxDist. Compara distancias al cuadrado, sin sqrt.
+	 *
+	 * @param maxDist debe ser <= cellSize (si no, faltarían vecinos)
+	 */
+	public int[][] linkWithin(float maxDist) {
+		if (maxDist > cellSize)
+			throw new IllegalArgumentException("maxDist (" + maxDist + ") > cellSize (" + cellSize + ")");
+		float maxSq = maxDist * maxDist;
+
+		// dos pasadas (grado y relleno): cada fila se reserva con su tamaño exacto
+		int[] degree = new int[count];
+		for (int i = 0; i < count; i++)
+			degree[i] = visitNeighbours(i, maxSq, null, 0);
+
+		int[][] adj = new int[count][];
+		for (int i = 0; i < count; i++) {
+			adj[i] = new int[degree[i]];
+			visitNeighbours(i, maxSq, adj[i], 0);
+		}
+		return adj;
+	}
+
+	public int size() {
+		return count;
+	}
+
+	// ==== INTERNOS ====
+
+	private int cellIndex(float x, float y) {
+		int cx = Math.min(cols - 1, (int) ((x - minX) / cellSize));
+		int cy = Math.min(rows - 1, (int) ((y - minY) / cellSize));
+		return cy * cols + cx;
+	}
+
+	/** Recorre las 9 celdas alrededor de i; si out != null escribe los vecinos. */
+	private int visitNeighbours(int i, float maxSq, int[] out, int n) {
+		float px = xs[i];
+		float py = ys[i];
+		int cx = Math.min(cols - 1, (int) ((px - minX) / cellSize));
+		int cy = Math.min(rows - 1, (int) ((py - minY) / cellSize));
+
+		int yFrom = Math.max(0, cy - 1), yTo = Math.min(rows - 1, cy + 1);
+		int xFrom = Math.max(0, cx - 1), xTo = Math.min(cols - 1, cx + 1);
+		for (int gy = yFrom; gy <= yTo; gy++) {
+			int row = gy * cols;
+			for (int gx = xFrom; gx <= xTo; gx++) {
+				int c = row + gx;
+				for (int k = cellStart[c], end = cellStart[c + 1]; k < end; k++) {
+					int j = cellItems[k];
+					if (j == i)
+						continue;
+					float dx = px - xs[j];
+					float dy = py - ys[j];
+					if (dx * dx + dy * dy <= maxSq) {
+						if (out != null)
+							out[n] = j;
+						n++;
+					}
+				}
+			}
+		}
+		return n;
+	}
+}
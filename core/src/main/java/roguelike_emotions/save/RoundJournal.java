@@ -0,0 +1,375 @@
+package roguelike_emotions.save;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.zip.CRC32;
+
+/**
+ * Diario de rondas (write-ahead) sobre un fichero mapeado en memoria.
+ *
+ * El estado completo vive en un checkpoint (SnapshotFile). Cada ronda añade un
+ * registro con los tramos de bytes del snapshot que han cambiado respecto a la
+ * ronda anterior: lo que va al disco es proporcional a lo que cambia (vida,
+ * buffs, progreso de emociones, estado del RNG...) y no al tamaño de la
+ * partida. Ojo: el trabajo de CPU de append() sí es O(tamaño del estado), porque
+ * recibe el snapshot entero ya codificado y lo compara completo con el anterior
+ * (Arrays.mismatch, vectorizado). Cada CHECKPOINT_CADA registros, o si el
+ * diario se llena, se escribe un checkpoint nuevo y el diario se vacía
+ * (compactación).
+ *
+ * <pre>
+ * cabecera: int magic "RJNL" | int version | long generación | int crc base | int longitud base
+ * registro: int longitud | int crc | cuerpo
+ * cuerpo:   long generación | int ronda | byte acción | byte objetivo
+ *           | int longitud nueva | int tramos | (int offset, int n, byte[n])*
+ * </pre>
+ *
+ * Recuperación: checkpoint + los registros de la misma generación, en orden,
+ * hasta el primero incompleto, con CRC incorrecto o con tramos fuera de rango
+ * (ese y los siguientes se descartan). El diario solo vale si su
+ * crc base coincide con el checkpoint; si el checkpoint es más nuevo (fallo
+ * entre escribirlo y vaciar el diario), el diario se ignora.
+ *
+ * append() no llama a force(): el volcado a disco se agrupa cada
+ * FORZAR_CADA registros en un hilo aparte. No es seguro entre hilos; lo usa
+ * el hilo de lógica. shutdown() cierra los diarios que sigan abiertos.
+ */
+public final class RoundJournal implements Closeable {
+
+	public static final int MAGIC = 0x4C4E4A52; // "RJNL" en little-endian
+	public static final int VERSION = 1;
+
+	private static final int CABECERA = 24;
+	private static final int CABECERA_REGISTRO = 8;
+	private static final int CUERPO_FIJO = 8 + 4 + 1 + 1 + 4 + 4;
+	private static final int CABECERA_TRAMO = 8;
+	// tramos separados por menos bytes iguales que esto se funden (más barato que otra cabecera)
+	private static final int HUECO_MIN = CABECERA_TRAMO;
+
+	public static final int CHECKPOINT_CADA = 32;
+	private static final int FORZAR_CADA = 8;
+
+	private static ExecutorService flusher;
+	// diarios sin cerrar, para que shutdown() los vuelque y cierre
+	private static final List<RoundJournal> ABIERTOS = new ArrayList<>();
+
+	private final Path checkpointPath;
+	private final FileChannel channel;
+	private final MappedByteBuffer map;
+	private final AtomicBoolean flushPendiente = new AtomicBoolean();
+	private final CRC32 crc = new CRC32();
+
+	// estado que reconstruiría la recuperación ahora mismo
+	private byte[] base = new byte[0];
+	private int baseLen = -1; // -1: aún sin checkpoint en esta sesión
+	private byte[] actual = new byte[0];
+	private long generacion;
+	private int registros;
+	private int sinForzar;
+
+	// tramos de la ronda en curso (offset, longitud)
+	private int[] tramos = new int[32];
+	private int nTramos;
+
+	public RoundJournal(Path checkpointPath, Path journalPath, int capacity) throws IOException {
+		this.checkpointPath = checkpointPath;
+		Path dir = journalPath.toAbsolutePath().getParent();
+		if (dir != null && !Files.isDirectory(dir))
+			Files.createDirectories(dir);
+		this.channel = FileChannel.open(journalPath, StandardOpenOption.CREATE, StandardOpenOption.READ,
+				StandardOpenOption.WRITE);
+		this.map = channel.map(FileChannel.MapMode.READ_WRITE, 0, Math.max(CABECERA + 4096, capacity));
+		this.map.order(ByteOrder.LITTLE_ENDIAN);
+		this.generacion = (map.getInt(0) == MAGIC) ? map.getLong(8) : 0;
+		synchronized (RoundJournal.class) {
+			ABIERTOS.add(this);
+		}
+	}
+
+	public Path checkpointPath() {
+		return checkpointPath;
+	}
+
+	// ==== ESCRITURA ====
+
+	/**
+	 * Registra el estado tras una ronda ('estado' es el snapshot completo recién
+	 * escrito). Devuelve true si ha hecho falta un checkpoint. Escribe solo los
+	 * bytes cambiados, pero copia y compara el estado entero: O(estado).
+	 */
+	public boolean append(SnapshotWriter estado, int ronda, int accion, int objetivo) throws IOException {
+		int len = copiar(estado);
+
+		if (baseLen < 0 || registros >= CHECKPOINT_CADA) {
+			checkpoint(estado);
+			return true;
+		}
+
+		int bytes = diff(len);
+		int tamano = CABECERA_REGISTRO + CUERPO_FIJO + nTramos * CABECERA_TRAMO + bytes;
+		if (map.position() + tamano + 4 > map.capacity()) {
+			checkpoint(estado);
+			return true;
+		}
+
+		int inicio = map.position();
+		map.position(inicio + CABECERA_REGISTRO);
+		map.putLong(generacion).putInt(ronda).put((byte) accion).put((byte) objetivo);
+		map.putInt(len).putInt(nTramos);
+		for (int t = 0; t < nTramos; t++) {
+			int off = tramos[2 * t], n = tramos[2 * t + 1];
+			map.putInt(off).putInt(n);
+			map.put(actual, off, n);
+		}
+		int fin = map.position();
+		map.putInt(fin, 0); // terminador: la recuperación se para aquí
+
+		crc.reset();
+		crc.update(map.slice(inicio + CABECERA_REGISTRO, fin - inicio - CABECERA_REGISTRO));
+		map.putInt(inicio + 4, (int) crc.getValue());
+		map.putInt(inicio, fin - inicio - CABECERA_REGISTRO); // la longitud, lo último
+
+		// la ronda ya forma parte del estado recuperable
+		byte[] t = base;
+		base = actual;
+		actual = t;
+		baseLen = len;
+		registros++;
+
+		if (++sinForzar >= FORZAR_CADA)
+			forzar();
+		return false;
+	}
+
+	/** Escribe un checkpoint completo (con fsync) y vacía el diario. */
+	public void checkpoint(SnapshotWriter estado) throws IOException {
+		int len = copiar(estado);
+		SnapshotFile.write(checkpointPath, estado, true);
+
+		generacion++;
+		crc.reset();
+		crc.update(actual, 0, len);
+		map.putInt(0, MAGIC).putInt(4, VERSION).putLong(8, generacion).putInt(16, (int) crc.getValue())
+				.putInt(20, len);
+		map.putInt(CABECERA, 0);
+		map.position(CABECERA);
+
+		byte[] t = base;
+		base = actual;
+		actual = t;
+		baseLen = len;
+		registros = 0;
+		forzar();
+	}
+
+	/** Bytes del diario en uso (cabecera incluida). */
+	public int used() {
+		return map.position();
+	}
+
+	@Override
+	public void close() throws IOException {
+		synchronized (RoundJournal.class) {
+			ABIERTOS.remove(this);
+		}
+		if (!channel.isOpen())
+			return;
+		map.force();
+		channel.close();
+	}
+
+	// ==== RECUPERACIÓN ====
+
+	/**
+	 * Estado tras la última ronda registrada: checkpoint + diario. Si no hay
+	 * diario válido para ese checkpoint, devuelve solo el checkpoint.
+	 */
+	public static SnapshotReader recover(Path checkpointPath, Path journalPath) throws IOException {
+		ByteBuffer payload = SnapshotFile.readPayload(checkpointPath);
+		byte[] estado = new byte[payload.remaining()];
+		payload.get(estado);
+		int len = estado.length;
+
+		ByteBuffer j;
+		try (FileChannel ch = FileChannel.open(journalPath, StandardOpenOption.READ)) {
+			j = ByteBuffer.allocate((int) Math.min(Integer.MAX_VALUE, ch.size())).order(ByteOrder.LITTLE_ENDIAN);
+			while (j.hasRemaining()) {
+				if (ch.read(j) < 0)
+					break;
+			}
+			j.flip();
+		} catch (NoSuchFileException e) {
+			j = null;
+		}
+
+		if (j != null && j.remaining() >= CABECERA && j.getInt(0) == MAGIC && j.getInt(4) == VERSION) {
+			long gen = j.getLong(8);
+			CRC32 c = new CRC32();
+			c.update(estado, 0, len);
+			if (j.getInt(16) == (int) c.getValue() && j.getInt(20) == len) {
+				j.position(CABECERA);
+				while (j.remaining() >= CABECERA_REGISTRO + CUERPO_FIJO) {
+					int n = j.getInt();
+					int crcGuardado = j.getInt();
+					if (n < CUERPO_FIJO || n > j.remaining())
+						break;
+					c.reset();
+					c.update(j.slice(j.position(), n));
+					if ((int) c.getValue() != crcGuardado || j.getLong(j.position()) != gen)
+						break;
+
+					int fin = j.position() + n;
+					j.position(j.position() + 8 + 4 + 1 + 1);
+					int nuevaLen = j.getInt();
+					int tr = j.getInt();
+					// con CRC bueno pero tramos imposibles (fichero de otra versión, bug...)
+					// el registro no se aplica a medias: se trata como el final del diario
+					if (!tramosValidos(j, fin, nuevaLen, tr))
+						break;
+					if (nuevaLen > estado.length)
+						estado = Arrays.copyOf(estado, nuevaLen);
+					for (int t = 0; t < tr; t++) {
+						int off = j.getInt();
+						int cnt = j.getInt();
+						j.get(estado, off, cnt);
+					}
+					len = nuevaLen;
+				}
+			}
+		}
+		return new SnapshotReader(ByteBuffer.wrap(estado, 0, len).slice().order(ByteOrder.LITTLE_ENDIAN),
+				SnapshotFile.VERSION);
+	}
+
+	// ==== INTERNOS ====
+
+	/** true si los 'tr' tramos que empiezan en la posición de j caben en el registro y en 'nuevaLen'. */
+	private static boolean tramosValidos(ByteBuffer j, int fin, int nuevaLen, int tr) {
+		if (nuevaLen < 0 || tr < 0)
+			return false;
+		int p = j.position();
+		for (int t = 0; t < tr; t++) {
+			if (fin - p < CABECERA_TRAMO)
+				return false;
+			int off = j.getInt(p);
+			int cnt = j.getInt(p + 4);
+			p += CABECERA_TRAMO;
+			if (off < 0 || cnt < 0 || off > nuevaLen - cnt || cnt > fin - p)
+				return false;
+			p += cnt;
+		}
+		return p == fin;
+	}
+
+	/** Copia la carga útil de 'estado' a 'actual'; devuelve su longitud. */
+	private int copiar(SnapshotWriter estado) {
+		ByteBuffer src = estado.contents();
+		int len = src.remaining();
+		if (actual.length < len)
+			actual = new byte[Math.max(len, actual.length * 2)];
+		src.get(actual, 0, len);
+		return len;
+	}
+
+	/** Calcula los tramos de 'actual' que difieren de 'base'; devuelve los bytes a escribir. */
+	private int diff(int len) {
+		nTramos = 0;
+		int bytes = 0;
+		int comun = Math.min(len, baseLen);
+		int i = 0;
+		while (i < comun) {
+			// salta la zona igual de golpe (Arrays.mismatch va vectorizado)
+			int m = Arrays.mismatch(actual, i, comun, base, i, comun);
+			if (m < 0)
+				break;
+			i += m;
+			int ini = i;
+			int fin = i + 1; // exclusivo
+			int iguales = 0;
+			for (i = i + 1; i < comun && iguales < HUECO_MIN; i++) {
+				if (actual[i] == base[i]) {
+					iguales++;
+				} else {
+					iguales = 0;
+					fin = i + 1;
+				}
+			}
+			i = fin;
+			bytes += addTramo(ini, fin - ini);
+		}
+		// cola nueva (el estado ha crecido)
+		if (len > comun)
+			bytes += addTramo(comun, len - comun);
+		return bytes;
+	}
+
+	private int addTramo(int off, int n) {
+		if (2 * nTramos + 2 > tramos.length)
+			tramos = Arrays.copyOf(tramos, tramos.length * 2);
+		tramos[2 * nTramos] = off;
+		tramos[2 * nTramos + 1] = n;
+		nTramos++;
+		return n;
+	}
+
+	/** Programa un force() en segundo plano (si no hay ya uno pendiente). */
+	private void forzar() {
+		sinForzar = 0;
+		if (!flushPendiente.compareAndSet(false, true))
+			return;
+		flusher().execute(() -> {
+			flushPendiente.set(false);
+			try {
+				map.force();
+			} catch (Exception e) {
+				System.err.println("RoundJournal: error volcando el diario: " + e.getMessage());
+			}
+		});
+	}
+
+	private static synchronized ExecutorService flusher() {
+		if (flusher == null) {
+			flusher = Executors.newSingleThreadExecutor(r -> {
+				Thread t = Thread.ofPlatform().name("journal-flush").daemon(true).unstarted(r);
+				t.setPriority(Thread.MIN_PRIORITY);
+				return t;
+			});
+		}
+		return flusher;
+	}
+
+	/** Termina los volcados pendientes, para el hilo y cierra los diarios abiertos (al cerrar el juego). */
+	public static synchronized void shutdown() {
+		if (flusher != null) {
+			flusher.shutdown();
+			try {
+				flusher.awaitTermination(500, TimeUnit.MILLISECONDS);
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+			}
+			flusher = null;
+		}
+		for (RoundJournal j : new ArrayList<>(ABIERTOS)) {
+			try {
+				j.close();
+			} catch (IOException e) {
+				System.err.println("RoundJournal: error cerrando el diario: " + e.getMessage());
+			}
+		}
+	}
+}
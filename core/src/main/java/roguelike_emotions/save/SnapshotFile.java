@@ -0,0 +1,141 @@
+package roguelike_emotions.save;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.zip.CRC32;
+
+/**
+ * Fichero de snapshot: cabecera fija + carga útil de SnapshotWriter.
+ *
+ * <pre>
+ * int magic   "REMO"
+ * int version VERSION
+ * int length  bytes de carga útil
+ * int crc32   de la carga útil
+ * byte[length]
+ * </pre>
+ *
+ * Se escribe en un .tmp al lado y se renombra encima del destino, así que un
+ * cierre a mitad de guardado deja el snapshot anterior intacto. Sin fsync por
+ * defecto: el renombrado es atómico respecto a otros procesos, y perder el
+ * último autoguardado tras un corte de luz es aceptable.
+ */
+public final class SnapshotFile {
+
+	public static final int MAGIC = 0x4F4D4552; // "REMO" en little-endian
+	public static final int VERSION = 1;
+
+	private static final int CABECERA = 16;
+
+	private SnapshotFile() {
+	}
+
+	/** Ruta del autoguardado: ~/.roguelike_emotions/autosave.bin */
+	public static Path autosavePath() {
+		return Paths.get(System.getProperty("user.home"), ".roguelike_emotions", "autosave.bin");
+	}
+
+	/** Diario de rondas del autoguardado (RoundJournal), junto al checkpoint. */
+	public static Path journalPath() {
+		return autosavePath().resolveSibling("autosave.journal");
+	}
+
+	/** Repetición de la partida en curso (ReplayLog), junto al checkpoint. */
+	public static Path replayPath() {
+		return autosavePath().resolveSibling("last.replay");
+	}
+
+	// ==== ESCRITURA ====
+
+	public static void write(Path destino, SnapshotWriter writer, boolean fsync) throws IOException {
+		ByteBuffer payload = writer.contents();
+
+		CRC32 crc = new CRC32();
+		crc.update(payload.duplicate());
+
+		ByteBuffer cabecera = ByteBuffer.allocate(CABECERA).order(ByteOrder.LITTLE_ENDIAN);
+		cabecera.putInt(MAGIC).putInt(VERSION).putInt(payload.remaining()).putInt((int) crc.getValue());
+		cabecera.flip();
+
+		Path dir = destino.toAbsolutePath().getParent();
+		if (dir != null && !Files.isDirectory(dir))
+			Files.createDirectories(dir);
+		Path tmp = destino.resolveSibling(destino.getFileName() + ".tmp");
+
+		try (FileChannel ch = FileChannel.open(tmp, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+				StandardOpenOption.TRUNCATE_EXISTING)) {
+			ByteBuffer[] partes = { cabecera, payload };
+			while (cabecera.hasRemaining() || payload.hasRemaining())
+				ch.write(partes);
+			if (fsync)
+				ch.force(false);
+		}
+
+		try {
+			Files.move(tmp, destino, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+		} catch (AtomicMoveNotSupportedException e) {
+			Files.move(tmp, destino, StandardCopyOption.REPLACE_EXISTING);
+		}
+	}
+
+	// ==== LECTURA ====
+
+	/** Lee y valida cabecera y CRC; el reader queda al principio de la carga útil. */
+	public static SnapshotReader read(Path origen) throws IOException {
+		return new SnapshotReader(readPayload(origen), VERSION);
+	}
+
+	/** Carga útil validada (posición al principio, límite al final). */
+	static ByteBuffer readPayload(Path origen) throws IOException {
+		ByteBuffer buf;
+		try (FileChannel ch = FileChannel.open(origen, StandardOpenOption.READ)) {
+			long size = ch.size();
+			if (size < CABECERA || size > Integer.MAX_VALUE)
+				throw new SnapshotFormatException("Tamaño de snapshot inválido: " + size);
+			buf = ByteBuffer.allocate((int) size).order(ByteOrder.LITTLE_ENDIAN);
+			while (buf.hasRemaining()) {
+				if (ch.read(buf) < 0)
+					break;
+			}
+			buf.flip();
+		}
+		return validate(buf, origen.toString());
+	}
+
+	/** Igual que read(Path) sobre un fichero ya leído entero (p. ej. desde el classpath). */
+	public static SnapshotReader read(byte[] bytes, String origen) throws SnapshotFormatException {
+		if (bytes.length < CABECERA)
+			throw new SnapshotFormatException("Tamaño de snapshot inválido: " + bytes.length);
+		return new SnapshotReader(validate(ByteBuffer.wrap(bytes).order(ByteOrder.LITTLE_ENDIAN), origen), VERSION);
+	}
+
+	/** Comprueba cabecera y CRC; devuelve la carga útil. */
+	private static ByteBuffer validate(ByteBuffer buf, String origen) throws SnapshotFormatException {
+		int magic = buf.getInt();
+		int version = buf.getInt();
+		int length = buf.getInt();
+		int crcGuardado = buf.getInt();
+
+		if (magic != MAGIC)
+			throw new SnapshotFormatException("No es un snapshot de partida: " + origen);
+		if (version != VERSION)
+			throw new SnapshotFormatException("Versión de snapshot no soportada: " + version);
+		if (length != buf.remaining())
+			throw new SnapshotFormatException("Snapshot truncado: " + buf.remaining() + " de " + length + " bytes");
+
+		CRC32 crc = new CRC32();
+		crc.update(buf.duplicate());
+		if ((int) crc.getValue() != crcGuardado)
+			throw new SnapshotFormatException("CRC de snapshot incorrecto: " + origen);
+
+		return buf.slice().order(ByteOrder.LITTLE_ENDIAN);
+	}
+}
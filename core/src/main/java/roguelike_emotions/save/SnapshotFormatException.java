@@ -0,0 +1,13 @@
+package roguelike_emotions.save;
+
+import java.io.IOException;
+
+/** El fichero existe pero no es un snapshot válido de esta versión. */
+public class SnapshotFormatException extends IOException {
+
+	private static final long serialVersionUID = 1L;
+
+	public SnapshotFormatException(String message) {
+		super(message);
+	}
+}
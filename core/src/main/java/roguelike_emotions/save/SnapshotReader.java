@@ -0,0 +1,123 @@
+package roguelike_emotions.save;
+
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Lectura del formato de SnapshotWriter. Los errores de formato (fin de datos,
+ * longitudes o enums fuera de rango) salen como SnapshotFormatException para
+ * que quien carga pueda descartar el fichero sin tocar el estado actual.
+ */
+public final class SnapshotReader {
+
+	private final ByteBuffer buf;
+	private final int version;
+
+	SnapshotReader(ByteBuffer buf, int version) {
+		this.buf = buf;
+		this.version = version;
+	}
+
+	/** Lector sobre bytes en memoria (p. ej. los de SnapshotWriter.toByteArray). */
+	public static SnapshotReader of(byte[] bytes) {
+		return new SnapshotReader(ByteBuffer.wrap(bytes).order(ByteOrder.LITTLE_ENDIAN), SnapshotFile.VERSION);
+	}
+
+	/** Versión del formato con la que se escribió el fichero. */
+	public int version() {
+		return version;
+	}
+
+	public int remaining() {
+		return buf.remaining();
+	}
+
+	// ==== PRIMITIVAS ====
+
+	public int getByte() throws SnapshotFormatException {
+		try {
+			return buf.get();
+		} catch (BufferUnderflowException e) {
+			throw truncado();
+		}
+	}
+
+	public boolean getBoolean() throws SnapshotFormatException {
+		return getByte() != 0;
+	}
+
+	public int getInt() throws SnapshotFormatException {
+		try {
+			return buf.getInt();
+		} catch (BufferUnderflowException e) {
+			throw truncado();
+		}
+	}
+
+	public long getLong() throws SnapshotFormatException {
+		try {
+			return buf.getLong();
+		} catch (BufferUnderflowException e) {
+			throw truncado();
+		}
+	}
+
+	public float getFloat() throws SnapshotFormatException {
+		try {
+			return buf.getFloat();
+		} catch (BufferUnderflowException e) {
+			throw truncado();
+		}
+	}
+
+	public double getDouble() throws SnapshotFormatException {
+		try {
+			return buf.getDouble();
+		} catch (BufferUnderflowException e) {
+			throw truncado();
+		}
+	}
+
+	public String getString() throws SnapshotFormatException {
+		int len = getInt();
+		if (len == -1)
+			return null;
+		if (len < 0 || len > buf.remaining())
+			throw new SnapshotFormatException("Longitud de texto inválida: " + len);
+		byte[] bytes = new byte[len];
+		buf.get(bytes);
+		return new String(bytes, StandardCharsets.UTF_8);
+	}
+
+	/** Bloque escrito con putBytes. */
+	public byte[] getBytes() throws SnapshotFormatException {
+		int len = getCount();
+		byte[] bytes = new byte[len];
+		buf.get(bytes);
+		return bytes;
+	}
+
+	/** Enum escrito con putEnum; null si se guardó null. */
+	public <E extends Enum<E>> E getEnum(E[] values) throws SnapshotFormatException {
+		int ord = getByte();
+		if (ord == -1)
+			return null;
+		if (ord < 0 || ord >= values.length)
+			throw new SnapshotFormatException("Ordinal fuera de rango: " + ord);
+		return values[ord];
+	}
+
+	/** Tamaño de una colección, acotado por los bytes que quedan. */
+	public int getCount() throws SnapshotFormatException {
+		int n = getInt();
+		if (n < 0 || n > buf.remaining())
+			throw new SnapshotFormatException("Tamaño de colección inválido: " + n);
+		return n;
+	}
+
+	private SnapshotFormatException truncado() {
+		return new SnapshotFormatException("Snapshot truncado en el byte " + buf.position());
+	}
+}
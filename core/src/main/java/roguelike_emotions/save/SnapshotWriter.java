@@ -0,0 +1,117 @@
+package roguelike_emotions.save;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Buffer de escritura del formato binario de partida. Se reutiliza entre
+ * guardados (reset()) y crece al doble si se queda corto, así que en régimen
+ * estable un autoguardado no reserva memoria nueva salvo los bytes UTF-8 de
+ * los textos.
+ *
+ * Sin reflexión: cada clase escribe sus campos en un orden fijo y la versión
+ * de SnapshotFile cubre cualquier cambio de ese orden.
+ */
+public final class SnapshotWriter {
+
+	private ByteBuffer buf;
+
+	public SnapshotWriter(int capacity) {
+		this.buf = ByteBuffer.allocateDirect(Math.max(256, capacity)).order(ByteOrder.LITTLE_ENDIAN);
+	}
+
+	/** Vacía el buffer para un nuevo guardado (conserva la capacidad). */
+	public SnapshotWriter reset() {
+		buf.clear();
+		return this;
+	}
+
+	public int size() {
+		return buf.position();
+	}
+
+	// ==== PRIMITIVAS ====
+
+	public void putByte(int v) {
+		ensure(1);
+		buf.put((byte) v);
+	}
+
+	public void putBoolean(boolean v) {
+		putByte(v ? 1 : 0);
+	}
+
+	public void putInt(int v) {
+		ensure(4);
+		buf.putInt(v);
+	}
+
+	public void putLong(long v) {
+		ensure(8);
+		buf.putLong(v);
+	}
+
+	public void putFloat(float v) {
+		ensure(4);
+		buf.putFloat(v);
+	}
+
+	public void putDouble(double v) {
+		ensure(8);
+		buf.putDouble(v);
+	}
+
+	/** Longitud en bytes (-1 = null) + UTF-8. */
+	public void putString(String s) {
+		if (s == null) {
+			putInt(-1);
+			return;
+		}
+		byte[] bytes = s.getBytes(StandardCharsets.UTF_8);
+		putInt(bytes.length);
+		ensure(bytes.length);
+		buf.put(bytes);
+	}
+
+	/** Longitud + bytes tal cual (bloques opacos, p. ej. un snapshot dentro de otro). */
+	public void putBytes(byte[] bytes) {
+		putInt(bytes.length);
+		ensure(bytes.length);
+		buf.put(bytes);
+	}
+
+	/** Ordinal en un byte (los enums del juego tienen menos de 128 valores). */
+	public void putEnum(Enum<?> e) {
+		putByte(e == null ? -1 : e.ordinal());
+	}
+
+	// ==== SALIDA ====
+
+	/** Copia de lo escrito (para guardarlo en memoria o compararlo). */
+	public byte[] toByteArray() {
+		ByteBuffer src = contents();
+		byte[] out = new byte[src.remaining()];
+		src.get(out);
+		return out;
+	}
+
+	/** Vista de solo lectura de lo escrito, lista para un FileChannel. */
+	ByteBuffer contents() {
+		ByteBuffer out = buf.duplicate().order(ByteOrder.LITTLE_ENDIAN);
+		out.flip();
+		return out;
+	}
+
+	private void ensure(int n) {
+		if (buf.remaining() >= n)
+			return;
+		int cap = buf.capacity();
+		while (cap - buf.position() < n)
+			cap *= 2;
+		ByteBuffer mayor = ByteBuffer.allocateDirect(cap).order(ByteOrder.LITTLE_ENDIAN);
+		buf.flip();
+		mayor.put(buf);
+		buf = mayor;
+	}
+}
@@ -1,15 +1,17 @@
 package roguelike_emotions.screens;
 
 import java.util.ArrayList;
+import java.util.IdentityHashMap;
 import java.util.List;
+import java.util.Map;
 
 import com.badlogic.gdx.Gdx;
 import com.badlogic.gdx.Input;
-import com.badlogic.gdx.Screen;
 import com.badlogic.gdx.graphics.Color;
 import com.badlogic.gdx.graphics.g2d.SpriteBatch;
 import com.badlogic.gdx.math.Interpolation;
 import com.badlogic.gdx.scenes.scene2d.Actor;
+import com.badlogic.gdx.scenes.scene2d.Group;
 import com.badlogic.gdx.scenes.scene2d.InputEvent;
 import com.badlogic.gdx.scenes.scene2d.InputListener;
 import com.badlogic.gdx.scenes.scene2d.Stage;
@@ -21,6 +23,7 @@ import com.badlogic.gdx.scenes.scene2d.ui.Skin;
 import com.badlogic.gdx.scenes.scene2d.ui.Table;
 import com.badlogic.gdx.scenes.scene2d.ui.TextButton;
 import com.badlogic.gdx.scenes.scene2d.utils.ClickListener;
+import com.badlogic.gdx.scenes.scene2d.utils.Drawable;
 import com.badlogic.gdx.utils.Align;
 import com.badlogic.gdx.utils.ScreenUtils;
 import com.badlogic.gdx.utils.viewport.FitViewport;
@@ -28,7 +31,9 @@ import com.badlogic.gdx.utils.viewport.FitViewport;
 import roguelike_emotions.MainGame;
 import roguelike_emotions.characters.Player;
 import roguelike_emotions.fusionCodex.EmotionCard;
+import roguelike_emotions.fusionCodex.EmotionCardList;
 import roguelike_emotions.fusionCodex.FusionVisualHelpers;
+import roguelike_emotions.graphics.DrawCallCounter;
 import roguelike_emotions.mainMechanics.EmotionInstance;
 import roguelike_emotions.mainMechanics.FusionNegotiation;
 import roguelike_emotions.mainMechanics.FusionNegotiationHandler;
@@ -52,7 +57,7 @@ import roguelike_emotions.vfx.FusionParticleSystem;
  * 
  * @version 3.0
  */
-public class FusionCodexScreen implements Screen {
+public class FusionCodexScreen implements PooledScreen {
 
 	// ==================== CONSTANTS ====================
 
@@ -71,25 +76,34 @@ public class FusionCodexScreen implements Screen {
 	private final Stage stage;
 	private final Skin skin;
 	private final GameManager gm;
-	private final Player player;
+	private Player player;
 	private final SoundManager soundManager;
 	private final FusionParticleSystem particleSystem;
-	private final FusionNegotiationHandler negotiationHandler;
+	private final DrawCallCounter drawCalls = new DrawCallCounter();
+	private FusionNegotiationHandler negotiationHandler;
 
 	// ==================== STATE ====================
 
 	private final List<EmotionInstance> emocionesView;
-	private final List<EmotionCard> cards;
 	private EmotionInstance selectedA, selectedB, preview;
+	// compatibilidad con la emoción de referencia: solo se calcula para las filas que se ven
+	private EmotionInstance compatReference;
+	private final Map<EmotionInstance, Boolean> compatCache = new IdentityHashMap<>();
 	private int highlightedIndex = 0;
+	// preparación por pasos (PooledScreen) y si las cartas aún son las de prepare()
+	private int prepareStep = 0;
+	private boolean cardsUnused;
 
 	// ==================== UI COMPONENTS ====================
 
+	private Table rootTable, leftPanel, middlePanel, rightPanel;
 	private ScrollPane cardScroll;
-	private Table cardListGroup;
+	private EmotionCardList cardList;
 	private Table slotAContainer, slotBContainer;
 	private Label slotALabel, slotBLabel;
 	private Image slotAIcon, slotBIcon;
+	// brillo del color de la emoción en cada hueco (textura con referencia)
+	private Drawable slotAGlow, slotBGlow;
 	private Label previewTitle, previewMeta;
 	private Image previewIcon;
 	private Table previewEffectsTable, previewContentPanel;
@@ -103,24 +117,50 @@ public class FusionCodexScreen implements Screen {
 		this.gm = GameManager.getInstance();
 		this.player = gm.getPlayer();
 		this.emocionesView = new ArrayList<>(player.getEmocionesActivas());
-		this.cards = new ArrayList<>();
 
 		this.stage = new Stage(new FitViewport(VIEWPORT_W, VIEWPORT_H), batch);
 		this.skin = ElegantSkinFactory.create();
 		this.soundManager = SoundManager.getInstance();
 		this.particleSystem = new FusionParticleSystem(VIEWPORT_W, VIEWPORT_H);
 		this.negotiationHandler = new FusionNegotiationHandler(player);
+		// la interfaz se construye en prepare() (por pasos, antes de mostrarla)
+	}
 
-		buildUI();
-		wireInput();
-		rebuildCards();
-		updateAll();
+	/** Con el batch y la fuente compartidos (para ScreenManager.obtain/preload). */
+	public static FusionCodexScreen create() {
+		MainGame game = MainGame.getInstance();
+		return new FusionCodexScreen(game.getBatch(), game.getFont());
+	}
+
+	@Override
+	public boolean prepare() {
+		switch (prepareStep) {
+		case 0 -> leftPanel = buildLeftPanel();
+		case 1 -> middlePanel = buildMiddlePanel();
+		case 2 -> rightPanel = buildRightPanel();
+		case 3 -> {
+			buildUI();
+			wireInput();
+		}
+		case 4 -> {
+			// con las emociones de ahora: deja las texturas de las cartas creadas
+			rebuildCards();
+			updateAll();
+			cardsUnused = true;
+		}
+		case 5 -> rootTable.validate();
+		default -> {
+			return true;
+		}
+		}
+		prepareStep++;
+		return false;
 	}
 
 	// ==================== UI CONSTRUCTION ====================
 
 	private void buildUI() {
-		Table root = new Table();
+		Table root = rootTable = new Table();
 		root.setFillParent(true);
 		root.pad(VIEWPORT_W * 0.02f);
 		stage.addActor(root);
@@ -133,11 +173,7 @@ public class FusionCodexScreen implements Screen {
 		root.add(title).expandX().fillX().colspan(3).padBottom(VIEWPORT_H * 0.03f);
 		root.row();
 
-		// Paneles principales
-		Table leftPanel = buildLeftPanel();
-		Table middlePanel = buildMiddlePanel();
-		Table rightPanel = buildRightPanel();
-
+		// Paneles principales (ya construidos en prepare)
 		root.defaults().top().space(VIEWPORT_W * 0.013f);
 		root.add(leftPanel).width(VIEWPORT_W * 0.33f).fillY().expandY();
 		root.add(middlePanel).width(VIEWPORT_W * 0.27f).fillY().expandY();
@@ -147,9 +183,15 @@ public class FusionCodexScreen implements Screen {
 		// Footer
 		Table footer = buildFooter();
 		root.add(footer).colspan(3).expandX().center();
+	}
 
-		// Animaciones de entrada
-		AnimationHelper.fadeInWithScale(root);
+	/** Animaciones de entrada (en cada show). */
+	private void animateEntry() {
+		for (Actor a : new Actor[] { rootTable, leftPanel, middlePanel, rightPanel })
+			a.clearActions();
+		rootTable.invalidateHierarchy();
+		rootTable.validate();
+		AnimationHelper.fadeInWithScale(rootTable);
 		AnimationHelper.slideInFromBottom(leftPanel, 20f);
 		Gdx.app.postRunnable(() -> AnimationHelper.slideInFromBottom(middlePanel, 20f));
 		Gdx.app.postRunnable(() -> AnimationHelper.slideInFromBottom(rightPanel, 20f));
@@ -168,11 +210,14 @@ public class FusionCodexScreen implements Screen {
 		container.add(FusionVisualHelpers.makeGradientDivider()).height(2f).expandX().fillX().padBottom(12f);
 		container.row();
 
-		cardListGroup = new Table();
-		cardListGroup.top().left();
-		cardListGroup.defaults().expandX().fillX().space(8f);
+		Label emptyMsg = new Label("No hay emociones disponibles", skin, "muted");
+		emptyMsg.setAlignment(Align.center);
+		emptyMsg.setFontScale(0.9f);
+		cardList = new EmotionCardList(CARD_HEIGHT, 8f, () -> new EmotionCard(skin, soundManager, stage, this),
+				emptyMsg, 40f);
+		cardList.setCompatibility(this::compatibilityOf);
 
-		cardScroll = new ScrollPane(cardListGroup, skin, "scroll");
+		cardScroll = new ScrollPane(cardList, skin, "scroll");
 		cardScroll.setFadeScrollBars(false);
 		cardScroll.setScrollingDisabled(true, false);
 		cardScroll.setOverscroll(false, false);
@@ -388,40 +433,18 @@ public class FusionCodexScreen implements Screen {
 
 	// ==================== CARD MANAGEMENT ====================
 
+	/**
+	 * La lista solo tiene cartas para las filas visibles: cambiar las emociones
+	 * reasigna esas (las que siguen con la misma emoción no se tocan).
+	 */
 	private void rebuildCards() {
-		cards.clear();
-		cardListGroup.clear();
-
-		if (emocionesView.isEmpty()) {
-			Label emptyMsg = new Label("No hay emociones disponibles", skin, "muted");
-			emptyMsg.setAlignment(Align.center);
-			emptyMsg.setFontScale(0.9f);
-			cardListGroup.add(emptyMsg).center().pad(40f);
-			return;
-		}
-
-		for (int i = 0; i < emocionesView.size(); i++) {
-			EmotionInstance e = emocionesView.get(i);
-			EmotionCard card = new EmotionCard(e, i, skin, soundManager, stage, this);
-			cards.add(card);
-			cardListGroup.add(card).expandX().fillX().height(CARD_HEIGHT);
-			cardListGroup.row();
-			card.getColor().a = 1f;
-		}
-
-		cardListGroup.invalidate();
-		cardListGroup.validate();
-		highlightedIndex = Math.min(highlightedIndex, Math.max(0, cards.size() - 1));
+		cardList.setItems(emocionesView);
+		cardScroll.validate();
+		highlightedIndex = Math.min(highlightedIndex, Math.max(0, emocionesView.size() - 1));
 		updateHighlight();
 
 		// Animación escalonada
-		Gdx.app.postRunnable(() -> {
-			for (int i = 0; i < cards.size(); i++) {
-				EmotionCard card = cards.get(i);
-				card.getColor().a = 0f;
-				card.addAction(Actions.sequence(Actions.delay(i * 0.04f), Actions.fadeIn(0.25f, Interpolation.smooth)));
-			}
-		});
+		Gdx.app.postRunnable(cardList::animateEntry);
 	}
 
 	public void onCardClicked(EmotionCard card) {
@@ -432,34 +455,29 @@ public class FusionCodexScreen implements Screen {
 	}
 
 	private void updateHighlight() {
-		for (int i = 0; i < cards.size(); i++) {
-			cards.get(i).setHighlighted(i == highlightedIndex, 1.03f);
-		}
+		cardList.setHighlighted(highlightedIndex);
 
-		if (highlightedIndex >= 0 && highlightedIndex < cards.size()) {
-			Actor a = cards.get(highlightedIndex);
-			cardScroll.scrollTo(0, a.getY(), 0, a.getHeight(), false, true);
+		if (highlightedIndex >= 0 && highlightedIndex < emocionesView.size()) {
+			cardScroll.scrollTo(0, cardList.rowY(highlightedIndex), 0, CARD_HEIGHT, false, true);
 		}
 	}
 
+	/** Fija la emoción de referencia; las cartas la consultan al mostrarse (compatibilityOf). */
 	private void updateCardCompatibility() {
-		if (selectedA == null && selectedB == null) {
-			cards.forEach(card -> card.updateCompatibility(EmotionCard.CompatibilityState.NEUTRAL));
-			return;
-		}
-
 		EmotionInstance reference = (selectedA != null) ? selectedA : selectedB;
-
-		for (EmotionCard card : cards) {
-			if (card.getEmotion() == reference) {
-				card.updateCompatibility(EmotionCard.CompatibilityState.NEUTRAL);
-				continue;
-			}
-
-			boolean isCompatible = checkCompatibility(reference, card.getEmotion());
-			card.updateCompatibility(isCompatible ? EmotionCard.CompatibilityState.COMPATIBLE
-					: EmotionCard.CompatibilityState.INCOMPATIBLE);
+		if (reference != compatReference) {
+			compatReference = reference;
+			compatCache.clear();
 		}
+		cardList.refreshStates();
+	}
+
+	private EmotionCard.CompatibilityState compatibilityOf(EmotionInstance e) {
+		EmotionInstance reference = compatReference;
+		if (reference == null || e == reference)
+			return EmotionCard.CompatibilityState.NEUTRAL;
+		boolean isCompatible = compatCache.computeIfAbsent(e, x -> checkCompatibility(reference, x));
+		return isCompatible ? EmotionCard.CompatibilityState.COMPATIBLE : EmotionCard.CompatibilityState.INCOMPATIBLE;
 	}
 
 	private boolean checkCompatibility(EmotionInstance e1, EmotionInstance e2) {
@@ -518,16 +536,21 @@ public class FusionCodexScreen implements Screen {
 		slotAIcon.setDrawable(selectedA != null ? selectedA.getIconDrawable() : null);
 		slotBIcon.setDrawable(selectedB != null ? selectedB.getIconDrawable() : null);
 
+		FusionVisualHelpers.release(slotAGlow);
+		FusionVisualHelpers.release(slotBGlow);
+		slotAGlow = null;
+		slotBGlow = null;
+
 		if (selectedA != null) {
 			Color emotionColor = safeParseColor(selectedA.getColor());
-			slotAContainer.setBackground(FusionVisualHelpers.makeSlotWithEmotionGlow(emotionColor));
+			slotAContainer.setBackground(slotAGlow = FusionVisualHelpers.makeSlotWithEmotionGlow(emotionColor));
 		} else {
 			slotAContainer.setBackground(FusionVisualHelpers.makeSlotGradientBg());
 		}
 
 		if (selectedB != null) {
 			Color emotionColor = safeParseColor(selectedB.getColor());
-			slotBContainer.setBackground(FusionVisualHelpers.makeSlotWithEmotionGlow(emotionColor));
+			slotBContainer.setBackground(slotBGlow = FusionVisualHelpers.makeSlotWithEmotionGlow(emotionColor));
 		} else {
 			slotBContainer.setBackground(FusionVisualHelpers.makeSlotGradientBg());
 		}
@@ -712,7 +735,7 @@ public class FusionCodexScreen implements Screen {
 		switch (result.getType()) {
 		case DIRECT_FUSION:
 		case ACCEPTED:
-			executeFusion();
+			executeFusion(List.of(), 0);
 			break;
 
 		case REJECTED:
@@ -733,7 +756,8 @@ public class FusionCodexScreen implements Screen {
 		}
 	}
 
-	private void executeFusion() {
+	/** 'sacrificed' y 'hpCost': lo ya pagado en la negociación (va a la repetición). */
+	private void executeFusion(List<EmotionInstance> sacrificed, int hpCost) {
 		soundManager.play("success");
 
 		Color colorA = safeParseColor(selectedA.getColor());
@@ -749,11 +773,7 @@ public class FusionCodexScreen implements Screen {
 		stage.getRoot().addAction(
 				Actions.sequence(Actions.delay(0.8f), Actions.parallel(Actions.fadeOut(0.3f, Interpolation.smooth),
 						Actions.scaleTo(1.05f, 1.05f, 0.3f, Interpolation.smooth)), Actions.run(() -> {
-							player.removeEmocion(selectedA);
-							player.removeEmocion(selectedB);
-							EmotionInstance fusion = EmotionCombiner.combinar(selectedA, selectedB);
-							player.añadirEmocion(fusion);
-							gm.getCodex().registrar(fusion);
+							gm.fuseActiveEmotions(selectedA, selectedB, sacrificed, hpCost);
 							salirAlCombate();
 						})));
 	}
@@ -832,8 +852,8 @@ public class FusionCodexScreen implements Screen {
 				if (totalSacrifice > 0) {
 					showSacrificeSelector(totalSacrifice, totalHp);
 				} else {
-					negotiationHandler.payCosts(totalHp, 0);
-					executeFusion();
+					boolean paid = negotiationHandler.payCosts(totalHp, 0);
+					executeFusion(List.of(), paid ? totalHp : 0);
 				}
 			});
 		} else {
@@ -864,7 +884,7 @@ public class FusionCodexScreen implements Screen {
 
 		new DialogBuilder(skin, stage).icon("⚠️").title("FUSIÓN DEBILITADA").titleColor(COLOR_WARNING).message(message)
 				.customContent(penaltyPanel).size(540f, 360f).cancelText("Cancelar").confirmText("Continuar Igual")
-				.onConfirm(this::executeFusion).build();
+				.onConfirm(() -> executeFusion(List.of(), 0)).build();
 	}
 
 	private void showUnstableDialog(FusionNegotiationHandler.NegotiationResult result) {
@@ -894,7 +914,7 @@ public class FusionCodexScreen implements Screen {
 					if (failed) {
 						CombatLogger.get().log("⚡ ¡La fusión FALLÓ! Efectividad reducida");
 					}
-					executeFusion();
+					executeFusion(List.of(), 0);
 				}).build();
 	}
 
@@ -947,13 +967,11 @@ public class FusionCodexScreen implements Screen {
 
 						negotiationHandler.sacrificeEmotions(sacrificed.toArray(new EmotionInstance[0]), gluttons);
 
-						if (hpCost > 0) {
-							negotiationHandler.payCosts(hpCost, 0);
-						}
+						boolean paid = hpCost > 0 && negotiationHandler.payCosts(hpCost, 0);
 
 						AnimationHelper.fadeOutWithScale(dialog, () -> {
 							rebuildCards();
-							executeFusion();
+							executeFusion(sacrificed, paid ? hpCost : 0);
 						});
 					}
 				}
@@ -1080,8 +1098,8 @@ public class FusionCodexScreen implements Screen {
 			return true;
 
 		case Input.Keys.SPACE:
-			if (highlightedIndex >= 0 && highlightedIndex < cards.size()) {
-				pickEmotion(cards.get(highlightedIndex).getEmotion());
+			if (highlightedIndex >= 0 && highlightedIndex < emocionesView.size()) {
+				pickEmotion(emocionesView.get(highlightedIndex));
 			}
 			return true;
 
@@ -1109,10 +1127,10 @@ public class FusionCodexScreen implements Screen {
 		// Selección numérica (1-9)
 		if (keycode >= Input.Keys.NUM_1 && keycode <= Input.Keys.NUM_9) {
 			int idx = keycode - Input.Keys.NUM_1;
-			if (idx < cards.size()) {
+			if (idx < emocionesView.size()) {
 				highlightedIndex = idx;
 				updateHighlight();
-				pickEmotion(cards.get(idx).getEmotion());
+				pickEmotion(emocionesView.get(idx));
 				soundManager.play("select");
 			}
 			return true;
@@ -1122,9 +1140,9 @@ public class FusionCodexScreen implements Screen {
 	}
 
 	private void moveHighlight(int delta) {
-		if (cards.isEmpty())
+		if (emocionesView.isEmpty())
 			return;
-		highlightedIndex = Math.max(0, Math.min(cards.size() - 1, highlightedIndex + delta));
+		highlightedIndex = Math.max(0, Math.min(emocionesView.size() - 1, highlightedIndex + delta));
 		updateHighlight();
 	}
 
@@ -1212,16 +1230,61 @@ public class FusionCodexScreen implements Screen {
 
 	@Override
 	public void show() {
+		while (!prepare()) {
+			// creada sin pasar por ScreenManager: se prepara entera aquí
+		}
+		reset();
+		animateEntry();
 		Gdx.input.setInputProcessor(stage);
 	}
 
+	/** Estado inicial con las emociones actuales: la pantalla se reutiliza entre combates. */
+	private void reset() {
+		// restos del uso anterior: diálogos, tooltips y la animación de salida
+		for (Actor a : stage.getActors().toArray())
+			if (a != rootTable)
+				a.remove();
+		Group root = stage.getRoot();
+		root.clearActions();
+		root.getColor().a = 1f;
+		root.setScale(1f);
+
+		if (gm.getPlayer() != player) {
+			player = gm.getPlayer();
+			negotiationHandler = new FusionNegotiationHandler(player);
+		}
+		selectedA = null;
+		selectedB = null;
+		preview = null;
+		highlightedIndex = 0;
+		updateCardCompatibility();
+		lastFusionLabel.setText("");
+		lastFusionLabel.setColor(Color.WHITE);
+
+		List<EmotionInstance> activas = player.getEmocionesActivas();
+		if (!cardsUnused || !emocionesView.equals(activas)) {
+			emocionesView.clear();
+			emocionesView.addAll(activas);
+			rebuildCards();
+		}
+		cardsUnused = false;
+		updateAll();
+	}
+
 	@Override
 	public void render(float delta) {
 		ScreenUtils.clear(0.015f, 0.025f, 0.05f, 1f);
 		particleSystem.update(delta);
 		stage.act(delta);
+		drawCalls.begin(batch);
 		stage.draw();
 		particleSystem.render(batch);
+		drawCalls.end(batch);
+	}
+
+	/** Draw calls del último frame (depuración del batching). */
+	public DrawCallCounter getDrawCalls() {
+		return drawCalls;
 	}
 
 	@Override
@@ -1243,6 +1306,10 @@ public class FusionCodexScreen implements Screen {
 
 	@Override
 	public void dispose() {
+		if (cardList != null) // descartada antes de preparar la lista
+			cardList.dispose();
+		FusionVisualHelpers.release(slotAGlow);
+		FusionVisualHelpers.release(slotBGlow);
 		stage.dispose();
 		particleSystem.dispose();
 	}
@@ -0,0 +1,21 @@
+package roguelike_emotions.screens;
+
+import com.badlogic.gdx.Screen;
+
+/**
+ * Pantalla que ScreenManager guarda al salir de ella y vuelve a usar.
+ *
+ * - prepare(): la construcción cara (árbol de scene2d, layout, texturas) en
+ *   pasos cortos; ScreenManager llama a uno o varios por frame mientras se
+ *   muestra otra pantalla.
+ * - show(): se llama en cada uso; debe dejar la pantalla como nueva con los
+ *   datos actuales de la partida (que pueden haber cambiado desde prepare()).
+ * - dispose(): solo al cerrar el juego.
+ */
+public interface PooledScreen extends Screen {
+
+	/** Da un paso de la preparación; true cuando no queda nada. */
+	default boolean prepare() {
+		return true;
+	}
+}
@@ -3,11 +3,8 @@ package roguelike_emotions.screens;
 import com.badlogic.gdx.Gdx;
 import com.badlogic.gdx.Input;
 import com.badlogic.gdx.InputAdapter;
-import com.badlogic.gdx.Screen;
 import com.badlogic.gdx.graphics.GL20;
 import com.badlogic.gdx.graphics.OrthographicCamera;
-import com.badlogic.gdx.graphics.Pixmap;
-import com.badlogic.gdx.graphics.Texture;
 import com.badlogic.gdx.graphics.g2d.BitmapFont;
 import com.badlogic.gdx.graphics.g2d.SpriteBatch;
 import com.badlogic.gdx.graphics.g2d.TextureRegion;
@@ -18,23 +15,32 @@ import com.badlogic.gdx.utils.viewport.FitViewport;
 import com.badlogic.gdx.utils.viewport.Viewport;
 
 import roguelike_emotions.MainGame;
+import roguelike_emotions.graphics.DrawCallCounter;
 import roguelike_emotions.mainMechanics.EmotionEffect;
 import roguelike_emotions.mainMechanics.EmotionInstance;
 import roguelike_emotions.managers.GameManager;
+import roguelike_emotions.ui.IconAtlas;
 import roguelike_emotions.ui.IconRegistry;
-import roguelike_emotions.ui.fonts.FontManager;
+import roguelike_emotions.ui.fonts.FontRegistry;
+import roguelike_emotions.ui.fonts.UiFont;
 
 /**
  * Pantalla post-combate autocontenida. - Muestra victoria/derrota - Permite
  * elegir 1 de 3 recompensas (solo selección por ahora) - ENTER / click en
  * "Siguiente combate" reinicia TurnCombatScreen
+ *
+ * Va al pool de ScreenManager: se pide con obtain(), se le da el resultado
+ * con setResult() y show() sortea las recompensas de cada combate.
  */
-public final class PostCombatScreen implements Screen {
+public final class PostCombatScreen implements PooledScreen {
 	private static final float VIEWPORT_WIDTH = 1280f;
 	private static final float VIEWPORT_HEIGHT = 720f;
+	private static final float CARD_W = 300;
+	private static final float CARD_H = 220;
+	private static final float CARD_GAP = 60;
 	// Resultado mínimo del combate (sin acoplarte a sistemas futuros)
-	private final boolean victory;
-	private final int enemiesDefeated;
+	private boolean victory;
+	private int enemiesDefeated;
 
 	// Render básico como en tus screens actuales
 	private final SpriteBatch batch;
@@ -44,16 +50,19 @@ public final class PostCombatScreen implements Screen {
 	private final BitmapFont fontBig;
 	private EmotionInstance rewardEmotion;
 	private TextureRegion rewardIcon;
-	// Textura 1x1 para paneles (creada runtime, no depende de assets)
-	private final Texture pixel;
+	// Pixel 1x1 para paneles (región del atlas compartido)
+	private final TextureRegion pixel;
 
 	// UI / selección
 	private final RewardCard[] cards;
 	private int selectedIndex = 0;
+	// ENTER/click: se avanza al final del render (el fundido captura este frame)
+	private boolean advanceRequested;
 	private final InputAdapter inputAdapter;
 
 	private final Rectangle btnNext;
 	private final Vector3 tmp = new Vector3();
+	private final DrawCallCounter drawCalls = new DrawCallCounter();
 
 	// ----------------------------
 	// Modelo simple de recompensas
@@ -75,7 +84,7 @@ public final class PostCombatScreen implements Screen {
 	}
 
 	private static final class RewardCard {
-		final RewardType type;
+		RewardType type;
 		final Rectangle bounds;
 
 		RewardCard(RewardType type, Rectangle bounds) {
@@ -84,44 +93,29 @@ public final class PostCombatScreen implements Screen {
 		}
 	}
 
-	public PostCombatScreen(boolean victory, int enemiesDefeated) {
-		this.victory = victory;
-		this.enemiesDefeated = enemiesDefeated;
-
-		this.batch = new SpriteBatch();
+	public PostCombatScreen() {
+		// batch compartido: crear uno propio compila su shader en pleno cambio de pantalla
+		this.batch = MainGame.getInstance().getBatch();
 		this.camera = new OrthographicCamera();
 		this.viewport = new FitViewport(1280, 720, camera);
 
-		this.font = FontManager.body();
-		this.fontBig = FontManager.title();
+		// fuentes compartidas: no se liberan aquí
+		this.font = FontRegistry.get(UiFont.BODY);
+		this.fontBig = FontRegistry.get(UiFont.TITLE);
 
-		// pixel 1x1
-		Pixmap pm = new Pixmap(1, 1, Pixmap.Format.RGBA8888);
-		pm.setColor(1, 1, 1, 1);
-		pm.fill();
-		this.pixel = new Texture(pm);
-		pm.dispose();
-		GameManager gm = GameManager.getInstance();
-		rewardEmotion = gm.getLastVictoryReward();
-		rewardIcon = (rewardEmotion != null) ? IconRegistry.emotionRegion(rewardEmotion.getTipoBase()) : null;
-		// Layout cards
+		// pixel 1x1 (misma página que los iconos de recompensa)
+		this.pixel = IconAtlas.whitePixel();
+		// Layout cards (el tipo se sortea en cada show)
 		float w = viewport.getWorldWidth();
 		float h = viewport.getWorldHeight();
 
-		float cardW = 300;
-		float cardH = 220;
-		float gap = 60;
-		float startX = (w - (3 * cardW + 2 * gap)) / 2f;
+		float startX = (w - (3 * CARD_W + 2 * CARD_GAP)) / 2f;
 		float y = h * 0.30f;
 
-		RewardType[] pool = RewardType.values();
-		RewardType a = pool[(int) (Math.random() * pool.length)];
-		RewardType b = pool[(int) (Math.random() * pool.length)];
-		RewardType c = pool[(int) (Math.random() * pool.length)];
-
-		this.cards = new RewardCard[] { new RewardCard(a, new Rectangle(startX, y, cardW, cardH)),
-				new RewardCard(b, new Rectangle(startX + cardW + gap, y, cardW, cardH)),
-				new RewardCard(c, new Rectangle(startX + 2 * (cardW + gap), y, cardW, cardH)) };
+		this.cards = new RewardCard[3];
+		for (int i = 0; i < cards.length; i++)
+			cards[i] = new RewardCard(RewardType.HEAL,
+					new Rectangle(startX + i * (CARD_W + CARD_GAP), y, CARD_W, CARD_H));
 
 		// Botón siguiente combate
 		this.btnNext = new Rectangle(w * 0.5f - 180, h * 0.08f, 360, 70);
@@ -133,7 +127,7 @@ public final class PostCombatScreen implements Screen {
 				switch (keycode) {
 				case Input.Keys.LEFT -> selectedIndex = (selectedIndex + 2) % 3;
 				case Input.Keys.RIGHT -> selectedIndex = (selectedIndex + 1) % 3;
-				case Input.Keys.ENTER -> advanceToNextCombat();
+				case Input.Keys.ENTER -> advanceRequested = true;
 				case Input.Keys.ESCAPE -> Gdx.app.exit();
 				}
 				return true;
@@ -153,7 +147,7 @@ public final class PostCombatScreen implements Screen {
 					}
 				}
 				if (btnNext.contains(x, y)) {
-					advanceToNextCombat();
+					advanceRequested = true;
 					return true;
 				}
 				return false;
@@ -161,6 +155,12 @@ public final class PostCombatScreen implements Screen {
 		};
 	}
 
+	/** Resultado del combate que se va a mostrar (antes de cambiar a esta pantalla). */
+	public void setResult(boolean victory, int enemiesDefeated) {
+		this.victory = victory;
+		this.enemiesDefeated = enemiesDefeated;
+	}
+
 	private void advanceToNextCombat() {
 
 		GameManager gm = GameManager.getInstance();
@@ -169,8 +169,7 @@ public final class PostCombatScreen implements Screen {
 			gm.prepareNextCombat();
 			gm.grantVictoryEmotionReward();
 			if (gm.getCodexEntries().size() >= 2) {
-				MainGame.cambiarPantalla(
-						new FusionCodexScreen(MainGame.getInstance().getBatch(), MainGame.getInstance().getFont()));
+				MainGame.cambiarPantalla(MainGame.pantallas().obtain(FusionCodexScreen.class, FusionCodexScreen::create));
 			}
 			return;
 		} else {
@@ -185,6 +184,18 @@ public final class PostCombatScreen implements Screen {
 	public void show() {
 		Gdx.input.setInputProcessor(inputAdapter);
 
+		GameManager gm = GameManager.getInstance();
+		rewardEmotion = gm.getLastVictoryReward();
+		rewardIcon = (rewardEmotion != null) ? IconRegistry.emotionRegion(rewardEmotion.getTipoBase()) : null;
+		RewardType[] pool = RewardType.values();
+		for (RewardCard c : cards)
+			c.type = pool[(int) (Math.random() * pool.length)];
+		selectedIndex = 0;
+		advanceRequested = false;
+
+		// tras una victoria viene el códice: que se vaya construyendo mientras se elige
+		if (victory)
+			MainGame.pantallas().preload(FusionCodexScreen.class, FusionCodexScreen::create);
 	}
 
 	@Override
@@ -199,6 +210,7 @@ public final class PostCombatScreen implements Screen {
 		float w = viewport.getWorldWidth();
 		float h = viewport.getWorldHeight();
 
+		drawCalls.begin(batch);
 		batch.begin();
 
 		// Fondo
@@ -249,6 +261,12 @@ public final class PostCombatScreen implements Screen {
 		}
 
 		batch.end();
+		drawCalls.end(batch);
+
+		if (advanceRequested) {
+			advanceRequested = false;
+			advanceToNextCombat();
+		}
 	}
 
 	private void drawCard(RewardCard card, boolean selected) {
@@ -339,10 +357,12 @@ public final class PostCombatScreen implements Screen {
 
 	@Override
 	public void dispose() {
-		batch.dispose();
-		font.dispose();
-		fontBig.dispose();
-		pixel.dispose();
+		// batch, fuentes y pixel son compartidos
+	}
+
+	/** Draw calls del último frame (depuración del batching). */
+	public DrawCallCounter getDrawCalls() {
+		return drawCalls;
 	}
 
 	public InputAdapter getInputAdapter() {
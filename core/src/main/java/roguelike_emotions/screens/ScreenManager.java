@@ -0,0 +1,258 @@
+package roguelike_emotions.screens;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Supplier;
+
+import com.badlogic.gdx.Game;
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.Screen;
+import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+
+import roguelike_emotions.graphics.CrossFade;
+import roguelike_emotions.graphics.FrameHistogram;
+import roguelike_emotions.graphics.GpuResources;
+
+/**
+ * Ciclo de vida de las pantallas.
+ *
+ * - change(): cambia de pantalla con un fundido (CrossFade). La que sale se
+ *   retira al acabar el frame (puede estar a mitad de su render): si es una
+ *   PooledScreen vuelve al pool, si no se libera. El fundido necesita que el
+ *   cambio se pida desde render(); desde un InputProcessor se cambia en seco.
+ * - preload(): una pantalla pide que se prepare la que probablemente vendrá
+ *   después. Se construye por pasos (PooledScreen.prepare) en los frames
+ *   siguientes, con PRESUPUESTO_NS por frame y nunca durante un cambio.
+ * - obtain(): da la del pool; si no estaba lista, la termina de preparar en
+ *   ese momento (y lo avisa).
+ *
+ * Mide el tiempo de CPU de cada frame y, en cada cambio, compara el
+ * histograma de los FRAMES_ANTES anteriores con el de los FRAMES_DESPUES
+ * siguientes (log "Pantallas").
+ */
+public final class ScreenManager {
+
+	private static final long PRESUPUESTO_NS = 4_000_000L;
+	private static final int FRAMES_ANTES = 60;
+	private static final int FRAMES_DESPUES = 60;
+
+	private static final class Pendiente {
+		final Class<? extends PooledScreen> tipo;
+		final Supplier<? extends PooledScreen> crear;
+		PooledScreen screen;
+		int pasos;
+		long nanos;
+		long maxPaso;
+
+		Pendiente(Class<? extends PooledScreen> tipo, Supplier<? extends PooledScreen> crear) {
+			this.tipo = tipo;
+			this.crear = crear;
+		}
+	}
+
+	/** Medición de un cambio: frames de antes, el del cambio y los de después. */
+	private static final class Medicion {
+		final String nombre;
+		final FrameHistogram antes = new FrameHistogram();
+		final FrameHistogram despues = new FrameHistogram();
+		long cambio;
+
+		Medicion(String nombre) {
+			this.nombre = nombre;
+		}
+	}
+
+	private final Game game;
+	private final CrossFade fade;
+	private final Map<Class<?>, PooledScreen> pool = new HashMap<>();
+	private final ArrayDeque<Pendiente> pendientes = new ArrayDeque<>();
+	private final List<Screen> retiradas = new ArrayList<>();
+
+	private final long[] ultimos = new long[FRAMES_ANTES];
+	private int ultimosN;
+	private Medicion medicion;
+	private boolean enFrame;
+	private boolean cambioEnEsteFrame;
+	private boolean fundir;
+
+	public ScreenManager(Game game, SpriteBatch batch) {
+		this.game = game;
+		this.fade = new CrossFade(batch);
+	}
+
+	// ==== API ====
+
+	public void change(Screen nueva) {
+		Screen anterior = game.getScreen();
+		game.setScreen(nueva);
+		if (anterior == null || anterior == nueva)
+			return;
+		retiradas.add(anterior);
+		cambioEnEsteFrame = true;
+		// fuera de render() (un InputProcessor) el back buffer no tiene el último frame: sin fundido
+		fundir = enFrame;
+		medicion = new Medicion(nombre(anterior) + " -> " + nombre(nueva));
+		for (int i = 0; i < Math.min(ultimosN, ultimos.length); i++)
+			medicion.antes.record(ultimos[i]);
+	}
+
+	/**
+	 * Pide que se prepare 'tipo' en segundo plano, salvo que ya haya una: en el
+	 * pool, en cola, activa o retirada en este frame (irá al pool al acabarlo).
+	 */
+	public <T extends PooledScreen> void preload(Class<T> tipo, Supplier<T> crear) {
+		if (pool.containsKey(tipo) || tipo.isInstance(game.getScreen()))
+			return;
+		for (Screen s : retiradas)
+			if (tipo.isInstance(s))
+				return;
+		for (Pendiente p : pendientes)
+			if (p.tipo == tipo)
+				return;
+		pendientes.add(new Pendiente(tipo, crear));
+	}
+
+	/** La pantalla 'tipo' lista para usar (del pool, o preparada ahora). */
+	public <T extends PooledScreen> T obtain(Class<T> tipo, Supplier<T> crear) {
+		PooledScreen s = pool.remove(tipo);
+		if (s == null) {
+			Pendiente p = null;
+			for (Iterator<Pendiente> it = pendientes.iterator(); it.hasNext();) {
+				Pendiente q = it.next();
+				if (q.tipo == tipo) {
+					p = q;
+					it.remove();
+					break;
+				}
+			}
+			if (p == null)
+				p = new Pendiente(tipo, crear);
+			else
+				Gdx.app.log("Pantallas", nombre(tipo) + " pedida sin terminar de preparar");
+			while (!step(p)) {
+				// en este frame: es lo que el preload debía evitar
+			}
+			s = p.screen;
+		}
+		return tipo.cast(s);
+	}
+
+	/** Llamar al empezar cada frame; devuelve su instante de inicio (para endFrame). */
+	public long beginFrame() {
+		enFrame = true;
+		return System.nanoTime();
+	}
+
+	/** Llamar al final de cada frame, con lo que devolvió beginFrame(). */
+	public void endFrame(long inicio) {
+		enFrame = false;
+		boolean cambio = cambioEnEsteFrame;
+		cambioEnEsteFrame = false;
+
+		if (!retiradas.isEmpty()) {
+			for (Screen s : retiradas)
+				retire(s);
+			retiradas.clear();
+		}
+
+		if (cambio) {
+			if (fundir)
+				fade.capture();
+		} else {
+			fade.render(Gdx.graphics.getDeltaTime());
+			if (!fade.isActive())
+				prepareSome();
+		}
+
+		long nanos = System.nanoTime() - inicio;
+		ultimos[ultimosN++ % ultimos.length] = nanos;
+		if (medicion != null) {
+			if (cambio) {
+				medicion.cambio = nanos;
+			} else {
+				medicion.despues.record(nanos);
+				if (medicion.despues.count() >= FRAMES_DESPUES) {
+					report(medicion);
+					medicion = null;
+				}
+			}
+		}
+	}
+
+	public void dispose() {
+		fade.finish();
+		for (Screen s : retiradas)
+			if (!pool.containsValue(s))
+				s.dispose();
+		retiradas.clear();
+		for (PooledScreen s : pool.values())
+			s.dispose();
+		pool.clear();
+		for (Pendiente p : pendientes)
+			if (p.screen != null)
+				p.screen.dispose();
+		pendientes.clear();
+	}
+
+	// ==== INTERNOS ====
+
+	private void retire(Screen s) {
+		if (s instanceof PooledScreen ps && !pool.containsKey(ps.getClass())) {
+			pool.put(ps.getClass(), ps);
+		} else {
+			s.dispose();
+			Gdx.app.log("GpuResources", GpuResources.report());
+		}
+	}
+
+	/** Pasos de preparación hasta agotar el presupuesto (al menos uno si hay cola). */
+	private void prepareSome() {
+		long limite = System.nanoTime() + PRESUPUESTO_NS;
+		while (!pendientes.isEmpty()) {
+			Pendiente p = pendientes.peek();
+			if (step(p)) {
+				pendientes.poll();
+				if (pool.putIfAbsent(p.tipo, p.screen) != null) {
+					// ya volvió una al pool mientras se preparaba esta: sobra
+					p.screen.dispose();
+				} else {
+					Gdx.app.log("Pantallas", String.format("%s preparada en %d pasos: %.1f ms (máx. %.1f ms en un paso)",
+							nombre(p.tipo), p.pasos, p.nanos / 1e6, p.maxPaso / 1e6));
+				}
+			}
+			if (System.nanoTime() >= limite)
+				break;
+		}
+	}
+
+	/** Un paso (el primero es el constructor); true cuando está lista. */
+	private static boolean step(Pendiente p) {
+		long t0 = System.nanoTime();
+		boolean lista;
+		if (p.screen == null) {
+			p.screen = p.crear.get();
+			lista = false;
+		} else {
+			lista = p.screen.prepare();
+		}
+		long t = System.nanoTime() - t0;
+		p.pasos++;
+		p.nanos += t;
+		p.maxPaso = Math.max(p.maxPaso, t);
+		return lista;
+	}
+
+	private static void report(Medicion m) {
+		Gdx.app.log("Pantallas", String.format("%s: frame del cambio %.1f ms%n  antes:   %s%n  después: %s%s", m.nombre,
+				m.cambio / 1e6, m.antes.summary(), m.despues.summary(), m.despues.bars()));
+	}
+
+	private static String nombre(Object o) {
+		Class<?> c = (o instanceof Class<?> k) ? k : o.getClass();
+		return c.getSimpleName();
+	}
+}
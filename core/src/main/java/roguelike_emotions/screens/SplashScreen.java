@@ -0,0 +1,119 @@
+package roguelike_emotions.screens;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.Screen;
+import com.badlogic.gdx.graphics.Color;
+import com.badlogic.gdx.graphics.GL20;
+import com.badlogic.gdx.graphics.OrthographicCamera;
+import com.badlogic.gdx.graphics.Pixmap;
+import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.graphics.g2d.BitmapFont;
+import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+import com.badlogic.gdx.utils.viewport.FitViewport;
+import com.badlogic.gdx.utils.viewport.Viewport;
+
+import roguelike_emotions.startup.StartupPipeline;
+
+/**
+ * Pantalla de carga: cada frame da a la StartupPipeline un presupuesto para
+ * sus tareas GL y pinta el progreso. Cuando termina, llama a 'onReady' (que
+ * cambia de pantalla) y se libera.
+ *
+ * No depende de nada que cargue la pipeline: su fuente y su pixel son
+ * propios.
+ */
+public class SplashScreen implements Screen {
+
+	private static final float WORLD_W = 800f, WORLD_H = 600f;
+	private static final float BAR_W = 420f, BAR_H = 14f;
+	// tiempo por frame para subidas a GPU (el resto del frame es para pintar)
+	private static final long PRESUPUESTO_GL_NS = 12_000_000L;
+
+	private static final Color FONDO = new Color(0.06f, 0.06f, 0.09f, 1f);
+	private static final Color BARRA_FONDO = new Color(0.18f, 0.18f, 0.24f, 1f);
+	private static final Color BARRA = new Color(0.55f, 0.45f, 0.95f, 1f);
+
+	private final SpriteBatch batch;
+	private final StartupPipeline pipeline;
+	private final Runnable onReady;
+
+	private final OrthographicCamera camera = new OrthographicCamera();
+	private final Viewport viewport = new FitViewport(WORLD_W, WORLD_H, camera);
+	private Texture pixel;
+	private BitmapFont font;
+	private float shown; // progreso mostrado (suavizado)
+	private boolean ready;
+
+	public SplashScreen(SpriteBatch batch, StartupPipeline pipeline, Runnable onReady) {
+		this.batch = batch;
+		this.pipeline = pipeline;
+		this.onReady = onReady;
+	}
+
+	@Override
+	public void show() {
+		Pixmap pm = new Pixmap(1, 1, Pixmap.Format.RGBA8888);
+		pm.setColor(Color.WHITE);
+		pm.fill();
+		pixel = new Texture(pm);
+		pm.dispose();
+		font = new BitmapFont();
+		viewport.update(Gdx.graphics.getWidth(), Gdx.graphics.getHeight(), true);
+	}
+
+	@Override
+	public void render(float delta) {
+		if (ready)
+			return;
+		boolean done = pipeline.update(PRESUPUESTO_GL_NS);
+		shown += (pipeline.progress() - shown) * Math.min(1f, delta * 12f);
+
+		Gdx.gl.glClearColor(FONDO.r, FONDO.g, FONDO.b, 1f);
+		Gdx.gl.glClear(GL20.GL_COLOR_BUFFER_BIT);
+		viewport.apply();
+		batch.setProjectionMatrix(camera.combined);
+		batch.begin();
+		float x = (WORLD_W - BAR_W) * 0.5f, y = WORLD_H * 0.4f;
+		batch.setColor(BARRA_FONDO);
+		batch.draw(pixel, x, y, BAR_W, BAR_H);
+		batch.setColor(BARRA);
+		batch.draw(pixel, x, y, BAR_W * shown, BAR_H);
+		batch.setColor(Color.WHITE);
+		font.draw(batch, "Roguelike Emotions", x, y + 64f);
+		font.setColor(Color.LIGHT_GRAY);
+		font.draw(batch, "Cargando " + pipeline.currentTask() + "…", x, y - 12f);
+		font.setColor(Color.WHITE);
+		batch.end();
+
+		if (done) {
+			ready = true;
+			Gdx.app.log("Startup", pipeline.report());
+			onReady.run();
+			dispose();
+		}
+	}
+
+	@Override
+	public void resize(int width, int height) {
+		viewport.update(width, height, true);
+	}
+
+	@Override
+	public void pause() {}
+
+	@Override
+	public void resume() {}
+
+	@Override
+	public void hide() {}
+
+	@Override
+	public void dispose() {
+		if (pixel != null)
+			pixel.dispose();
+		if (font != null)
+			font.dispose();
+		pixel = null;
+		font = null;
+	}
+}
@@ -1,39 +1,47 @@
 package roguelike_emotions.screens;
 
+import java.io.IOException;
 import java.util.Collections;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
 import com.badlogic.gdx.Gdx;
 import com.badlogic.gdx.InputMultiplexer;
 import com.badlogic.gdx.Screen;
-import com.badlogic.gdx.graphics.Color;
 import com.badlogic.gdx.graphics.OrthographicCamera;
-import com.badlogic.gdx.graphics.Pixmap;
-import com.badlogic.gdx.graphics.Texture;
 import com.badlogic.gdx.graphics.g2d.BitmapFont;
 import com.badlogic.gdx.graphics.g2d.SpriteBatch;
-import com.badlogic.gdx.graphics.g2d.freetype.FreeTypeFontGenerator;
-import com.badlogic.gdx.graphics.g2d.freetype.FreeTypeFontGenerator.FreeTypeFontParameter;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
 import com.badlogic.gdx.graphics.glutils.FrameBuffer;
 import com.badlogic.gdx.utils.viewport.FitViewport;
 import com.badlogic.gdx.utils.viewport.Viewport;
 import controller.HotkeyMap;
 import controller.InputController;
 import roguelike_emotions.MainGame;
-import roguelike_emotions.cfg.ActionConfig;
+import roguelike_emotions.cfg.ConfigBundle;
 import roguelike_emotions.characters.Enemy;
 import roguelike_emotions.characters.Player;
+import roguelike_emotions.combat.TurnAdvisor;
+import roguelike_emotions.graphics.DrawCallCounter;
+import roguelike_emotions.graphics.GpuResources;
 import roguelike_emotions.graphics.RenderContext;
 import roguelike_emotions.graphics.RenderGraph;
 import roguelike_emotions.graphics.passes.*;
+import roguelike_emotions.managers.CombatManager.PlayerAction;
 import roguelike_emotions.managers.GameManager;
-import roguelike_emotions.ui.actions.ActionDescriptor;
+import roguelike_emotions.managers.Replayer;
+import roguelike_emotions.managers.WorldSnapshot;
+import roguelike_emotions.ui.IconAtlas;
 import roguelike_emotions.ui.actions.ActionId;
 import roguelike_emotions.ui.actions.ActionOption;
 import roguelike_emotions.ui.turns.EventPacer;
 import roguelike_emotions.ui.turns.GameTurnOrderProvider;
+import roguelike_emotions.ui.turns.PlaybackSpeed;
 import roguelike_emotions.ui.turns.TurnOrchestrator;
 import roguelike_emotions.ui.turns.TurnOrderProvider;
+import roguelike_emotions.ui.fonts.FontRegistry;
+import roguelike_emotions.ui.fonts.UiFont;
 import roguelike_emotions.vfx.Director;
+import roguelike_emotions.vfx.VisBus;
 import roguelike_emotions.visual.VisualStyle;
 
 public class TurnCombatScreen implements Screen {
@@ -47,12 +55,17 @@ public class TurnCombatScreen implements Screen {
     private static final int WORLD_H = 720;
     private static final float MAX_DELTA = 0.05f;
     private static final float END_SCREEN_DELAY = 0.6f;
-    private static final int TITLE_FONT_SIZE = 48;
-    private static final int NORMAL_FONT_SIZE = 24;
+    private static final long ADVISOR_SLICE_MS = 150;
 
     // Estado del combate
     private CombatPhase phase = CombatPhase.IN_PROGRESS;
     private float endTimer = 0f;
+
+    // Consejero de turno (MCTS en segundo plano mientras el jugador decide)
+    private final TurnAdvisor advisor = new TurnAdvisor();
+    private CompletableFuture<TurnAdvisor.Advice> pendingAdvice;
+    private int adviceTarget = -1;
+    private boolean adviceFormatted = false; // etiqueta ya construida para pendingAdvice
     private boolean roundActive = false;
 
     // Renderizado
@@ -62,9 +75,10 @@ public class TurnCombatScreen implements Screen {
     private final OrthographicCamera camera;
     private final Viewport viewport;
     private final FrameBuffer sceneFbo;
-    private final Texture whitePx;
+    private final TextureRegion whitePx;
     private final RenderGraph graph;
     private final RenderContext ctx;
+    private final DrawCallCounter drawCalls = new DrawCallCounter();
 
     // Lógica de juego
     private final Director director;
@@ -78,23 +92,14 @@ public class TurnCombatScreen implements Screen {
     private com.badlogic.gdx.InputProcessor previousInput;
 
     // Configuración de acciones
-    private final ActionConfig actionCfg;
-    private final List<ActionDescriptor> actionModel;
     private final HotkeyMap hotkeys;
 
     public TurnCombatScreen(SpriteBatch sharedBatch, BitmapFont sharedFont) {
         this.batch = sharedBatch;
 
-        // Inicializar fuentes
-        if (sharedFont != null) {
-            this.font = sharedFont;
-            this.fontTitle = createTitleFont();
-        } else {
-            FreeTypeFontGenerator gen = new FreeTypeFontGenerator(Gdx.files.internal("fonts/RobotoNormal.ttf"));
-            this.font = createFont(gen, NORMAL_FONT_SIZE);
-            this.fontTitle = createFont(gen, TITLE_FONT_SIZE);
-            gen.dispose();
-        }
+        // Fuentes compartidas (no se liberan aquí)
+        this.font = (sharedFont != null) ? sharedFont : IconAtlas.defaultFont();
+        this.fontTitle = FontRegistry.get(UiFont.COMBAT_TITLE);
 
         // Configurar cámara y viewport
         this.camera = new OrthographicCamera();
@@ -102,9 +107,9 @@ public class TurnCombatScreen implements Screen {
         camera.position.set(WORLD_W * 0.5f, WORLD_H * 0.5f, 0f);
         camera.update();
 
-        // Crear framebuffer y texture
-        this.sceneFbo = new FrameBuffer(Pixmap.Format.RGBA8888, WORLD_W, WORLD_H, false);
-        this.whitePx = createWhitePixelTexture();
+        // Framebuffer del registro (se reutiliza entre combates); el pixel blanco sale del atlas compartido
+        this.sceneFbo = GpuResources.frameBuffer(WORLD_W, WORLD_H);
+        this.whitePx = IconAtlas.whitePixel();
 
         // Inicializar sistemas de renderizado
         this.director = new Director();
@@ -122,17 +127,17 @@ public class TurnCombatScreen implements Screen {
             .add(new HudOverlayPass())
             .add(new TurnTimelinePass());
 
-        // Inicializar sistemas de juego
+        // Inicializar sistemas de juego (foto fresca: otras pantallas pueden haber tocado al jugador)
+        GameManager.getInstance().publishSnapshot();
         this.turnProvider = new GameTurnOrderProvider(GameManager.getInstance());
         this.pacer = new EventPacer();
 
         // Configurar acciones e input
         this.hotkeys = new HotkeyMap();
-        this.actionCfg = ActionConfig.load(Gdx.files.internal("actions/actions.json"));
-        this.actionModel = actionCfg.actions();
-        this.hotkeys.rebuildIfChanged(actionModel);
+        this.hotkeys.rebuildIfChanged(ConfigBundle.get().actions().actions());
 
         this.input = new InputController(this::getEnemies, this.hotkeys, this::onActionSelected, this::onConfirm);
+        this.input.setOnCycleSpeed(this::cycleSpeed);
     }
 
     @Override
@@ -147,15 +152,20 @@ public class TurnCombatScreen implements Screen {
 
         Gdx.input.setInputProcessor(inputMultiplexer);
 
-        // Reiniciar estado
-        input.setEnabled(true);
+        // la pantalla de después del combate se prepara mientras se juega
+        MainGame.pantallas().preload(PostCombatScreen.class, PostCombatScreen::new);
+
+        // Reiniciar estado (en una repetición solo responde ESPACIO: velocidad)
+        input.setEnabled(GameManager.getInstance().getReplay() == null);
         phase = CombatPhase.IN_PROGRESS;
         endTimer = 0f;
         roundActive = false;
+        graph.invalidate();
     }
 
     @Override
     public void hide() {
+        resetAdvice();
         if (previousInput != null) {
             Gdx.input.setInputProcessor(previousInput);
         } else {
@@ -167,10 +177,13 @@ public class TurnCombatScreen implements Screen {
     public void render(float delta) {
         final float dt = clampDelta(delta);
 
+        hotkeys.rebuildIfChanged(ConfigBundle.get().actions().actions());
         pumpEvents(dt);
         rebuildTurnQueue();
         settleRoundIfIdle();
+        driveReplay();
         syncUiState();
+        updateAdvice();
         checkEndPhase(dt);
         draw(dt);
     }
@@ -178,46 +191,22 @@ public class TurnCombatScreen implements Screen {
     @Override
     public void resize(int w, int h) {
         viewport.update(w, h, true);
+        graph.invalidate();
     }
 
     @Override
     public void pause() {}
 
     @Override
-    public void resume() {}
+    public void resume() {
+        graph.invalidate();
+    }
 
     @Override
     public void dispose() {
-        if (sceneFbo != null) sceneFbo.dispose();
-        if (whitePx != null) whitePx.dispose();
-        if (fontTitle != null) fontTitle.dispose();
-        if (ctx.vfxPass != null) ctx.vfxPass.dispose();
-    }
-
-    // ========== Métodos de Inicialización ==========
-
-    private BitmapFont createFont(FreeTypeFontGenerator gen, int size) {
-        FreeTypeFontParameter param = new FreeTypeFontParameter();
-        param.size = size;
-        param.borderColor = Color.BLACK;
-        param.borderWidth = 1.5f;
-        return gen.generateFont(param);
-    }
-
-    private BitmapFont createTitleFont() {
-        FreeTypeFontGenerator gen = new FreeTypeFontGenerator(Gdx.files.internal("fonts/Roboto-Regular.ttf"));
-        BitmapFont titleFont = createFont(gen, TITLE_FONT_SIZE);
-        gen.dispose();
-        return titleFont;
-    }
-
-    private Texture createWhitePixelTexture() {
-        Pixmap pm = new Pixmap(1, 1, Pixmap.Format.RGBA8888);
-        pm.setColor(Color.WHITE);
-        pm.fill();
-        Texture tex = new Texture(pm);
-        pm.dispose();
-        return tex;
+        advisor.cancel();
+        graph.dispose(); // también sus pasadas (vfx, post-proceso)
+        GpuResources.release(sceneFbo);
     }
 
     // ========== Callbacks ==========
@@ -245,6 +234,7 @@ public class TurnCombatScreen implements Screen {
         ActionOption action = input.getSelectedAction();
         int index = input.getSelectedEnemyIndex();
 
+        resetAdvice();
         roundActive = TurnOrchestrator.tryExecute(gm, director, p, es, action, index);
     }
 
@@ -259,12 +249,20 @@ public class TurnCombatScreen implements Screen {
         pacer.update(ctx, director, dt);
     }
 
+    /** ESPACIO: x1 → x2 → x4 → Instant. Afecta a pausas del pacer y a los clips. */
+    private void cycleSpeed() {
+        PlaybackSpeed next = pacer.getSpeed().next();
+        pacer.setSpeed(next);
+        director.setTimeScale(next.isInstant() ? 1f : next.scale());
+        ctx.playbackLabel = next.label();
+    }
+
     private void rebuildTurnQueue() {
         ctx.turnQueue.rebuild(turnProvider);
     }
 
     private void settleRoundIfIdle() {
-        if (!roundActive || !pacer.isIdle(director)) return;
+        if (!roundActive || isLogicBusy() || !pacer.isIdle(director)) return;
 
         if (isCombatOngoing()) {
             ctx.turnQueue.setCursor(0);
@@ -273,25 +271,91 @@ public class TurnCombatScreen implements Screen {
         roundActive = false;
     }
 
+    /**
+     * Repetición visual: con la ronda anterior ya vista, lanza la siguiente
+     * grabada. La velocidad la marca el PlaybackSpeed (ESPACIO) como en una
+     * partida normal.
+     */
+    private void driveReplay() {
+        Replayer replay = GameManager.getInstance().getReplay();
+        if (replay == null || phase != CombatPhase.IN_PROGRESS) return;
+        if (roundActive || isLogicBusy() || !pacer.isIdle(director)) return;
+
+        ctx.advisorLabel = replay.describe();
+        if (replay.hasPendingRound()) {
+            pacer.reset();
+            roundActive = replay.submitNextRound();
+        }
+    }
+
+    /** true mientras el hilo de lógica resuelve la ronda o aún quedan eventos por publicar. */
+    private boolean isLogicBusy() {
+        return GameManager.getInstance().isRoundInProgress() || !VisBus.isEmpty();
+    }
+
     private boolean isCombatOngoing() {
-        GameManager gm = GameManager.getInstance();
-        Player p = gm.getPlayer();
+        WorldSnapshot world = GameManager.getInstance().getSnapshot();
+        return world.player() != null && world.player().alive() && world.anyEnemyAlive();
+    }
 
-        if (p == null || !p.isAlive()) return false;
+    private void syncUiState() {
+        ctx.selectedActionLabel = input.getSelectedAction().label();
+        ctx.selectedEnemyViewId = 100 + Math.max(0, input.getSelectedEnemyIndex());
+    }
 
-        List<Enemy> enemies = gm.getEnemies();
-        if (enemies == null) return false;
+    /**
+     * Pide consejo al TurnAdvisor cuando el jugador puede actuar (ronda parada,
+     * sin eventos pendientes) y lo vuelve a pedir si cambia el objetivo. La
+     * captura del estado se hace aquí, en el hilo GL, con la lógica en reposo.
+     */
+    private void updateAdvice() {
+        if (GameManager.getInstance().getReplay() != null) return;
+        if (phase != CombatPhase.IN_PROGRESS || roundActive || isLogicBusy() || !pacer.isIdle(director)) return;
+
+        int target = input.getSelectedEnemyIndex();
+        if (pendingAdvice == null || target != adviceTarget) {
+            GameManager gm = GameManager.getInstance();
+            adviceTarget = target;
+            adviceFormatted = false;
+            ctx.advisorLabel = "Consejo: calculando...";
+            pendingAdvice = advisor.advise(gm.getPlayer(), gm.getEnemies(), target, ADVISOR_SLICE_MS);
+            return;
+        }
 
-        for (Enemy e : enemies) {
-            if (e != null && e.isAlive()) return true;
+        // se formatea una vez al terminar; la etiqueta vale hasta resetAdvice() o otro objetivo
+        if (!adviceFormatted && pendingAdvice.isDone() && !pendingAdvice.isCompletedExceptionally()) {
+            ctx.advisorLabel = formatAdvice(pendingAdvice.getNow(null));
+            adviceFormatted = true;
         }
+    }
 
-        return false;
+    private void resetAdvice() {
+        advisor.cancel();
+        pendingAdvice = null;
+        adviceTarget = -1;
+        adviceFormatted = false;
+        ctx.advisorLabel = null;
     }
 
-    private void syncUiState() {
-        ctx.selectedActionLabel = input.getSelectedAction().label();
-        ctx.selectedEnemyViewId = 100 + Math.max(0, input.getSelectedEnemyIndex());
+    private static String formatAdvice(TurnAdvisor.Advice advice) {
+        if (advice == null || advice.best() == null) return null;
+        StringBuilder sb = new StringBuilder("Consejo: ");
+        for (PlayerAction a : PlayerAction.values()) {
+            double w = advice.winRate(a);
+            if (Double.isNaN(w)) continue;
+            if (sb.length() > 9) sb.append("  ");
+            if (a == advice.best()) sb.append('>');
+            sb.append(shortLabel(a)).append(' ').append(Math.round(w * 100)).append('%');
+        }
+        return sb.toString();
+    }
+
+    private static String shortLabel(PlayerAction a) {
+        return switch (a) {
+            case ATTACK -> "Atacar";
+            case DEFEND -> "Defender";
+            case USE_EMOTION -> "Emoción";
+        };
     }
 
     private void checkEndPhase(float dt) {
@@ -303,14 +367,15 @@ public class TurnCombatScreen implements Screen {
             return;
         }
 
-        if (roundActive || !pacer.isIdle(director)) return;
+        if (roundActive || isLogicBusy() || !pacer.isIdle(director)) return;
 
         if (!isCombatOngoing()) {
-            GameManager gm = GameManager.getInstance();
-            boolean playerAlive = gm.getPlayer() != null && gm.getPlayer().isAlive();
+            WorldSnapshot world = GameManager.getInstance().getSnapshot();
+            boolean playerAlive = world.player() != null && world.player().alive();
 
             phase = playerAlive ? CombatPhase.VICTORY : CombatPhase.DEFEAT;
             input.setEnabled(false);
+            resetAdvice();
             endTimer = 0f;
         }
     }
@@ -320,11 +385,42 @@ public class TurnCombatScreen implements Screen {
     private void draw(float dt) {
         director.update(dt);
         ctx.updateViews(dt);
+
+        drawCalls.begin(batch);
         graph.render(ctx);
 
         if (phase != CombatPhase.IN_PROGRESS) {
             drawEndOverlay();
         }
+        drawCalls.end(batch);
+    }
+
+    /** Draw calls del último frame (depuración del batching). */
+    public DrawCallCounter getDrawCalls() {
+        return drawCalls;
+    }
+
+    /**
+     * Al acabar un combate de la repetición pasa al siguiente. Si no quedan,
+     * informa y la partida sigue con normalidad desde ese estado. Devuelve
+     * true si ha cambiado de pantalla.
+     */
+    private boolean advanceReplay() {
+        GameManager gm = GameManager.getInstance();
+        Replayer replay = gm.getReplay();
+        if (replay == null) return false;
+
+        try {
+            if (replay.nextFight()) {
+                MainGame.cambiarPantalla(new TurnCombatScreen(batch, font));
+                return true;
+            }
+        } catch (IOException e) {
+            Gdx.app.error("TurnCombatScreen", "Repetición no válida: " + e.getMessage());
+        }
+        Gdx.app.log("Replay", replay.report(0).toString());
+        gm.stopReplay();
+        return false;
     }
 
     private void drawEndOverlay() {
@@ -346,8 +442,12 @@ public class TurnCombatScreen implements Screen {
     }
 
     private void restartCombat() {
+        if (advanceReplay()) return;
+
         boolean victory = (phase == CombatPhase.VICTORY);
-        int defeated = GameManager.getInstance().getEnemies().size();
-        MainGame.cambiarPantalla(new PostCombatScreen(victory, defeated));
+        int defeated = GameManager.getInstance().getSnapshot().enemies().size();
+        PostCombatScreen post = MainGame.pantallas().obtain(PostCombatScreen.class, PostCombatScreen::new);
+        post.setResult(victory, defeated);
+        MainGame.cambiarPantalla(post);
     }
 }
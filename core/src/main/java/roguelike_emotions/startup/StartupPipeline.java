@@ -0,0 +1,228 @@
+package roguelike_emotions.startup;
+
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Arranque en paralelo: tareas con dependencias declaradas.
+ *
+ * - cpu(): trabajo sin GL (leer config, rasterizar glifos, decodificar
+ *   iconos, construir la partida). Corre en un pool en cuanto sus
+ *   dependencias terminan.
+ * - gl(): subidas a GPU y objetos con contexto GL. Se encolan y las ejecuta
+ *   update() en el hilo de render, con un presupuesto por frame (como
+ *   AssetManager.update), así la pantalla de carga sigue pintándose.
+ *
+ * Las dependencias se nombran al registrar y deben existir ya: el orden de
+ * registro es un orden topológico y no puede haber ciclos. Lo que escribe una
+ * tarea es visible para las que dependen de ella (el paso por la cola o el
+ * pool establece el happens-before).
+ *
+ * Con 0 hilos todo corre en el hilo de render (arranque en serie, para
+ * comparar tiempos).
+ */
+public final class StartupPipeline {
+
+	/** Dónde corre una tarea. */
+	public enum Hilo {
+		POOL, GL
+	}
+
+	private static final class Task {
+		final String name;
+		final Hilo hilo;
+		final Runnable work;
+		final List<Task> deps;
+		final List<Task> dependents = new ArrayList<>();
+		final AtomicInteger pendientes;
+		volatile long inicio;
+		volatile long fin;
+
+		Task(String name, Hilo hilo, Runnable work, List<Task> deps) {
+			this.name = name;
+			this.hilo = hilo;
+			this.work = work;
+			this.deps = deps;
+			this.pendientes = new AtomicInteger(deps.size());
+		}
+
+		long nanos() {
+			return fin - inicio;
+		}
+	}
+
+	private final Map<String, Task> tasks = new LinkedHashMap<>();
+	private final ConcurrentLinkedQueue<Task> glQueue = new ConcurrentLinkedQueue<>();
+	private final AtomicInteger terminadas = new AtomicInteger();
+	private final AtomicReference<Throwable> fallo = new AtomicReference<>();
+	private final int hilos;
+
+	private ExecutorService pool;
+	private volatile String actual = "";
+	private long t0;
+	private long tFin;
+
+	/** 'hilos': tamaño del pool para las tareas cpu (0: todo en el hilo de render). */
+	public StartupPipeline(int hilos) {
+		this.hilos = Math.max(0, hilos);
+	}
+
+	/** Hilos por defecto: todos los núcleos menos el de render. */
+	public static int defaultThreads() {
+		return Math.max(1, Runtime.getRuntime().availableProcessors() - 1);
+	}
+
+	// ==== REGISTRO ====
+
+	public StartupPipeline cpu(String name, Runnable work, String... deps) {
+		return add(name, Hilo.POOL, work, deps);
+	}
+
+	public StartupPipeline gl(String name, Runnable work, String... deps) {
+		return add(name, Hilo.GL, work, deps);
+	}
+
+	private StartupPipeline add(String name, Hilo hilo, Runnable work, String... deps) {
+		if (pool != null || t0 != 0)
+			throw new IllegalStateException("El arranque ya ha empezado");
+		if (tasks.containsKey(name))
+			throw new IllegalArgumentException("Tarea repetida: " + name);
+		List<Task> ds = new ArrayList<>(deps.length);
+		for (String d : deps) {
+			Task dep = tasks.get(d);
+			if (dep == null)
+				throw new IllegalArgumentException(name + " depende de '" + d + "', que no está registrada antes");
+			ds.add(dep);
+		}
+		Task t = new Task(name, hilo, work, ds);
+		for (Task dep : ds)
+			dep.dependents.add(t);
+		tasks.put(name, t);
+		return this;
+	}
+
+	// ==== EJECUCIÓN ====
+
+	/** Lanza las tareas sin dependencias. Llamar desde el hilo de render. */
+	public void start() {
+		t0 = System.nanoTime();
+		if (hilos > 0) {
+			AtomicInteger n = new AtomicInteger();
+			pool = Executors.newFixedThreadPool(hilos, r -> Thread.ofPlatform()
+					.name("startup-" + n.incrementAndGet()).daemon(true).unstarted(r));
+		}
+		for (Task t : tasks.values())
+			if (t.deps.isEmpty())
+				dispatch(t);
+	}
+
+	/**
+	 * Ejecuta tareas de la cola GL hasta agotar 'presupuestoNanos' (al menos
+	 * una por llamada). Devuelve true cuando todo ha terminado. Si alguna
+	 * tarea ha fallado, lanza su error.
+	 */
+	public boolean update(long presupuestoNanos) {
+		long limite = System.nanoTime() + presupuestoNanos;
+		Task t;
+		while ((t = glQueue.poll()) != null) {
+			run(t);
+			if (System.nanoTime() >= limite)
+				break;
+		}
+		Throwable f = fallo.get();
+		if (f != null) {
+			shutdown();
+			throw new IllegalStateException("Fallo en el arranque: " + f, f);
+		}
+		return isDone();
+	}
+
+	public boolean isDone() {
+		return terminadas.get() == tasks.size();
+	}
+
+	/** Fracción de tareas terminadas, para la barra de carga. */
+	public float progress() {
+		return tasks.isEmpty() ? 1f : terminadas.get() / (float) tasks.size();
+	}
+
+	/** Última tarea empezada, para mostrar en la pantalla de carga. */
+	public String currentTask() {
+		return actual;
+	}
+
+	private void dispatch(Task t) {
+		if (t.hilo == Hilo.POOL && pool != null)
+			pool.execute(() -> run(t));
+		else
+			glQueue.add(t);
+	}
+
+	private void run(Task t) {
+		if (fallo.get() != null)
+			return;
+		actual = t.name;
+		t.inicio = System.nanoTime();
+		try {
+			t.work.run();
+		} catch (Throwable e) {
+			fallo.compareAndSet(null, new RuntimeException(t.name + ": " + e, e));
+			return;
+		}
+		t.fin = System.nanoTime();
+		if (terminadas.incrementAndGet() == tasks.size()) {
+			tFin = t.fin;
+			shutdown();
+		}
+		for (Task d : t.dependents)
+			if (d.pendientes.decrementAndGet() == 0)
+				dispatch(d);
+	}
+
+	private void shutdown() {
+		if (pool != null)
+			pool.shutdown();
+	}
+
+	// ==== INFORME ====
+
+	/**
+	 * Tiempos del arranque: desde el inicio de la JVM, duración de la
+	 * pipeline, suma de las tareas (lo que costaría en serie) y camino
+	 * crítico, más una línea por tarea. Llamar cuando isDone().
+	 */
+	public String report() {
+		long desdeJvm = ManagementFactory.getRuntimeMXBean().getUptime();
+		long pared = tFin - t0;
+		long suma = 0;
+		Map<Task, Long> critico = new LinkedHashMap<>();
+		for (Task t : tasks.values()) {
+			suma += t.nanos();
+			long antes = 0;
+			for (Task d : t.deps)
+				antes = Math.max(antes, critico.get(d));
+			critico.put(t, antes + t.nanos());
+		}
+		long camino = 0;
+		for (long c : critico.values())
+			camino = Math.max(camino, c);
+
+		StringBuilder sb = new StringBuilder();
+		sb.append(String.format("Arranque en frío: %d ms desde la JVM; pipeline %.1f ms con %d hilo(s) "
+				+ "(tareas %.1f ms en serie, camino crítico %.1f ms)", desdeJvm, pared / 1e6, hilos, suma / 1e6,
+				camino / 1e6));
+		for (Task t : tasks.values()) {
+			sb.append(String.format("%n  %-12s %-4s +%7.1f ms  %7.1f ms", t.name, t.hilo, (t.inicio - t0) / 1e6,
+					t.nanos() / 1e6));
+		}
+		return sb.toString();
+	}
+}
@@ -0,0 +1,86 @@
+package roguelike_emotions.tools;
+
+import java.util.ArrayList;
+
+import roguelike_emotions.mainMechanics.AwakeningForecast;
+import roguelike_emotions.mainMechanics.AwakeningForecast.XpModel;
+import roguelike_emotions.mainMechanics.EmotionInstance;
+import roguelike_emotions.mainMechanics.EmotionType;
+
+/**
+ * Valida AwakeningForecast contra Monte-Carlo: simula turnos con las reglas
+ * reales de EmotionInstance (gainExperience, incrementUsageCount, tryAwaken) en
+ * el orden de CombatManager.executeRound y compara la distribución acumulada y
+ * los turnos esperados con los analíticos.
+ *
+ * Uso: gradle :core:awakeningCheck
+ */
+public final class AwakeningMonteCarlo {
+
+	private static final int PRUEBAS = 200_000;
+	private static final int MAX_TURNOS = 500;
+
+	// (tipo, usos, xp, xp antes de la tirada, xp tras la tirada)
+	private static final Object[][] CASOS = { { EmotionType.ALEGRIA, 0, 0, 20, 5 }, { EmotionType.IRA, 0, 0, 20, 5 },
+			{ EmotionType.CALMA, 2, 40, 10, 5 }, { EmotionType.MIEDO, 5, 120, 3, 5 },
+			{ EmotionType.CULPA, 0, 0, 3, 0 }, };
+
+	private AwakeningMonteCarlo() {
+	}
+
+	public static void main(String[] args) {
+		System.out.printf("%-9s %5s %5s %7s %10s %10s %10s%n", "tipo", "usos", "xp", "xp/t", "E analit", "E MC",
+				"max |ΔF|");
+
+		boolean ok = true;
+		for (Object[] c : CASOS) {
+			EmotionType tipo = (EmotionType) c[0];
+			int usos = (int) c[1], xp = (int) c[2];
+			XpModel model = new XpModel((int) c[3], (int) c[4]);
+
+			AwakeningForecast f = AwakeningForecast.compute(tipo, usos, xp, model);
+
+			long[] despertadosEn = new long[AwakeningForecast.HORIZONTE + 1];
+			double sumaTurnos = 0;
+			for (int i = 0; i < PRUEBAS; i++) {
+				int t = simular(tipo, usos, xp, model);
+				sumaTurnos += t;
+				if (t <= AwakeningForecast.HORIZONTE)
+					despertadosEn[t]++;
+			}
+
+			double maxDelta = 0, acum = 0;
+			for (int k = 1; k <= AwakeningForecast.HORIZONTE; k++) {
+				acum += despertadosEn[k];
+				maxDelta = Math.max(maxDelta, Math.abs(acum / PRUEBAS - f.probabilityWithin(k)));
+			}
+			double eMc = sumaTurnos / PRUEBAS;
+
+			System.out.printf("%-9s %5d %5d %3d+%-3d %10.3f %10.3f %10.4f%n", tipo, usos, xp, model.antesDeTirada(),
+					model.trasTirada(), f.expectedTurns(), eMc, maxDelta);
+
+			// ~4 errores estándar con 200k pruebas
+			ok &= maxDelta < 0.005 && Math.abs(eMc - f.expectedTurns()) < 0.02 * f.expectedTurns();
+		}
+		System.out.println(ok ? "OK: la previsión coincide con Monte-Carlo" : "FALLO: la previsión no coincide");
+		if (!ok)
+			System.exit(1);
+	}
+
+	/** Turno (1..) en que despierta, con las reglas y el RNG reales de EmotionInstance. */
+	private static int simular(EmotionType tipo, int usos, int xp, XpModel model) {
+		EmotionInstance e = new EmotionInstance("mc", tipo, new ArrayList<>(), "#FFFFFF", "?");
+		for (int i = 0; i < usos; i++)
+			e.incrementUsageCount();
+		e.gainExperience(xp);
+
+		for (int t = 1; t <= MAX_TURNOS; t++) {
+			e.incrementUsageCount();
+			e.gainExperience(model.antesDeTirada());
+			if (e.tryAwaken())
+				return t;
+			e.gainExperience(model.trasTirada());
+		}
+		return MAX_TURNOS;
+	}
+}
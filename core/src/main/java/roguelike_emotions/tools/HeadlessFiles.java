@@ -0,0 +1,69 @@
+package roguelike_emotions.tools;
+
+import java.io.File;
+
+import com.badlogic.gdx.Files;
+import com.badlogic.gdx.files.FileHandle;
+
+/**
+ * Gdx.files para las herramientas sin ventana (sin backend de libGDX). Los
+ * assets están en el classpath (sourceSets.main.resources = assets), así que
+ * "internal" se resuelve como "classpath"; el resto va al sistema de ficheros.
+ */
+final class HeadlessFiles implements Files {
+
+	@Override
+	public FileHandle getFileHandle(String path, FileType type) {
+		return switch (type) {
+		case Classpath, Internal -> new FileHandle(path, FileType.Classpath) {
+		};
+		case External -> new FileHandle(new File(getExternalStoragePath(), path));
+		case Local, Absolute -> new FileHandle(new File(path));
+		};
+	}
+
+	@Override
+	public FileHandle classpath(String path) {
+		return getFileHandle(path, FileType.Classpath);
+	}
+
+	@Override
+	public FileHandle internal(String path) {
+		return getFileHandle(path, FileType.Internal);
+	}
+
+	@Override
+	public FileHandle external(String path) {
+		return getFileHandle(path, FileType.External);
+	}
+
+	@Override
+	public FileHandle absolute(String path) {
+		return getFileHandle(path, FileType.Absolute);
+	}
+
+	@Override
+	public FileHandle local(String path) {
+		return getFileHandle(path, FileType.Local);
+	}
+
+	@Override
+	public String getExternalStoragePath() {
+		return System.getProperty("user.home");
+	}
+
+	@Override
+	public boolean isExternalStorageAvailable() {
+		return true;
+	}
+
+	@Override
+	public String getLocalStoragePath() {
+		return new File("").getAbsolutePath();
+	}
+
+	@Override
+	public boolean isLocalStorageAvailable() {
+		return true;
+	}
+}
@@ -0,0 +1,125 @@
+package roguelike_emotions.tools;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import roguelike_emotions.characters.EnemyFactory;
+import roguelike_emotions.mainMechanics.EmotionDominanceMatrix;
+import roguelike_emotions.map.EmotionalMap;
+import roguelike_emotions.map.SpatialGrid;
+
+/**
+ * Compara el enlazado de nodos del EmotionalMap: algoritmo original (doble
+ * bucle + sqrt + List.contains) contra la rejilla uniforme (SpatialGrid).
+ *
+ * Mismos puntos y misma área escalada para ambos; además comprueba que las
+ * dos versiones generan exactamente las mismas aristas. Al final mide la
+ * construcción completa de EmotionalMap (nodos perezosos: sin enemigos).
+ *
+ * Uso: gradle :core:mapBenchmark
+ */
+public final class MapLinkBenchmark {
+
+	private static final float RADIO = 200f;
+	private static final int NODOS_BASE = 12;
+	private static final int[] TAMANOS = { 100, 1_000, 5_000, 10_000 };
+	private static final int REPETICIONES = 5;
+
+	private MapLinkBenchmark() {
+	}
+
+	/** Nodo mínimo equivalente al EmotionNode original (posición + lista). */
+	private static final class Nodo {
+		final float x, y;
+		final List<Nodo> conexiones = new ArrayList<>();
+
+		Nodo(float x, float y) {
+			this.x = x;
+			this.y = y;
+		}
+	}
+
+	public static void main(String[] args) {
+		Random rnd = new Random(42);
+		System.out.printf("%8s %12s %12s %10s %10s%n", "nodos", "original ms", "rejilla ms", "aristas", "speedup");
+
+		for (int n : TAMANOS) {
+			float escala = (float) Math.sqrt(Math.max(1f, n / (float) NODOS_BASE));
+			float[] xs = new float[n];
+			float[] ys = new float[n];
+			for (int i = 0; i < n; i++) {
+				xs[i] = 100 + rnd.nextFloat() * 600 * escala;
+				ys[i] = 100 + rnd.nextFloat() * 400 * escala;
+			}
+
+			// calentamiento JIT
+			legacy(xs, ys, n);
+			grid(xs, ys, n);
+
+			double tLegacy = Double.MAX_VALUE, tGrid = Double.MAX_VALUE;
+			long aristasLegacy = 0, aristasGrid = 0;
+			for (int r = 0; r < REPETICIONES; r++) {
+				long t0 = System.nanoTime();
+				aristasLegacy = legacy(xs, ys, n);
+				long t1 = System.nanoTime();
+				aristasGrid = grid(xs, ys, n);
+				long t2 = System.nanoTime();
+				tLegacy = Math.min(tLegacy, (t1 - t0) / 1e6);
+				tGrid = Math.min(tGrid, (t2 - t1) / 1e6);
+			}
+
+			if (aristasLegacy != aristasGrid)
+				System.err.println("⚠️ Aristas distintas para n=" + n + ": " + aristasLegacy + " vs " + aristasGrid);
+
+			System.out.printf("%8d %12.2f %12.2f %10d %9.1fx%n", n, tLegacy, tGrid, aristasGrid, tLegacy / tGrid);
+		}
+
+		System.out.println();
+		System.out.printf("%8s %12s %12s%n", "nodos", "mapa ms", "heap KB");
+		EnemyFactory enemyFactory = new EnemyFactory();
+		EmotionDominanceMatrix matrix = new EmotionDominanceMatrix();
+		for (int n : TAMANOS) {
+			Runtime rt = Runtime.getRuntime();
+			System.gc();
+			long heap0 = rt.totalMemory() - rt.freeMemory();
+			long t0 = System.nanoTime();
+			EmotionalMap mapa = new EmotionalMap(n, enemyFactory, matrix);
+			double ms = (System.nanoTime() - t0) / 1e6;
+			System.gc();
+			long heap1 = rt.totalMemory() - rt.freeMemory();
+			System.out.printf("%8d %12.2f %12d%n", mapa.getNodos().size(), ms, Math.max(0, heap1 - heap0) / 1024);
+		}
+	}
+
+	/** Réplica del conectarNodosPorDistancia original. */
+	private static long legacy(float[] xs, float[] ys, int n) {
+		List<Nodo> nodos = new ArrayList<>(n);
+		for (int i = 0; i < n; i++)
+			nodos.add(new Nodo(xs[i], ys[i]));
+
+		long aristas = 0;
+		for (Nodo a : nodos) {
+			for (Nodo b : nodos) {
+				if (a == b)
+					continue;
+				float dx = a.x - b.x;
+				float dy = a.y - b.y;
+				float dist = (float) Math.sqrt(dx * dx + dy * dy);
+				if (dist <= RADIO && !a.conexiones.contains(b)) {
+					a.conexiones.add(b);
+					aristas++;
+				}
+			}
+		}
+		return aristas;
+	}
+
+	private static long grid(float[] xs, float[] ys, int n) {
+		int[][] adj = new SpatialGrid(xs, ys, n, RADIO).linkWithin(RADIO);
+		long aristas = 0;
+		for (int[] row : adj)
+			aristas += row.length;
+		return aristas;
+	}
+}
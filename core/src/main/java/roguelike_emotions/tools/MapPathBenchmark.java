@@ -0,0 +1,72 @@
+package roguelike_emotions.tools;
+
+import java.util.Random;
+
+import roguelike_emotions.characters.EnemyFactory;
+import roguelike_emotions.mainMechanics.EmotionDominanceMatrix;
+import roguelike_emotions.mainMechanics.EmotionType;
+import roguelike_emotions.map.EmotionalMap;
+import roguelike_emotions.map.MapGraph;
+import roguelike_emotions.map.MapPathfinder;
+
+/**
+ * Mide las consultas de MapPathfinder sobre mapas grandes: ruta A* entre dos
+ * nodos, nodo ALEGRIA más cercano (Dijkstra) y alcanzables en k saltos.
+ *
+ * Uso: gradle :core:mapPathBenchmark
+ */
+public final class MapPathBenchmark {
+
+	private static final int[] TAMANOS = { 1_000, 10_000, 50_000 };
+	private static final int CONSULTAS = 2_000;
+	private static final int SALTOS = 3;
+
+	private MapPathBenchmark() {
+	}
+
+	public static void main(String[] args) {
+		EnemyFactory enemyFactory = new EnemyFactory();
+		EmotionDominanceMatrix matrix = new EmotionDominanceMatrix();
+		Random rnd = new Random(7);
+
+		System.out.printf("%8s %10s %10s %12s %12s %12s%n", "nodos", "aristas", "csr ms", "A* us", "ALEGRIA us",
+				"k=" + SALTOS + " us");
+
+		for (int n : TAMANOS) {
+			EmotionalMap mapa = new EmotionalMap(n, enemyFactory, matrix);
+			long t0 = System.nanoTime();
+			MapGraph g = mapa.getGrafo();
+			double csrMs = (System.nanoTime() - t0) / 1e6;
+			MapPathfinder pf = mapa.getPathfinder();
+
+			int[] from = new int[CONSULTAS];
+			int[] to = new int[CONSULTAS];
+			for (int i = 0; i < CONSULTAS; i++) {
+				from[i] = rnd.nextInt(n);
+				to[i] = rnd.nextInt(n);
+			}
+
+			// calentamiento JIT
+			long sink = 0;
+			for (int i = 0; i < CONSULTAS; i++)
+				sink += pf.shortestPath(from[i], to[i]).length + pf.nearestOfType(from[i], EmotionType.ALEGRIA).length
+						+ pf.reachableWithin(from[i], SALTOS).length;
+
+			long a = System.nanoTime();
+			for (int i = 0; i < CONSULTAS; i++)
+				sink += pf.shortestPath(from[i], to[i]).length;
+			long b = System.nanoTime();
+			for (int i = 0; i < CONSULTAS; i++)
+				sink += pf.nearestOfType(from[i], EmotionType.ALEGRIA).length;
+			long c = System.nanoTime();
+			for (int i = 0; i < CONSULTAS; i++)
+				sink += pf.reachableWithin(from[i], SALTOS).length;
+			long d = System.nanoTime();
+
+			System.out.printf("%8d %10d %10.2f %12.1f %12.2f %12.2f%n", n, g.edgeCount(), csrMs,
+					(b - a) / 1e3 / CONSULTAS, (c - b) / 1e3 / CONSULTAS, (d - c) / 1e3 / CONSULTAS);
+			if (sink == 42)
+				System.out.println();
+		}
+	}
+}
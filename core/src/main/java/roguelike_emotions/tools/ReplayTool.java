@@ -0,0 +1,155 @@
+package roguelike_emotions.tools;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.List;
+import java.util.Random;
+
+import com.badlogic.gdx.Gdx;
+
+import roguelike_emotions.cfg.ConfigBundle;
+import roguelike_emotions.characters.Enemy;
+import roguelike_emotions.characters.Player;
+import roguelike_emotions.mainMechanics.EmotionInstance;
+import roguelike_emotions.managers.GameManager;
+import roguelike_emotions.managers.ReplayLog;
+import roguelike_emotions.managers.Replayer;
+import roguelike_emotions.utils.CombatLogger;
+import roguelike_emotions.utils.EmotionCombiner;
+import roguelike_emotions.vfx.VisBus;
+
+/**
+ * Reproduce repeticiones sin ventana, a la máxima velocidad, comprobando el
+ * hash de estado de cada entrada.
+ *
+ * - Con un fichero: lo reproduce entero e informa de la primera divergencia.
+ * - Sin argumentos: autocomprobación. Juega PARTIDAS partidas de hasta
+ *   COMBATES combates con entradas al azar (como la interfaz: vista previa
+ *   de la fusión antes de confirmarla); de cada una guarda la repetición, la
+ *   vuelve a leer y la reproduce.
+ *
+ * Los personajes escriben cada golpe en System.out; mientras se juega y se
+ * reproduce la salida estándar se descarta. Sale con código 1 si hay
+ * divergencias.
+ *
+ * Uso: gradle :core:replay [-PreplayFile=~/.roguelike_emotions/last.replay]
+ */
+public final class ReplayTool {
+
+	private static final int PARTIDAS = 20;
+	private static final int COMBATES = 40;
+	private static final int MAX_RONDAS = 60;
+	private static final String[] ACCIONES = { "ATTACK", "DEFEND", "USE_EMOTION" };
+
+	private ReplayTool() {
+	}
+
+	public static void main(String[] args) throws IOException {
+		Gdx.files = new HeadlessFiles();
+		ConfigBundle.init();
+		GameManager gm = GameManager.getInstance();
+		gm.setAutosaveEnabled(false);
+
+		boolean ok;
+		if (args.length > 0) {
+			ok = reproducir(gm, ReplayLog.read(Paths.get(args[0])));
+		} else {
+			Random entradas = new Random(42);
+			ok = true;
+			for (int i = 0; i < PARTIDAS; i++)
+				ok &= reproducir(gm, grabar(gm, entradas));
+		}
+		if (!ok)
+			System.exit(1);
+	}
+
+	static boolean reproducir(GameManager gm, ReplayLog log) throws IOException {
+		PrintStream out = System.out;
+		Replayer.Report report;
+		System.setOut(new PrintStream(OutputStream.nullOutputStream()));
+		try {
+			Replayer replayer = gm.startReplay(log);
+			report = replayer.runHeadless();
+			gm.stopReplay();
+		} finally {
+			System.setOut(out);
+		}
+
+		System.out.printf("semilla %016x: %s (%.1f µs por entrada)%n", log.getSeed(), report,
+				report.nanos() / 1e3 / Math.max(1, report.inputs()));
+		return report.matches();
+	}
+
+	/** Juega una partida con entradas al azar y devuelve su repetición (pasada por disco). */
+	static ReplayLog grabar(GameManager gm, Random entradas) throws IOException {
+		PrintStream out = System.out;
+		System.setOut(new PrintStream(OutputStream.nullOutputStream()));
+		VisBus.setMuted(true);
+		CombatLogger.get().setEcho(false);
+		try {
+			gm.reset();
+			Player p = gm.getPlayer();
+			for (int c = 0; c < COMBATES && p.isAlive(); c++) {
+				for (int r = 0; r < MAX_RONDAS && p.isAlive() && hayVivos(gm.getEnemies()); r++) {
+					List<Enemy> enemies = gm.getEnemies();
+					Enemy target = vivoAlAzar(enemies, entradas);
+					gm.executeCombatRound(p, enemies, ACCIONES[entradas.nextInt(ACCIONES.length)], target);
+				}
+				if (p.isAlive()) {
+					gm.prepareNextCombat();
+					gm.grantVictoryEmotionReward();
+					fusionar(gm, entradas);
+				}
+			}
+		} finally {
+			VisBus.setMuted(false);
+			CombatLogger.get().setEcho(true);
+			System.setOut(out);
+		}
+
+		Path tmp = Files.createTempFile("replay", ".bin");
+		try {
+			gm.saveReplay(tmp);
+			return ReplayLog.read(tmp);
+		} finally {
+			Files.deleteIfExists(tmp);
+		}
+	}
+
+	/** Como el códice: vista previa (registra la fusión) y, a veces, confirmarla. */
+	private static void fusionar(GameManager gm, Random entradas) {
+		List<EmotionInstance> activas = gm.getPlayer().getEmocionesActivas();
+		for (int i = 0; i < activas.size(); i++) {
+			for (int j = i + 1; j < activas.size(); j++) {
+				EmotionInstance a = activas.get(i), b = activas.get(j);
+				if (!EmotionCombiner.canFuse(a, b))
+					continue;
+				EmotionCombiner.combinar(a, b);
+				if (entradas.nextBoolean())
+					gm.fuseActiveEmotions(a, b, List.of(), 0);
+				return;
+			}
+		}
+	}
+
+	private static boolean hayVivos(List<Enemy> enemies) {
+		for (Enemy e : enemies)
+			if (e.isAlive())
+				return true;
+		return false;
+	}
+
+	private static Enemy vivoAlAzar(List<Enemy> enemies, Random rnd) {
+		int start = rnd.nextInt(enemies.size());
+		for (int k = 0; k < enemies.size(); k++) {
+			Enemy e = enemies.get((start + k) % enemies.size());
+			if (e.isAlive())
+				return e;
+		}
+		return null;
+	}
+}
@@ -2,7 +2,6 @@ package roguelike_emotions.ui;
 
 import com.badlogic.gdx.graphics.Color;
 import com.badlogic.gdx.graphics.Pixmap;
-import com.badlogic.gdx.graphics.Texture;
 import com.badlogic.gdx.graphics.g2d.BitmapFont;
 import com.badlogic.gdx.scenes.scene2d.ui.Label;
 import com.badlogic.gdx.scenes.scene2d.ui.ScrollPane;
@@ -10,11 +9,13 @@ import com.badlogic.gdx.scenes.scene2d.ui.Skin;
 import com.badlogic.gdx.scenes.scene2d.ui.TextButton;
 import com.badlogic.gdx.scenes.scene2d.utils.Drawable;
 import com.badlogic.gdx.scenes.scene2d.utils.TextureRegionDrawable;
-import roguelike_emotions.ui.fonts.FontManager;
+import roguelike_emotions.graphics.GpuResources;
+import roguelike_emotions.ui.fonts.FontRegistry;
+import roguelike_emotions.ui.fonts.UiFont;
 
 /**
  * Skin minimalista elegante — Paleta A2 Midnight Nebula
- * Autocontenida: no atlas/json. Usa fuentes de FontManager.
+ * Autocontenida: no atlas/json. Usa fuentes de FontRegistry.
  */
 public final class ElegantSkinFactory {
 
@@ -51,9 +52,9 @@ public final class ElegantSkinFactory {
         s.add("scrollBg", colored(Color.valueOf("0A0D12")), Drawable.class);
 
         // ---------- Fonts ----------
-        BitmapFont titleFont = FontManager.title();
-        BitmapFont h2Font = FontManager.h2();
-        BitmapFont bodyFont = FontManager.body();
+        BitmapFont titleFont = FontRegistry.get(UiFont.TITLE);
+        BitmapFont h2Font = FontRegistry.get(UiFont.H2);
+        BitmapFont bodyFont = FontRegistry.get(UiFont.BODY);
 
         // ---------- Label styles ----------
         s.add("default", new Label.LabelStyle(bodyFont, TEXT_MAIN));
@@ -99,24 +100,24 @@ public final class ElegantSkinFactory {
 
     // ===== Helpers =====
     private static Drawable colored(Color c) {
-        Pixmap pm = new Pixmap(2,2, Pixmap.Format.RGBA8888);
-        pm.setColor(c);
-        pm.fill();
-        Texture t = new Texture(pm);
-        pm.dispose();
-        return new TextureRegionDrawable(t);
+        return new TextureRegionDrawable(GpuResources.staticTexture("skin.color:" + c, () -> {
+            Pixmap pm = new Pixmap(2,2, Pixmap.Format.RGBA8888);
+            pm.setColor(c);
+            pm.fill();
+            return pm;
+        }));
     }
 
     /** Panel con borde suave (no mosaico). */
     private static Drawable panelDrawable(Color fill, Color border) {
         int w = 8, h = 8;
-        Pixmap pm = new Pixmap(w, h, Pixmap.Format.RGBA8888);
-        pm.setColor(fill);
-        pm.fill();
-        pm.setColor(border);
-        pm.drawRectangle(0, 0, w, h);
-        Texture t = new Texture(pm);
-        pm.dispose();
-        return new TextureRegionDrawable(t);
+        return new TextureRegionDrawable(GpuResources.staticTexture("skin.panel:" + fill + ":" + border, () -> {
+            Pixmap pm = new Pixmap(w, h, Pixmap.Format.RGBA8888);
+            pm.setColor(fill);
+            pm.fill();
+            pm.setColor(border);
+            pm.drawRectangle(0, 0, w, h);
+            return pm;
+        }));
     }
 }
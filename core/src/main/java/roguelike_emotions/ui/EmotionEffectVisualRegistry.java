@@ -1,38 +1,42 @@
 package roguelike_emotions.ui;
 
-import java.util.HashMap;
+import java.util.EnumMap;
 import java.util.Map;
 
+import roguelike_emotions.cfg.ConfigBundle;
+import roguelike_emotions.cfg.EffectVisualConfig;
 import roguelike_emotions.mainMechanics.EmotionEffect;
 
+/**
+ * Datos visuales de cada efecto, sacados de visual_effects.json (vía
+ * ConfigBundle). Se reconstruyen solo cuando cambia la configuración
+ * (recarga en caliente); consultar no reserva memoria.
+ */
 public class EmotionEffectVisualRegistry {
 
-    private static final Map<EmotionEffect, EffectVisualData> visualDataMap = new HashMap<>();
-
-    static {
-        visualDataMap.put(EmotionEffect.FUEGO, new EffectVisualData(
-                "Quemadura", "SPRITE_BURN", "#FF4500", "burn-effect"));
-        visualDataMap.put(EmotionEffect.CURACION, new EffectVisualData(
-                "Curación", "SPRITE_HEAL", "#00FF7F", "heal-effect"));
-        visualDataMap.put(EmotionEffect.VENENO, new EffectVisualData(
-                "Veneno", "SPRITE_POISON", "#8A2BE2", "poison-effect"));
-        visualDataMap.put(EmotionEffect.REBOTE, new EffectVisualData(
-                "Rebote", "SPRITE_REFLECT", "#FFD700", "reflect-effect"));
-        visualDataMap.put(EmotionEffect.RALENTIZAR, new EffectVisualData(
-                "Ralentización", "SPRITE_SLOW", "#1E90FF", "slow-effect"));
-        visualDataMap.put(EmotionEffect.DEFENDER, new EffectVisualData(
-                "Defensa", "SPRITE_DEFENSE", "#4682B4", "defense-effect"));
-        visualDataMap.put(EmotionEffect.STUN, new EffectVisualData(
-                "Aturdimiento", "SPRITE_STUN", "#FF1493", "stun-effect"));
-        visualDataMap.put(EmotionEffect.REGENERACION, new EffectVisualData(
-                "Regeneración", "SPRITE_REGEN", "#00CED1", "regen-effect"));
-        visualDataMap.put(EmotionEffect.ENERGIZAR, new EffectVisualData(
-                "Energía", "SPRITE_ENERGIZE", "#FFA500", "energize-effect"));
+    /** Mapa construido para una configuración concreta (se sustituye entero). */
+    private record Cache(ConfigBundle source, Map<EmotionEffect, EffectVisualData> data) {
     }
 
+    private static volatile Cache cache;
 
     public static EffectVisualData getVisualData(EmotionEffect effect) {
-        return visualDataMap.get(effect);
+        ConfigBundle cfg = ConfigBundle.get();
+        Cache c = cache;
+        if (c == null || c.source() != cfg) {
+            c = build(cfg);
+            cache = c;
+        }
+        return c.data().get(effect);
+    }
+
+    private static Cache build(ConfigBundle cfg) {
+        Map<EmotionEffect, EffectVisualData> data = new EnumMap<>(EmotionEffect.class);
+        for (EffectVisualConfig v : cfg.visuals().values()) {
+            data.put(v.getEffect(), new EffectVisualData(
+                    v.getDisplayName(), v.getSpriteId(), v.getUiColorHex(), v.getCssClass()));
+        }
+        return new Cache(cfg, data);
     }
 
 }
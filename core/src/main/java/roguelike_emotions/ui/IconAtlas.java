@@ -0,0 +1,216 @@
+package roguelike_emotions.ui;
+
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.files.FileHandle;
+import com.badlogic.gdx.graphics.Pixmap;
+import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.graphics.g2d.BitmapFont;
+import com.badlogic.gdx.graphics.g2d.PixmapPacker;
+import com.badlogic.gdx.graphics.g2d.TextureAtlas;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
+
+/**
+ * Atlas único empaquetado en runtime (PixmapPacker) al arrancar.
+ *
+ * Mete en la misma página: - todos los icons/** (effects, emotions, small) -
+ * el pixel blanco de paneles/barras - el sprite radial de partículas - la
+ * fuente por defecto (lsans-15 de libGDX)
+ *
+ * Así un frame de combate (rects + iconos + texto) no cambia de textura y el
+ * SpriteBatch apenas hace flush. Las claves de los iconos son su ruta
+ * ("icons/emotions/ira.png"), igual que en IconRegistry.
+ */
+public final class IconAtlas {
+
+	private static final int PAGE_SIZE = 1024;
+	private static final int PADDING = 2;
+	// Los iconos se dibujan a 24-96px: no merece la pena guardar 256x256
+	private static final int MAX_ICON_SIZE = 128;
+	private static final int PARTICLE_SIZE = 8;
+
+	private static final String[] ICON_DIRS = { "icons/effects", "icons/emotions", "icons/small" };
+	private static final String FONT_FNT = "com/badlogic/gdx/utils/lsans-15.fnt";
+	private static final String FONT_PNG = "com/badlogic/gdx/utils/lsans-15.png";
+
+	private static final String KEY_WHITE = "#white";
+	private static final String KEY_PARTICLE = "#particle";
+	private static final String KEY_FONT = "#font";
+
+	private static PixmapPacker prepared; // de prepare() a init()
+	private static TextureAtlas atlas;
+	private static TextureRegion white;
+	private static TextureRegion particle;
+	private static BitmapFont defaultFont;
+
+	private IconAtlas() {
+	}
+
+	// ---------------- public API ----------------
+
+	/**
+	 * Decodifica y empaqueta los pixmaps (sin GL: vale desde cualquier hilo).
+	 * El arranque lo llama en paralelo con el resto; si nadie lo ha hecho,
+	 * init() lo hace.
+	 */
+	public static void prepare() {
+		if (prepared != null || atlas != null)
+			return;
+
+		PixmapPacker packer = new PixmapPacker(PAGE_SIZE, PAGE_SIZE, Pixmap.Format.RGBA8888, PADDING, true);
+
+		// pixel blanco 3x3: la región usable es el texel central (sin bleeding con filtro lineal)
+		Pixmap wp = new Pixmap(3, 3, Pixmap.Format.RGBA8888);
+		wp.setColor(1, 1, 1, 1);
+		wp.fill();
+		packer.pack(KEY_WHITE, wp);
+		wp.dispose();
+
+		Pixmap pp = createParticlePixmap();
+		packer.pack(KEY_PARTICLE, pp);
+		pp.dispose();
+
+		FileHandle fontPng = Gdx.files.classpath(FONT_PNG);
+		if (fontPng.exists()) {
+			Pixmap fp = new Pixmap(fontPng);
+			packer.pack(KEY_FONT, fp);
+			fp.dispose();
+		}
+
+		packIcons(packer);
+		prepared = packer;
+	}
+
+	/** Sube el atlas preparado (hilo GL). Idempotente. */
+	public static void init() {
+		if (atlas != null)
+			return;
+
+		prepare();
+		PixmapPacker packer = prepared;
+		prepared = null;
+		atlas = packer.generateTextureAtlas(Texture.TextureFilter.Linear, Texture.TextureFilter.Linear, false);
+		packer.dispose();
+
+		white = new TextureRegion(atlas.findRegion(KEY_WHITE), 1, 1, 1, 1);
+		particle = atlas.findRegion(KEY_PARTICLE);
+
+		TextureRegion fontRegion = atlas.findRegion(KEY_FONT);
+		defaultFont = (fontRegion != null) ? new BitmapFont(Gdx.files.classpath(FONT_FNT), fontRegion, false)
+				: new BitmapFont();
+
+		Gdx.app.log("IconAtlas", "Atlas listo: " + atlas.getTextures().size + " página(s), "
+				+ atlas.getRegions().size + " regiones");
+	}
+
+	/** Región de un icono por ruta de asset, o null si no se empaquetó. */
+	public static TextureRegion find(String path) {
+		init();
+		return atlas.findRegion(path);
+	}
+
+	/** Pixel blanco para rects/barras (misma página que los iconos). */
+	public static TextureRegion whitePixel() {
+		init();
+		return white;
+	}
+
+	/** Sprite radial 8x8 de partículas. */
+	public static TextureRegion particle() {
+		init();
+		return particle;
+	}
+
+	/** Fuente por defecto con sus glifos dentro del atlas (no es dueña de la textura). */
+	public static BitmapFont defaultFont() {
+		init();
+		return defaultFont;
+	}
+
+	public static void dispose() {
+		if (defaultFont != null)
+			defaultFont.dispose();
+		if (atlas != null)
+			atlas.dispose();
+		atlas = null;
+		white = null;
+		particle = null;
+		defaultFont = null;
+	}
+
+	// ---------------- internals ----------------
+
+	private static void packIcons(PixmapPacker packer) {
+		Set<String> paths = new LinkedHashSet<>(IconRegistry.knownIconPaths());
+		for (String dir : ICON_DIRS) {
+			FileHandle fh = Gdx.files.internal(dir);
+			if (!fh.isDirectory())
+				continue;
+			for (FileHandle f : fh.list(".png"))
+				paths.add(dir + "/" + f.name());
+		}
+
+		List<Pixmap> pixmaps = new ArrayList<>();
+		List<String> keys = new ArrayList<>();
+		for (String path : paths) {
+			FileHandle f = Gdx.files.internal(path);
+			if (!f.exists())
+				continue;
+			keys.add(path);
+			pixmaps.add(downscale(new Pixmap(f)));
+		}
+
+		// los grandes primero: el guillotine empaqueta mejor así
+		List<Integer> order = new ArrayList<>();
+		for (int i = 0; i < keys.size(); i++)
+			order.add(i);
+		order.sort((a, b) -> Integer.compare(pixmaps.get(b).getHeight(), pixmaps.get(a).getHeight()));
+
+		for (int i : order) {
+			packer.pack(keys.get(i), pixmaps.get(i));
+		}
+		for (Pixmap pm : pixmaps)
+			pm.dispose();
+	}
+
+	private static Pixmap downscale(Pixmap src) {
+		int w = src.getWidth();
+		int h = src.getHeight();
+		if (w <= MAX_ICON_SIZE && h <= MAX_ICON_SIZE)
+			return src;
+
+		float k = MAX_ICON_SIZE / (float) Math.max(w, h);
+		int tw = Math.max(1, Math.round(w * k));
+		int th = Math.max(1, Math.round(h * k));
+
+		Pixmap dst = new Pixmap(tw, th, Pixmap.Format.RGBA8888);
+		dst.setBlending(Pixmap.Blending.None);
+		dst.setFilter(Pixmap.Filter.BiLinear);
+		dst.drawPixmap(src, 0, 0, w, h, 0, 0, tw, th);
+		src.dispose();
+		return dst;
+	}
+
+	private static Pixmap createParticlePixmap() {
+		int size = PARTICLE_SIZE;
+		Pixmap pm = new Pixmap(size, size, Pixmap.Format.RGBA8888);
+
+		int center = size / 2;
+		for (int y = 0; y < size; y++) {
+			for (int x = 0; x < size; x++) {
+				float dist = (float) Math.sqrt((x - center) * (x - center) + (y - center) * (y - center));
+
+				if (dist <= center) {
+					float alpha = 1f - (dist / center);
+					pm.setColor(1f, 1f, 1f, alpha);
+					pm.drawPixel(x, y);
+				}
+			}
+		}
+		return pm;
+	}
+}
@@ -1,14 +1,19 @@
 package roguelike_emotions.ui;
 
+import java.util.ArrayList;
+import java.util.EnumMap;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 
 import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.graphics.Pixmap;
 import com.badlogic.gdx.graphics.Texture;
 import com.badlogic.gdx.graphics.g2d.TextureRegion;
 import com.badlogic.gdx.scenes.scene2d.utils.Drawable;
 import com.badlogic.gdx.scenes.scene2d.utils.TextureRegionDrawable;
 
+import roguelike_emotions.graphics.GpuResources;
 import roguelike_emotions.mainMechanics.EmotionEffect;
 import roguelike_emotions.mainMechanics.EmotionType;
 
@@ -20,12 +25,21 @@ import roguelike_emotions.mainMechanics.EmotionType;
  * icons/emotions/<emotionType>.png - icons/small/<name>.png
  *
  * Devuelve null si no existe el archivo y cachea para no recargar texturas.
+ * Las regiones salen del atlas compartido (IconAtlas); solo si un icono no
+ * está empaquetado se carga como textura suelta.
  */
 public final class IconRegistry {
 
 	private static final Map<String, TextureRegion> REGION_CACHE = new HashMap<>();
 	private static final Map<String, Drawable> DRAWABLE_CACHE = new HashMap<>();
 
+	/** Icono de un efecto y los datos visuales con los que se resolvió. */
+	private record EffectIcon(EffectVisualData source, Drawable drawable) {
+	}
+
+	// por efecto: la consulta de cada frame no construye la ruta ni la clave
+	private static final Map<EmotionEffect, EffectIcon> EFFECT_ICONS = new EnumMap<>(EmotionEffect.class);
+
 	private IconRegistry() {
 	}
 
@@ -36,28 +50,33 @@ public final class IconRegistry {
 		if (effect == null)
 			return null;
 
-		EffectVisualData data = EmotionEffectVisualRegistry.getVisualData(effect);
-		if (data == null)
-			return null;
-
-		String spriteId = data.getSpriteId(); // <- existe en tu EffectVisualData
-		if (spriteId == null)
-			return null;
-
-		String file = normalizeSpriteId(spriteId);
-		return region("icons/effects/" + file + ".png");
+		String path = effectPath(effect);
+		return (path != null) ? region(path) : null;
 	}
 
 	public static Drawable effectDrawable(EmotionEffect effect) {
 		if (effect == null)
 			return null;
-		String key = "effect:" + effect.name();
-		if (DRAWABLE_CACHE.containsKey(key))
-			return DRAWABLE_CACHE.get(key);
-
-		TextureRegion r = effectRegion(effect);
-		Drawable d = (r != null) ? new TextureRegionDrawable(r) : null;
-		DRAWABLE_CACHE.put(key, d);
+		// recargar visual_effects.json da otros EffectVisualData (y quizá otro
+		// spriteId): solo entonces se vuelve a resolver la ruta
+		EffectVisualData data = EmotionEffectVisualRegistry.getVisualData(effect);
+		EffectIcon icon = EFFECT_ICONS.get(effect);
+		if (icon != null && icon.source() == data)
+			return icon.drawable();
+
+		String path = effectPath(data);
+		Drawable d = null;
+		if (path != null) {
+			String key = "effect:" + path;
+			if (DRAWABLE_CACHE.containsKey(key)) {
+				d = DRAWABLE_CACHE.get(key);
+			} else {
+				TextureRegion r = region(path);
+				d = (r != null) ? new TextureRegionDrawable(r) : null;
+				DRAWABLE_CACHE.put(key, d);
+			}
+		}
+		EFFECT_ICONS.put(effect, new EffectIcon(data, d));
 		return d;
 	}
 
@@ -65,7 +84,7 @@ public final class IconRegistry {
 	public static TextureRegion emotionRegion(EmotionType type) {
 		if (type == null)
 			return null;
-		return region("icons/emotions/" + type.name().toLowerCase() + ".png");
+		return region(emotionPath(type));
 	}
 
 	public static Drawable emotionDrawable(EmotionType type) {
@@ -85,7 +104,7 @@ public final class IconRegistry {
 	public static TextureRegion smallRegion(String name) {
 		if (name == null || name.isEmpty())
 			return null;
-		return region("icons/small/" + name + ".png");
+		return region(smallPath(name));
 	}
 
 	public static Drawable smallDrawable(String name) {
@@ -108,23 +127,69 @@ public final class IconRegistry {
 		for (EmotionType t : EmotionType.values())
 			emotionRegion(t);
 
-		smallRegion("turn_icon");
-		smallRegion("duration_icon");
-		smallRegion("buff_timer");
+		for (String s : SMALL_ICONS)
+			smallRegion(s);
+	}
+
+	/** Rutas de todos los iconos que el juego pide (para empaquetarlos en el atlas). */
+	static List<String> knownIconPaths() {
+		List<String> out = new ArrayList<>();
+		for (EmotionEffect e : EmotionEffect.values()) {
+			String p = effectPath(e);
+			if (p != null)
+				out.add(p);
+		}
+		for (EmotionType t : EmotionType.values())
+			out.add(emotionPath(t));
+		for (String s : SMALL_ICONS)
+			out.add(smallPath(s));
+		return out;
 	}
 
 	// ---------------- internals ----------------
 
+	private static final String[] SMALL_ICONS = { "turn_icon", "duration_icon", "buff_timer" };
+
+	private static String effectPath(EmotionEffect effect) {
+		return effectPath(EmotionEffectVisualRegistry.getVisualData(effect));
+	}
+
+	private static String effectPath(EffectVisualData data) {
+		if (data == null)
+			return null;
+
+		String spriteId = data.getSpriteId(); // <- existe en tu EffectVisualData
+		if (spriteId == null)
+			return null;
+
+		return "icons/effects/" + normalizeSpriteId(spriteId) + ".png";
+	}
+
+	private static String emotionPath(EmotionType type) {
+		return "icons/emotions/" + type.name().toLowerCase() + ".png";
+	}
+
+	private static String smallPath(String name) {
+		return "icons/small/" + name + ".png";
+	}
+
 	private static TextureRegion region(String path) {
 		if (REGION_CACHE.containsKey(path))
 			return REGION_CACHE.get(path);
 
+		TextureRegion packed = IconAtlas.find(path);
+		if (packed != null) {
+			REGION_CACHE.put(path, packed);
+			return packed;
+		}
+
 		if (!Gdx.files.internal(path).exists()) {
 			REGION_CACHE.put(path, null);
 			return null;
 		}
 
-		Texture tex = new Texture(Gdx.files.internal(path));
+		// fuera del atlas: textura suelta, compartida y viva toda la sesión
+		Texture tex = GpuResources.staticTexture(path, () -> new Pixmap(Gdx.files.internal(path)));
 		TextureRegion tr = new TextureRegion(tex);
 		REGION_CACHE.put(path, tr);
 		return tr;
@@ -0,0 +1,377 @@
+package roguelike_emotions.ui.fonts;
+
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.TreeSet;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+
+import com.badlogic.gdx.files.FileHandle;
+import com.badlogic.gdx.graphics.Color;
+import com.badlogic.gdx.graphics.Pixmap;
+import com.badlogic.gdx.graphics.PixmapIO;
+import com.badlogic.gdx.graphics.g2d.BitmapFont.BitmapFontData;
+import com.badlogic.gdx.graphics.g2d.BitmapFont.Glyph;
+import com.badlogic.gdx.graphics.g2d.PixmapPacker;
+import com.badlogic.gdx.graphics.g2d.freetype.FreeTypeFontGenerator;
+import com.badlogic.gdx.graphics.g2d.freetype.FreeTypeFontGenerator.FreeTypeFontParameter;
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.GdxNativesLoader;
+
+import roguelike_emotions.save.SnapshotFile;
+import roguelike_emotions.save.SnapshotFormatException;
+import roguelike_emotions.save.SnapshotReader;
+import roguelike_emotions.save.SnapshotWriter;
+
+/**
+ * Hornea las UiFont con FreeType en tiempo de build (tarea bakeFonts de
+ * Gradle): todas en un mismo PixmapPacker, así comparten páginas. Escribe las
+ * páginas (PNG) y las métricas y glifos de cada fuente en un solo fichero
+ * (contenedor de SnapshotFile, con CRC); FontRegistry lo lee al arrancar sin
+ * pasar por FreeType.
+ *
+ * Juego de caracteres: CHARS, el mismo que usa FontRegistry si tiene que
+ * rasterizar sin horneado, así el texto sale igual en los dos casos. Los textos
+ * del código y de los JSON se escanean solo para avisar: de los caracteres que
+ * no están en CHARS (hay que añadirlos ahí), de los que el TTF no tiene (los
+ * emoji) y de los de fuera del plano básico, que BitmapFont no puede indexar.
+ *
+ * <pre>
+ * int magic "RFNT" | int version
+ * páginas: int n | (bytes png)*
+ * fuentes: int n | (enum fuente, métricas, int glifos, glifo*, boolean missing, glifo?)*
+ *          glifo: int id, srcX, srcY, width, height, xoffset, yoffset, xadvance, page
+ *                 | boolean fixedWidth | int n | (int carácter, byte kerning)*
+ * </pre>
+ *
+ * Uso: FontBaker &lt;ttf&gt; &lt;salida&gt; [directorios a escanear...]
+ */
+public final class FontBaker {
+
+	public static final int MAGIC = 0x544E4652; // "RFNT" en little-endian
+	public static final int VERSION = 1;
+
+	/**
+	 * FreeTypeFontGenerator.DEFAULT_CHARS (ASCII y Latin-1, con las tildes, ñ, ¿
+	 * y ¡) más los símbolos que usan los textos del juego: Δ • … flechas ⇅ ⌫ ⏳ ═
+	 * ○ ⚔ ⚠ ⚡ ✅ ✓ ✗ ✨ ❌ ❤.
+	 */
+	public static final String CHARS = FreeTypeFontGenerator.DEFAULT_CHARS
+			+ "\u0394\u2022\u2026\u2190\u2191\u2192\u2193\u21C5\u232B\u23F3\u2550\u25CB\u2694\u26A0"
+			+ "\u26A1\u2705\u2713\u2717\u2728\u274C\u2764";
+
+	private static final int PAGE_SIZE = 1024;
+	private static final UiFont[] FUENTES = UiFont.values();
+	private static final Pattern LITERAL = Pattern.compile("\"(?:[^\"\\\\\\n]|\\\\.)*\"");
+
+	/** Páginas del atlas compartido y datos de cada fuente (glyph.page indexa 'pages'). */
+	record Baked(Pixmap[] pages, Map<UiFont, BitmapFontData> fonts) {
+	}
+
+	private FontBaker() {
+	}
+
+	// ==== HORNEADO ====
+
+	/** Rasteriza todas las UiFont. Sin GL: vale desde cualquier hilo. */
+	static Baked bake(FileHandle ttf, String chars) {
+		PixmapPacker packer = new PixmapPacker(PAGE_SIZE, PAGE_SIZE, Pixmap.Format.RGBA8888, 2, false);
+		Map<UiFont, BitmapFontData> fonts = new EnumMap<>(UiFont.class);
+		FreeTypeFontGenerator gen = new FreeTypeFontGenerator(ttf);
+		try {
+			for (UiFont f : FUENTES) {
+				FreeTypeFontParameter p = parameter(f);
+				p.characters = chars;
+				p.packer = packer; // con packer propio generateData no crea texturas
+				fonts.put(f, gen.generateData(p));
+			}
+		} finally {
+			gen.dispose();
+		}
+
+		// las páginas pasan al llamante (el packer no se libera)
+		Array<PixmapPacker.Page> ps = packer.getPages();
+		Pixmap[] pages = new Pixmap[ps.size];
+		for (int i = 0; i < pages.length; i++)
+			pages[i] = ps.get(i).getPixmap();
+		return new Baked(pages, fonts);
+	}
+
+	private static FreeTypeFontParameter parameter(UiFont f) {
+		FreeTypeFontParameter p = new FreeTypeFontParameter();
+		p.size = f.size;
+		switch (f.estilo) {
+		case SUAVE -> {
+			// Sombra/borde sutil para legibilidad en fondo oscuro
+			p.borderWidth = 1.2f;
+			p.borderColor = new Color(0, 0, 0, 0.65f);
+			p.shadowOffsetX = 1;
+			p.shadowOffsetY = 1;
+			p.shadowColor = new Color(0, 0, 0, 0.35f);
+			p.color = new Color(0.95f, 0.97f, 1f, 1f);
+		}
+		case CONTORNO -> {
+			p.borderColor = Color.BLACK;
+			p.borderWidth = 1.5f;
+		}
+		}
+		return p;
+	}
+
+	// ==== FORMATO BINARIO ====
+
+	static void write(SnapshotWriter w, Baked b) {
+		w.putInt(MAGIC);
+		w.putInt(VERSION);
+		w.putInt(b.pages().length);
+		for (Pixmap page : b.pages())
+			w.putBytes(png(page));
+		w.putInt(b.fonts().size());
+		for (Map.Entry<UiFont, BitmapFontData> e : b.fonts().entrySet()) {
+			w.putEnum(e.getKey());
+			writeData(w, e.getValue());
+		}
+	}
+
+	/** Lee lo escrito por write(): decodifica las páginas (CPU, sin GL). */
+	static Baked read(SnapshotReader r) throws SnapshotFormatException {
+		if (r.getInt() != MAGIC)
+			throw new SnapshotFormatException("No es un fichero de fuentes");
+		int version = r.getInt();
+		if (version != VERSION)
+			throw new SnapshotFormatException("Versión de fuentes no soportada: " + version);
+
+		Pixmap[] pages = new Pixmap[r.getCount()];
+		for (int i = 0; i < pages.length; i++) {
+			byte[] png = r.getBytes();
+			pages[i] = new Pixmap(png, 0, png.length);
+		}
+		Map<UiFont, BitmapFontData> fonts = new EnumMap<>(UiFont.class);
+		int n = r.getCount();
+		for (int i = 0; i < n; i++) {
+			UiFont f = r.getEnum(FUENTES);
+			if (f == null)
+				throw new SnapshotFormatException("Fuente sin nombre");
+			fonts.put(f, readData(r, pages.length));
+		}
+		return new Baked(pages, fonts);
+	}
+
+	private static void writeData(SnapshotWriter w, BitmapFontData d) {
+		w.putBoolean(d.flipped);
+		w.putFloat(d.padTop);
+		w.putFloat(d.padRight);
+		w.putFloat(d.padBottom);
+		w.putFloat(d.padLeft);
+		w.putFloat(d.lineHeight);
+		w.putFloat(d.capHeight);
+		w.putFloat(d.ascent);
+		w.putFloat(d.descent);
+		w.putFloat(d.down);
+		w.putFloat(d.blankLineScale);
+		w.putFloat(d.scaleX);
+		w.putFloat(d.scaleY);
+		w.putBoolean(d.markupEnabled);
+		w.putFloat(d.cursorX);
+		w.putFloat(d.spaceXadvance);
+		w.putFloat(d.xHeight);
+
+		int n = 0;
+		for (Glyph[] page : d.glyphs)
+			if (page != null)
+				for (Glyph g : page)
+					if (g != null)
+						n++;
+		w.putInt(n);
+		for (Glyph[] page : d.glyphs)
+			if (page != null)
+				for (Glyph g : page)
+					if (g != null)
+						writeGlyph(w, g);
+
+		w.putBoolean(d.missingGlyph != null);
+		if (d.missingGlyph != null)
+			writeGlyph(w, d.missingGlyph);
+	}
+
+	private static BitmapFontData readData(SnapshotReader r, int pages) throws SnapshotFormatException {
+		BitmapFontData d = new BitmapFontData();
+		d.flipped = r.getBoolean();
+		d.padTop = r.getFloat();
+		d.padRight = r.getFloat();
+		d.padBottom = r.getFloat();
+		d.padLeft = r.getFloat();
+		d.lineHeight = r.getFloat();
+		d.capHeight = r.getFloat();
+		d.ascent = r.getFloat();
+		d.descent = r.getFloat();
+		d.down = r.getFloat();
+		d.blankLineScale = r.getFloat();
+		d.scaleX = r.getFloat();
+		d.scaleY = r.getFloat();
+		d.markupEnabled = r.getBoolean();
+		d.cursorX = r.getFloat();
+		d.spaceXadvance = r.getFloat();
+		d.xHeight = r.getFloat();
+
+		int n = r.getCount();
+		for (int i = 0; i < n; i++) {
+			Glyph g = readGlyph(r, pages);
+			d.setGlyph(g.id, g);
+		}
+		if (r.getBoolean()) {
+			Glyph g = readGlyph(r, pages);
+			Glyph enTabla = d.getGlyph((char) g.id);
+			d.missingGlyph = (enTabla != null) ? enTabla : g;
+		}
+		return d;
+	}
+
+	private static void writeGlyph(SnapshotWriter w, Glyph g) {
+		w.putInt(g.id);
+		w.putInt(g.srcX);
+		w.putInt(g.srcY);
+		w.putInt(g.width);
+		w.putInt(g.height);
+		w.putInt(g.xoffset);
+		w.putInt(g.yoffset);
+		w.putInt(g.xadvance);
+		w.putInt(g.page);
+		w.putBoolean(g.fixedWidth);
+
+		int n = 0;
+		if (g.kerning != null)
+			for (byte[] page : g.kerning)
+				if (page != null)
+					for (byte k : page)
+						if (k != 0)
+							n++;
+		w.putInt(n);
+		if (g.kerning != null) {
+			for (int p = 0; p < g.kerning.length; p++) {
+				byte[] page = g.kerning[p];
+				if (page == null)
+					continue;
+				for (int i = 0; i < page.length; i++) {
+					if (page[i] != 0) {
+						w.putInt(p * page.length + i);
+						w.putByte(page[i]);
+					}
+				}
+			}
+		}
+	}
+
+	private static Glyph readGlyph(SnapshotReader r, int pages) throws SnapshotFormatException {
+		Glyph g = new Glyph();
+		g.id = r.getInt();
+		g.srcX = r.getInt();
+		g.srcY = r.getInt();
+		g.width = r.getInt();
+		g.height = r.getInt();
+		g.xoffset = r.getInt();
+		g.yoffset = r.getInt();
+		g.xadvance = r.getInt();
+		g.page = r.getInt();
+		g.fixedWidth = r.getBoolean();
+		if (g.id < 0 || g.id > Character.MAX_VALUE || g.page < 0 || g.page >= pages)
+			throw new SnapshotFormatException("Glifo inválido: " + g.id + " en página " + g.page);
+		int n = r.getCount();
+		for (int i = 0; i < n; i++)
+			g.setKerning(r.getInt(), r.getByte());
+		return g;
+	}
+
+	private static byte[] png(Pixmap page) {
+		ByteArrayOutputStream out = new ByteArrayOutputStream();
+		try {
+			new PixmapIO.PNG().write(out, page);
+		} catch (IOException e) {
+			throw new IllegalStateException("No se pudo codificar la página", e);
+		}
+		return out.toByteArray();
+	}
+
+	// ==== LÍNEA DE COMANDOS ====
+
+	public static void main(String[] args) throws IOException {
+		if (args.length < 2) {
+			System.err.println("Uso: FontBaker <ttf> <salida> [directorios a escanear...]");
+			System.exit(2);
+		}
+		GdxNativesLoader.load();
+
+		// se hornea CHARS tal cual; los textos del juego solo se miran para avisar
+		TreeSet<Integer> usados = new TreeSet<>();
+		for (int i = 2; i < args.length; i++)
+			scan(Paths.get(args[i]), usados);
+		String chars = CHARS;
+		StringBuilder fuera = new StringBuilder();
+		StringBuilder fueraBmp = new StringBuilder();
+		for (int cp : usados) {
+			if (!Character.isBmpCodePoint(cp))
+				fueraBmp.appendCodePoint(cp);
+			else if (chars.indexOf(cp) < 0)
+				fuera.appendCodePoint(cp);
+		}
+		if (fuera.length() > 0)
+			System.err.println("[FontBaker] Aviso: caracteres usados que no están en FontBaker.CHARS: " + fuera);
+
+		Path out = Paths.get(args[1]);
+		Baked baked = bake(new FileHandle(new File(args[0])), chars);
+
+		BitmapFontData body = baked.fonts().get(UiFont.BODY);
+		StringBuilder sinGlifo = new StringBuilder();
+		int glifos = 0;
+		for (int i = 0; i < chars.length(); i++) {
+			if (body.getGlyph(chars.charAt(i)) != null)
+				glifos++;
+			else if (!Character.isISOControl(chars.charAt(i)))
+				sinGlifo.append(chars.charAt(i));
+		}
+		if (sinGlifo.length() > 0)
+			System.err.println("[FontBaker] Aviso: el TTF no tiene glifo para: " + sinGlifo);
+		if (fueraBmp.length() > 0)
+			System.err.println("[FontBaker] Aviso: BitmapFont no admite caracteres fuera del plano básico: " + fueraBmp);
+
+		SnapshotWriter w = new SnapshotWriter(1 << 20);
+		write(w, baked);
+		SnapshotFile.write(out, w, false);
+		for (Pixmap p : baked.pages())
+			p.dispose();
+		System.out.println("[FontBaker] " + baked.fonts().size() + " fuentes, " + glifos + " glifos cada una, "
+				+ baked.pages().length + " página(s) de " + PAGE_SIZE + " -> " + out + " (" + Files.size(out)
+				+ " bytes)");
+	}
+
+	/** Code points no ASCII de los literales (.java) y de los JSON. */
+	private static void scan(Path dir, TreeSet<Integer> usados) throws IOException {
+		if (!Files.isDirectory(dir))
+			return;
+		try (Stream<Path> files = Files.walk(dir)) {
+			for (Path f : (Iterable<Path>) files::iterator) {
+				String name = f.getFileName().toString();
+				if (name.endsWith(".java")) {
+					Matcher m = LITERAL.matcher(Files.readString(f));
+					while (m.find())
+						add(m.group(), usados);
+				} else if (name.endsWith(".json")) {
+					add(Files.readString(f), usados);
+				}
+			}
+		}
+	}
+
+	private static void add(String s, TreeSet<Integer> usados) {
+		// sin selectores de variante ni marcas de formato (van pegados a los emoji)
+		s.codePoints().filter(cp -> cp > 126 && Character.getType(cp) != Character.NON_SPACING_MARK
+				&& Character.getType(cp) != Character.FORMAT).forEach(usados::add);
+	}
+}
@@ -0,0 +1,102 @@
+package roguelike_emotions.ui.fonts;
+
+import java.util.EnumMap;
+import java.util.Map;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.files.FileHandle;
+import com.badlogic.gdx.graphics.Pixmap;
+import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.graphics.g2d.BitmapFont;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
+import com.badlogic.gdx.utils.Array;
+
+import roguelike_emotions.save.SnapshotFile;
+import roguelike_emotions.save.SnapshotFormatException;
+
+/**
+ * Registro único de fuentes de la interfaz.
+ *
+ * Carga las UiFont horneadas por FontBaker (PATH, en el classpath): todas
+ * comparten las mismas páginas de textura, que pertenecen al registro. Las
+ * fuentes son compartidas: las pantallas las piden con get() y NO las
+ * liberan.
+ *
+ * Como IconAtlas, en dos partes: prepare() lee el fichero y decodifica las
+ * páginas (sin GL, desde cualquier hilo) y upload() crea las texturas y las
+ * fuentes (hilo GL). Sin el fichero horneado (ejecución desde el IDE sin
+ * pasar por Gradle) prepare() las rasteriza con FreeType.
+ */
+public final class FontRegistry {
+
+	/** Ruta interna del fichero horneado. */
+	public static final String PATH = "fonts/ui.fonts";
+	public static final String TTF = "fonts/Roboto-Regular.ttf";
+
+	private static FontBaker.Baked prepared; // de prepare() a upload()
+	private static Texture[] pages;
+	private static final Map<UiFont, BitmapFont> fonts = new EnumMap<>(UiFont.class);
+
+	private FontRegistry() {
+	}
+
+	/** Lee y decodifica las fuentes horneadas. Sin GL. Idempotente. */
+	public static void prepare() {
+		if (prepared != null || pages != null)
+			return;
+
+		FileHandle baked = Gdx.files.internal(PATH);
+		if (baked.exists()) {
+			try {
+				prepared = FontBaker.read(SnapshotFile.read(baked.readBytes(), PATH));
+				return;
+			} catch (SnapshotFormatException e) {
+				System.err.println("[FontRegistry] " + PATH + " no válido (" + e.getMessage() + "): rasterizando");
+			}
+		} else {
+			System.err.println("[FontRegistry] Sin " + PATH + " (¿sin pasar por gradle bakeFonts?): rasterizando");
+		}
+		prepared = FontBaker.bake(Gdx.files.internal(TTF), FontBaker.CHARS);
+	}
+
+	/** Sube las páginas y crea las fuentes (hilo GL). Idempotente. */
+	public static void upload() {
+		if (pages != null)
+			return;
+
+		prepare();
+		FontBaker.Baked b = prepared;
+		prepared = null;
+
+		Array<TextureRegion> regions = new Array<>(b.pages().length);
+		pages = new Texture[b.pages().length];
+		for (int i = 0; i < pages.length; i++) {
+			Pixmap pm = b.pages()[i];
+			pages[i] = new Texture(pm);
+			pm.dispose();
+			regions.add(new TextureRegion(pages[i]));
+		}
+		// integer = true, como generateFont; las texturas son del registro
+		for (Map.Entry<UiFont, BitmapFont.BitmapFontData> e : b.fonts().entrySet())
+			fonts.put(e.getKey(), new BitmapFont(e.getValue(), regions, true));
+
+		Gdx.app.log("FontRegistry", fonts.size() + " fuentes en " + pages.length + " página(s) compartida(s)");
+	}
+
+	/** Fuente compartida (no liberar). */
+	public static BitmapFont get(UiFont font) {
+		if (pages == null)
+			upload();
+		return fonts.get(font);
+	}
+
+	public static void dispose() {
+		for (BitmapFont f : fonts.values())
+			f.dispose(); // no son dueñas de las texturas
+		fonts.clear();
+		if (pages != null)
+			for (Texture t : pages)
+				t.dispose();
+		pages = null;
+	}
+}
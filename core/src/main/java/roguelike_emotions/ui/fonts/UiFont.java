@@ -0,0 +1,32 @@
+package roguelike_emotions.ui.fonts;
+
+/**
+ * Fuentes que usa la interfaz. FontBaker las hornea todas (mismo TTF, un
+ * único atlas) y FontRegistry las sirve.
+ */
+public enum UiFont {
+
+    TITLE(46, Estilo.SUAVE),
+    H2(30, Estilo.SUAVE),
+    BODY(22, Estilo.SUAVE),
+    SMALL(18, Estilo.SUAVE),
+    /** Títulos del combate (TurnCombatScreen). */
+    COMBAT_TITLE(48, Estilo.CONTORNO);
+
+    /** Sombra y borde sutiles, texto casi blanco; o borde negro marcado. */
+    enum Estilo {
+        SUAVE, CONTORNO
+    }
+
+    final int size;
+    final Estilo estilo;
+
+    UiFont(int size, Estilo estilo) {
+        this.size = size;
+        this.estilo = estilo;
+    }
+
+    public int size() {
+        return size;
+    }
+}
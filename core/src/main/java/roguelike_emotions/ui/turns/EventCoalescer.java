@@ -0,0 +1,68 @@
+package roguelike_emotions.ui.turns;
+
+import java.util.LinkedList;
+import java.util.ListIterator;
+import java.util.Objects;
+
+import roguelike_emotions.vfx.BuffAppliedEvent;
+import roguelike_emotions.vfx.DamageEvent;
+import roguelike_emotions.vfx.DebuffAppliedEvent;
+import roguelike_emotions.vfx.HealEvent;
+import roguelike_emotions.vfx.TurnStepEvent;
+import roguelike_emotions.vfx.VisEvent;
+
+/**
+ * Fusiona eventos pendientes sobre el mismo objetivo antes de reproducirlos: -
+ * Damage con mismo src/dst/tipo → suma de daño (un número, un shake) - Heal con
+ * mismo dst/tipo → suma - Buff/Debuff con mismo dst/tag → suma stacks, máx.
+ * turnos
+ *
+ * Ventana: como mucho WINDOW eventos hacia atrás y nunca cruzando un
+ * TurnStepEvent (cada turno de actor se sigue viendo por separado).
+ */
+final class EventCoalescer {
+
+	static final int WINDOW = 6;
+
+	private EventCoalescer() {
+	}
+
+	/**
+	 * Añade {@code ev} al final de la cola fusionándolo con un evento compatible
+	 * aún no reproducido si lo hay.
+	 */
+	static void append(LinkedList<VisEvent> queue, VisEvent ev) {
+		if (!(ev instanceof TurnStepEvent)) {
+			ListIterator<VisEvent> it = queue.listIterator(queue.size());
+			for (int seen = 0; seen < WINDOW && it.hasPrevious(); seen++) {
+				VisEvent prev = it.previous();
+				if (prev instanceof TurnStepEvent)
+					break; // frontera de turno
+				VisEvent merged = merge(prev, ev);
+				if (merged != null) {
+					it.set(merged);
+					return;
+				}
+			}
+		}
+		queue.addLast(ev);
+	}
+
+	/** Evento combinado, o null si no son compatibles. */
+	private static VisEvent merge(VisEvent a, VisEvent b) {
+		return switch (a) {
+		case DamageEvent x when b instanceof DamageEvent y && x.srcId() == y.srcId() && x.dstId() == y.dstId()
+				&& x.kind() == y.kind() ->
+			new DamageEvent(x.srcId(), x.dstId(), x.amount() + y.amount(), x.tag(), x.kind());
+		case HealEvent x when b instanceof HealEvent y && x.dstId() == y.dstId() && x.kind() == y.kind() ->
+			new HealEvent(x.srcId(), x.dstId(), x.amount() + y.amount(), x.tag(), x.kind());
+		case BuffAppliedEvent x when b instanceof BuffAppliedEvent y && x.dstId() == y.dstId()
+				&& Objects.equals(x.tag(), y.tag()) ->
+			new BuffAppliedEvent(x.dstId(), x.tag(), x.stacks() + y.stacks(), Math.max(x.turns(), y.turns()));
+		case DebuffAppliedEvent x when b instanceof DebuffAppliedEvent y && x.dstId() == y.dstId()
+				&& Objects.equals(x.tag(), y.tag()) ->
+			new DebuffAppliedEvent(x.dstId(), x.tag(), x.stacks() + y.stacks(), Math.max(x.turns(), y.turns()));
+		default -> null;
+		};
+	}
+}
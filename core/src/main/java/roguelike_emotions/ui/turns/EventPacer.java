@@ -1,8 +1,6 @@
 package roguelike_emotions.ui.turns;
 
-import java.util.ArrayDeque;
-import java.util.Deque;
-import java.util.List;
+import java.util.LinkedList;
 
 import roguelike_emotions.graphics.RenderContext;
 import roguelike_emotions.vfx.BuffAppliedEvent;
@@ -13,100 +11,120 @@ import roguelike_emotions.vfx.HealEvent;
 import roguelike_emotions.vfx.TurnStepEvent;
 import roguelike_emotions.vfx.VisBus;
 import roguelike_emotions.vfx.VisEvent;
+import roguelike_emotions.vfx.VisEventVisitor;
 import roguelike_emotions.vfx.VisualEvents;
 
 public final class EventPacer {
-	private final Deque<VisEvent> queue = new ArrayDeque<>();
+	// LinkedList: EventCoalescer reemplaza eventos pendientes en mitad de la cola
+	private final LinkedList<VisEvent> queue = new LinkedList<>();
 	private float cooldown = 0f;
+	private PlaybackSpeed speed = PlaybackSpeed.NORMAL;
 
 	private static final float PAUSE_TURN_STEP = 0.40f;
 	private static final float PAUSE_IMPACT = 0.28f;
 	private static final float PAUSE_STATUS = 0.18f;
 
-	public void drainBus() {
-		VisEvent ev;
-		while ((ev = VisBus.poll()) != null) {
-			queue.addLast(ev);
+	/**
+	 * Despacho tipado: cursor de la pista + pausa de cada tipo de evento. Los tags
+	 * ya vienen parseados (VisTag) y el cursor se busca en el mapa de TurnQueue.
+	 */
+	private final VisEventVisitor<RenderContext, Void> pacing = new VisEventVisitor<>() {
+		@Override
+		public Void visitTurnStep(RenderContext ctx, TurnStepEvent ts) {
+			ctx.turnQueue.setCursorById(ts.actorViewId());
+			cooldown = PAUSE_TURN_STEP;
+			return null;
 		}
-	}
-
-	public void update(RenderContext ctx, Director director, float delta) {
-		updateCooldown(delta);
 
-		if (shouldSkipUpdate(director)) {
-			return;
+		@Override
+		public Void visitDamage(RenderContext ctx, DamageEvent d) {
+			switch (d.kind()) {
+			case PLAYER_ATTACK -> ctx.turnQueue.setCursor(0);
+			case ENEMY_ATTACK -> ctx.turnQueue.setCursorById(d.srcId());
+			default -> {
+			}
+			}
+			cooldown = PAUSE_IMPACT;
+			return null;
 		}
 
-		VisEvent ev = queue.removeFirst();
-		processEvent(ctx, ev);
-		director.post(ev);
-		VisualEvents.apply(ctx, ev);
-	}
-
-	private void updateCooldown(float delta) {
-		if (cooldown > 0f) {
-			cooldown = Math.max(0f, cooldown - delta);
+		@Override
+		public Void visitHeal(RenderContext ctx, HealEvent h) {
+			cooldown = PAUSE_STATUS;
+			return null;
 		}
-	}
 
-	private boolean shouldSkipUpdate(Director director) {
-		return cooldown > 0f || director.isBusy() || queue.isEmpty();
-	}
+		@Override
+		public Void visitBuff(RenderContext ctx, BuffAppliedEvent b) {
+			cooldown = PAUSE_STATUS;
+			return null;
+		}
 
-	private void processEvent(RenderContext ctx, VisEvent ev) {
-		if (ev instanceof TurnStepEvent ts) {
-			handleTurnStepEvent(ctx, ts);
-		} else if (ev instanceof DamageEvent d) {
-			handleDamageEvent(ctx, d);
-		} else if (isStatusEvent(ev)) {
+		@Override
+		public Void visitDebuff(RenderContext ctx, DebuffAppliedEvent db) {
 			cooldown = PAUSE_STATUS;
+			return null;
+		}
+	};
+
+	public void drainBus() {
+		VisEvent ev;
+		while ((ev = VisBus.poll()) != null) {
+			EventCoalescer.append(queue, ev);
 		}
 	}
 
-	private void handleTurnStepEvent(RenderContext ctx, TurnStepEvent ts) {
-		int id = ts.actorViewId();
-		updateCursorById(ctx, id);
-		cooldown = PAUSE_TURN_STEP;
+	public void setSpeed(PlaybackSpeed speed) {
+		this.speed = (speed != null) ? speed : PlaybackSpeed.NORMAL;
 	}
 
-	private void handleDamageEvent(RenderContext ctx, DamageEvent d) {
-		String tag = getUppercaseTag(d);
+	public PlaybackSpeed getSpeed() {
+		return speed;
+	}
 
-		if (tag.contains("PLAYER_ATTACK")) {
-			ctx.turnQueue.setCursor(0);
-		} else if (tag.contains("ENEMY_ATTACK")) {
-			updateCursorById(ctx, d.srcId());
+	public void update(RenderContext ctx, Director director, float delta) {
+		if (speed.isInstant()) {
+			skipToEnd(ctx, director);
+			return;
 		}
 
-		cooldown = PAUSE_IMPACT;
-	}
+		updateCooldown(delta * speed.scale());
 
-	private String getUppercaseTag(DamageEvent d) {
-		return d.tag() != null ? d.tag().toUpperCase() : "";
+		if (shouldSkipUpdate(director)) {
+			return;
+		}
+
+		VisEvent ev = queue.removeFirst();
+		ev.accept(pacing, ctx);
+		director.post(ev);
+		VisualEvents.apply(ctx, ev);
 	}
 
-	private void updateCursorById(RenderContext ctx, int targetId) {
-		List<?> tokens = ctx.turnQueue.tokens();
-		for (int i = 0; i < tokens.size(); i++) {
-			var token = tokens.get(i);
-			if (hasMatchingViewId(token, targetId)) {
-				ctx.turnQueue.setCursor(i);
-				break;
-			}
+	/**
+	 * Modo instantáneo: consume la cola sin clips ni efectos. Solo se mantiene el
+	 * cursor de la pista; las vistas ya siguen el snapshot final del mundo.
+	 */
+	private void skipToEnd(RenderContext ctx, Director director) {
+		VisEvent ev;
+		while ((ev = queue.pollFirst()) != null) {
+			ev.accept(pacing, ctx);
 		}
+		cooldown = 0f;
+		director.clear();
 	}
 
-	private boolean hasMatchingViewId(Object token, int targetId) {
-		try {
-			var method = token.getClass().getMethod("viewId");
-			return (int) method.invoke(token) == targetId;
-		} catch (Exception e) {
-			return false;
+	private void updateCooldown(float delta) {
+		if (cooldown > 0f) {
+			cooldown = Math.max(0f, cooldown - delta);
 		}
 	}
 
-	private boolean isStatusEvent(VisEvent ev) {
-		return ev instanceof HealEvent || ev instanceof BuffAppliedEvent || ev instanceof DebuffAppliedEvent;
+	/**
+	 * Solo espera al Director si el siguiente evento pisa a un actor con clip en
+	 * curso: golpes sobre objetivos distintos se solapan.
+	 */
+	private boolean shouldSkipUpdate(Director director) {
+		return cooldown > 0f || queue.isEmpty() || !director.canStart(queue.peekFirst());
 	}
 
 	public boolean isIdle(Director director) {
@@ -117,4 +135,4 @@ public final class EventPacer {
 		queue.clear();
 		cooldown = 0f;
 	}
-}
\ No newline at end of file
+}
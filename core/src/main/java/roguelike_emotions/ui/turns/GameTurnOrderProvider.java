@@ -1,15 +1,20 @@
 package roguelike_emotions.ui.turns;
 
-import roguelike_emotions.characters.Enemy;
-import roguelike_emotions.characters.Player;
 import roguelike_emotions.managers.GameManager;
+import roguelike_emotions.managers.WorldSnapshot;
+import roguelike_emotions.managers.WorldSnapshot.ActorSnapshot;
 
 import java.util.ArrayList;
 import java.util.List;
 
+/**
+ * Orden de turnos a partir de la última WorldSnapshot publicada (lectura
+ * lock-free: no toca Player/Enemy mientras el hilo de lógica resuelve la ronda).
+ */
 public final class GameTurnOrderProvider implements TurnOrderProvider {
 	private final GameManager gm;
 	private List<TurnToken> lastStable = List.of();
+	private WorldSnapshot lastSnapshot = null;
 
 	public GameTurnOrderProvider(GameManager gm) {
 		this.gm = gm;
@@ -17,54 +22,26 @@ public final class GameTurnOrderProvider implements TurnOrderProvider {
 
 	@Override
 	public List<TurnToken> snapshot() {
+		WorldSnapshot world = gm.getSnapshot();
+		// misma foto que el frame anterior → mismos tokens, sin reconstruir
+		if (world == lastSnapshot && !lastStable.isEmpty())
+			return lastStable;
+		lastSnapshot = world;
+
 		final List<TurnToken> out = new ArrayList<>(8);
-		try {
-			Player p = gm.getPlayer();
-			if (p != null)
-				out.add(new TurnToken(1, "Tú", true, safeAlive(p)));
+		ActorSnapshot p = world.player();
+		if (p != null)
+			out.add(new TurnToken(p.viewId(), "Tú", true, p.alive()));
 
-			List<Enemy> es = gm.getEnemies();
-			if (es != null) {
-				for (int i = 0; i < es.size(); i++) {
-					Enemy e = es.get(i);
-					if (e == null)
-						continue;
-					out.add(new TurnToken(100 + i, safeName(e, "Enemigo " + (i + 1)), false, safeAlive(e)));
-				}
-			}
-		} catch (Throwable ignored) {
+		for (ActorSnapshot e : world.enemies()) {
+			out.add(new TurnToken(e.viewId(), e.name(), false, e.alive()));
 		}
 
 		if (out.size() >= 2) {
 			lastStable = List.copyOf(out);
-			return out;
+			return lastStable;
 		}
 		// si aún no están listos los enemigos, no vacíes la UI
 		return lastStable.isEmpty() ? out : lastStable;
 	}
-
-	private static boolean safeAlive(Player p) {
-		try {
-			return p.isAlive();
-		} catch (Throwable t) {
-			return true;
-		}
-	}
-
-	private static boolean safeAlive(Enemy e) {
-		try {
-			return e.isAlive();
-		} catch (Throwable t) {
-			return true;
-		}
-	}
-
-	private static String safeName(Enemy e, String def) {
-		try {
-			var n = e.getNombre();
-			return (n != null && !n.isBlank()) ? n : def;
-		} catch (Throwable t) {
-			return def;
-		}
-	}
 }
@@ -0,0 +1,36 @@
+package roguelike_emotions.ui.turns;
+
+/**
+ * Velocidad de reproducción de la ronda (pausas del EventPacer + clips del
+ * Director). INSTANT salta directamente al estado final sin cinemáticas.
+ */
+public enum PlaybackSpeed {
+	NORMAL(1f, "x1"), FAST(2f, "x2"), FASTER(4f, "x4"), INSTANT(0f, "Instant");
+
+	private final float scale;
+	private final String label;
+
+	PlaybackSpeed(float scale, String label) {
+		this.scale = scale;
+		this.label = label;
+	}
+
+	/** Multiplicador de tiempo (0 en INSTANT: no hay reproducción). */
+	public float scale() {
+		return scale;
+	}
+
+	public String label() {
+		return label;
+	}
+
+	public boolean isInstant() {
+		return this == INSTANT;
+	}
+
+	/** Siguiente velocidad en el ciclo x1 → x2 → x4 → Instant → x1. */
+	public PlaybackSpeed next() {
+		PlaybackSpeed[] all = values();
+		return all[(ordinal() + 1) % all.length];
+	}
+}
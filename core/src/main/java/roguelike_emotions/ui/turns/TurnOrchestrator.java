@@ -26,14 +26,16 @@ public final class TurnOrchestrator {
 			return false;
 		if (gm == null || player == null || enemies == null || enemies.isEmpty())
 			return false;
+		if (gm.isRoundInProgress())
+			return false;
 
 		Enemy target = TargetSelector.pickAlive(enemies, desiredIndex);
 		if (target == null)
 			return false;
 
 		// RONDA completa: jugador -> ticks -> contra del objetivo -> resto de enemigos
-		gm.executeCombatRound(player, enemies, action.label(), target);
-		return true;
+		// (en el hilo de lógica; los eventos llegan por VisBus)
+		return gm.submitCombatRound(player, enemies, action.label(), target);
 	}
 
 	private TurnOrchestrator() {
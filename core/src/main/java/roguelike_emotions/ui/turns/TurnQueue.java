@@ -1,12 +1,17 @@
 package roguelike_emotions.ui.turns;
 
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 
 /** Estado de la pista de turnos en UI (inmutable hacia fuera). */
 public final class TurnQueue {
 	private final List<TurnToken> tokens = new ArrayList<>();
+	// viewId → índice en tokens (se rehace solo cuando cambia la lista)
+	private final Map<Integer, Integer> indexByViewId = new HashMap<>();
+	private List<TurnToken> lastSource = null;
 	private int cursor = 0; // índice del actor actual
 
 	public List<TurnToken> tokens() {
@@ -23,22 +28,39 @@ public final class TurnQueue {
 
 	/** Reconstruye desde proveedor conservando el cursor si es posible. */
 	public void rebuild(TurnOrderProvider provider) {
+		List<TurnToken> source = (provider != null) ? Objects.requireNonNullElse(provider.snapshot(), List.of())
+				: List.of();
+		// el proveedor devuelve la misma lista mientras no cambie la foto: nada que hacer
+		if (source == lastSource)
+			return;
+		lastSource = source;
+
 		int currentId = current() != null ? current().viewId() : -1;
 		tokens.clear();
-		if (provider != null)
-			tokens.addAll(Objects.requireNonNullElse(provider.snapshot(), List.of()));
+		tokens.addAll(source);
+
+		indexByViewId.clear();
+		for (int i = 0; i < tokens.size(); i++)
+			indexByViewId.put(tokens.get(i).viewId(), i);
+
 		// reposiciona cursor al actor con el mismo id si sigue existiendo
-		int newIndex = 0;
-		if (currentId != -1) {
-			for (int i = 0; i < tokens.size(); i++)
-				if (tokens.get(i).viewId() == currentId) {
-					newIndex = i;
-					break;
-				}
-		}
+		int newIndex = Math.max(0, indexOf(currentId));
 		cursor = Math.max(0, Math.min(newIndex, Math.max(0, tokens.size() - 1)));
 	}
 
+	/** Índice del token con ese viewId, o -1. O(1). */
+	public int indexOf(int viewId) {
+		Integer idx = indexByViewId.get(viewId);
+		return (idx != null) ? idx : -1;
+	}
+
+	/** Mueve el cursor al actor indicado; no hace nada si no está en la pista. */
+	public void setCursorById(int viewId) {
+		int idx = indexOf(viewId);
+		if (idx >= 0)
+			cursor = idx;
+	}
+
 	public void setCursor(int idx) {
 		cursor = clamp(idx);
 	}
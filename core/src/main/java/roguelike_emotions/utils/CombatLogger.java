@@ -9,6 +9,7 @@ public class CombatLogger {
     private static CombatLogger instance;
 
     private final LinkedList<String> logs = new LinkedList<>();
+    private volatile boolean echo = true;
 
     private CombatLogger() {}
 
@@ -24,7 +25,12 @@ public class CombatLogger {
             logs.removeFirst();
         }
         logs.add(texto);
-        System.out.println("[LOG] " + texto);
+        if (echo) System.out.println("[LOG] " + texto);
+    }
+
+    /** Copia de cada línea en consola (se apaga al repetir partidas sin ventana). */
+    public void setEcho(boolean echo) {
+        this.echo = echo;
     }
 
     public List<String> getLogs() {
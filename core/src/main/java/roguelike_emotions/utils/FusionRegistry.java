@@ -1,5 +1,6 @@
 package roguelike_emotions.utils;
 
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -32,4 +33,23 @@ public class FusionRegistry {
     public static EmotionInstance obtenerFusionPorClave(String clave) {
         return multiFusions.get(clave);
     }
+
+    // ==== SNAPSHOT ====
+
+    /** Vista de solo lectura de las fusiones de dos (clave "idA+idB"). */
+    public static Map<String, EmotionInstance> fusionesRegistradas() {
+        return Collections.unmodifiableMap(combinaciones);
+    }
+
+    public static Map<String, EmotionInstance> fusionesMultiplesRegistradas() {
+        return Collections.unmodifiableMap(multiFusions);
+    }
+
+    /** Sustituye el registro por el de un snapshot de partida. */
+    public static void restaurar(Map<String, EmotionInstance> dobles, Map<String, EmotionInstance> multiples) {
+        combinaciones.clear();
+        combinaciones.putAll(dobles);
+        multiFusions.clear();
+        multiFusions.putAll(multiples);
+    }
 }
\ No newline at end of file
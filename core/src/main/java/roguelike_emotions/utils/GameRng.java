@@ -0,0 +1,69 @@
+package roguelike_emotions.utils;
+
+import java.util.Random;
+
+/**
+ * Generador de la partida (SplitMix64). A diferencia de java.util.Random, su
+ * estado completo es un long que se puede leer y restaurar, así que entra en
+ * el snapshot de partida y en las repeticiones: con el mismo estado salen las
+ * mismas tiradas.
+ *
+ * Extiende Random para poder pasarse donde ya se espera uno (factorías,
+ * generador de nombres...). No es seguro entre hilos: lo usa solo el hilo que
+ * modifica la partida.
+ */
+public final class GameRng extends Random {
+
+	private static final long serialVersionUID = 1L;
+
+	// sin inicializador: Random(long) llama a setSeed antes de que se asignen los campos
+	private long state;
+
+	public GameRng(long seed) {
+		super(seed);
+	}
+
+	@Override
+	public void setSeed(long seed) {
+		this.state = seed;
+	}
+
+	@Override
+	protected int next(int bits) {
+		return (int) (nextLong() >>> (64 - bits));
+	}
+
+	@Override
+	public long nextLong() {
+		long z = (state += 0x9E3779B97F4A7C15L);
+		z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+		z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+		return z ^ (z >>> 31);
+	}
+
+	/** Entero uniforme en [0, bound). */
+	@Override
+	public int nextInt(int bound) {
+		if (bound <= 0)
+			throw new IllegalArgumentException("bound debe ser positivo: " + bound);
+		return (int) ((nextLong() >>> 33) % bound);
+	}
+
+	@Override
+	public double nextDouble() {
+		return (nextLong() >>> 11) * 0x1.0p-53;
+	}
+
+	@Override
+	public boolean nextBoolean() {
+		return nextLong() < 0;
+	}
+
+	public long getState() {
+		return state;
+	}
+
+	public void setState(long state) {
+		this.state = state;
+	}
+}
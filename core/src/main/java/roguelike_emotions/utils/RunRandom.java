@@ -0,0 +1,38 @@
+package roguelike_emotions.utils;
+
+import java.util.Random;
+import java.util.UUID;
+
+/**
+ * Fuente única de azar de la lógica de juego (daño, críticos, efectos,
+ * despertares, generación de emociones y enemigos, nombres...).
+ *
+ * Todas las clases comparten la misma instancia de GameRng, así que fijar su
+ * estado fija todas las tiradas siguientes: lo usan el snapshot de partida y
+ * las repeticiones. El azar puramente visual (partículas, estilos) y las
+ * simulaciones en segundo plano (TurnAdvisor) usan sus propios generadores
+ * para no consumir tiradas de la partida.
+ *
+ * Solo desde el hilo que modifica la partida (lógica, o GL sin ronda en curso).
+ */
+public final class RunRandom {
+
+	private static final GameRng RNG = new GameRng(System.nanoTime());
+
+	private RunRandom() {
+	}
+
+	public static GameRng get() {
+		return RNG;
+	}
+
+	/** Id de entidad derivado del RNG (reproducible, a diferencia de UUID.randomUUID). */
+	public static String nextId() {
+		return nextId(RNG);
+	}
+
+	/** Id con el azar de 'rng' (contenido sembrado que se genera fuera de este hilo). */
+	public static String nextId(Random rng) {
+		return new UUID(rng.nextLong(), rng.nextLong()).toString();
+	}
+}
@@ -15,7 +15,7 @@ import roguelike_emotions.mainMechanics.SentientEmotion.EmotionPersonality;
  */
 public class SentienceRollHandler {
 
-	private static final Random RNG = new Random();
+	private static final Random RNG = RunRandom.get();
 
 	// ==================== CONFIGURACIÓN ====================
 
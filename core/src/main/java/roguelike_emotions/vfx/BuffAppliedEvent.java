@@ -1,3 +1,8 @@
 package roguelike_emotions.vfx;
 
-public record BuffAppliedEvent(int dstId, String tag, int stacks, int turns) implements VisEvent {}
\ No newline at end of file
+public record BuffAppliedEvent(int dstId, String tag, int stacks, int turns) implements VisEvent {
+	@Override
+	public <C, R> R accept(VisEventVisitor<C, R> v, C ctx) {
+		return v.visitBuff(ctx, this);
+	}
+}
@@ -1,15 +1,43 @@
 package roguelike_emotions.vfx;
 
 public abstract class Clip {
+	/** Actor "ninguno"; un clip sin actores se trata como global (exclusivo). */
+	public static final int NO_ACTOR = -1;
+
 	protected float t = 0f;
 	protected final float dur;
+	// viewIds implicados (src/dst); el Director no solapa clips que compartan actor
+	protected final int actorA;
+	protected final int actorB;
 
 	protected Clip(float dur) {
+		this(dur, NO_ACTOR, NO_ACTOR);
+	}
+
+	protected Clip(float dur, int actorA, int actorB) {
 		this.dur = dur;
+		this.actorA = actorA;
+		this.actorB = actorB;
 	}
 
 	public boolean update(float dt) {
 		t += dt;
 		return t >= dur;
 	}
-}
\ No newline at end of file
+
+	boolean isGlobal() {
+		return actorA == NO_ACTOR && actorB == NO_ACTOR;
+	}
+
+	/** true si este clip usa el actor indicado. */
+	boolean touches(int actor) {
+		return actor != NO_ACTOR && (actor == actorA || actor == actorB);
+	}
+
+	/** true si no pueden reproducirse a la vez (comparten actor o alguno es global). */
+	boolean conflictsWith(int a, int b) {
+		if (isGlobal() || (a == NO_ACTOR && b == NO_ACTOR))
+			return true;
+		return touches(a) || touches(b);
+	}
+}
@@ -1,19 +1,45 @@
 package roguelike_emotions.vfx;
 
-final class DamageClip extends Clip { final DamageEvent ev; DamageClip(DamageEvent ev){ super(0.45f); this.ev=ev; } }
-final class HealClip   extends Clip { final HealEvent ev;   HealClip(HealEvent ev){   super(0.35f); this.ev=ev; } }
-final class BuffClip   extends Clip { final BuffAppliedEvent ev; BuffClip(BuffAppliedEvent ev){ super(0.30f); this.ev=ev; } }
-final class DebuffClip extends Clip { final DebuffAppliedEvent ev; DebuffClip(DebuffAppliedEvent ev){ super(0.30f); this.ev=ev; } }
-final class ComboMaxClip extends Clip { final ComboMaxEvent ev; ComboMaxClip(ComboMaxEvent ev){ super(0.6f); this.ev=ev; } }
+final class DamageClip extends Clip { final DamageEvent ev; DamageClip(DamageEvent ev){ super(0.45f, ev.srcId(), ev.dstId()); this.ev=ev; } }
+final class HealClip   extends Clip { final HealEvent ev;   HealClip(HealEvent ev){   super(0.35f, ev.srcId(), ev.dstId()); this.ev=ev; } }
+final class BuffClip   extends Clip { final BuffAppliedEvent ev; BuffClip(BuffAppliedEvent ev){ super(0.30f, ev.dstId(), NO_ACTOR); this.ev=ev; } }
+final class DebuffClip extends Clip { final DebuffAppliedEvent ev; DebuffClip(DebuffAppliedEvent ev){ super(0.30f, ev.dstId(), NO_ACTOR); this.ev=ev; } }
+final class ComboMaxClip extends Clip { final ComboMaxEvent ev; ComboMaxClip(ComboMaxEvent ev){ super(0.6f, ev.srcId(), NO_ACTOR); this.ev=ev; } }
 public final class ClipFactory {
     private ClipFactory(){}
+
+    // TurnStepEvent no genera clip (visitTurnStep por defecto → null)
+    private static final VisEventVisitor<Void, Clip> CLIPS = new VisEventVisitor<>() {
+        @Override public Clip visitDamage(Void c, DamageEvent d) { return new DamageClip(d); }
+        @Override public Clip visitHeal(Void c, HealEvent h) { return new HealClip(h); }
+        @Override public Clip visitBuff(Void c, BuffAppliedEvent b) { return new BuffClip(b); }
+        @Override public Clip visitDebuff(Void c, DebuffAppliedEvent db) { return new DebuffClip(db); }
+        @Override public Clip visitComboMax(Void c, ComboMaxEvent cm) { return new ComboMaxClip(cm); }
+    };
+
     public static Clip from(VisEvent e){
-        if (e instanceof DamageEvent d) return new DamageClip(d);
-        if (e instanceof HealEvent h)   return new HealClip(h);
-        if (e instanceof BuffAppliedEvent b) return new BuffClip(b);
-        if (e instanceof DebuffAppliedEvent db) return new DebuffClip(db);
-        if (e instanceof ComboMaxEvent cm) return new ComboMaxClip(cm);
+        return (e != null) ? e.accept(CLIPS, null) : null;
+    }
+
+    /**
+     * Actores de un evento empaquetados en un long (alto = A, bajo = B), sin allocs:
+     * switch sobre el sealed y no un visitor, que devolvería el long en caja.
+     */
+    static long actorsOf(VisEvent e){
+        return switch (e) {
+            case DamageEvent d -> pack(d.srcId(), d.dstId());
+            case HealEvent h -> pack(h.srcId(), h.dstId());
+            case BuffAppliedEvent b -> pack(b.dstId(), Clip.NO_ACTOR);
+            case DebuffAppliedEvent db -> pack(db.dstId(), Clip.NO_ACTOR);
+            case ComboMaxEvent cm -> pack(cm.srcId(), Clip.NO_ACTOR);
+            case TurnStepEvent ts -> pack(Clip.NO_ACTOR, Clip.NO_ACTOR);
+        };
+    }
+
+    static int actorA(long packed){ return (int) (packed >> 32); }
+    static int actorB(long packed){ return (int) packed; }
 
-        return null;
+    private static long pack(int a, int b){
+        return ((long) a << 32) | (b & 0xffffffffL);
     }
 }
@@ -1,3 +1,8 @@
 package roguelike_emotions.vfx;
 
-public record ComboMaxEvent(int srcId) implements VisEvent {}
+public record ComboMaxEvent(int srcId) implements VisEvent {
+	@Override
+	public <C, R> R accept(VisEventVisitor<C, R> v, C ctx) {
+		return v.visitComboMax(ctx, this);
+	}
+}
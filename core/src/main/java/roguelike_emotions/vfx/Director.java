@@ -1,10 +1,20 @@
 package roguelike_emotions.vfx;
 
 import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
 
+/**
+ * Reproduce los Clips. Clips sobre actores distintos se solapan (hasta
+ * MAX_CONCURRENT); los que comparten actor se siguen reproduciendo en orden.
+ */
 public class Director {
+	private static final int MAX_CONCURRENT = 4;
+
 	private final ArrayDeque<Clip> queue = new ArrayDeque<>();
-	private Clip current;
+	private final List<Clip> active = new ArrayList<>(MAX_CONCURRENT);
+	private float timeScale = 1f;
 
 	public void post(VisEvent e) {
 		Clip c = ClipFactory.from(e);
@@ -13,13 +23,80 @@ public class Director {
 	}
 
 	public void update(float dt) {
-		if (current == null && !queue.isEmpty())
-			current = queue.poll();
-		if (current != null && current.update(dt))
-			current = null;
+		startReadyClips();
+
+		float scaled = dt * timeScale;
+		for (int i = active.size() - 1; i >= 0; i--) {
+			if (active.get(i).update(scaled))
+				active.remove(i);
+		}
+	}
+
+	/**
+	 * Arranca en orden los clips en cola que no chocan con nada activo ni con un
+	 * clip anterior aún en espera (preserva el orden por actor).
+	 */
+	private void startReadyClips() {
+		if (queue.isEmpty())
+			return;
+
+		List<Clip> waiting = null;
+		Iterator<Clip> it = queue.iterator();
+		while (it.hasNext() && active.size() < MAX_CONCURRENT) {
+			Clip c = it.next();
+			boolean blocked = conflictsWithAny(active, c) || (waiting != null && conflictsWithAny(waiting, c));
+			if (blocked) {
+				if (waiting == null)
+					waiting = new ArrayList<>(4);
+				waiting.add(c);
+				continue;
+			}
+			it.remove();
+			active.add(c);
+		}
+	}
+
+	private static boolean conflictsWithAny(List<Clip> clips, Clip c) {
+		for (int i = 0; i < clips.size(); i++) {
+			if (clips.get(i).conflictsWith(c.actorA, c.actorB))
+				return true;
+		}
+		return false;
+	}
+
+	/**
+	 * true si el evento puede empezar ya sin pisar un clip activo o en cola. Los
+	 * TurnStepEvent (sin actores) esperan a que el Director quede libre.
+	 */
+	public boolean canStart(VisEvent e) {
+		long packed = ClipFactory.actorsOf(e);
+		int a = ClipFactory.actorA(packed);
+		int b = ClipFactory.actorB(packed);
+		if (active.size() >= MAX_CONCURRENT)
+			return false;
+		for (int i = 0; i < active.size(); i++) {
+			if (active.get(i).conflictsWith(a, b))
+				return false;
+		}
+		for (Clip c : queue) {
+			if (c.conflictsWith(a, b))
+				return false;
+		}
+		return true;
+	}
+
+	/** Multiplicador de tiempo de los clips (velocidad de reproducción). */
+	public void setTimeScale(float timeScale) {
+		this.timeScale = Math.max(0f, timeScale);
+	}
+
+	/** Descarta todo lo pendiente (modo instantáneo / reset de ronda). */
+	public void clear() {
+		queue.clear();
+		active.clear();
 	}
 
 	public boolean isBusy() {
-		return current != null;
+		return !active.isEmpty() || !queue.isEmpty();
 	}
 }
@@ -4,12 +4,12 @@ import java.util.ArrayList;
 import java.util.List;
 
 import com.badlogic.gdx.graphics.Color;
-import com.badlogic.gdx.graphics.Pixmap;
-import com.badlogic.gdx.graphics.Texture;
 import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
 import com.badlogic.gdx.math.MathUtils;
 
 import roguelike_emotions.mainMechanics.EmotionType;
+import roguelike_emotions.ui.IconAtlas;
 
 /**
  * Sistema de partículas emocionales que responden al estado del combate.
@@ -20,7 +20,7 @@ public class EmotionalParticleSystem {
 	private static final float SPAWN_RATE = 0.1f; // REDUCIDO de 0.05f (menos partículas ambient)
 
 	private final List<EmotionalParticle> particles = new ArrayList<>();
-	private final Texture particleTexture;
+	private final TextureRegion particleTexture;
 	private float spawnTimer = 0f;
 
 	// Estado emocional del campo de batalla
@@ -28,7 +28,8 @@ public class EmotionalParticleSystem {
 	private float moodIntensity = 0.5f;
 
 	public EmotionalParticleSystem() {
-		this.particleTexture = createParticleTexture();
+		// sprite compartido del atlas (misma página que iconos y pixel blanco)
+		this.particleTexture = IconAtlas.particle();
 	}
 
 	/**
@@ -151,6 +152,11 @@ public class EmotionalParticleSystem {
 		return moodIntensity;
 	}
 
+	/** Sin partículas vivas ni mood residual: nada que animar. */
+	public boolean isIdle() {
+		return particles.isEmpty() && moodIntensity <= 0f;
+	}
+
 	// ========== HELPERS ==========
 
 	private EmotionType parseEmotionType(String tag) {
@@ -194,32 +200,8 @@ public class EmotionalParticleSystem {
 		};
 	}
 
-	private Texture createParticleTexture() {
-		int size = 8;
-		Pixmap pm = new Pixmap(size, size, Pixmap.Format.RGBA8888);
-
-		int center = size / 2;
-		for (int y = 0; y < size; y++) {
-			for (int x = 0; x < size; x++) {
-				float dist = (float) Math.sqrt((x - center) * (x - center) + (y - center) * (y - center));
-
-				if (dist <= center) {
-					float alpha = 1f - (dist / center);
-					pm.setColor(1f, 1f, 1f, alpha);
-					pm.drawPixel(x, y);
-				}
-			}
-		}
-
-		Texture tex = new Texture(pm);
-		pm.dispose();
-		return tex;
-	}
-
 	public void dispose() {
-		if (particleTexture != null) {
-			particleTexture.dispose();
-		}
+		// la textura de partículas pertenece a IconAtlas
 	}
 
 	// ========== INNER CLASS ==========
@@ -342,11 +324,10 @@ public class EmotionalParticleSystem {
 			return life <= 0f;
 		}
 
-		void render(SpriteBatch batch, Texture texture) {
+		void render(SpriteBatch batch, TextureRegion texture) {
 			float size = 8f * scale;
 			batch.setColor(color);
-			batch.draw(texture, x - size / 2f, y - size / 2f, size / 2f, size / 2f, size, size, 1f, 1f, rotation, 0, 0,
-					texture.getWidth(), texture.getHeight(), false, false);
+			batch.draw(texture, x - size / 2f, y - size / 2f, size / 2f, size / 2f, size, size, 1f, 1f, rotation);
 			batch.setColor(Color.WHITE);
 		}
 	}
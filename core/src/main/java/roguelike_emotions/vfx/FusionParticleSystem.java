@@ -1,16 +1,16 @@
 package roguelike_emotions.vfx;
 
 import com.badlogic.gdx.graphics.Color;
-import com.badlogic.gdx.graphics.Pixmap;
-import com.badlogic.gdx.graphics.Texture;
 import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
+import roguelike_emotions.ui.IconAtlas;
 import java.util.ArrayList;
 import java.util.List;
 
 public class FusionParticleSystem {
 
 	private List<FusionParticle> particles = new ArrayList<>();
-	private Texture whitePixel;
+	private TextureRegion whitePixel;
 	private float viewportW;
 	private float viewportH;
 
@@ -48,21 +48,16 @@ public class FusionParticleSystem {
 		batch.end();
 	}
 
-	private Texture getWhitePixel() {
+	private TextureRegion getWhitePixel() {
 		if (whitePixel == null) {
-			Pixmap pm = new Pixmap(1, 1, Pixmap.Format.RGBA8888);
-			pm.setColor(Color.WHITE);
-			pm.fill();
-			whitePixel = new Texture(pm);
-			pm.dispose();
+			whitePixel = IconAtlas.whitePixel();
 		}
 		return whitePixel;
 	}
 
 	public void dispose() {
-		if (whitePixel != null) {
-			whitePixel.dispose();
-		}
+		// el pixel blanco pertenece a IconAtlas
+		whitePixel = null;
 	}
 
 	private static class FusionParticle {
@@ -108,7 +103,7 @@ public class FusionParticleSystem {
 			return life <= 0;
 		}
 
-		void render(SpriteBatch batch, Texture whitePixel) {
+		void render(SpriteBatch batch, TextureRegion whitePixel) {
 			batch.setColor(color);
 			batch.draw(whitePixel, x - size / 2, y - size / 2, size, size);
 		}
@@ -1,2 +1,17 @@
 package roguelike_emotions.vfx;
-public record HealEvent(int srcId, int dstId, int amount, String tag) implements VisEvent {}
\ No newline at end of file
+
+public record HealEvent(int srcId, int dstId, int amount, String tag, VisTag kind) implements VisEvent {
+	public HealEvent {
+		if (kind == null)
+			kind = VisTag.parse(tag);
+	}
+
+	public HealEvent(int srcId, int dstId, int amount, String tag) {
+		this(srcId, dstId, amount, tag, VisTag.parse(tag));
+	}
+
+	@Override
+	public <C, R> R accept(VisEventVisitor<C, R> v, C ctx) {
+		return v.visitHeal(ctx, this);
+	}
+}
@@ -76,4 +76,9 @@ public class ScreenShakeManager {
     public boolean isShaking() {
         return trauma > 0.01f;
     }
+
+    /** true mientras quede trauma o la cámara aún no se haya restaurado. */
+    public boolean isActive() {
+        return trauma > 0f || originalX != 0f || originalY != 0f;
+    }
 }
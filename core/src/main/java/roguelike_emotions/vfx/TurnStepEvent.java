@@ -16,4 +16,9 @@ public final class TurnStepEvent implements VisEvent {
 	public String label() {
 		return label;
 	}
+
+	@Override
+	public <C, R> R accept(VisEventVisitor<C, R> v, C ctx) {
+		return v.visitTurnStep(ctx, this);
+	}
 }
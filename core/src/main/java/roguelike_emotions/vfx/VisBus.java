@@ -1,11 +1,39 @@
 package roguelike_emotions.vfx;
 
-import java.util.ArrayDeque;
+import java.util.concurrent.locks.LockSupport;
 
+import com.badlogic.gdx.Gdx;
+
+/**
+ * Canal lógica → render. Los productores (hilo de combate) publican en un ring
+ * lock-free; el hilo GL lo vacía cada frame en EventPacer.drainBus.
+ *
+ * Si el ring se llena es el productor quien espera (backpressure), nunca el
+ * hilo GL. Tras ~1s de espera el evento se descarta para no colgar la lógica.
+ *
+ * Sin nadie que lo vacíe (repetición sin ventana) se silencia con setMuted:
+ * post() descarta los eventos en vez de esperar.
+ */
 public final class VisBus {
-    private static final ArrayDeque<VisEvent> Q = new ArrayDeque<>();
+    private static final int CAPACITY = 1024;
+    private static final long MAX_WAIT_NANOS = 1_000_000_000L;
+    private static final VisEventRing Q = new VisEventRing(CAPACITY);
+    private static volatile boolean muted;
     private VisBus(){}
-    public static void post(VisEvent e){ if (e!=null) Q.add(e); }
+
+    public static void setMuted(boolean m){ muted = m; }
+
+    public static void post(VisEvent e){
+        if (e==null || muted || Q.offer(e)) return;
+        long start = System.nanoTime();
+        while (!Q.offer(e)) {
+            if (System.nanoTime() - start > MAX_WAIT_NANOS) {
+                Gdx.app.error("VisBus", "ring lleno, evento descartado: " + e);
+                return;
+            }
+            LockSupport.parkNanos(100_000L);
+        }
+    }
     public static VisEvent poll(){ return Q.poll(); }
     public static boolean isEmpty(){ return Q.isEmpty(); }
 }
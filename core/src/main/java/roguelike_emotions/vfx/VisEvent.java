@@ -1,3 +1,6 @@
 package roguelike_emotions.vfx;
 
-public sealed interface VisEvent permits DamageEvent, HealEvent, BuffAppliedEvent, DebuffAppliedEvent, TurnStepEvent,ComboMaxEvent {}
+public sealed interface VisEvent permits DamageEvent, HealEvent, BuffAppliedEvent, DebuffAppliedEvent, TurnStepEvent,ComboMaxEvent {
+	/** Doble despacho tipado: cada evento llama a su visit* (O(1), sin instanceof). */
+	<C, R> R accept(VisEventVisitor<C, R> v, C ctx);
+}
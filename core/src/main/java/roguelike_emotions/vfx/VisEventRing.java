@@ -0,0 +1,73 @@
+package roguelike_emotions.vfx;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Ring buffer acotado MPSC sin locks (esquema de Vyukov): cada slot lleva su
+ * número de secuencia, los productores reservan con CAS sobre {@code tail} y el
+ * único consumidor (hilo GL) avanza {@code head} sin sincronización.
+ *
+ * Productores: hilo de lógica de combate (y quien publique VisEvents).
+ * Consumidor: EventPacer.drainBus en el hilo de render.
+ */
+public final class VisEventRing {
+
+	private final int mask;
+	private final AtomicReferenceArray<VisEvent> slots;
+	private final AtomicLongArray sequence;
+	private final AtomicLong tail = new AtomicLong();
+	private volatile long head; // solo lo escribe el consumidor
+
+	public VisEventRing(int capacityPow2) {
+		if (capacityPow2 < 2 || Integer.bitCount(capacityPow2) != 1)
+			throw new IllegalArgumentException("La capacidad debe ser potencia de 2: " + capacityPow2);
+		this.mask = capacityPow2 - 1;
+		this.slots = new AtomicReferenceArray<>(capacityPow2);
+		this.sequence = new AtomicLongArray(capacityPow2);
+		for (int i = 0; i < capacityPow2; i++)
+			sequence.set(i, i);
+	}
+
+	/** Encola sin bloquear. Devuelve false si el ring está lleno. */
+	public boolean offer(VisEvent e) {
+		while (true) {
+			long t = tail.get();
+			int idx = (int) (t & mask);
+			long seq = sequence.get(idx);
+			long diff = seq - t;
+			if (diff == 0) {
+				if (tail.compareAndSet(t, t + 1)) {
+					slots.lazySet(idx, e);
+					sequence.set(idx, t + 1); // publica el slot
+					return true;
+				}
+			} else if (diff < 0) {
+				return false; // lleno
+			}
+			// otro productor nos adelantó: reintentar
+		}
+	}
+
+	/** Desencola (solo el consumidor). null si no hay nada publicado. */
+	public VisEvent poll() {
+		long h = head;
+		int idx = (int) (h & mask);
+		if (sequence.get(idx) != h + 1)
+			return null;
+		VisEvent e = slots.get(idx);
+		slots.lazySet(idx, null);
+		sequence.set(idx, h + mask + 1); // libera el slot para la siguiente vuelta
+		head = h + 1;
+		return e;
+	}
+
+	public boolean isEmpty() {
+		return sequence.get((int) (head & mask)) != head + 1;
+	}
+
+	public int capacity() {
+		return mask + 1;
+	}
+}
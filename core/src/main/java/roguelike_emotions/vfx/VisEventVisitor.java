@@ -0,0 +1,18 @@
+package roguelike_emotions.vfx;
+
+/**
+ * Despacho tipado sobre la jerarquía sellada de VisEvent (sin instanceof ni
+ * reflexión). {@code C} es el contexto que se pasa tal cual a cada visita (así
+ * el visitor puede ser una constante sin estado) y {@code R} el resultado.
+ *
+ * Todos los métodos tienen implementación vacía: cada consumidor sobrescribe
+ * solo los eventos que le interesan.
+ */
+public interface VisEventVisitor<C, R> {
+	default R visitDamage(C ctx, DamageEvent e) { return null; }
+	default R visitHeal(C ctx, HealEvent e) { return null; }
+	default R visitBuff(C ctx, BuffAppliedEvent e) { return null; }
+	default R visitDebuff(C ctx, DebuffAppliedEvent e) { return null; }
+	default R visitTurnStep(C ctx, TurnStepEvent e) { return null; }
+	default R visitComboMax(C ctx, ComboMaxEvent e) { return null; }
+}
@@ -0,0 +1,38 @@
+package roguelike_emotions.vfx;
+
+import java.util.Locale;
+
+/**
+ * Categoría de un tag de DamageEvent/HealEvent, parseada UNA vez al crear el
+ * evento (antes cada consumidor hacía toUpperCase().contains(...) por frame).
+ *
+ * El orden de parse es el de prioridad: los marcadores de turno
+ * (PLAYER_ATTACK / ENEMY_ATTACK) ganan sobre los de color.
+ */
+public enum VisTag {
+	PLAYER_ATTACK, ENEMY_ATTACK, DOT, HOT, FIRE, POISON, HEAL, ICE, OTHER;
+
+	public static VisTag parse(String tag) {
+		if (tag == null)
+			return OTHER;
+		String t = tag.toUpperCase(Locale.ROOT);
+
+		if (t.contains("PLAYER_ATTACK"))
+			return PLAYER_ATTACK;
+		if (t.contains("ENEMY_ATTACK"))
+			return ENEMY_ATTACK;
+		if (t.contains("FIRE") || t.contains("IRA"))
+			return FIRE;
+		if (t.contains("POISON"))
+			return POISON;
+		if (t.contains("HEAL"))
+			return HEAL;
+		if (t.contains("ICE"))
+			return ICE;
+		if (t.equals("DOT"))
+			return DOT;
+		if (t.equals("HOT"))
+			return HOT;
+		return OTHER;
+	}
+}
@@ -1,35 +1,61 @@
 package roguelike_emotions.vfx;
 
-import java.util.List;
-
 import com.badlogic.gdx.graphics.Color;
 
-import roguelike_emotions.characters.Player;
 import roguelike_emotions.graphics.ActorView;
 import roguelike_emotions.graphics.RenderContext;
 import roguelike_emotions.graphics.passes.VfxPass;
-import roguelike_emotions.mainMechanics.DominantEmotionType;
-import roguelike_emotions.mainMechanics.EmotionInstance;
 import roguelike_emotions.mainMechanics.EmotionType;
-import roguelike_emotions.managers.GameManager;
-import roguelike_emotions.utils.EmotionUtils;
+import roguelike_emotions.managers.WorldSnapshot.ActorSnapshot;
 
 public final class VisualEvents {
 
 	private VisualEvents() {
 	}
 
-	public static void apply(RenderContext ctx, VisEvent ev) {
-		if (ev instanceof DamageEvent d)
+	// Tintes de pantalla por categoría de tag (constantes: screenTint.set copia)
+	private static final Color TINT_DEFAULT = new Color(0.2f, 0f, 0f, 0.4f);
+	private static final Color TINT_FIRE = new Color(0.4f, 0.1f, 0f, 0.45f);
+	private static final Color TINT_POISON = new Color(0f, 0.3f, 0.1f, 0.4f);
+	private static final Color TINT_HEAL = new Color(0f, 0.25f, 0.05f, 0.35f);
+	private static final Color TINT_ICE = new Color(0f, 0.2f, 0.4f, 0.4f);
+
+	/** Tabla de despacho tipada (TurnStepEvent no tiene efecto visual aquí). */
+	private static final VisEventVisitor<RenderContext, Void> APPLY = new VisEventVisitor<>() {
+		@Override
+		public Void visitDamage(RenderContext ctx, DamageEvent d) {
 			onDamage(ctx, d);
-		else if (ev instanceof HealEvent h)
+			return null;
+		}
+
+		@Override
+		public Void visitHeal(RenderContext ctx, HealEvent h) {
 			onHeal(ctx, h);
-		else if (ev instanceof BuffAppliedEvent b)
+			return null;
+		}
+
+		@Override
+		public Void visitBuff(RenderContext ctx, BuffAppliedEvent b) {
 			onBuff(ctx, b);
-		else if (ev instanceof DebuffAppliedEvent db)
+			return null;
+		}
+
+		@Override
+		public Void visitDebuff(RenderContext ctx, DebuffAppliedEvent db) {
 			onDebuff(ctx, db);
-		else if (ev instanceof ComboMaxEvent cm)
+			return null;
+		}
+
+		@Override
+		public Void visitComboMax(RenderContext ctx, ComboMaxEvent cm) {
 			onComboMax(ctx, cm);
+			return null;
+		}
+	};
+
+	public static void apply(RenderContext ctx, VisEvent ev) {
+		if (ev != null)
+			ev.accept(APPLY, ctx);
 	}
 
 	private static ActorView viewOf(RenderContext ctx, int id) {
@@ -63,7 +89,7 @@ public final class VisualEvents {
 		VfxPass vfx = getVfxPass(ctx);
 		if (vfx != null) {
 			// 3. Calcular mood emocional
-			EmotionType attackMood = calculateDominantMood(ev.srcId());
+			EmotionType attackMood = calculateDominantMood(ctx, ev.srcId());
 			float moodIntensity = Math.min(1f, ev.amount() / 60f);
 
 			vfx.forceMood(attackMood, moodIntensity);
@@ -92,58 +118,16 @@ public final class VisualEvents {
 		}
 
 		// 9. Screen tint más visible
-		Color tintColor = colorTag(ev.tag(), new Color(0.2f, 0f, 0f, 0.4f));
-		ctx.style.screenTint.set(tintColor);
+		ctx.style.screenTint.set(colorTag(ev.kind(), TINT_DEFAULT));
 	}
 
 	/**
-	 * Calcula el mood dominante del atacante usando EmotionUtils
+	 * Mood dominante del atacante. Viene calculado en la WorldSnapshot del
+	 * contexto (no del estado vivo, que puede estar mutando en el hilo de lógica).
 	 */
-	private static EmotionType calculateDominantMood(int srcId) {
-		try {
-			List<EmotionInstance> emotions = null;
-
-			// Jugador (id = 1)
-			if (srcId == 1) {
-				Player player = GameManager.getInstance().getPlayer();
-				if (player != null) {
-					emotions = player.getEmocionesActivas();
-				}
-			}
-			// Enemigo (id >= 100)
-			else if (srcId >= 100) {
-				int enemyIndex = srcId - 100;
-				var enemies = GameManager.getInstance().getEnemies();
-				if (enemies != null && enemyIndex < enemies.size()) {
-					var enemy = enemies.get(enemyIndex);
-					if (enemy != null) {
-						emotions = enemy.getEmocionesActivas();
-					}
-				}
-			}
-
-			if (emotions == null || emotions.isEmpty()) {
-				return EmotionType.IRA; // Fallback agresivo
-			}
-
-			// Si tiene 1 sola emoción
-			if (emotions.size() == 1) {
-				EmotionType type = emotions.get(0).getTipoBase();
-				return type != null ? type : EmotionType.IRA;
-			}
-
-			// Si tiene 2+ emociones, calcular dominante
-			EmotionInstance first = emotions.get(0);
-			EmotionInstance second = emotions.get(1);
-
-			DominantEmotionType dominant = EmotionUtils.detectarTipoDominante(first, second);
-			EmotionType converted = EmotionUtils.convertirDominantToEmotionType(dominant);
-
-			return converted;
-
-		} catch (Exception e) {
-			return EmotionType.IRA;
-		}
+	private static EmotionType calculateDominantMood(RenderContext ctx, int srcId) {
+		ActorSnapshot actor = ctx.snapshot.actor(srcId);
+		return (actor != null) ? actor.mood() : EmotionType.IRA;
 	}
 
 	private static void onHeal(RenderContext ctx, HealEvent ev) {
@@ -215,21 +199,14 @@ public final class VisualEvents {
 		};
 	}
 
-	private static Color colorTag(String tag, Color fallback) {
-		if (tag == null)
-			return fallback;
-		String t = tag.toUpperCase();
-
-		if (t.contains("FIRE") || t.contains("IRA"))
-			return new Color(0.4f, 0.1f, 0f, 0.45f);
-		if (t.contains("POISON"))
-			return new Color(0f, 0.3f, 0.1f, 0.4f);
-		if (t.contains("HEAL"))
-			return new Color(0f, 0.25f, 0.05f, 0.35f);
-		if (t.contains("ICE"))
-			return new Color(0f, 0.2f, 0.4f, 0.4f);
-
-		return fallback;
+	private static Color colorTag(VisTag kind, Color fallback) {
+		return switch (kind) {
+		case FIRE -> TINT_FIRE;
+		case POISON -> TINT_POISON;
+		case HEAL -> TINT_HEAL;
+		case ICE -> TINT_ICE;
+		default -> fallback;
+		};
 	}
 
 	private static void onComboMax(RenderContext ctx, ComboMaxEvent ev) {
@@ -0,0 +1,66 @@
+package roguelike_emotions.mainMechanics;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+
+import roguelike_emotions.mainMechanics.AwakeningForecast.XpModel;
+
+/**
+ * La forma cerrada (cola geométrica) frente a la suma directa de S_k. La
+ * comparación estadística con las reglas reales está en :core:awakeningCheck.
+ */
+class AwakeningForecastTest {
+
+	private static final int PASOS = 100_000;
+
+	/** Σ S_k y 1 - S_k para k ≤ HORIZONTE sumando paso a paso, sin cerrar la cola. */
+	private static double[] directo(EmotionType tipo, int usos, int xp, XpModel model) {
+		double[] r = new double[AwakeningForecast.HORIZONTE + 2];
+		double superv = 1.0;
+		double esperados = 1.0;
+		for (int k = 1; k <= PASOS; k++) {
+			int x = xp + k * model.antesDeTirada() + (k - 1) * model.trasTirada();
+			superv *= 1.0 - EmotionInstance.awakeningChance(tipo, usos + k, x) / 100.0;
+			if (k <= AwakeningForecast.HORIZONTE)
+				r[k] = 1.0 - superv;
+			esperados += superv;
+		}
+		r[AwakeningForecast.HORIZONTE + 1] = esperados;
+		return r;
+	}
+
+	private static void comprobar(EmotionType tipo, int usos, int xp, XpModel model) {
+		AwakeningForecast f = AwakeningForecast.compute(tipo, usos, xp, model);
+		double[] ref = directo(tipo, usos, xp, model);
+		for (int k = 1; k <= AwakeningForecast.HORIZONTE; k++)
+			assertEquals(ref[k], f.probabilityWithin(k), 1e-9, tipo + " P(<= " + k + ")");
+		assertEquals(ref[AwakeningForecast.HORIZONTE + 1], f.expectedTurns(), 1e-6, tipo + " E[turnos]");
+	}
+
+	@Test
+	void coincideConLaSumaDirecta() {
+		comprobar(EmotionType.ALEGRIA, 0, 0, new XpModel(20, 5));
+		comprobar(EmotionType.IRA, 0, 0, new XpModel(20, 5));
+		comprobar(EmotionType.CALMA, 2, 40, new XpModel(10, 5));
+		comprobar(EmotionType.MIEDO, 5, 120, new XpModel(3, 5));
+		comprobar(EmotionType.CULPA, 0, 0, new XpModel(3, 0));
+	}
+
+	@Test
+	void acumuladaNoDecreciente() {
+		AwakeningForecast f = AwakeningForecast.compute(EmotionType.TRISTEZA, 1, 10, new XpModel(15, 5));
+		for (int k = 1; k <= AwakeningForecast.HORIZONTE; k++)
+			assertTrue(f.probabilityWithin(k) >= f.probabilityWithin(k - 1));
+		assertTrue(f.probabilityWithin(AwakeningForecast.HORIZONTE) <= 1.0);
+	}
+
+	@Test
+	void sinXpQueAlcanceElMinimoNuncaDespierta() {
+		AwakeningForecast f = AwakeningForecast.compute(EmotionType.CALMA, 0, 0, new XpModel(0, 0));
+		assertEquals(Double.POSITIVE_INFINITY, f.expectedTurns());
+		assertEquals(0.0, f.probabilityWithin(AwakeningForecast.HORIZONTE));
+		assertEquals(-1, f.medianTurns());
+	}
+}
@@ -0,0 +1,94 @@
+package roguelike_emotions.map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Arrays;
+import java.util.PriorityQueue;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+import roguelike_emotions.characters.EnemyFactory;
+import roguelike_emotions.mainMechanics.EmotionDominanceMatrix;
+
+/** A* con heurística frente a un Dijkstra de referencia sobre el mismo grafo. */
+class MapPathfinderTest {
+
+	private static final int NODOS = 2_000;
+	private static final int CONSULTAS = 300;
+
+	/** Costes mínimos desde 'from' a todos los nodos (Dijkstra sin heurística). */
+	private static double[] dijkstra(MapGraph g, int from) {
+		double[] d = new double[g.size];
+		Arrays.fill(d, Double.POSITIVE_INFINITY);
+		d[from] = 0;
+		PriorityQueue<double[]> cola = new PriorityQueue<>((a, b) -> Double.compare(a[0], b[0]));
+		cola.add(new double[] { 0, from });
+		while (!cola.isEmpty()) {
+			double[] e = cola.poll();
+			int u = (int) e[1];
+			if (e[0] > d[u])
+				continue;
+			for (int k = g.offsets[u]; k < g.offsets[u + 1]; k++) {
+				double nd = d[u] + g.costs[k];
+				if (nd < d[g.targets[k]]) {
+					d[g.targets[k]] = nd;
+					cola.add(new double[] { nd, g.targets[k] });
+				}
+			}
+		}
+		return d;
+	}
+
+	private static double costeArista(MapGraph g, int a, int b) {
+		double mejor = Double.POSITIVE_INFINITY;
+		for (int k = g.offsets[a]; k < g.offsets[a + 1]; k++) {
+			if (g.targets[k] == b)
+				mejor = Math.min(mejor, g.costs[k]);
+		}
+		return mejor;
+	}
+
+	@Test
+	void rutasOptimas() {
+		EmotionalMap mapa = new EmotionalMap(NODOS, new EnemyFactory(), new EmotionDominanceMatrix());
+		MapGraph g = mapa.getGrafo();
+		MapPathfinder pf = mapa.getPathfinder();
+		Random rnd = new Random(11);
+
+		for (int i = 0; i < CONSULTAS; i++) {
+			int from = rnd.nextInt(NODOS);
+			int to = rnd.nextInt(NODOS);
+			double esperado = dijkstra(g, from)[to];
+			int[] ruta = pf.shortestPath(from, to);
+
+			if (Double.isInfinite(esperado)) {
+				assertEquals(0, ruta.length, "ruta a un nodo inalcanzable");
+				continue;
+			}
+			assertEquals(from, ruta[0]);
+			assertEquals(to, ruta[ruta.length - 1]);
+			double coste = 0;
+			for (int k = 1; k < ruta.length; k++) {
+				double c = costeArista(g, ruta[k - 1], ruta[k]);
+				assertTrue(c < Double.POSITIVE_INFINITY, "salto sin arista " + ruta[k - 1] + " -> " + ruta[k]);
+				coste += c;
+			}
+			assertEquals(esperado, coste, 1e-3 * Math.max(1, esperado));
+			assertEquals(esperado, pf.distance(from, to), 1e-3 * Math.max(1, esperado));
+		}
+	}
+
+	@Test
+	void heuristicaAdmisible() {
+		MapGraph g = new EmotionalMap(500, new EnemyFactory(), new EmotionDominanceMatrix()).getGrafo();
+		for (int from = 0; from < 20; from++) {
+			double[] d = dijkstra(g, from);
+			for (int to = 0; to < g.size; to++) {
+				if (!Double.isInfinite(d[to]))
+					assertTrue(g.heuristic(from, to) <= d[to] + 1e-4, "heurística " + from + " -> " + to);
+			}
+		}
+	}
+}
@@ -0,0 +1,142 @@
+package roguelike_emotions.save;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.zip.CRC32;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class RoundJournalTest {
+
+	private static final int RONDAS = 6;
+
+	// longitud + CRC del registro; luego generación, ronda, acción, objetivo, longitud y nº de tramos
+	private static final int PRIMER_OFFSET_DE_TRAMO = 8 + 8 + 4 + 1 + 1 + 4 + 4;
+
+	@TempDir
+	Path dir;
+
+	private Path checkpoint;
+	private Path journal;
+
+	/** estados[r] = snapshot tras la ronda r; finRegistro[r] = used() tras registrarla */
+	private final byte[][] estados = new byte[RONDAS][];
+	private final int[] finRegistro = new int[RONDAS];
+
+	@BeforeEach
+	void escribirDiario() throws IOException {
+		checkpoint = dir.resolve("autosave.bin");
+		journal = dir.resolve("autosave.journal");
+		SnapshotWriter w = new SnapshotWriter(256);
+		try (RoundJournal rj = new RoundJournal(checkpoint, journal, 16 * 1024)) {
+			for (int r = 0; r < RONDAS; r++) {
+				estado(w, r);
+				estados[r] = w.toByteArray();
+				rj.append(w, r, r % 3, 0);
+				finRegistro[r] = rj.used();
+			}
+		}
+	}
+
+	@AfterAll
+	static void cerrarFlusher() {
+		RoundJournal.shutdown();
+	}
+
+	/** Estado de juguete: cambia unos pocos bytes por ronda y crece en las impares. */
+	private static void estado(SnapshotWriter w, int ronda) {
+		w.reset();
+		w.putInt(ronda);
+		w.putString("Jugador");
+		w.putInt(100 - 7 * ronda);
+		for (int i = 0; i < 16; i++)
+			w.putInt(i == ronda ? -1 : i);
+		for (int i = 0; i < (ronda + 1) / 2; i++)
+			w.putLong(0xC0FFEEL * (i + 1));
+	}
+
+	private static byte[] todo(SnapshotReader r) throws IOException {
+		byte[] b = new byte[r.remaining()];
+		for (int i = 0; i < b.length; i++)
+			b[i] = (byte) r.getByte();
+		return b;
+	}
+
+	private byte[] recuperado() throws IOException {
+		return todo(RoundJournal.recover(checkpoint, journal));
+	}
+
+	@Test
+	void recuperaLaUltimaRonda() throws IOException {
+		assertArrayEquals(estados[RONDAS - 1], recuperado());
+	}
+
+	@Test
+	void sinDiarioQuedaElCheckpoint() throws IOException {
+		Files.delete(journal);
+		assertArrayEquals(estados[0], recuperado());
+	}
+
+	@Test
+	void registroTruncadoSeDescarta() throws IOException {
+		int ultimo = RONDAS - 1;
+		int corte = (finRegistro[ultimo - 1] + finRegistro[ultimo]) / 2;
+		try (FileChannel ch = FileChannel.open(journal, StandardOpenOption.WRITE)) {
+			ch.truncate(corte);
+		}
+		assertArrayEquals(estados[ultimo - 1], recuperado());
+
+		// ni siquiera cabe la cabecera del registro
+		try (FileChannel ch = FileChannel.open(journal, StandardOpenOption.WRITE)) {
+			ch.truncate(finRegistro[ultimo - 1] + 3);
+		}
+		assertArrayEquals(estados[ultimo - 1], recuperado());
+	}
+
+	@Test
+	void crcIncorrectoCortaElDiario() throws IOException {
+		byte[] j = Files.readAllBytes(journal);
+		int inicio = finRegistro[2];
+		j[inicio + PRIMER_OFFSET_DE_TRAMO + 8] ^= 0x10; // un byte de datos del registro de la ronda 3
+		Files.write(journal, j);
+		// la ronda 3 no se aplica y las siguientes tampoco, aunque estén bien
+		assertArrayEquals(estados[2], recuperado());
+	}
+
+	@Test
+	void tramoFueraDeRangoConCrcValidoNoSeAplica() throws IOException {
+		byte[] j = Files.readAllBytes(journal);
+		ByteBuffer b = ByteBuffer.wrap(j).order(ByteOrder.LITTLE_ENDIAN);
+		int inicio = finRegistro[RONDAS - 2];
+		int n = b.getInt(inicio);
+		assertTrue(b.getInt(inicio + PRIMER_OFFSET_DE_TRAMO - 4) > 0, "la última ronda debe tener tramos");
+		b.putInt(inicio + PRIMER_OFFSET_DE_TRAMO, Integer.MAX_VALUE - 2);
+		CRC32 crc = new CRC32();
+		crc.update(j, inicio + 8, n);
+		b.putInt(inicio + 4, (int) crc.getValue());
+		Files.write(journal, j);
+
+		assertArrayEquals(estados[RONDAS - 2], recuperado());
+	}
+
+	@Test
+	void diarioDeOtroCheckpointSeIgnora() throws IOException {
+		// checkpoint nuevo sin vaciar el diario (caída entre ambas escrituras)
+		SnapshotWriter w = new SnapshotWriter(256);
+		estado(w, 3);
+		w.putInt(12345);
+		SnapshotFile.write(checkpoint, w, false);
+		assertArrayEquals(w.toByteArray(), recuperado());
+	}
+}
@@ -0,0 +1,102 @@
+package roguelike_emotions.save;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class SnapshotFileTest {
+
+	@TempDir
+	Path dir;
+
+	private static SnapshotWriter ejemplo() {
+		SnapshotWriter w = new SnapshotWriter(64);
+		w.putInt(7);
+		w.putLong(0x0123456789ABCDEFL);
+		w.putString("Ira contenida");
+		w.putBoolean(true);
+		w.putDouble(0.25);
+		return w;
+	}
+
+	private Path escrito() throws IOException {
+		Path p = dir.resolve("autosave.bin");
+		SnapshotFile.write(p, ejemplo(), false);
+		return p;
+	}
+
+	@Test
+	void roundTrip() throws IOException {
+		SnapshotReader r = SnapshotFile.read(escrito());
+		assertEquals(SnapshotFile.VERSION, r.version());
+		assertEquals(7, r.getInt());
+		assertEquals(0x0123456789ABCDEFL, r.getLong());
+		assertEquals("Ira contenida", r.getString());
+		assertEquals(true, r.getBoolean());
+		assertEquals(0.25, r.getDouble());
+		assertEquals(0, r.remaining());
+	}
+
+	@Test
+	void roundTripDesdeBytes() throws IOException {
+		byte[] bytes = Files.readAllBytes(escrito());
+		SnapshotReader r = SnapshotFile.read(bytes, "memoria");
+		assertEquals(7, r.getInt());
+	}
+
+	@Test
+	void rechazaMagicAjeno() throws IOException {
+		byte[] bytes = Files.readAllBytes(escrito());
+		bytes[0] ^= 0x01;
+		assertThrows(SnapshotFormatException.class, () -> SnapshotFile.read(bytes, "memoria"));
+	}
+
+	@Test
+	void rechazaVersionDesconocida() throws IOException {
+		byte[] bytes = Files.readAllBytes(escrito());
+		ByteBuffer.wrap(bytes).order(ByteOrder.LITTLE_ENDIAN).putInt(4, SnapshotFile.VERSION + 1);
+		assertThrows(SnapshotFormatException.class, () -> SnapshotFile.read(bytes, "memoria"));
+	}
+
+	@Test
+	void rechazaCrcIncorrecto() throws IOException {
+		Path p = escrito();
+		byte[] bytes = Files.readAllBytes(p);
+		bytes[bytes.length - 1] ^= 0x40;
+		Files.write(p, bytes);
+		assertThrows(SnapshotFormatException.class, () -> SnapshotFile.read(p));
+	}
+
+	@Test
+	void rechazaFicheroTruncado() throws IOException {
+		Path p = escrito();
+		byte[] bytes = Files.readAllBytes(p);
+		Files.write(p, Arrays.copyOf(bytes, bytes.length - 3));
+		assertThrows(SnapshotFormatException.class, () -> SnapshotFile.read(p));
+
+		Files.write(p, Arrays.copyOf(bytes, 10)); // ni la cabecera entera
+		assertThrows(SnapshotFormatException.class, () -> SnapshotFile.read(p));
+	}
+
+	@Test
+	void lecturaMasAllaDelFinal() throws IOException {
+		SnapshotWriter w = new SnapshotWriter(16);
+		w.putInt(1000); // longitud de texto mayor que lo que queda
+		w.putInt(5);
+		SnapshotReader r = SnapshotReader.of(w.toByteArray());
+		assertThrows(SnapshotFormatException.class, r::getString);
+
+		SnapshotReader corto = SnapshotReader.of(new byte[6]);
+		corto.getInt();
+		assertThrows(SnapshotFormatException.class, corto::getInt);
+	}
+}
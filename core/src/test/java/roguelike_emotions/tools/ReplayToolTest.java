@@ -0,0 +1,38 @@
+package roguelike_emotions.tools;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.util.Random;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import com.badlogic.gdx.Gdx;
+
+import roguelike_emotions.cfg.ConfigBundle;
+import roguelike_emotions.managers.GameManager;
+import roguelike_emotions.managers.ReplayLog;
+
+/** Grabar partidas al azar y repetirlas sin vista debe dar el mismo estado en cada entrada. */
+class ReplayToolTest {
+
+	private static GameManager gm;
+
+	@BeforeAll
+	static void iniciar() {
+		Gdx.files = new HeadlessFiles();
+		ConfigBundle.init();
+		gm = GameManager.getInstance();
+		gm.setAutosaveEnabled(false);
+	}
+
+	@Test
+	void repeticionesSinDivergencias() throws IOException {
+		Random entradas = new Random(42);
+		for (int i = 0; i < 3; i++) {
+			ReplayLog log = ReplayTool.grabar(gm, entradas);
+			assertTrue(ReplayTool.reproducir(gm, log), "divergencia en la partida " + i);
+		}
+	}
+}
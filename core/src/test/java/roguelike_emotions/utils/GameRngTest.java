@@ -0,0 +1,53 @@
+package roguelike_emotions.utils;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+
+class GameRngTest {
+
+	@Test
+	void mismaSemillaMismaSecuencia() {
+		GameRng a = new GameRng(0x5EEDL);
+		GameRng b = new GameRng(0x5EEDL);
+		for (int i = 0; i < 1000; i++) {
+			assertEquals(a.nextLong(), b.nextLong());
+			assertEquals(a.nextInt(17), b.nextInt(17));
+			assertEquals(a.nextDouble(), b.nextDouble());
+		}
+	}
+
+	@Test
+	void semillasDistintasDivergen() {
+		assertNotEquals(new GameRng(1).nextLong(), new GameRng(2).nextLong());
+	}
+
+	@Test
+	void restaurarElEstadoRepiteLasTiradas() {
+		GameRng rng = new GameRng(42);
+		for (int i = 0; i < 10; i++)
+			rng.nextInt(100);
+		long guardado = rng.getState();
+		long[] esperadas = new long[50];
+		for (int i = 0; i < esperadas.length; i++)
+			esperadas[i] = rng.nextLong();
+
+		GameRng otro = new GameRng(7);
+		otro.setState(guardado);
+		for (long e : esperadas)
+			assertEquals(e, otro.nextLong());
+	}
+
+	@Test
+	void nextIntRespetaElLimite() {
+		GameRng rng = new GameRng(3);
+		for (int i = 0; i < 10_000; i++) {
+			int v = rng.nextInt(6);
+			assertTrue(v >= 0 && v < 6);
+			double d = rng.nextDouble();
+			assertTrue(d >= 0 && d < 1);
+		}
+	}
+}
@@ -1,5 +1,8 @@
 package roguelike_emotions;
 
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
 import com.badlogic.gdx.backends.lwjgl3.Lwjgl3Application;
 import com.badlogic.gdx.backends.lwjgl3.Lwjgl3ApplicationConfiguration;
 
@@ -8,6 +11,14 @@ public class DesktopLauncher {
         Lwjgl3ApplicationConfiguration config = new Lwjgl3ApplicationConfiguration();
         config.setTitle("Roguelike Emotions");
         config.setWindowedMode(800, 600);
-        new Lwjgl3Application(new MainGame(), config);
+        new Lwjgl3Application(new MainGame(replayArg(arg)), config);
+    }
+
+    /** --replay <fichero>: arranca reproduciendo esa repetición. */
+    private static Path replayArg(String[] arg) {
+        for (int i = 0; i + 1 < arg.length; i++) {
+            if ("--replay".equals(arg[i])) return Paths.get(arg[i + 1]);
+        }
+        return null;
     }
 }